@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.assertions;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.ascopes.jct.compilers.CompilationTimings;
+import java.time.Duration;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.AbstractDurationAssert;
+import org.assertj.core.api.ListAssert;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Assertions to perform on the {@link CompilationTimings} of a compilation.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.STABLE)
+public final class CompilationTimingsAssert
+    extends AbstractAssert<CompilationTimingsAssert, CompilationTimings> {
+
+  /**
+   * Initialize a new assertions object.
+   *
+   * @param actual the timings to assert upon.
+   */
+  public CompilationTimingsAssert(@Nullable CompilationTimings actual) {
+    super(actual, CompilationTimingsAssert.class);
+  }
+
+  /**
+   * Assert that the compilation completed within the given time.
+   *
+   * @param maximum the maximum time the compilation may take.
+   * @return this assertion object.
+   * @throws AssertionError       if the timings are null, or if the compilation took longer than
+   *                              the given time.
+   * @throws NullPointerException if the maximum is null.
+   */
+  public CompilationTimingsAssert completedWithin(Duration maximum) {
+    requireNonNull(maximum, "maximum must not be null");
+    isNotNull();
+
+    if (actual.getTotalTime().compareTo(maximum) > 0) {
+      failWithMessage(
+          "Expected compilation to complete within %s, but it took %s. Time by phase: %s",
+          maximum,
+          actual.getTotalTime(),
+          actual
+      );
+    }
+
+    return myself;
+  }
+
+  /**
+   * Get assertions on the total wall time of the compilation.
+   *
+   * @return the duration assertions.
+   * @throws AssertionError if the timings are null.
+   */
+  public AbstractDurationAssert<?> totalTime() {
+    isNotNull();
+    return assertThat(actual.getTotalTime());
+  }
+
+  /**
+   * Get assertions on the time spent parsing sources.
+   *
+   * @return the duration assertions.
+   * @throws AssertionError if the timings are null.
+   */
+  public AbstractDurationAssert<?> parseTime() {
+    isNotNull();
+    return assertThat(actual.getParseTime());
+  }
+
+  /**
+   * Get assertions on the time spent entering symbols.
+   *
+   * @return the duration assertions.
+   * @throws AssertionError if the timings are null.
+   */
+  public AbstractDurationAssert<?> enterTime() {
+    isNotNull();
+    return assertThat(actual.getEnterTime());
+  }
+
+  /**
+   * Get assertions on the time spent attributing and flow-analysing classes.
+   *
+   * @return the duration assertions.
+   * @throws AssertionError if the timings are null.
+   */
+  public AbstractDurationAssert<?> analyzeTime() {
+    isNotNull();
+    return assertThat(actual.getAnalyzeTime());
+  }
+
+  /**
+   * Get assertions on the time spent generating class files.
+   *
+   * @return the duration assertions.
+   * @throws AssertionError if the timings are null.
+   */
+  public AbstractDurationAssert<?> generateTime() {
+    isNotNull();
+    return assertThat(actual.getGenerateTime());
+  }
+
+  /**
+   * Get assertions on the total time spent in annotation processing rounds.
+   *
+   * @return the duration assertions.
+   * @throws AssertionError if the timings are null.
+   */
+  public AbstractDurationAssert<?> annotationProcessingTime() {
+    isNotNull();
+    return assertThat(actual.getAnnotationProcessingTime());
+  }
+
+  /**
+   * Get assertions on the time spent in each annotation processing round.
+   *
+   * @return the list assertions.
+   * @throws AssertionError if the timings are null.
+   */
+  public ListAssert<Duration> annotationProcessingRoundTimes() {
+    isNotNull();
+    return assertThat(actual.getAnnotationProcessingRoundTimes());
+  }
+}
@@ -124,6 +124,17 @@ public final class JctCompilationAssert extends
     return new TraceDiagnosticListAssert(actual.getDiagnostics());
   }
 
+  /**
+   * Get assertions for the time spent in each compiler phase.
+   *
+   * @return assertions for the timings.
+   * @throws AssertionError if the compilation was null.
+   */
+  public CompilationTimingsAssert timings() {
+    isNotNull();
+    return new CompilationTimingsAssert(actual.getTimings());
+  }
+
   /**
    * Perform assertions on the given package group, if it has been configured.
    *
@@ -22,19 +22,38 @@ import io.github.ascopes.jct.compilers.impl.JctCompilationFactoryImpl;
 import io.github.ascopes.jct.compilers.impl.JctCompilationImpl;
 import io.github.ascopes.jct.ex.JctCompilerException;
 import io.github.ascopes.jct.filemanagers.AnnotationProcessorDiscovery;
+import io.github.ascopes.jct.filemanagers.JctFileManager;
 import io.github.ascopes.jct.filemanagers.JctFileManagerFactory;
 import io.github.ascopes.jct.filemanagers.LoggingMode;
+import io.github.ascopes.jct.utils.Lazy;
+import io.github.ascopes.jct.utils.LoomPolyfill;
 import io.github.ascopes.jct.workspaces.Workspace;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import javax.annotation.processing.Processor;
+import javax.tools.JavaCompiler;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Common functionality for a compiler that can be overridden and that produces a
@@ -43,7 +62,11 @@ import org.jspecify.annotations.Nullable;
  * <p>Implementations should extend this class and override anything they require.
  * In most cases, you should not need to override anything other than the constructor.
  *
- * <p>This class is <strong>not</strong> thread-safe.
+ * <p>This class is <strong>not</strong> thread-safe. Compilations may run concurrently, for
+ * example using {@link #compileAll(Collection, int)} or {@link #compileAsync(Workspace)}, but
+ * the compiler must not be reconfigured while {@link #compileAll(Collection, int)} is running.
+ * {@link #compileAsync(Workspace)} captures the configuration before it returns, so the compiler
+ * may be reconfigured while the compilations it started are still running.
  *
  * <p>If you wish to create a common set of configuration settings for instances of
  * this class, you should consider writing a custom {@link JctCompilerConfigurer} object to apply
@@ -58,6 +81,13 @@ import org.jspecify.annotations.Nullable;
 public abstract class AbstractJctCompiler<A extends AbstractJctCompiler<A>>
     implements JctCompiler<A, JctCompilation> {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(AbstractJctCompiler.class);
+  private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+  private static final Lazy<Executor> ASYNC_EXECUTOR = new Lazy<>(
+      AbstractJctCompiler::createAsyncExecutor
+  );
+
+  private final Lock annotationProcessorLock;
   private final List<Processor> annotationProcessors;
   private final List<String> annotationProcessorOptions;
   private final List<String> compilerOptions;
@@ -79,6 +109,14 @@ public abstract class AbstractJctCompiler<A extends AbstractJctCompiler<A>>
   private boolean inheritModulePath;
   private boolean inheritPlatformClassPath;
   private boolean inheritSystemModulePath;
+  private boolean memoryMapJars;
+  private int parallelListingThreshold;
+  private long contentCacheSize;
+  private boolean heapOutputs;
+  private boolean fileManagerProfiling;
+  private boolean annotationProcessorProfiling;
+  private boolean compilerContextReuse;
+  private boolean isolatedOutputs;
   private LoggingMode fileManagerLoggingMode;
   private AnnotationProcessorDiscovery annotationProcessorDiscovery;
 
@@ -89,6 +127,7 @@ public abstract class AbstractJctCompiler<A extends AbstractJctCompiler<A>>
    */
   protected AbstractJctCompiler(String defaultName) {
     name = requireNonNull(defaultName, "name");
+    annotationProcessorLock = new ReentrantLock();
     annotationProcessors = new ArrayList<>();
     annotationProcessorOptions = new ArrayList<>();
     compilerOptions = new ArrayList<>();
@@ -109,6 +148,14 @@ public abstract class AbstractJctCompiler<A extends AbstractJctCompiler<A>>
     inheritModulePath = JctCompiler.DEFAULT_INHERIT_MODULE_PATH;
     inheritPlatformClassPath = JctCompiler.DEFAULT_INHERIT_PLATFORM_CLASS_PATH;
     inheritSystemModulePath = JctCompiler.DEFAULT_INHERIT_SYSTEM_MODULE_PATH;
+    memoryMapJars = JctCompiler.DEFAULT_MEMORY_MAP_JARS;
+    parallelListingThreshold = JctCompiler.DEFAULT_PARALLEL_LISTING_THRESHOLD;
+    contentCacheSize = JctCompiler.DEFAULT_CONTENT_CACHE_SIZE;
+    heapOutputs = JctCompiler.DEFAULT_HEAP_OUTPUTS;
+    fileManagerProfiling = JctCompiler.DEFAULT_FILE_MANAGER_PROFILING;
+    annotationProcessorProfiling = JctCompiler.DEFAULT_ANNOTATION_PROCESSOR_PROFILING;
+    compilerContextReuse = JctCompiler.DEFAULT_COMPILER_CONTEXT_REUSE;
+    isolatedOutputs = JctCompiler.DEFAULT_ISOLATED_OUTPUTS;
     fileManagerLoggingMode = JctCompiler.DEFAULT_FILE_MANAGER_LOGGING_MODE;
     annotationProcessorDiscovery = JctCompiler.DEFAULT_ANNOTATION_PROCESSOR_DISCOVERY;
   }
@@ -123,6 +170,154 @@ public abstract class AbstractJctCompiler<A extends AbstractJctCompiler<A>>
     return compileInternal(workspace, classNames);
   }
 
+  @Override
+  public List<JctCompilation> compileAll(
+      Collection<? extends Workspace> workspaces,
+      int parallelism
+  ) {
+    requireNonNullValues(workspaces, "workspaces");
+
+    if (parallelism < 1) {
+      throw new IllegalArgumentException(
+          "parallelism must be at least 1 (got " + parallelism + ")"
+      );
+    }
+
+    var workspaceList = List.<Workspace>copyOf(workspaces);
+
+    if (workspaceList.isEmpty()) {
+      return List.of();
+    }
+
+    // The factories and flags are shared between every compilation, since they only depend on
+    // the configuration of this compiler.
+    var fileManagerFactory = getFileManagerFactory();
+    var flagBuilderFactory = getFlagBuilderFactory();
+    var compilerFactory = getCompilerFactory();
+    var compilationFactory = getCompilationFactory();
+    var flags = List.copyOf(buildFlags(flagBuilderFactory.createFlagBuilder()));
+    var sharedAnnotationProcessors = !annotationProcessors.isEmpty();
+
+    Function<Workspace, JctCompilation> compileWorkspace = workspace -> compileInternal(
+        fileManagerFactory,
+        compilerFactory,
+        compilationFactory,
+        flags,
+        workspace,
+        null,
+        sharedAnnotationProcessors
+    );
+
+    var threadCount = Math.min(parallelism, workspaceList.size());
+
+    if (threadCount > 1 && sharedAnnotationProcessors) {
+      LOGGER.debug(
+          "Compiling {} workspaces one at a time, since annotation processor instances cannot be "
+              + "shared between concurrent compilations",
+          workspaceList.size()
+      );
+      threadCount = 1;
+    }
+
+    if (threadCount == 1) {
+      var compilations = new ArrayList<JctCompilation>(workspaceList.size());
+      workspaceList.forEach(workspace -> compilations.add(compileWorkspace.apply(workspace)));
+      return Collections.unmodifiableList(compilations);
+    }
+
+    LOGGER.debug(
+        "Compiling {} workspaces with up to {} concurrent compilations",
+        workspaceList.size(),
+        threadCount
+    );
+
+    var executor = Executors.newFixedThreadPool(
+        threadCount,
+        new CompilationThreadFactory("jct-compile-" + POOL_COUNTER.incrementAndGet())
+    );
+
+    try {
+      var futures = new ArrayList<Future<JctCompilation>>(workspaceList.size());
+
+      for (var workspace : workspaceList) {
+        futures.add(executor.submit(() -> compileWorkspace.apply(workspace)));
+      }
+
+      var compilations = new ArrayList<JctCompilation>(futures.size());
+
+      for (var future : futures) {
+        compilations.add(awaitCompilation(future));
+      }
+
+      return Collections.unmodifiableList(compilations);
+
+    } finally {
+      // If a compilation failed, this cancels any that have not started yet.
+      executor.shutdownNow();
+    }
+  }
+
+  @Override
+  public CompletableFuture<JctCompilation> compileAsync(Workspace workspace) {
+    return compileAsync(workspace, ASYNC_EXECUTOR.access());
+  }
+
+  @Override
+  public CompletableFuture<JctCompilation> compileAsync(Workspace workspace, Executor executor) {
+    requireNonNull(workspace, "workspace");
+    requireNonNull(executor, "executor");
+
+    // Everything that depends on the configuration of this compiler is captured here rather than
+    // on the worker thread, so the compiler can be reconfigured as soon as this returns.
+    var flagBuilderFactory = getFlagBuilderFactory();
+    var compilationFactory = getCompilationFactory();
+    var flags = List.copyOf(buildFlags(flagBuilderFactory.createFlagBuilder()));
+    var sharedAnnotationProcessors = !annotationProcessors.isEmpty();
+    var compiler = getCompilerFactory().createCompiler();
+    var fileManager = getFileManagerFactory().createFileManager(workspace);
+
+    // The file manager is closed by whichever of the compilation or the cancellation of the
+    // future claims it first.
+    var claimed = new AtomicBoolean();
+    CompletableFuture<JctCompilation> future;
+
+    try {
+      future = CompletableFuture.supplyAsync(
+          () -> {
+            if (!claimed.compareAndSet(false, true)) {
+              throw new CancellationException("The compilation was cancelled");
+            }
+
+            return compileInternal(
+                compilationFactory,
+                flags,
+                compiler,
+                fileManager,
+                null,
+                sharedAnnotationProcessors
+            );
+          },
+          executor
+      );
+    } catch (RuntimeException ex) {
+      claimed.set(true);
+      try {
+        closeFileManager(fileManager);
+      } catch (JctCompilerException closeEx) {
+        ex.addSuppressed(closeEx);
+      }
+      throw ex;
+    }
+
+    future.whenComplete((compilation, ex) -> {
+      if (claimed.compareAndSet(false, true)) {
+        closeFileManager(fileManager);
+      }
+    });
+
+    return future;
+  }
+
   @Override
   public final <E extends Exception> A configure(JctCompilerConfigurer<E> configurer) throws E {
     requireNonNull(configurer, "configurer");
@@ -357,6 +552,106 @@ public abstract class AbstractJctCompiler<A extends AbstractJctCompiler<A>>
     return myself();
   }
 
+  @Override
+  public boolean isMemoryMapJars() {
+    return memoryMapJars;
+  }
+
+  @Override
+  public A memoryMapJars(boolean memoryMapJars) {
+    this.memoryMapJars = memoryMapJars;
+    return myself();
+  }
+
+  @Override
+  public int getParallelListingThreshold() {
+    return parallelListingThreshold;
+  }
+
+  @Override
+  public A parallelListingThreshold(int parallelListingThreshold) {
+    if (parallelListingThreshold < 0) {
+      throw new IllegalArgumentException(
+          "Parallel listing threshold cannot be negative (got " + parallelListingThreshold + ")"
+      );
+    }
+
+    this.parallelListingThreshold = parallelListingThreshold;
+    return myself();
+  }
+
+  @Override
+  public long getContentCacheSize() {
+    return contentCacheSize;
+  }
+
+  @Override
+  public A contentCacheSize(long contentCacheSize) {
+    if (contentCacheSize < 0) {
+      throw new IllegalArgumentException(
+          "Content cache size cannot be negative (got " + contentCacheSize + ")"
+      );
+    }
+
+    this.contentCacheSize = contentCacheSize;
+    return myself();
+  }
+
+  @Override
+  public boolean isHeapOutputs() {
+    return heapOutputs;
+  }
+
+  @Override
+  public A heapOutputs(boolean heapOutputs) {
+    this.heapOutputs = heapOutputs;
+    return myself();
+  }
+
+  @Override
+  public boolean isFileManagerProfiling() {
+    return fileManagerProfiling;
+  }
+
+  @Override
+  public A fileManagerProfiling(boolean fileManagerProfiling) {
+    this.fileManagerProfiling = fileManagerProfiling;
+    return myself();
+  }
+
+  @Override
+  public boolean isAnnotationProcessorProfiling() {
+    return annotationProcessorProfiling;
+  }
+
+  @Override
+  public A annotationProcessorProfiling(boolean annotationProcessorProfiling) {
+    this.annotationProcessorProfiling = annotationProcessorProfiling;
+    return myself();
+  }
+
+  @Override
+  public boolean isCompilerContextReuse() {
+    return compilerContextReuse;
+  }
+
+  @Override
+  public A compilerContextReuse(boolean compilerContextReuse) {
+    this.compilerContextReuse = compilerContextReuse;
+    return myself();
+  }
+
+  @Override
+  public boolean isIsolatedOutputs() {
+    return isolatedOutputs;
+  }
+
+  @Override
+  public A isolatedOutputs(boolean isolatedOutputs) {
+    this.isolatedOutputs = isolatedOutputs;
+    return myself();
+  }
+
   @Override
   public Locale getLocale() {
     return locale;
@@ -513,8 +808,6 @@ public abstract class AbstractJctCompiler<A extends AbstractJctCompiler<A>>
         .build();
   }
 
-  @SuppressWarnings({"NullableProblems", "ThrowFromFinallyBlock"})
-  // NullableProblems is needed due to https://youtrack.jetbrains.com/issue/IDEA-311124
   private JctCompilation compileInternal(
       Workspace workspace,
       Collection<String> classNames
@@ -524,9 +817,72 @@ public abstract class AbstractJctCompiler<A extends AbstractJctCompiler<A>>
     var compilerFactory = getCompilerFactory();
     var compilationFactory = getCompilationFactory();
     var flags = buildFlags(flagBuilderFactory.createFlagBuilder());
+
+    return compileInternal(
+        fileManagerFactory,
+        compilerFactory,
+        compilationFactory,
+        flags,
+        workspace,
+        classNames,
+        !annotationProcessors.isEmpty()
+    );
+  }
+
+  private JctCompilation compileInternal(
+      JctFileManagerFactory fileManagerFactory,
+      Jsr199CompilerFactory compilerFactory,
+      JctCompilationFactory compilationFactory,
+      List<String> flags,
+      Workspace workspace,
+      Collection<String> classNames,
+      boolean sharedAnnotationProcessors
+  ) {
     var compiler = compilerFactory.createCompiler();
     var fileManager = fileManagerFactory.createFileManager(workspace);
 
+    return compileInternal(
+        compilationFactory,
+        flags,
+        compiler,
+        fileManager,
+        classNames,
+        sharedAnnotationProcessors
+    );
+  }
+
+  private JctCompilation compileInternal(
+      JctCompilationFactory compilationFactory,
+      List<String> flags,
+      JavaCompiler compiler,
+      JctFileManager fileManager,
+      Collection<String> classNames,
+      boolean sharedAnnotationProcessors
+  ) {
+    if (!sharedAnnotationProcessors) {
+      return compileUnlocked(compilationFactory, flags, compiler, fileManager, classNames);
+    }
+
+    // Explicitly added annotation processor instances are shared between every compilation, so
+    // concurrent compilations have to take turns.
+    annotationProcessorLock.lock();
+
+    try {
+      return compileUnlocked(compilationFactory, flags, compiler, fileManager, classNames);
+    } finally {
+      annotationProcessorLock.unlock();
+    }
+  }
+
+  @SuppressWarnings({"NullableProblems", "ThrowFromFinallyBlock"})
+  // NullableProblems is needed due to https://youtrack.jetbrains.com/issue/IDEA-311124
+  private JctCompilation compileUnlocked(
+      JctCompilationFactory compilationFactory,
+      List<String> flags,
+      JavaCompiler compiler,
+      JctFileManager fileManager,
+      Collection<String> classNames
+  ) {
     // Any internal exceptions should be rethrown as a JctCompilerException by the
     // compilation factory, so there is nothing else to worry about here.
     // Likewise, do not catch IOException on the compilation process, as it may hide
@@ -536,14 +892,81 @@ public abstract class AbstractJctCompiler<A extends AbstractJctCompiler<A>>
     try {
       return compilationFactory.createCompilation(flags, fileManager, compiler, classNames);
     } finally {
-      try {
-        fileManager.close();
-      } catch (IOException ex) {
-        throw new JctCompilerException(
-            "Failed to close file manager. This is probably a bug, so please report it.",
-            ex
-        );
+      closeFileManager(fileManager);
+    }
+  }
+
+  private static void closeFileManager(JctFileManager fileManager) {
+    try {
+      fileManager.close();
+    } catch (IOException ex) {
+      throw new JctCompilerException(
+          "Failed to close file manager. This is probably a bug, so please report it.",
+          ex
+      );
+    }
+  }
+
+  private static JctCompilation awaitCompilation(Future<JctCompilation> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException ex) {
+      var cause = ex.getCause();
+
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+
+      if (cause instanceof Error) {
+        throw (Error) cause;
       }
+
+      throw new JctCompilerException("Compilation failed unexpectedly", cause);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new JctCompilerException("Interrupted while waiting for compilations to finish", ex);
+    }
+  }
+
+  private static Executor createAsyncExecutor() {
+    var virtualThreadExecutor = LoomPolyfill.newVirtualThreadPerTaskExecutor();
+
+    if (virtualThreadExecutor != null) {
+      LOGGER.debug("Asynchronous compilations will run on virtual threads");
+      return virtualThreadExecutor;
+    }
+
+    var threadCount = Runtime.getRuntime().availableProcessors();
+    LOGGER.debug("Asynchronous compilations will run on a pool of {} threads", threadCount);
+
+    // This pool is never shut down, but its threads are daemons, so it will not prevent the JVM
+    // from exiting.
+    return Executors.newFixedThreadPool(
+        threadCount,
+        new CompilationThreadFactory("jct-compile-async")
+    );
+  }
+
+  /**
+   * Thread factory for concurrent compilations. Threads are daemons so that they never prevent
+   * the JVM from exiting.
+   */
+  private static final class CompilationThreadFactory implements ThreadFactory {
+
+    private final String namePrefix;
+    private final AtomicInteger threadCounter;
+
+    private CompilationThreadFactory(String namePrefix) {
+      this.namePrefix = namePrefix;
+      threadCounter = new AtomicInteger();
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      var name = namePrefix + "-" + threadCounter.incrementAndGet();
+      var thread = new Thread(runnable, name);
+      thread.setDaemon(true);
+      return thread;
     }
   }
 }
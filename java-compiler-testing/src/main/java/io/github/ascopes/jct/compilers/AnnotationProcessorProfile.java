@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.compilers;
+
+import static io.github.ascopes.jct.utils.IterableUtils.requireNonNullValues;
+import static java.util.Objects.requireNonNull;
+
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import java.time.Duration;
+import java.util.List;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * The time that a single annotation processor spent initialising and processing each round, and
+ * the number of files it created in each round.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.STABLE)
+public final class AnnotationProcessorProfile {
+
+  private final String processorName;
+  private final Duration initTime;
+  private final List<Round> rounds;
+
+  /**
+   * Initialise this profile.
+   *
+   * @param processorName the fully qualified class name of the processor.
+   * @param initTime      the time spent initialising the processor.
+   * @param rounds        the rounds that the processor took part in, in the order they ran.
+   */
+  public AnnotationProcessorProfile(String processorName, Duration initTime, List<Round> rounds) {
+    this.processorName = requireNonNull(processorName, "processorName");
+    this.initTime = requireNonNull(initTime, "initTime");
+    this.rounds = List.copyOf(requireNonNullValues(rounds, "rounds"));
+  }
+
+  /**
+   * Get the fully qualified class name of the processor.
+   *
+   * @return the processor name.
+   */
+  public String getProcessorName() {
+    return processorName;
+  }
+
+  /**
+   * Get the time spent initialising the processor.
+   *
+   * @return the init time, or {@link Duration#ZERO} if the processor was never initialised.
+   */
+  public Duration getInitTime() {
+    return initTime;
+  }
+
+  /**
+   * Get the rounds that the processor took part in, in the order they ran.
+   *
+   * @return the rounds.
+   */
+  public List<Round> getRounds() {
+    return rounds;
+  }
+
+  /**
+   * Get the total time spent processing across all rounds.
+   *
+   * @return the total process time.
+   */
+  public Duration getProcessTime() {
+    return rounds
+        .stream()
+        .map(Round::getProcessTime)
+        .reduce(Duration.ZERO, Duration::plus);
+  }
+
+  /**
+   * Get the total time spent in the processor, including initialisation.
+   *
+   * @return the total time.
+   */
+  public Duration getTotalTime() {
+    return initTime.plus(getProcessTime());
+  }
+
+  /**
+   * Get the total number of files created through the filer across all rounds.
+   *
+   * @return the number of files created.
+   */
+  public long getFilesCreated() {
+    return rounds.stream().mapToLong(Round::getFilesCreated).sum();
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("processorName", processorName)
+        .attribute("initTime", initTime)
+        .attribute("rounds", rounds)
+        .toString();
+  }
+
+  /**
+   * A single round of annotation processing that a processor took part in.
+   *
+   * @author Ashley Scopes
+   * @since 0.0.1
+   */
+  @API(since = "0.0.1", status = Status.STABLE)
+  public static final class Round {
+
+    private final Duration processTime;
+    private final long filesCreated;
+
+    /**
+     * Initialise this round.
+     *
+     * @param processTime  the time spent in the processor during the round.
+     * @param filesCreated the number of files created through the filer during the round.
+     * @throws IllegalArgumentException if the number of files is negative.
+     */
+    public Round(Duration processTime, long filesCreated) {
+      this.processTime = requireNonNull(processTime, "processTime");
+
+      if (filesCreated < 0) {
+        throw new IllegalArgumentException(
+            "filesCreated cannot be negative (got " + filesCreated + ")"
+        );
+      }
+
+      this.filesCreated = filesCreated;
+    }
+
+    /**
+     * Get the time spent in the processor during the round.
+     *
+     * @return the process time.
+     */
+    public Duration getProcessTime() {
+      return processTime;
+    }
+
+    /**
+     * Get the number of source, class, and resource files created through the filer during the
+     * round.
+     *
+     * @return the number of files created.
+     */
+    public long getFilesCreated() {
+      return filesCreated;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .attribute("processTime", processTime)
+          .attribute("filesCreated", filesCreated)
+          .toString();
+    }
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.compilers;
+
+import static io.github.ascopes.jct.utils.IterableUtils.requireNonNullValues;
+import static java.util.Objects.requireNonNull;
+
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A breakdown of the time that a compilation spent in each of the compiler phases.
+ *
+ * <p>Phases are reported by the compiler as it runs, so the time spent in each phase is the sum
+ * of every occurrence of that phase. Parsing and entering sources that are generated by
+ * annotation processors happens within an annotation processing round, so that time is counted
+ * towards both the phase and the round.
+ *
+ * <p>Compilers that do not report their phases will only report the total time, with every
+ * phase being {@link Duration#ZERO}.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.STABLE)
+public final class CompilationTimings {
+
+  private static final CompilationTimings EMPTY = new CompilationTimings(
+      Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, List.of()
+  );
+
+  /**
+   * Get timings for a compilation that took no time.
+   *
+   * @return the empty timings.
+   */
+  public static CompilationTimings empty() {
+    return EMPTY;
+  }
+
+  private final Duration totalTime;
+  private final Duration parseTime;
+  private final Duration enterTime;
+  private final Duration analyzeTime;
+  private final Duration generateTime;
+  private final List<Duration> annotationProcessingRoundTimes;
+
+  /**
+   * Initialise these timings.
+   *
+   * @param totalTime                      the total wall time of the compilation.
+   * @param parseTime                      the time spent parsing sources.
+   * @param enterTime                      the time spent entering symbols.
+   * @param analyzeTime                    the time spent attributing and flow-analysing classes.
+   * @param generateTime                   the time spent generating class files.
+   * @param annotationProcessingRoundTimes the time spent in each annotation processing round,
+   *                                       in the order the rounds ran.
+   */
+  public CompilationTimings(
+      Duration totalTime,
+      Duration parseTime,
+      Duration enterTime,
+      Duration analyzeTime,
+      Duration generateTime,
+      List<Duration> annotationProcessingRoundTimes
+  ) {
+    this.totalTime = requireNonNull(totalTime, "totalTime");
+    this.parseTime = requireNonNull(parseTime, "parseTime");
+    this.enterTime = requireNonNull(enterTime, "enterTime");
+    this.analyzeTime = requireNonNull(analyzeTime, "analyzeTime");
+    this.generateTime = requireNonNull(generateTime, "generateTime");
+    this.annotationProcessingRoundTimes = List.copyOf(
+        requireNonNullValues(annotationProcessingRoundTimes, "annotationProcessingRoundTimes")
+    );
+  }
+
+  /**
+   * Get the total wall time of the compilation.
+   *
+   * @return the total time.
+   */
+  public Duration getTotalTime() {
+    return totalTime;
+  }
+
+  /**
+   * Get the time spent parsing sources.
+   *
+   * @return the parse time.
+   */
+  public Duration getParseTime() {
+    return parseTime;
+  }
+
+  /**
+   * Get the time spent entering symbols for the parsed sources.
+   *
+   * @return the enter time.
+   */
+  public Duration getEnterTime() {
+    return enterTime;
+  }
+
+  /**
+   * Get the time spent attributing and flow-analysing classes.
+   *
+   * @return the analyze time.
+   */
+  public Duration getAnalyzeTime() {
+    return analyzeTime;
+  }
+
+  /**
+   * Get the time spent generating class files.
+   *
+   * @return the generate time.
+   */
+  public Duration getGenerateTime() {
+    return generateTime;
+  }
+
+  /**
+   * Get the time spent in each annotation processing round, in the order the rounds ran.
+   *
+   * @return the round times, which will be empty if annotation processing did not run.
+   */
+  public List<Duration> getAnnotationProcessingRoundTimes() {
+    return annotationProcessingRoundTimes;
+  }
+
+  /**
+   * Get the total time spent in annotation processing rounds.
+   *
+   * @return the annotation processing time.
+   */
+  public Duration getAnnotationProcessingTime() {
+    return annotationProcessingRoundTimes
+        .stream()
+        .reduce(Duration.ZERO, Duration::plus);
+  }
+
+  @Override
+  public boolean equals(@Nullable Object other) {
+    if (!(other instanceof CompilationTimings)) {
+      return false;
+    }
+
+    var that = (CompilationTimings) other;
+    return totalTime.equals(that.totalTime)
+        && parseTime.equals(that.parseTime)
+        && enterTime.equals(that.enterTime)
+        && analyzeTime.equals(that.analyzeTime)
+        && generateTime.equals(that.generateTime)
+        && annotationProcessingRoundTimes.equals(that.annotationProcessingRoundTimes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        totalTime,
+        parseTime,
+        enterTime,
+        analyzeTime,
+        generateTime,
+        annotationProcessingRoundTimes
+    );
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("totalTime", totalTime)
+        .attribute("parseTime", parseTime)
+        .attribute("enterTime", enterTime)
+        .attribute("analyzeTime", analyzeTime)
+        .attribute("generateTime", generateTime)
+        .attribute("annotationProcessingRoundTimes", annotationProcessingRoundTimes)
+        .toString();
+  }
+}
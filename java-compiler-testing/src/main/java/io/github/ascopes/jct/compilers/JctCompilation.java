@@ -19,7 +19,10 @@ import io.github.ascopes.jct.containers.ModuleContainerGroup;
 import io.github.ascopes.jct.containers.OutputContainerGroup;
 import io.github.ascopes.jct.containers.PackageContainerGroup;
 import io.github.ascopes.jct.diagnostics.TraceDiagnostic;
+import io.github.ascopes.jct.filemanagers.FileManagerProfile;
 import io.github.ascopes.jct.filemanagers.JctFileManager;
+import io.github.ascopes.jct.filemanagers.ListingStatistics;
+import io.github.ascopes.jct.filemanagers.LookupCacheStatistics;
 import java.util.List;
 import java.util.Set;
 import javax.tools.JavaFileObject;
@@ -89,6 +92,67 @@ public interface JctCompilation {
    */
   JctFileManager getFileManager();
 
+  /**
+   * Get statistics for the memoized listings and lookups of read-only input locations, such as
+   * the class path, that were performed during the compilation.
+   *
+   * <p>This is a snapshot taken when the compilation completed, so it will not include any
+   * queries made against the file manager afterwards.
+   *
+   * @return the statistics.
+   * @since 0.0.1
+   */
+  LookupCacheStatistics getLookupCacheStatistics();
+
+  /**
+   * Get statistics for how the file manager listed its container groups during the compilation.
+   *
+   * <p>This shows whether {@link JctCompiler#parallelListingThreshold(int) parallel listing}
+   * actually kicked in. Like {@link #getLookupCacheStatistics()}, this is a snapshot taken when
+   * the compilation completed.
+   *
+   * @return the statistics.
+   * @since 0.0.1
+   */
+  ListingStatistics getListingStatistics();
+
+  /**
+   * Get the profile of the calls that were made to the file manager during the compilation.
+   *
+   * <p>This will be empty unless {@link JctCompiler#fileManagerProfiling(boolean) file manager
+   * profiling} was enabled. Like {@link #getLookupCacheStatistics()}, this is a snapshot taken
+   * when the compilation completed.
+   *
+   * @return the profile.
+   * @since 0.0.1
+   */
+  FileManagerProfile getFileManagerProfile();
+
+  /**
+   * Get a breakdown of the time that the compilation spent in each compiler phase.
+   *
+   * <p>This can be used to determine whether a slow compilation is slow because of annotation
+   * processing, attribution, or class file generation.
+   *
+   * @return the timings.
+   * @since 0.0.1
+   */
+  CompilationTimings getTimings();
+
+  /**
+   * Get the profiles of each annotation processor that ran during the compilation.
+   *
+   * <p>This will be empty unless
+   * {@link JctCompiler#annotationProcessorProfiling(boolean) annotation processor profiling} was
+   * enabled and annotation processors were
+   * {@link JctCompiler#addAnnotationProcessors added explicitly}. Processors that the compiler
+   * discovered by itself are not profiled.
+   *
+   * @return the profiles, in the order the processors were registered with the compiler.
+   * @since 0.0.1
+   */
+  List<AnnotationProcessorProfile> getAnnotationProcessorProfiles();
+
   /**
    * Get the output container group for class outputs.
    *
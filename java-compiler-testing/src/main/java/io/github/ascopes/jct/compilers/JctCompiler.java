@@ -26,6 +26,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import javax.annotation.processing.Processor;
 import javax.lang.model.SourceVersion;
 import org.apiguardian.api.API;
@@ -99,6 +101,49 @@ public interface JctCompiler<C extends JctCompiler<C, R>, R extends JctCompilati
    */
   boolean DEFAULT_INHERIT_SYSTEM_MODULE_PATH = true;
 
+  /**
+   * Default setting for memory-mapping JARs rather than opening them as ZIP file systems
+   * ({@code false}).
+   */
+  boolean DEFAULT_MEMORY_MAP_JARS = false;
+
+  /**
+   * Default minimum number of containers to list files from in parallel ({@code 0}, meaning that
+   * files are always listed serially).
+   */
+  int DEFAULT_PARALLEL_LISTING_THRESHOLD = 0;
+
+  /**
+   * Default maximum number of characters of file content to cache for each compilation
+   * ({@code 0}, meaning that file content is not cached).
+   */
+  long DEFAULT_CONTENT_CACHE_SIZE = 0;
+
+  /**
+   * Default setting for holding files written to output directories in memory ({@code false}).
+   */
+  boolean DEFAULT_HEAP_OUTPUTS = false;
+
+  /**
+   * Default setting for profiling the calls made to the file manager ({@code false}).
+   */
+  boolean DEFAULT_FILE_MANAGER_PROFILING = false;
+
+  /**
+   * Default setting for profiling annotation processors ({@code false}).
+   */
+  boolean DEFAULT_ANNOTATION_PROCESSOR_PROFILING = false;
+
+  /**
+   * Default setting for reusing compiler contexts between compilations ({@code false}).
+   */
+  boolean DEFAULT_COMPILER_CONTEXT_REUSE = false;
+
+  /**
+   * Default setting for giving each compilation its own output locations ({@code false}).
+   */
+  boolean DEFAULT_ISOLATED_OUTPUTS = false;
+
   /**
    * Default setting for logging file manager operations ({@link LoggingMode#DISABLED}).
    */
@@ -189,6 +234,109 @@ public interface JctCompiler<C extends JctCompiler<C, R>, R extends JctCompilati
    */
   R compile(Workspace workspace, Collection<String> classNames);
 
+  /**
+   * Compile each of the given workspaces concurrently, and return the compilation results.
+   *
+   * <p>Up to one compilation is run for each available processor at a time.
+   *
+   * <p>This is equivalent to calling {@link #compileAll(Collection, int)} with the number of
+   * processors available to the JVM.
+   *
+   * @param workspaces the workspaces to compile.
+   * @return the compilation results, in the same order as the workspaces.
+   * @throws JctCompilerException  if the compiler threw an unhandled exception for any of the
+   *                               workspaces. This should not occur for compilation failures
+   *                               generally.
+   * @throws IllegalStateException if no compilation units were found in any of the workspaces.
+   * @throws UncheckedIOException  if an IO error occurs.
+   * @throws NullPointerException  if the collection or any of the workspaces are null.
+   * @see #compileAll(Collection, int)
+   */
+  default List<R> compileAll(Collection<? extends Workspace> workspaces) {
+    return compileAll(workspaces, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Compile each of the given workspaces concurrently, and return the compilation results.
+   *
+   * <p>Each workspace is compiled as if by {@link #compile(Workspace)}, but the compiler flags
+   * are only built once and are shared between every compilation. The compiler must not be
+   * reconfigured until this method returns.
+   *
+   * <p>If any compilation throws an exception, the compilations that have not yet started are
+   * cancelled, and the exception from the first workspace to fail is rethrown.
+   *
+   * @param workspaces  the workspaces to compile.
+   * @param parallelism the maximum number of compilations to run at once. Compilations are
+   *                    always run one at a time if any annotation processors have been
+   *                    {@link #addAnnotationProcessors added explicitly}, since the same
+   *                    processor instances cannot be used by more than one compilation at once.
+   * @return the compilation results, in the same order as the workspaces.
+   * @throws JctCompilerException     if the compiler threw an unhandled exception for any of the
+   *                                  workspaces. This should not occur for compilation failures
+   *                                  generally.
+   * @throws IllegalArgumentException if the parallelism is less than 1.
+   * @throws IllegalStateException    if no compilation units were found in any of the
+   *                                  workspaces.
+   * @throws UncheckedIOException     if an IO error occurs.
+   * @throws NullPointerException     if the collection or any of the workspaces are null.
+   * @see #compileAll(Collection)
+   */
+  List<R> compileAll(Collection<? extends Workspace> workspaces, int parallelism);
+
+  /**
+   * Start compiling the given workspace in the background, and return a future that completes
+   * with the compilation result.
+   *
+   * <p>On JDK 21 and newer, each compilation is run on a new virtual thread. On older JDKs,
+   * compilations are run on a shared pool of daemon threads, with one thread for each processor
+   * available to the JVM. Use {@link #compileAsync(Workspace, Executor)} to run compilations on
+   * a different executor instead.
+   *
+   * <p>JARs on the {@link #inheritClassPath inherited class path} and
+   * {@link #inheritModulePath module path} are read through the JDK zip file system unless they
+   * are {@link #memoryMapJars memory-mapped}. That file system holds a monitor while it waits to
+   * list a directory, so a virtual thread listing a JAR while the compiler reads from the same JAR
+   * can occasionally pin its carrier thread. Turn off inheritance of those paths if compilations
+   * must never pin carrier threads.
+   *
+   * <p>If the compiler throws an unhandled exception, the future is completed exceptionally
+   * with that exception.
+   *
+   * @param workspace the workspace to compile.
+   * @return the future compilation result.
+   * @throws NullPointerException if the workspace is null.
+   * @see #compileAsync(Workspace, Executor)
+   */
+  CompletableFuture<R> compileAsync(Workspace workspace);
+
+  /**
+   * Start compiling the given workspace on the given executor, and return a future that completes
+   * with the compilation result.
+   *
+   * <p>The workspace is compiled as if by {@link #compile(Workspace)}, and the file manager is
+   * closed once the compilation has finished. The configuration of this compiler is captured
+   * and the file manager is created before this method returns, so any problems with them are
+   * raised by this method, and the compiler may be reconfigured as soon as this method returns
+   * without affecting the compilation. The workspace must not be modified or closed until the
+   * future has completed.
+   *
+   * <p>If the compiler throws an unhandled exception, the future is completed exceptionally
+   * with that exception.
+   *
+   * <p>Any number of compilations may be in flight at once. If any annotation processors have
+   * been {@link #addAnnotationProcessors added explicitly}, compilations will wait for each other
+   * to finish, since the same processor instances cannot be used by more than one compilation at
+   * once.
+   *
+   * @param workspace the workspace to compile.
+   * @param executor  the executor to run the compilation on.
+   * @return the future compilation result.
+   * @throws NullPointerException if the workspace or the executor is null.
+   * @see #compileAsync(Workspace)
+   */
+  CompletableFuture<R> compileAsync(Workspace workspace, Executor executor);
+
   /**
    * Apply a given configurer to this compiler that can throw a checked exception.
    *
@@ -764,6 +912,282 @@ public interface JctCompiler<C extends JctCompiler<C, R>, R extends JctCompilati
    */
   C inheritSystemModulePath(boolean inheritSystemModulePath);
 
+  /**
+   * Get whether JARs are read by memory-mapping their central directory.
+   *
+   * <p>When enabled, JARs in package-oriented and module-oriented locations are indexed by
+   * memory-mapping the archive and reading the ZIP central directory directly, rather than by
+   * opening a ZIP file system and walking it. Entries are only inflated when they are read. This
+   * can considerably reduce the overhead of compilations with large inherited class paths.
+   *
+   * <p>Unless otherwise changed or specified, implementations should default to
+   * {@link #DEFAULT_MEMORY_MAP_JARS}.
+   *
+   * @return whether JARs are memory-mapped or not.
+   */
+  boolean isMemoryMapJars();
+
+  /**
+   * Set whether JARs are read by memory-mapping their central directory.
+   *
+   * <p>When enabled, JARs in package-oriented and module-oriented locations are indexed by
+   * memory-mapping the archive and reading the ZIP central directory directly, rather than by
+   * opening a ZIP file system and walking it. Entries are only inflated when they are read. This
+   * can considerably reduce the overhead of compilations with large inherited class paths.
+   *
+   * <p>Unless otherwise changed or specified, implementations should default to
+   * {@link #DEFAULT_MEMORY_MAP_JARS}.
+   *
+   * @param memoryMapJars {@code true} to memory-map JARs, or {@code false} to open them as ZIP
+   *                      file systems.
+   * @return this compiler object for further call chaining.
+   */
+  C memoryMapJars(boolean memoryMapJars);
+
+  /**
+   * Get the minimum number of containers that a file listing must query before the containers are
+   * listed in parallel.
+   *
+   * <p>A value of {@code 0} disables parallel listing.
+   *
+   * <p>Unless otherwise changed or specified, implementations should default to
+   * {@link #DEFAULT_PARALLEL_LISTING_THRESHOLD}.
+   *
+   * @return the parallel listing threshold.
+   */
+  int getParallelListingThreshold();
+
+  /**
+   * Set the minimum number of containers that a file listing must query before the containers are
+   * listed in parallel.
+   *
+   * <p>When the compiler lists the files in a package, each container in the location, such as
+   * each JAR on the class path, is usually queried one after the other. When this is set to a
+   * positive value, any listing that spans at least this many containers will instead query the
+   * containers concurrently on a small shared pool of threads. The results are merged in the
+   * order that the containers were added, so the listing is identical to a serial listing.
+   *
+   * <p>This can reduce the time taken to compile against very large class paths, but will
+   * usually make small compilations slower, so it is disabled by default.
+   *
+   * <p>Unless otherwise changed or specified, implementations should default to
+   * {@link #DEFAULT_PARALLEL_LISTING_THRESHOLD}.
+   *
+   * @param parallelListingThreshold the minimum number of containers to list in parallel, or
+   *                                 {@code 0} to always list containers serially.
+   * @return this compiler object for further call chaining.
+   * @throws IllegalArgumentException if the threshold is negative.
+   */
+  C parallelListingThreshold(int parallelListingThreshold);
+
+  /**
+   * Get the maximum number of characters of decoded file content to cache for each compilation.
+   *
+   * <p>A value of {@code 0} disables the cache.
+   *
+   * <p>Unless otherwise changed or specified, implementations should default to
+   * {@link #DEFAULT_CONTENT_CACHE_SIZE}.
+   *
+   * @return the content cache size.
+   */
+  long getContentCacheSize();
+
+  /**
+   * Set the maximum number of characters of decoded file content to cache for each compilation.
+   *
+   * <p>When this is set to a positive value, each compilation creates a least-recently-used
+   * cache of this size. Files in directories on any location, such as source files, then read
+   * their content through that cache. Each file is only read and decoded once, regardless of how
+   * many times the compiler asks for it, or how many diagnostics refer to it. Files that are
+   * modified after they are read are read again.
+   *
+   * <p>Unless otherwise changed or specified, implementations should default to
+   * {@link #DEFAULT_CONTENT_CACHE_SIZE}.
+   *
+   * @param contentCacheSize the maximum number of characters to cache, or {@code 0} to disable
+   *                         the cache.
+   * @return this compiler object for further call chaining.
+   * @throws IllegalArgumentException if the size is negative.
+   */
+  C contentCacheSize(long contentCacheSize);
+
+  /**
+   * Determine whether files written to output directories are held in memory.
+   *
+   * <p>Unless otherwise changed or specified, implementations should default to
+   * {@link #DEFAULT_HEAP_OUTPUTS}.
+   *
+   * @return {@code true} if outputs are held in memory, {@code false} otherwise.
+   */
+  boolean isHeapOutputs();
+
+  /**
+   * Set whether files written to output directories are held in memory.
+   *
+   * <p>When enabled, class files, generated sources, and resources written by the compiler or by
+   * annotation processors are stored as byte arrays in memory, rather than being written to the
+   * workspace. This avoids resolving paths and creating directories for every file that is
+   * written during compilation.
+   *
+   * <p>Outputs remain visible through the usual APIs. Any assertions or class loaders that need
+   * the outputs as real files will cause them to be written out to the workspace on first use,
+   * once compilation has finished.
+   *
+   * <p>Unless otherwise changed or specified, implementations should default to
+   * {@link #DEFAULT_HEAP_OUTPUTS}.
+   *
+   * @param heapOutputs {@code true} to hold outputs in memory, {@code false} to write them to
+   *                    the workspace directly.
+   * @return this compiler object for further call chaining.
+   */
+  C heapOutputs(boolean heapOutputs);
+
+  /**
+   * Determine whether the calls made to the file manager are profiled.
+   *
+   * <p>Unless otherwise changed or specified, implementations should default to
+   * {@link #DEFAULT_FILE_MANAGER_PROFILING}.
+   *
+   * @return {@code true} if calls are profiled, {@code false} otherwise.
+   */
+  boolean isFileManagerProfiling();
+
+  /**
+   * Set whether the calls made to the file manager are profiled.
+   *
+   * <p>When enabled, the number of calls made to each file manager method for each location,
+   * the time they took, and whether lookups found anything are recorded, and can be retrieved
+   * from {@link JctCompilation#getFileManagerProfile()} once compilation has finished. This is
+   * useful for finding out where the compiler spends its time when searching for files.
+   *
+   * <p>Unless otherwise changed or specified, implementations should default to
+   * {@link #DEFAULT_FILE_MANAGER_PROFILING}.
+   *
+   * @param fileManagerProfiling {@code true} to profile calls, {@code false} to not profile them.
+   * @return this compiler object for further call chaining.
+   */
+  C fileManagerProfiling(boolean fileManagerProfiling);
+
+  /**
+   * Determine whether annotation processors are profiled.
+   *
+   * <p>Unless otherwise changed or specified, implementations should default to
+   * {@link #DEFAULT_ANNOTATION_PROCESSOR_PROFILING}.
+   *
+   * @return {@code true} if annotation processors are profiled, {@code false} otherwise.
+   */
+  boolean isAnnotationProcessorProfiling();
+
+  /**
+   * Set whether annotation processors are profiled.
+   *
+   * <p>When enabled, each annotation processor is wrapped so that the time it spends being
+   * initialised and processing each round, and the number of files it creates through the
+   * {@link javax.annotation.processing.Filer} in each round, are recorded. These can be
+   * retrieved from {@link JctCompilation#getAnnotationProcessorProfiles()} once compilation has
+   * finished.
+   *
+   * <p>Only annotation processors that have been {@link #addAnnotationProcessors added
+   * explicitly} are profiled. Processors that the compiler discovers by itself are still loaded
+   * by the compiler, so that {@code -processor}, the processor module path, and processors that
+   * fail to load behave exactly as they would otherwise. The total time spent in each round of
+   * annotation processing is available from
+   * {@link CompilationTimings#getAnnotationProcessingRoundTimes()} in either case.
+   *
+   * <p>Wrapped processors are given a processing environment that wraps the one provided by the
+   * compiler. Processors that expect the compiler's own implementation of the processing
+   * environment, such as Lombok, will not work with this enabled.
+   *
+   * <p>Unless otherwise changed or specified, implementations should default to
+   * {@link #DEFAULT_ANNOTATION_PROCESSOR_PROFILING}.
+   *
+   * @param annotationProcessorProfiling {@code true} to profile annotation processors,
+   *                                     {@code false} to not profile them.
+   * @return this compiler object for further call chaining.
+   */
+  C annotationProcessorProfiling(boolean annotationProcessorProfiling);
+
+  /**
+   * Determine whether compiler contexts are reused between compilations.
+   *
+   * <p>Unless otherwise changed or specified, implementations should default to
+   * {@link #DEFAULT_COMPILER_CONTEXT_REUSE}.
+   *
+   * @return {@code true} if compiler contexts are reused, {@code false} otherwise.
+   */
+  boolean isCompilerContextReuse();
+
+  /**
+   * Set whether compiler contexts are reused between compilations.
+   *
+   * <p>When enabled, the javac compiler keeps the internal context from each compilation in a
+   * JVM-wide pool, along with the symbols it has already loaded from the JDK and from the
+   * inherited class path and module path. Later compilations with the same compiler options and
+   * inherited locations pick up a warmed context from the pool rather than loading all of those
+   * symbols again. The classes compiled from the workspace are removed from the context before it
+   * is reused.
+   *
+   * <p>Contexts are only reused when this is known to be safe, which is when:
+   *
+   * <ul>
+   *   <li>the compiler is the javac implementation provided by the running JDK;</li>
+   *   <li>the {@code jdk.compiler} module exports {@code com.sun.tools.javac.api} to this
+   *       library, for example by passing
+   *       {@code --add-exports jdk.compiler/com.sun.tools.javac.api=io.github.ascopes.jct} (or
+   *       {@code =ALL-UNNAMED} on the class path) to the JVM running the tests;</li>
+   *   <li>the workspace only provides sources on the source path, with every other input
+   *       location being inherited from the JVM;</li>
+   *   <li>JARs are {@link #memoryMapJars memory-mapped} or not inherited at all;</li>
+   *   <li>no annotation processors are in use.</li>
+   * </ul>
+   *
+   * <p>Any other compilation runs normally with a new context.
+   *
+   * <p>Unless otherwise changed or specified, implementations should default to
+   * {@link #DEFAULT_COMPILER_CONTEXT_REUSE}.
+   *
+   * @param compilerContextReuse {@code true} to reuse compiler contexts, {@code false} to create
+   *                             a new context for each compilation.
+   * @return this compiler object for further call chaining.
+   */
+  C compilerContextReuse(boolean compilerContextReuse);
+
+  /**
+   * Determine whether each compilation is given its own output locations.
+   *
+   * <p>Unless otherwise changed or specified, implementations should default to
+   * {@link #DEFAULT_ISOLATED_OUTPUTS}.
+   *
+   * @return {@code true} if outputs are isolated, {@code false} otherwise.
+   */
+  boolean isIsolatedOutputs();
+
+  /**
+   * Set whether each compilation is given its own output locations.
+   *
+   * <p>By default, the outputs of a compilation are written to the output locations in the
+   * workspace, and any required output locations that are missing are created in the workspace.
+   * This means the outputs of successive compilations of the same workspace are mixed together,
+   * and that the same workspace cannot safely be compiled by more than one compilation at a
+   * time.
+   *
+   * <p>When enabled, the workspace is treated as read-only. Output locations registered in the
+   * workspace are ignored, and each compilation instead writes to new, empty output locations
+   * that only it can see. These locations are created using the
+   * {@link io.github.ascopes.jct.workspaces.Workspace#getPathStrategy() path strategy} of the
+   * workspace, and are destroyed when the workspace is closed. This allows the same prepared
+   * sources to be compiled for many releases or configurations at the same time, for example
+   * using {@link #compileAll} or {@link #compileAsync}, without copying the workspace.
+   *
+   * <p>Unless otherwise changed or specified, implementations should default to
+   * {@link #DEFAULT_ISOLATED_OUTPUTS}.
+   *
+   * @param isolatedOutputs {@code true} to give each compilation its own output locations,
+   *                        {@code false} to write outputs to the workspace.
+   * @return this compiler object for further call chaining.
+   */
+  C isolatedOutputs(boolean isolatedOutputs);
+
   /**
    * Get the output locale.
    *
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.compilers.impl;
+
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.TaskEvent;
+import com.sun.source.util.TaskListener;
+import io.github.ascopes.jct.compilers.CompilationTimings;
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import javax.tools.JavaCompiler.CompilationTask;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A {@code javac} task listener that records how long the compiler spends in each phase.
+ *
+ * <p>The compiler notifies listeners from the thread running the compilation, so this listener
+ * is not thread-safe.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class CompilationTimingListener implements TaskListener {
+
+  private final Map<TaskEvent.Kind, Deque<Long>> startTimes;
+  private final Map<TaskEvent.Kind, Long> totalNanos;
+  private final List<Duration> annotationProcessingRoundTimes;
+
+  /**
+   * Initialise this listener.
+   */
+  public CompilationTimingListener() {
+    startTimes = new EnumMap<>(TaskEvent.Kind.class);
+    totalNanos = new EnumMap<>(TaskEvent.Kind.class);
+    annotationProcessingRoundTimes = new ArrayList<>();
+  }
+
+  /**
+   * Register this listener with the given task, if the task is a {@code javac} task.
+   *
+   * <p>Other compilers do not report the phases they run through, so are left alone.
+   *
+   * @param task the task to listen to.
+   */
+  public void attachTo(CompilationTask task) {
+    if (task instanceof JavacTask) {
+      ((JavacTask) task).addTaskListener(this);
+    }
+  }
+
+  @Override
+  public void started(TaskEvent event) {
+    startTimes
+        .computeIfAbsent(event.getKind(), ignored -> new ArrayDeque<>())
+        .push(System.nanoTime());
+  }
+
+  @Override
+  public void finished(TaskEvent event) {
+    var now = System.nanoTime();
+    var kindStartTimes = startTimes.get(event.getKind());
+
+    if (kindStartTimes == null || kindStartTimes.isEmpty()) {
+      // Finished without being started, which should not happen, but is harmless.
+      return;
+    }
+
+    var elapsed = now - kindStartTimes.pop();
+    totalNanos.merge(event.getKind(), elapsed, Long::sum);
+
+    if (event.getKind() == TaskEvent.Kind.ANNOTATION_PROCESSING_ROUND) {
+      annotationProcessingRoundTimes.add(Duration.ofNanos(elapsed));
+    }
+  }
+
+  /**
+   * Get the timings recorded so far.
+   *
+   * @param totalTime the total wall time of the compilation.
+   * @return the timings.
+   */
+  public CompilationTimings getTimings(Duration totalTime) {
+    return new CompilationTimings(
+        totalTime,
+        totalTimeOf(TaskEvent.Kind.PARSE),
+        totalTimeOf(TaskEvent.Kind.ENTER),
+        totalTimeOf(TaskEvent.Kind.ANALYZE),
+        totalTimeOf(TaskEvent.Kind.GENERATE),
+        annotationProcessingRoundTimes
+    );
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("totalNanos", totalNanos)
+        .toString();
+  }
+
+  private Duration totalTimeOf(TaskEvent.Kind kind) {
+    return Duration.ofNanos(totalNanos.getOrDefault(kind, 0L));
+  }
+}
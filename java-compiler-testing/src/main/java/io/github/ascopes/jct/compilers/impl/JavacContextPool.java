@@ -0,0 +1,731 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.compilers.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.sun.source.util.JavacTask;
+import io.github.ascopes.jct.containers.Container;
+import io.github.ascopes.jct.containers.PackageContainerGroup;
+import io.github.ascopes.jct.containers.impl.JarContainerImpl;
+import io.github.ascopes.jct.filemanagers.JctFileManager;
+import io.github.ascopes.jct.filemanagers.impl.JctFileManagerTemplate;
+import io.github.ascopes.jct.utils.Lazy;
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import javax.tools.DiagnosticListener;
+import javax.tools.FileObject;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.StandardLocation;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A JVM-wide pool of warmed javac contexts.
+ *
+ * <p>This wraps javac's own {@code com.sun.tools.javac.api.JavacTaskPool}, which jshell uses to
+ * reuse the same context for many small compilations. A reused context keeps the symbols it has
+ * already completed from the JDK and from the class path, and drops the classes that were
+ * compiled from sources before it is reused.
+ *
+ * <p>Javac components hold onto the file manager that they were created with, so each pooled
+ * context is given its own file manager that forwards to the file manager of whichever
+ * compilation is currently using the context. Contexts are only shared between compilations
+ * that use the same compiler flags and the same {@link JctFileManagerTemplate inherited
+ * locations}.
+ *
+ * <p>The javac task pool is not part of the exported API of the {@code jdk.compiler} module, so
+ * this pool is only available if {@code com.sun.tools.javac.api} has been exported to this
+ * module, for example with
+ * {@code --add-exports jdk.compiler/com.sun.tools.javac.api=io.github.ascopes.jct}.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class JavacContextPool {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(JavacContextPool.class);
+  private static final String JAVAC_MODULE_NAME = "jdk.compiler";
+  private static final String JAVAC_API_PACKAGE_NAME = "com.sun.tools.javac.api";
+  private static final String JAVAC_TOOL_CLASS_NAME = JAVAC_API_PACKAGE_NAME + ".JavacTool";
+  private static final String TASK_POOL_CLASS_NAME = JAVAC_API_PACKAGE_NAME + ".JavacTaskPool";
+  private static final String WORKER_CLASS_NAME = TASK_POOL_CLASS_NAME + "$Worker";
+
+  private static final Lazy<JavacContextPool> INSTANCE = new Lazy<>(
+      () -> new JavacContextPool(Runtime.getRuntime().availableProcessors())
+  );
+
+  /**
+   * Get the shared JVM-wide instance of this pool.
+   *
+   * @return the shared instance.
+   */
+  public static JavacContextPool getInstance() {
+    return INSTANCE.access();
+  }
+
+  private final @Nullable TaskPoolReflection reflection;
+  private final int maxIdle;
+  private final Lock lock;
+  private final Deque<Slot> idle;
+  private final LongAdder createdCount;
+  private final LongAdder reusedCount;
+  private final LongAdder discardedCount;
+
+  /**
+   * Initialise this pool.
+   *
+   * <p>Most callers will want to use {@link #getInstance()} rather than creating a new pool.
+   *
+   * @param maxIdle the maximum number of idle contexts to keep across all configurations.
+   */
+  public JavacContextPool(int maxIdle) {
+    if (maxIdle < 1) {
+      throw new IllegalArgumentException("maxIdle must be at least 1 (got " + maxIdle + ")");
+    }
+
+    reflection = TaskPoolReflection.tryLoad();
+    this.maxIdle = maxIdle;
+    lock = new ReentrantLock();
+    idle = new ArrayDeque<>();
+    createdCount = new LongAdder();
+    reusedCount = new LongAdder();
+    discardedCount = new LongAdder();
+  }
+
+  /**
+   * Determine if the javac task pool can be accessed by this module.
+   *
+   * @return {@code true} if contexts can be pooled, {@code false} otherwise.
+   */
+  public boolean isAvailable() {
+    return reflection != null;
+  }
+
+  /**
+   * Determine whether a context can safely be reused for the given compilation.
+   *
+   * <p>This does not check whether annotation processors are in use, which the caller must
+   * check separately.
+   *
+   * @param template       the file manager template for the compiler configuration.
+   * @param jsr199Compiler the JSR-199 compiler being used.
+   * @param fileManager    the file manager for the compilation.
+   * @return {@code true} if a pooled context can be used, {@code false} otherwise.
+   */
+  public boolean canReuse(
+      JctFileManagerTemplate template,
+      JavaCompiler jsr199Compiler,
+      JctFileManager fileManager
+  ) {
+    if (reflection == null) {
+      LOGGER.debug(
+          "Compiler contexts cannot be reused, since {} is not exported to {}",
+          JAVAC_API_PACKAGE_NAME,
+          JavacContextPool.class.getModule()
+      );
+      return false;
+    }
+
+    if (!jsr199Compiler.getClass().getName().equals(JAVAC_TOOL_CLASS_NAME)) {
+      LOGGER.debug("Compiler contexts cannot be reused, since {} is not javac", jsr199Compiler);
+      return false;
+    }
+
+    // Javac only lists each package once per context, so every location other than the
+    // sources must be identical between compilations sharing a context.
+    var inheritedPaths = new HashSet<Path>();
+    template
+        .getEntries()
+        .forEach(entry -> inheritedPaths.add(entry.getValue().getPath()));
+
+    for (var group : fileManager.getPackageContainerGroups()) {
+      if (!isReusable(group, inheritedPaths)) {
+        return false;
+      }
+    }
+
+    for (var group : fileManager.getModuleContainerGroups()) {
+      if (group.getLocation() == StandardLocation.MODULE_SOURCE_PATH) {
+        LOGGER.debug("Compiler contexts cannot be reused for multi-module sources");
+        return false;
+      }
+
+      for (var moduleGroup : group.getModules().values()) {
+        if (!isReusable(moduleGroup, inheritedPaths)) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Run a compilation using a pooled context.
+   *
+   * @param template           the file manager template for the compiler configuration.
+   * @param writer             the writer for additional compiler output.
+   * @param fileManager        the file manager for the compilation.
+   * @param diagnosticListener the diagnostic listener.
+   * @param flags              the compiler flags.
+   * @param classNames         the class names to pass to annotation processors.
+   * @param compilationUnits   the compilation units to compile.
+   * @param worker             the function that runs the task. The task is only valid while the
+   *                           function is running.
+   * @param <T>                the result type of the worker.
+   * @return the result of the worker.
+   * @throws IllegalStateException if the pool is not {@link #isAvailable() available}.
+   */
+  public <T> T runTask(
+      JctFileManagerTemplate template,
+      Writer writer,
+      JctFileManager fileManager,
+      DiagnosticListener<? super JavaFileObject> diagnosticListener,
+      List<String> flags,
+      @Nullable Collection<String> classNames,
+      Collection<? extends JavaFileObject> compilationUnits,
+      Function<JavacTask, T> worker
+  ) {
+    if (reflection == null) {
+      throw new IllegalStateException("The javac task pool is not available");
+    }
+
+    var slot = borrow(new Key(template, flags));
+    slot.fileManager.setDelegate(fileManager);
+
+    try {
+      var result = reflection.getTask(
+          slot.taskPool,
+          writer,
+          slot.fileManager,
+          diagnosticListener,
+          flags,
+          classNames,
+          compilationUnits,
+          worker
+      );
+
+      slot.fileManager.setDelegate(null);
+      release(slot);
+      return result;
+
+    } catch (RuntimeException | Error ex) {
+      // Javac does not return contexts to the pool if the task fails, so neither do we.
+      slot.fileManager.setDelegate(null);
+      discardedCount.increment();
+      throw ex;
+    }
+  }
+
+  /**
+   * Discard all idle contexts.
+   */
+  public void clear() {
+    lock.lock();
+    try {
+      discardedCount.add(idle.size());
+      idle.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Get the number of contexts currently idle in the pool.
+   *
+   * @return the idle count.
+   */
+  public int getIdleCount() {
+    lock.lock();
+    try {
+      return idle.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Get the number of times a new context had to be created.
+   *
+   * @return the created count.
+   */
+  public long getCreatedCount() {
+    return createdCount.sum();
+  }
+
+  /**
+   * Get the number of times an idle context was reused.
+   *
+   * @return the reused count.
+   */
+  public long getReusedCount() {
+    return reusedCount.sum();
+  }
+
+  /**
+   * Get the number of contexts discarded because the pool was full, the pool was cleared, or
+   * the compilation using them failed.
+   *
+   * @return the discarded count.
+   */
+  public long getDiscardedCount() {
+    return discardedCount.sum();
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("available", isAvailable())
+        .attribute("maxIdle", maxIdle)
+        .attribute("idleCount", getIdleCount())
+        .attribute("createdCount", getCreatedCount())
+        .attribute("reusedCount", getReusedCount())
+        .attribute("discardedCount", getDiscardedCount())
+        .toString();
+  }
+
+  private Slot borrow(Key key) {
+    lock.lock();
+    try {
+      for (var iterator = idle.iterator(); iterator.hasNext(); ) {
+        var slot = iterator.next();
+        if (slot.key.equals(key)) {
+          iterator.remove();
+          reusedCount.increment();
+          LOGGER.trace("Reusing pooled compiler context for {}", key);
+          return slot;
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    createdCount.increment();
+    LOGGER.trace("Creating new pooled compiler context for {}", key);
+    return new Slot(key, requireNonNull(reflection).newTaskPool());
+  }
+
+  private void release(Slot slot) {
+    lock.lock();
+    try {
+      // Most recently used contexts go first, and the least recently used are evicted, so
+      // contexts for configurations that are no longer in use eventually get dropped.
+      idle.addFirst(slot);
+
+      if (idle.size() > maxIdle) {
+        var evicted = idle.removeLast();
+        discardedCount.increment();
+        LOGGER.trace("Evicted pooled compiler context for {}", evicted.key);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static boolean isReusable(PackageContainerGroup group, Set<Path> inheritedPaths) {
+    var location = group.getLocation();
+
+    if (location.isOutputLocation() || location == StandardLocation.SOURCE_PATH) {
+      return true;
+    }
+
+    for (var container : group.getPackages()) {
+      if (container instanceof JarContainerImpl) {
+        // File objects from a context are reused after the JAR they came from is closed.
+        LOGGER.debug(
+            "Compiler contexts cannot be reused with JARs that are not memory-mapped ({} in {})",
+            container.getPathRoot().getPath(),
+            location.getName()
+        );
+        return false;
+      }
+
+      if (!isInherited(container, inheritedPaths)) {
+        LOGGER.debug(
+            "Compiler contexts cannot be reused when the workspace provides {} in {}",
+            container.getPathRoot().getPath(),
+            location.getName()
+        );
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean isInherited(Container container, Set<Path> inheritedPaths) {
+    // Modules discovered within an inherited path are nested beneath that path.
+    for (var path = container.getPathRoot().getPath(); path != null; path = path.getParent()) {
+      if (inheritedPaths.contains(path)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private static final class Key {
+
+    private final JctFileManagerTemplate template;
+    private final List<String> flags;
+
+    private Key(JctFileManagerTemplate template, List<String> flags) {
+      this.template = template;
+      this.flags = List.copyOf(flags);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+      if (!(other instanceof Key)) {
+        return false;
+      }
+
+      // Templates are compared by identity, since a new template is built whenever the
+      // inherited locations change.
+      var that = (Key) other;
+      return template == that.template && flags.equals(that.flags);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(template) + flags.hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .attribute("template", template)
+          .attribute("flags", flags)
+          .toString();
+    }
+  }
+
+  private static final class Slot {
+
+    private final Key key;
+    private final Object taskPool;
+    private final SwitchingFileManager fileManager;
+
+    private Slot(Key key, Object taskPool) {
+      this.key = key;
+      this.taskPool = taskPool;
+      fileManager = new SwitchingFileManager();
+    }
+  }
+
+  private static final class TaskPoolReflection {
+
+    private final Constructor<?> constructor;
+    private final Method getTask;
+    private final Class<?> workerClass;
+
+    private TaskPoolReflection(Constructor<?> constructor, Method getTask, Class<?> workerClass) {
+      this.constructor = constructor;
+      this.getTask = getTask;
+      this.workerClass = workerClass;
+    }
+
+    private Object newTaskPool() {
+      // Each slot only ever holds one context, so that it is only ever used with the
+      // file manager that the slot owns.
+      return invoke(() -> constructor.newInstance(1));
+    }
+
+    private <T> T getTask(
+        Object taskPool,
+        Writer writer,
+        JavaFileManager fileManager,
+        DiagnosticListener<? super JavaFileObject> diagnosticListener,
+        List<String> flags,
+        @Nullable Collection<String> classNames,
+        Collection<? extends JavaFileObject> compilationUnits,
+        Function<JavacTask, T> worker
+    ) {
+      var workerProxy = Proxy.newProxyInstance(
+          workerClass.getClassLoader(),
+          new Class<?>[]{workerClass},
+          (proxy, method, args) -> {
+            switch (method.getName()) {
+              case "withTask":
+                return worker.apply((JavacTask) args[0]);
+              case "toString":
+                return "JavacContextPool worker";
+              case "hashCode":
+                return System.identityHashCode(proxy);
+              case "equals":
+                return proxy == args[0];
+              default:
+                throw new UnsupportedOperationException(method.toString());
+            }
+          }
+      );
+
+      @SuppressWarnings("unchecked")
+      var result = (T) invoke(() -> getTask.invoke(
+          taskPool,
+          writer,
+          fileManager,
+          diagnosticListener,
+          flags,
+          classNames,
+          compilationUnits,
+          workerProxy
+      ));
+
+      return result;
+    }
+
+    private static Object invoke(ReflectiveCall call) {
+      try {
+        return call.call();
+      } catch (InvocationTargetException ex) {
+        var cause = ex.getCause();
+
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+
+        throw new IllegalStateException("Unexpected exception from the javac task pool", cause);
+      } catch (ReflectiveOperationException ex) {
+        throw new IllegalStateException("Failed to call the javac task pool", ex);
+      }
+    }
+
+    @Nullable
+    private static TaskPoolReflection tryLoad() {
+      var javacModule = ModuleLayer.boot().findModule(JAVAC_MODULE_NAME).orElse(null);
+
+      if (javacModule == null
+          || !javacModule.isExported(JAVAC_API_PACKAGE_NAME, JavacContextPool.class.getModule())) {
+        return null;
+      }
+
+      var taskPoolClass = Class.forName(javacModule, TASK_POOL_CLASS_NAME);
+      var workerClass = Class.forName(javacModule, WORKER_CLASS_NAME);
+
+      if (taskPoolClass == null || workerClass == null) {
+        LOGGER.debug("The javac task pool is not present in this JDK");
+        return null;
+      }
+
+      try {
+        var constructor = taskPoolClass.getConstructor(int.class);
+        var getTask = taskPoolClass.getMethod(
+            "getTask",
+            Writer.class,
+            JavaFileManager.class,
+            DiagnosticListener.class,
+            Iterable.class,
+            Iterable.class,
+            Iterable.class,
+            workerClass
+        );
+        return new TaskPoolReflection(constructor, getTask, workerClass);
+      } catch (NoSuchMethodException ex) {
+        LOGGER.debug("The javac task pool in this JDK has an unexpected API", ex);
+        return null;
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface ReflectiveCall {
+
+    Object call() throws ReflectiveOperationException;
+  }
+
+  /**
+   * A file manager that forwards to the file manager of the compilation currently using the
+   * context.
+   */
+  private static final class SwitchingFileManager implements JavaFileManager {
+
+    private volatile @Nullable JavaFileManager delegate;
+
+    private void setDelegate(@Nullable JavaFileManager delegate) {
+      this.delegate = delegate;
+    }
+
+    private JavaFileManager delegate() {
+      var delegate = this.delegate;
+
+      if (delegate == null) {
+        throw new IllegalStateException("Pooled compiler context used outside of a compilation");
+      }
+
+      return delegate;
+    }
+
+    @Override
+    public ClassLoader getClassLoader(Location location) {
+      return delegate().getClassLoader(location);
+    }
+
+    @Override
+    public Iterable<JavaFileObject> list(
+        Location location,
+        String packageName,
+        Set<Kind> kinds,
+        boolean recurse
+    ) throws IOException {
+      return delegate().list(location, packageName, kinds, recurse);
+    }
+
+    @Override
+    public String inferBinaryName(Location location, JavaFileObject file) {
+      return delegate().inferBinaryName(location, file);
+    }
+
+    @Override
+    public boolean isSameFile(FileObject a, FileObject b) {
+      return delegate().isSameFile(a, b);
+    }
+
+    @Override
+    public boolean handleOption(String current, Iterator<String> remaining) {
+      return delegate().handleOption(current, remaining);
+    }
+
+    @Override
+    public boolean hasLocation(Location location) {
+      return delegate().hasLocation(location);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForInput(
+        Location location,
+        String className,
+        Kind kind
+    ) throws IOException {
+      return delegate().getJavaFileForInput(location, className, kind);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(
+        Location location,
+        String className,
+        Kind kind,
+        FileObject sibling
+    ) throws IOException {
+      return delegate().getJavaFileForOutput(location, className, kind, sibling);
+    }
+
+    @Override
+    public FileObject getFileForInput(
+        Location location,
+        String packageName,
+        String relativeName
+    ) throws IOException {
+      return delegate().getFileForInput(location, packageName, relativeName);
+    }
+
+    @Override
+    public FileObject getFileForOutput(
+        Location location,
+        String packageName,
+        String relativeName,
+        FileObject sibling
+    ) throws IOException {
+      return delegate().getFileForOutput(location, packageName, relativeName, sibling);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      delegate().flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate().close();
+    }
+
+    @Override
+    public Location getLocationForModule(Location location, String moduleName)
+        throws IOException {
+      return delegate().getLocationForModule(location, moduleName);
+    }
+
+    @Override
+    public Location getLocationForModule(Location location, JavaFileObject fileObject)
+        throws IOException {
+      return delegate().getLocationForModule(location, fileObject);
+    }
+
+    @Override
+    public <S> ServiceLoader<S> getServiceLoader(Location location, Class<S> service)
+        throws IOException {
+      return delegate().getServiceLoader(location, service);
+    }
+
+    @Override
+    public String inferModuleName(Location location) throws IOException {
+      return delegate().inferModuleName(location);
+    }
+
+    @Override
+    public Iterable<Set<Location>> listLocationsForModules(Location location)
+        throws IOException {
+      return delegate().listLocationsForModules(location);
+    }
+
+    @Override
+    public boolean contains(Location location, FileObject fileObject) throws IOException {
+      return delegate().contains(location, fileObject);
+    }
+
+    @Override
+    public int isSupportedOption(String option) {
+      return delegate().isSupportedOption(option);
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .attribute("delegate", delegate)
+          .toString();
+    }
+  }
+}
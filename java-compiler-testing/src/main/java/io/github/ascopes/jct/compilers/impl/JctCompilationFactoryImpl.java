@@ -15,9 +15,11 @@
  */
 package io.github.ascopes.jct.compilers.impl;
 
+import static java.time.Duration.ZERO;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
+import io.github.ascopes.jct.compilers.CompilationTimings;
 import io.github.ascopes.jct.compilers.JctCompilation;
 import io.github.ascopes.jct.compilers.JctCompilationFactory;
 import io.github.ascopes.jct.compilers.JctCompiler;
@@ -26,20 +28,27 @@ import io.github.ascopes.jct.diagnostics.TracingDiagnosticListener;
 import io.github.ascopes.jct.ex.JctCompilerException;
 import io.github.ascopes.jct.filemanagers.JctFileManager;
 import io.github.ascopes.jct.filemanagers.LoggingMode;
+import io.github.ascopes.jct.filemanagers.impl.JctFileManagerTemplate;
 import io.github.ascopes.jct.utils.IterableUtils;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import javax.annotation.processing.Processor;
 import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
 import javax.tools.JavaFileManager.Location;
 import javax.tools.JavaFileObject;
 import javax.tools.JavaFileObject.Kind;
 import javax.tools.StandardLocation;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,11 +63,32 @@ import org.slf4j.LoggerFactory;
 public final class JctCompilationFactoryImpl implements JctCompilationFactory {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JctCompilationFactoryImpl.class);
+  private static final boolean JAVAC_API_AVAILABLE = isJavacApiAvailable();
 
-  private final JctCompiler<?, ?> compiler;
+  private final Charset logCharset;
+  private final LoggingMode diagnosticLoggingMode;
+  private final List<Processor> annotationProcessors;
+  private final boolean annotationProcessorProfiling;
+  private final boolean failOnWarnings;
+  private final @Nullable JctFileManagerTemplate contextReuseTemplate;
 
+  /**
+   * Initialise this factory.
+   *
+   * <p>The settings of the compiler are captured here, so the compiler can be reconfigured
+   * while compilations created by this factory are still running.
+   *
+   * @param compiler the compiler to read the settings from.
+   */
   public JctCompilationFactoryImpl(JctCompiler<?, ?> compiler) {
-    this.compiler = compiler;
+    logCharset = compiler.getLogCharset();
+    diagnosticLoggingMode = compiler.getDiagnosticLoggingMode();
+    annotationProcessors = List.copyOf(compiler.getAnnotationProcessors());
+    annotationProcessorProfiling = compiler.isAnnotationProcessorProfiling();
+    failOnWarnings = compiler.isFailOnWarnings();
+    contextReuseTemplate = compiler.isCompilerContextReuse()
+        ? JctFileManagerTemplate.forCompiler(compiler)
+        : null;
   }
 
   @Override
@@ -89,34 +119,69 @@ public final class JctCompilationFactoryImpl implements JctCompilationFactory {
     var compilationUnits = findCompilationUnits(fileManager);
 
     // Do not close stdout, it breaks test engines, especially IntellIJ.
-    var writer = new TeeWriter(new OutputStreamWriter(System.out, compiler.getLogCharset()));
+    var writer = new TeeWriter(new OutputStreamWriter(System.out, logCharset));
 
     var diagnosticListener = new TracingDiagnosticListener<>(
-        compiler.getDiagnosticLoggingMode() != LoggingMode.DISABLED,
-        compiler.getDiagnosticLoggingMode() == LoggingMode.STACKTRACES
+        diagnosticLoggingMode != LoggingMode.DISABLED,
+        diagnosticLoggingMode == LoggingMode.STACKTRACES
     );
 
-    var task = jsr199Compiler.getTask(
-        writer,
-        fileManager,
-        diagnosticListener,
-        flags,
-        classNames,
-        compilationUnits
-    );
-
-    var processors = compiler.getAnnotationProcessors();
-    if (!processors.isEmpty()) {
-      task.setProcessors(processors);
-    }
+    var timingListener = JAVAC_API_AVAILABLE
+        ? new CompilationTimingListener()
+        : null;
+    var profilingProcessors = new ArrayList<ProfilingProcessor>();
+    var reuseContext = canReuseContext(flags, fileManager, jsr199Compiler);
+    boolean success;
 
     LOGGER.info("Starting compilation");
 
     var start = System.nanoTime();
-    var success = requireNonNull(
-        task.call(), "Compiler task .call() method returned null unexpectedly!"
-    );
-    var delta = (System.nanoTime() - start) / 1_000_000L;
+
+    if (reuseContext) {
+      LOGGER.debug("Using a pooled compiler context");
+      success = JavacContextPool.getInstance().runTask(
+          requireNonNull(contextReuseTemplate),
+          writer,
+          fileManager,
+          diagnosticListener,
+          flags,
+          classNames,
+          compilationUnits,
+          task -> callTask(task, timingListener)
+      );
+    } else {
+      var task = jsr199Compiler.getTask(
+          writer,
+          fileManager,
+          diagnosticListener,
+          flags,
+          classNames,
+          compilationUnits
+      );
+
+      List<Processor> processors = annotationProcessors;
+
+      if (annotationProcessorProfiling) {
+        if (processors.isEmpty()) {
+          // Discovery is left to the compiler, since it behaves differently for -processor,
+          // processor module paths, and processors that fail to load. Only the round timings
+          // are available for discovered processors.
+          LOGGER.debug("Annotation processors discovered by the compiler are not profiled");
+        }
+
+        processors.forEach(processor -> profilingProcessors.add(new ProfilingProcessor(processor)));
+        processors = List.copyOf(profilingProcessors);
+      }
+
+      if (!processors.isEmpty()) {
+        task.setProcessors(processors);
+      }
+
+      success = callTask(task, timingListener);
+    }
+
+    var totalTime = Duration.ofNanos(System.nanoTime() - start);
+    var delta = totalTime.toMillis();
 
     LOGGER
         .atInfo()
@@ -125,17 +190,111 @@ public final class JctCompilationFactoryImpl implements JctCompilationFactory {
         .addArgument(delta)
         .log();
 
+    var timings = timingListener == null
+        ? new CompilationTimings(totalTime, ZERO, ZERO, ZERO, ZERO, List.of())
+        : timingListener.getTimings(totalTime);
+    LOGGER.debug("Compilation timings: {}", timings);
+
+    var lookupCacheStatistics = fileManager.getLookupCacheStatistics();
+    LOGGER.debug("File manager lookup cache statistics: {}", lookupCacheStatistics);
+
+    var listingStatistics = fileManager.getListingStatistics();
+    LOGGER.debug("File manager listing statistics: {}", listingStatistics);
+
+    var fileManagerProfile = fileManager.getProfile();
+    if (!fileManagerProfile.isEmpty()) {
+      LOGGER.debug("File manager profile: {}", fileManagerProfile);
+    }
+
     return JctCompilationImpl
         .builder()
         .compilationUnits(compilationUnits)
         .fileManager(fileManager)
+        .lookupCacheStatistics(lookupCacheStatistics)
+        .listingStatistics(listingStatistics)
+        .fileManagerProfile(fileManagerProfile)
+        .timings(timings)
+        .annotationProcessorProfiles(profilingProcessors
+            .stream()
+            .map(ProfilingProcessor::getProfile)
+            .collect(toList()))
         .outputLines(writer.toString().lines().collect(toList()))
         .diagnostics(diagnosticListener.getDiagnostics())
         .success(success)
-        .failOnWarnings(compiler.isFailOnWarnings())
+        .failOnWarnings(failOnWarnings)
         .build();
   }
 
+  private boolean callTask(
+      CompilationTask task,
+      @Nullable CompilationTimingListener timingListener
+  ) {
+    // Only javac reports the phases it runs through. Other compilers just get a total time.
+    if (timingListener != null) {
+      timingListener.attachTo(task);
+    }
+
+    return requireNonNull(
+        task.call(), "Compiler task .call() method returned null unexpectedly!"
+    );
+  }
+
+  private boolean canReuseContext(
+      List<String> flags,
+      JctFileManager fileManager,
+      JavaCompiler jsr199Compiler
+  ) throws IOException {
+    if (contextReuseTemplate == null) {
+      return false;
+    }
+
+    // Annotation processors are installed into the context, so would leak into other
+    // compilations.
+    if (!annotationProcessors.isEmpty()
+        || annotationProcessorProfiling
+        || hasDiscoverableAnnotationProcessors(flags, fileManager)) {
+      LOGGER.debug("Compiler contexts cannot be reused when annotation processors are in use");
+      return false;
+    }
+
+    return JavacContextPool.getInstance().canReuse(contextReuseTemplate, jsr199Compiler, fileManager);
+  }
+
+  private boolean hasDiscoverableAnnotationProcessors(
+      List<String> flags,
+      JctFileManager fileManager
+  ) throws IOException {
+    if (flags.contains("-proc:none")) {
+      return false;
+    }
+
+    if (flags.contains("-processor")) {
+      return true;
+    }
+
+    var location = findAnnotationProcessorLocation(fileManager);
+    return location != null && fileManager
+        .getServiceLoader(location, Processor.class)
+        .stream()
+        .findAny()
+        .isPresent();
+  }
+
+  @Nullable
+  private Location findAnnotationProcessorLocation(JctFileManager fileManager) {
+    // Search the same location that the compiler would search if it were discovering
+    // processors itself.
+    if (fileManager.hasLocation(StandardLocation.ANNOTATION_PROCESSOR_MODULE_PATH)) {
+      return StandardLocation.ANNOTATION_PROCESSOR_MODULE_PATH;
+    } else if (fileManager.hasLocation(StandardLocation.ANNOTATION_PROCESSOR_PATH)) {
+      return StandardLocation.ANNOTATION_PROCESSOR_PATH;
+    } else if (fileManager.hasLocation(StandardLocation.CLASS_PATH)) {
+      return StandardLocation.CLASS_PATH;
+    } else {
+      return null;
+    }
+  }
+
   private Set<JavaFileObject> findCompilationUnits(JctFileManager fileManager) throws IOException {
     Collection<Location> locations = IterableUtils
         .flatten(fileManager.listLocationsForModules(StandardLocation.MODULE_SOURCE_PATH));
@@ -165,4 +324,18 @@ public final class JctCompilationFactoryImpl implements JctCompilationFactory {
 
     return objects;
   }
+
+  private static boolean isJavacApiAvailable() {
+    // The jdk.compiler module is an optional dependency, since custom runtime images may not
+    // include it. Only javac's own API needs it, so check that it is readable before touching it.
+    var module = JctCompilationFactoryImpl.class.getModule();
+    var layer = module.getLayer() == null
+        ? ModuleLayer.boot()
+        : module.getLayer();
+
+    return layer
+        .findModule("jdk.compiler")
+        .filter(module::canRead)
+        .isPresent();
+  }
 }
@@ -20,9 +20,14 @@ import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
 
+import io.github.ascopes.jct.compilers.AnnotationProcessorProfile;
+import io.github.ascopes.jct.compilers.CompilationTimings;
 import io.github.ascopes.jct.compilers.JctCompilation;
 import io.github.ascopes.jct.diagnostics.TraceDiagnostic;
+import io.github.ascopes.jct.filemanagers.FileManagerProfile;
 import io.github.ascopes.jct.filemanagers.JctFileManager;
+import io.github.ascopes.jct.filemanagers.ListingStatistics;
+import io.github.ascopes.jct.filemanagers.LookupCacheStatistics;
 import io.github.ascopes.jct.utils.ToStringBuilder;
 import java.util.List;
 import java.util.Set;
@@ -45,6 +50,11 @@ public final class JctCompilationImpl implements JctCompilation {
   private final Set<JavaFileObject> compilationUnits;
   private final List<TraceDiagnostic<JavaFileObject>> diagnostics;
   private final JctFileManager fileManager;
+  private final LookupCacheStatistics lookupCacheStatistics;
+  private final ListingStatistics listingStatistics;
+  private final FileManagerProfile fileManagerProfile;
+  private final CompilationTimings timings;
+  private final List<AnnotationProcessorProfile> annotationProcessorProfiles;
 
   @SuppressWarnings("ConstantConditions")
   private JctCompilationImpl(Builder builder) {
@@ -66,6 +76,21 @@ public final class JctCompilationImpl implements JctCompilation {
     fileManager = requireNonNull(
         builder.fileManager, "fileManager"
     );
+    lookupCacheStatistics = requireNonNull(
+        builder.lookupCacheStatistics, "lookupCacheStatistics"
+    );
+    listingStatistics = requireNonNull(
+        builder.listingStatistics, "listingStatistics"
+    );
+    fileManagerProfile = requireNonNull(
+        builder.fileManagerProfile, "fileManagerProfile"
+    );
+    timings = requireNonNull(
+        builder.timings, "timings"
+    );
+    annotationProcessorProfiles = unmodifiableList(
+        requireNonNullValues(builder.annotationProcessorProfiles, "annotationProcessorProfiles")
+    );
   }
 
   @Override
@@ -98,6 +123,31 @@ public final class JctCompilationImpl implements JctCompilation {
     return fileManager;
   }
 
+  @Override
+  public LookupCacheStatistics getLookupCacheStatistics() {
+    return lookupCacheStatistics;
+  }
+
+  @Override
+  public ListingStatistics getListingStatistics() {
+    return listingStatistics;
+  }
+
+  @Override
+  public FileManagerProfile getFileManagerProfile() {
+    return fileManagerProfile;
+  }
+
+  @Override
+  public CompilationTimings getTimings() {
+    return timings;
+  }
+
+  @Override
+  public List<AnnotationProcessorProfile> getAnnotationProcessorProfiles() {
+    return annotationProcessorProfiles;
+  }
+
   @Override
   public String toString() {
     return new ToStringBuilder(this)
@@ -131,6 +181,11 @@ public final class JctCompilationImpl implements JctCompilation {
     private Set<JavaFileObject> compilationUnits;
     private List<TraceDiagnostic<JavaFileObject>> diagnostics;
     private JctFileManager fileManager;
+    private LookupCacheStatistics lookupCacheStatistics;
+    private ListingStatistics listingStatistics;
+    private FileManagerProfile fileManagerProfile;
+    private CompilationTimings timings;
+    private List<AnnotationProcessorProfile> annotationProcessorProfiles;
 
     private Builder() {
       // Only initialized in this file.
@@ -140,6 +195,11 @@ public final class JctCompilationImpl implements JctCompilation {
       compilationUnits = null;
       diagnostics = null;
       fileManager = null;
+      lookupCacheStatistics = LookupCacheStatistics.empty();
+      listingStatistics = ListingStatistics.empty();
+      fileManagerProfile = FileManagerProfile.empty();
+      timings = CompilationTimings.empty();
+      annotationProcessorProfiles = List.of();
     }
 
     /**
@@ -212,6 +272,76 @@ public final class JctCompilationImpl implements JctCompilation {
       return this;
     }
 
+    /**
+     * Set the lookup cache statistics.
+     *
+     * <p>If not set, this will default to {@link LookupCacheStatistics#empty()}.
+     *
+     * @param lookupCacheStatistics the lookup cache statistics.
+     * @return this builder.
+     */
+    public Builder lookupCacheStatistics(LookupCacheStatistics lookupCacheStatistics) {
+      this.lookupCacheStatistics = requireNonNull(lookupCacheStatistics, "lookupCacheStatistics");
+      return this;
+    }
+
+    /**
+     * Set the listing statistics.
+     *
+     * <p>If not set, this will default to {@link ListingStatistics#empty()}.
+     *
+     * @param listingStatistics the listing statistics.
+     * @return this builder.
+     */
+    public Builder listingStatistics(ListingStatistics listingStatistics) {
+      this.listingStatistics = requireNonNull(listingStatistics, "listingStatistics");
+      return this;
+    }
+
+    /**
+     * Set the file manager profile.
+     *
+     * <p>If not set, this will default to {@link FileManagerProfile#empty()}.
+     *
+     * @param fileManagerProfile the file manager profile.
+     * @return this builder.
+     */
+    public Builder fileManagerProfile(FileManagerProfile fileManagerProfile) {
+      this.fileManagerProfile = requireNonNull(fileManagerProfile, "fileManagerProfile");
+      return this;
+    }
+
+    /**
+     * Set the compilation timings.
+     *
+     * <p>If not set, this will default to {@link CompilationTimings#empty()}.
+     *
+     * @param timings the compilation timings.
+     * @return this builder.
+     */
+    public Builder timings(CompilationTimings timings) {
+      this.timings = requireNonNull(timings, "timings");
+      return this;
+    }
+
+    /**
+     * Set the annotation processor profiles.
+     *
+     * <p>If not set, this will default to an empty list.
+     *
+     * @param annotationProcessorProfiles the annotation processor profiles.
+     * @return this builder.
+     */
+    public Builder annotationProcessorProfiles(
+        List<AnnotationProcessorProfile> annotationProcessorProfiles
+    ) {
+      this.annotationProcessorProfiles = requireNonNull(
+          annotationProcessorProfiles,
+          "annotationProcessorProfiles"
+      );
+      return this;
+    }
+
     /**
      * Build this builder and output the created {@link JctCompilationImpl}.
      *
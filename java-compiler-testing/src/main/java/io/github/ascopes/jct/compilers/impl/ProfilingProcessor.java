@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.compilers.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ascopes.jct.compilers.AnnotationProcessorProfile;
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.processing.Completion;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager.Location;
+import javax.tools.JavaFileObject;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * An annotation processor that wraps another processor and records how long it spends in
+ * {@link Processor#init} and in each call to {@link Processor#process}, along with the number of
+ * files it creates through the {@link Filer} in each round.
+ *
+ * <p>The processor is initialised with a processing environment that wraps the one provided by
+ * the compiler, so that calls to the filer can be counted. Processors that expect the
+ * environment to be the compiler's own implementation will not work when wrapped.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class ProfilingProcessor implements Processor {
+
+  private final Processor delegate;
+  private final AtomicLong filesCreated;
+  private final List<AnnotationProcessorProfile.Round> rounds;
+  private volatile long initNanos;
+
+  /**
+   * Initialise this processor.
+   *
+   * @param delegate the processor to wrap.
+   */
+  public ProfilingProcessor(Processor delegate) {
+    this.delegate = requireNonNull(delegate, "delegate");
+    filesCreated = new AtomicLong();
+    rounds = new CopyOnWriteArrayList<>();
+    initNanos = 0;
+  }
+
+  /**
+   * Get the processor that this processor wraps.
+   *
+   * @return the wrapped processor.
+   */
+  public Processor getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * Get the profile recorded so far.
+   *
+   * @return the profile.
+   */
+  public AnnotationProcessorProfile getProfile() {
+    return new AnnotationProcessorProfile(
+        delegate.getClass().getName(),
+        Duration.ofNanos(initNanos),
+        List.copyOf(rounds)
+    );
+  }
+
+  @Override
+  public Set<String> getSupportedOptions() {
+    return delegate.getSupportedOptions();
+  }
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return delegate.getSupportedAnnotationTypes();
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return delegate.getSupportedSourceVersion();
+  }
+
+  @Override
+  public void init(ProcessingEnvironment processingEnv) {
+    var start = System.nanoTime();
+    try {
+      delegate.init(new CountingProcessingEnvironment(processingEnv));
+    } finally {
+      initNanos = System.nanoTime() - start;
+    }
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    filesCreated.set(0);
+    var start = System.nanoTime();
+
+    try {
+      return delegate.process(annotations, roundEnv);
+    } finally {
+      var round = new AnnotationProcessorProfile.Round(
+          Duration.ofNanos(System.nanoTime() - start),
+          filesCreated.get()
+      );
+
+      rounds.add(round);
+    }
+  }
+
+  @Override
+  public Iterable<? extends Completion> getCompletions(
+      Element element,
+      AnnotationMirror annotation,
+      ExecutableElement member,
+      String userText
+  ) {
+    return delegate.getCompletions(element, annotation, member, userText);
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("delegate", delegate)
+        .toString();
+  }
+
+  private final class CountingProcessingEnvironment implements ProcessingEnvironment {
+
+    private final ProcessingEnvironment inner;
+    private final CountingFiler filer;
+
+    private CountingProcessingEnvironment(ProcessingEnvironment inner) {
+      this.inner = inner;
+      filer = new CountingFiler(inner.getFiler());
+    }
+
+    @Override
+    public Map<String, String> getOptions() {
+      return inner.getOptions();
+    }
+
+    @Override
+    public Messager getMessager() {
+      return inner.getMessager();
+    }
+
+    @Override
+    public Filer getFiler() {
+      return filer;
+    }
+
+    @Override
+    public Elements getElementUtils() {
+      return inner.getElementUtils();
+    }
+
+    @Override
+    public Types getTypeUtils() {
+      return inner.getTypeUtils();
+    }
+
+    @Override
+    public SourceVersion getSourceVersion() {
+      return inner.getSourceVersion();
+    }
+
+    @Override
+    public Locale getLocale() {
+      return inner.getLocale();
+    }
+  }
+
+  private final class CountingFiler implements Filer {
+
+    private final Filer inner;
+
+    private CountingFiler(Filer inner) {
+      this.inner = inner;
+    }
+
+    @Override
+    public JavaFileObject createSourceFile(
+        CharSequence name,
+        Element... originatingElements
+    ) throws IOException {
+      var file = inner.createSourceFile(name, originatingElements);
+      filesCreated.incrementAndGet();
+      return file;
+    }
+
+    @Override
+    public JavaFileObject createClassFile(
+        CharSequence name,
+        Element... originatingElements
+    ) throws IOException {
+      var file = inner.createClassFile(name, originatingElements);
+      filesCreated.incrementAndGet();
+      return file;
+    }
+
+    @Override
+    public FileObject createResource(
+        Location location,
+        CharSequence moduleAndPkg,
+        CharSequence relativeName,
+        Element... originatingElements
+    ) throws IOException {
+      var file = inner.createResource(location, moduleAndPkg, relativeName, originatingElements);
+      filesCreated.incrementAndGet();
+      return file;
+    }
+
+    @Override
+    public FileObject getResource(
+        Location location,
+        CharSequence moduleAndPkg,
+        CharSequence relativeName
+    ) throws IOException {
+      return inner.getResource(location, moduleAndPkg, relativeName);
+    }
+  }
+}
@@ -22,7 +22,10 @@ import io.github.ascopes.jct.compilers.JctFlagBuilderFactory;
 import io.github.ascopes.jct.compilers.Jsr199CompilerFactory;
 import io.github.ascopes.jct.filemanagers.JctFileManagerFactory;
 import io.github.ascopes.jct.filemanagers.impl.JctFileManagerFactoryImpl;
+import io.github.ascopes.jct.utils.Lazy;
+import java.util.concurrent.atomic.LongAdder;
 import javax.lang.model.SourceVersion;
+import javax.tools.JavaCompiler;
 import javax.tools.ToolProvider;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -38,6 +41,18 @@ public final class JavacJctCompilerImpl extends AbstractJctCompiler<JavacJctComp
 
   private static final String NAME = "JDK Compiler";
 
+  private static final LongAdder SYSTEM_COMPILER_LOOKUPS = new LongAdder();
+  private static final LongAdder SYSTEM_COMPILER_REQUESTS = new LongAdder();
+
+  // Javac creates a new context for each task, so one instance can be shared between all
+  // compilations. This avoids a service lookup for every compilation.
+  private static final Lazy<JavaCompiler> SYSTEM_COMPILER = new Lazy<>(() -> {
+    SYSTEM_COMPILER_LOOKUPS.increment();
+    // RequireNonNull to ensure the return result is non-null, since the ToolProvider
+    // method is not annotated.
+    return requireNonNull(ToolProvider.getSystemJavaCompiler());
+  });
+
   /**
    * Initialize a new Java compiler.
    */
@@ -57,9 +72,10 @@ public final class JavacJctCompilerImpl extends AbstractJctCompiler<JavacJctComp
 
   @Override
   public Jsr199CompilerFactory getCompilerFactory() {
-    // RequireNonNull to ensure the return result is non-null, since the ToolProvider
-    // method is not annotated.
-    return () -> requireNonNull(ToolProvider.getSystemJavaCompiler());
+    return () -> {
+      SYSTEM_COMPILER_REQUESTS.increment();
+      return SYSTEM_COMPILER.access();
+    };
   }
 
   @Override
@@ -67,6 +83,31 @@ public final class JavacJctCompilerImpl extends AbstractJctCompiler<JavacJctComp
     return new JctFileManagerFactoryImpl(this);
   }
 
+  /**
+   * Get the number of times that the shared system compiler has been looked up from the
+   * {@link ToolProvider}.
+   *
+   * <p>This will be {@code 1} once any compilation has run, since the instance is cached for the
+   * lifetime of the JVM.
+   *
+   * @return the number of lookups.
+   */
+  public static long getSystemCompilerLookupCount() {
+    return SYSTEM_COMPILER_LOOKUPS.sum();
+  }
+
+  /**
+   * Get the number of times that the shared system compiler has been handed to a compilation
+   * without needing to be looked up first.
+   *
+   * @return the number of times the shared instance was reused.
+   */
+  public static long getSystemCompilerReuseCount() {
+    // Read lookups first, so a lookup racing with this call cannot make the result negative.
+    var lookups = SYSTEM_COMPILER_LOOKUPS.sum();
+    return Math.max(0, SYSTEM_COMPILER_REQUESTS.sum() - lookups);
+  }
+
   /**
    * Get the minimum version of Javac that is supported.
    *
@@ -15,30 +15,40 @@
  */
 package io.github.ascopes.jct.containers.impl;
 
+import static io.github.ascopes.jct.utils.IoExceptionUtils.uncheckedIo;
 import static java.util.Collections.synchronizedSet;
 import static java.util.Objects.requireNonNull;
 
 import io.github.ascopes.jct.containers.Container;
 import io.github.ascopes.jct.containers.PackageContainerGroup;
+import io.github.ascopes.jct.filemanagers.ListingStatistics;
 import io.github.ascopes.jct.filemanagers.ModuleLocation;
 import io.github.ascopes.jct.filemanagers.PathFileObject;
+import io.github.ascopes.jct.utils.FileUtils;
 import io.github.ascopes.jct.utils.Lazy;
 import io.github.ascopes.jct.utils.ToStringBuilder;
 import io.github.ascopes.jct.workspaces.PathRoot;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import javax.tools.JavaFileManager.Location;
 import javax.tools.JavaFileObject;
 import javax.tools.JavaFileObject.Kind;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 /**
  * An abstract base implementation for a group of containers that relate to a specific location.
@@ -47,6 +57,18 @@ import org.apiguardian.api.API.Status;
  * which is needed to facilitate the Java compiler's distributed class path, module handling, and
  * other important features.
  *
+ * <p>Lookups for a specific package are routed only to the containers that may hold that
+ * package. Containers that implement {@link PackageIndexedContainer} are skipped for any package
+ * that they do not contain, and all other containers are always queried. Routes are computed on
+ * first use for each package and preserve the order that containers were added in, so the first
+ * container to provide a file still wins. A package that no container can provide is answered
+ * without querying any containers at all.
+ *
+ * <p>File listings may optionally query their containers in parallel on a small shared pool once
+ * they span enough containers, as configured by
+ * {@link ContainerGroupOptions#getParallelListingThreshold()}. The number of serial and parallel
+ * listings performed by each group is recorded.
+ *
  * @author Ashley Scopes
  * @since 0.0.1
  */
@@ -62,13 +84,23 @@ public abstract class AbstractPackageContainerGroup implements PackageContainerG
       ".zip"
   );
 
+  // Shared between all groups so that the number of threads stays bounded regardless of how many
+  // compilations are running. Worker threads are daemons, so this never prevents JVM shutdown.
+  private static final int MAX_LISTING_PARALLELISM = 8;
+  private static final Lazy<ForkJoinPool> LISTING_POOL = new Lazy<>(
+      AbstractPackageContainerGroup::createListingPool
+  );
+
   /**
    * The location of the container group.
    */
   private final Location location;
   private final String release;
+  private final ContainerGroupOptions options;
   private final Set<Container> containers;
   private final Lazy<ClassLoader> classLoaderLazy;
+  private volatile Map<String, List<Container>> routes;
+  private final ListingStatisticsRecorder listingStatisticsRecorder;
 
   /**
    * Initialize this container group.
@@ -77,11 +109,29 @@ public abstract class AbstractPackageContainerGroup implements PackageContainerG
    * @param release  the release to use for multi-release JARs.
    */
   protected AbstractPackageContainerGroup(Location location, String release) {
+    this(location, release, ContainerGroupOptions.defaults());
+  }
+
+  /**
+   * Initialize this container group.
+   *
+   * @param location the location being represented.
+   * @param release  the release to use for multi-release JARs.
+   * @param options  the options to use for creating and querying containers.
+   */
+  protected AbstractPackageContainerGroup(
+      Location location,
+      String release,
+      ContainerGroupOptions options
+  ) {
     this.location = requireNonNull(location, "location");
     this.release = requireNonNull(release, "release");
+    this.options = requireNonNull(options, "options");
 
     containers = synchronizedSet(new LinkedHashSet<>());
     classLoaderLazy = new Lazy<>(this::createClassLoader);
+    routes = new ConcurrentHashMap<>();
+    listingStatisticsRecorder = new ListingStatisticsRecorder();
   }
 
   @Override
@@ -95,6 +145,9 @@ public abstract class AbstractPackageContainerGroup implements PackageContainerG
   @Override
   public void addPackage(Container container) {
     containers.add(container);
+
+    // Any existing routes may now be missing this container.
+    routes = new ConcurrentHashMap<>();
   }
 
   @Override
@@ -107,18 +160,55 @@ public abstract class AbstractPackageContainerGroup implements PackageContainerG
         .stream()
         .anyMatch(actualPath.getFileName().toString().toLowerCase(Locale.ROOT)::endsWith);
 
-    var container = isArchive
-        ? new JarContainerImpl(getLocation(), path, release)
-        : new PathWrappingContainerImpl(getLocation(), path);
+    Container container;
+
+    if (JrtPackageIndex.isModuleRoot(actualPath)) {
+      container = new JrtContainerImpl(getLocation(), path);
+    } else if (!isArchive && options.isHeapOutputs() && getLocation().isOutputLocation()) {
+      container = new HeapOutputContainerImpl(getLocation(), path);
+    } else if (!isArchive) {
+      // Output locations are rewritten during compilation, so are never read through the cache.
+      var contentCache = getLocation().isOutputLocation()
+          ? null
+          : options.getContentCache();
+      container = new PathWrappingContainerImpl(getLocation(), path, contentCache);
+    } else if (options.isMemoryMapJars()
+        && actualPath.getFileSystem() == FileSystems.getDefault()) {
+      // Other file system providers, such as in-memory ones, cannot memory-map files.
+      container = new MemoryMappedJarContainerImpl(getLocation(), path, release);
+    } else {
+      container = new JarContainerImpl(getLocation(), path, release);
+    }
 
     addPackage(container);
   }
 
   @Override
   public boolean contains(PathFileObject fileObject) {
-    return containers
-        .stream()
-        .anyMatch(container -> container.contains(fileObject));
+    // File objects created by our own containers can be routed to them directly, but they still
+    // need to check that the file exists, since it may have been deleted since.
+    var origin = fileObject.getOrigin();
+    if (origin != null && isOwnContainer(origin)) {
+      return origin.contains(fileObject);
+    }
+
+    var route = route(packageOf(fileObject));
+
+    for (var container : route) {
+      if (container.contains(fileObject)) {
+        return true;
+      }
+    }
+
+    // The file object may be laid out differently to how we expect, so check the remaining
+    // containers to be sure.
+    for (var container : unrouted(route)) {
+      if (container.contains(fileObject)) {
+        return true;
+      }
+    }
+
+    return false;
   }
 
   @Override
@@ -162,7 +252,12 @@ public abstract class AbstractPackageContainerGroup implements PackageContainerG
 
   @Override
   public PathFileObject getFileForInput(String packageName, String relativeName) {
-    for (var container : containers) {
+    // Relative names with directories in them may refer to files in a nested package.
+    var candidates = relativeName.indexOf('/') == -1
+        ? route(packageName)
+        : getPackages();
+
+    for (var container : candidates) {
       var file = container.getFileForInput(packageName, relativeName);
       if (file != null) {
         return file;
@@ -186,7 +281,7 @@ public abstract class AbstractPackageContainerGroup implements PackageContainerG
 
   @Override
   public PathFileObject getJavaFileForInput(String className, Kind kind) {
-    for (var container : containers) {
+    for (var container : route(FileUtils.binaryNameToPackageName(className))) {
       var file = container.getJavaFileForInput(className, kind);
       if (file != null) {
         return file;
@@ -223,6 +318,15 @@ public abstract class AbstractPackageContainerGroup implements PackageContainerG
     return release;
   }
 
+  /**
+   * Get the options used by this group.
+   *
+   * @return the options.
+   */
+  public final ContainerGroupOptions getOptions() {
+    return options;
+  }
+
   @Override
   public <S> ServiceLoader<S> getServiceLoader(Class<S> service) {
     if (location instanceof ModuleLocation) {
@@ -234,7 +338,24 @@ public abstract class AbstractPackageContainerGroup implements PackageContainerG
 
   @Override
   public String inferBinaryName(PathFileObject fileObject) {
-    for (var container : containers) {
+    var origin = fileObject.getOrigin();
+
+    if (origin != null && isOwnContainer(origin)) {
+      return origin.inferBinaryName(fileObject);
+    }
+
+    var route = route(packageOf(fileObject));
+
+    for (var container : route) {
+      var name = container.inferBinaryName(fileObject);
+      if (name != null) {
+        return name;
+      }
+    }
+
+    // The file object may be laid out differently to how we expect, so check the remaining
+    // containers to be sure.
+    for (var container : unrouted(route)) {
       var name = container.inferBinaryName(fileObject);
       if (name != null) {
         return name;
@@ -255,20 +376,157 @@ public abstract class AbstractPackageContainerGroup implements PackageContainerG
       Set<? extends Kind> kinds,
       boolean recurse
   ) throws IOException {
-    // XXX: could this be run in parallel?
-    var collection = new HashSet<JavaFileObject>();
-    for (var container : containers) {
+    return listFileObjects(packageName, kinds, recurse, listingStatisticsRecorder);
+  }
+
+  /**
+   * List the file objects in a package, recording how the containers were queried.
+   *
+   * <p>Views that are shared between file managers use this to attribute listings to the file
+   * manager that made them, rather than to this group.
+   *
+   * @param packageName the package name.
+   * @param kinds       the kinds of file to list.
+   * @param recurse     {@code true} to also list subpackages.
+   * @param recorder    the recorder to count the listing in.
+   * @return the file objects.
+   * @throws IOException if the file system cannot be read.
+   */
+  public Set<JavaFileObject> listFileObjects(
+      String packageName,
+      Set<? extends Kind> kinds,
+      boolean recurse,
+      ListingStatisticsRecorder recorder
+  ) throws IOException {
+    var candidates = recurse
+        ? getPackages()
+        : route(packageName);
+
+    var threshold = options.getParallelListingThreshold();
+    if (threshold > 0 && candidates.size() > 1 && candidates.size() >= threshold) {
+      recorder.recordParallelListing();
+      return listFileObjectsInParallel(candidates, packageName, kinds, recurse);
+    }
+
+    recorder.recordSerialListing();
+    var collection = new LinkedHashSet<JavaFileObject>();
+    for (var container : candidates) {
       container.listFileObjects(packageName, kinds, recurse, collection);
     }
     return collection;
   }
 
+  /**
+   * Get statistics for the file listings that this group has performed so far.
+   *
+   * @return the statistics.
+   */
+  public ListingStatistics getListingStatistics() {
+    return listingStatisticsRecorder.getStatistics();
+  }
+
+  private Set<JavaFileObject> listFileObjectsInParallel(
+      List<Container> candidates,
+      String packageName,
+      Set<? extends Kind> kinds,
+      boolean recurse
+  ) throws IOException {
+    var pool = LISTING_POOL.access();
+    var listings = new ArrayList<CompletableFuture<List<JavaFileObject>>>(candidates.size());
+
+    for (var container : candidates) {
+      listings.add(CompletableFuture.supplyAsync(() -> uncheckedIo(() -> {
+        var listing = new ArrayList<JavaFileObject>();
+        container.listFileObjects(packageName, kinds, recurse, listing);
+        return listing;
+      }), pool));
+    }
+
+    // Each container lists into its own collection, and the results are merged in container
+    // order afterwards, so the result is identical to that of a serial listing.
+    var collection = new LinkedHashSet<JavaFileObject>();
+    for (var listing : listings) {
+      collection.addAll(awaitListing(listing));
+    }
+    return collection;
+  }
+
+  private boolean isOwnContainer(@Nullable Container container) {
+    return container != null && containers.contains(container);
+  }
+
+  /**
+   * Get the containers that may hold the given package, in the order they were added.
+   *
+   * @param packageName the package name.
+   * @return the containers.
+   */
+  private List<Container> route(String packageName) {
+    return routes.computeIfAbsent(packageName, this::computeRoute);
+  }
+
+  private List<Container> computeRoute(String packageName) {
+    var route = new ArrayList<Container>();
+
+    for (var container : getPackages()) {
+      if (!(container instanceof PackageIndexedContainer)
+          || ((PackageIndexedContainer) container).hasPackage(packageName)) {
+        route.add(container);
+      }
+    }
+
+    return List.copyOf(route);
+  }
+
+  private List<Container> unrouted(List<Container> route) {
+    var unrouted = new ArrayList<>(getPackages());
+    unrouted.removeIf(container -> route.stream().anyMatch(routed -> routed == container));
+    return unrouted;
+  }
+
+  private static List<JavaFileObject> awaitListing(
+      CompletableFuture<List<JavaFileObject>> listing
+  ) throws IOException {
+    try {
+      return listing.join();
+    } catch (CompletionException ex) {
+      var cause = ex.getCause();
+
+      if (cause instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) cause).getCause();
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+
+      throw ex;
+    }
+  }
+
+  private static ForkJoinPool createListingPool() {
+    var parallelism = Math.min(
+        Runtime.getRuntime().availableProcessors(),
+        MAX_LISTING_PARALLELISM
+    );
+    return new ForkJoinPool(Math.max(parallelism, 1));
+  }
+
+  private static String packageOf(PathFileObject fileObject) {
+    var parent = fileObject.getRelativePath().getParent();
+    return parent == null
+        ? ""
+        : FileUtils.pathToBinaryName(parent);
+  }
+
   /**
    * Create a classloader and return it.
    *
    * @return the classloader.
    */
   protected ClassLoader createClassLoader() {
-    return new PackageContainerGroupUrlClassLoader(this);
+    return new PackageContainerGroupClassLoader(this);
   }
 }
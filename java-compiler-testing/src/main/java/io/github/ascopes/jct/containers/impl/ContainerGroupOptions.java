@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.containers.impl;
+
+import io.github.ascopes.jct.filemanagers.FileContentCache;
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable options that control how container groups create and query their containers.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class ContainerGroupOptions {
+
+  private static final ContainerGroupOptions DEFAULTS = builder().build();
+
+  private final boolean memoryMapJars;
+  private final int parallelListingThreshold;
+  private final @Nullable FileContentCache contentCache;
+  private final boolean heapOutputs;
+
+  private ContainerGroupOptions(Builder builder) {
+    memoryMapJars = builder.memoryMapJars;
+    parallelListingThreshold = builder.parallelListingThreshold;
+    contentCache = builder.contentCache;
+    heapOutputs = builder.heapOutputs;
+  }
+
+  /**
+   * Determine whether archives should be read by memory-mapping their central directory rather
+   * than by opening a ZIP file system.
+   *
+   * @return {@code true} if archives should be memory-mapped, or {@code false} otherwise.
+   */
+  public boolean isMemoryMapJars() {
+    return memoryMapJars;
+  }
+
+  /**
+   * Get the minimum number of containers that a listing must query before the containers are
+   * listed in parallel.
+   *
+   * @return the threshold, or {@code 0} if listings should always be performed serially.
+   */
+  public int getParallelListingThreshold() {
+    return parallelListingThreshold;
+  }
+
+  /**
+   * Get the cache that file objects in directories should read their content through.
+   *
+   * @return the cache, or {@code null} if content should not be cached.
+   */
+  @Nullable
+  public FileContentCache getContentCache() {
+    return contentCache;
+  }
+
+  /**
+   * Determine whether directories in output locations should hold the files written to them in
+   * memory rather than on the file system.
+   *
+   * @return {@code true} if outputs should be held in memory, or {@code false} otherwise.
+   */
+  public boolean isHeapOutputs() {
+    return heapOutputs;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("memoryMapJars", memoryMapJars)
+        .attribute("parallelListingThreshold", parallelListingThreshold)
+        .attribute("contentCache", contentCache)
+        .attribute("heapOutputs", heapOutputs)
+        .toString();
+  }
+
+  /**
+   * Get the default options.
+   *
+   * @return the default options.
+   */
+  public static ContainerGroupOptions defaults() {
+    return DEFAULTS;
+  }
+
+  /**
+   * Create a new builder for options.
+   *
+   * @return the builder.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Builder for {@link ContainerGroupOptions}.
+   *
+   * @author Ashley Scopes
+   * @since 0.0.1
+   */
+  @API(since = "0.0.1", status = Status.INTERNAL)
+  public static final class Builder {
+
+    private boolean memoryMapJars;
+    private int parallelListingThreshold;
+    private @Nullable FileContentCache contentCache;
+    private boolean heapOutputs;
+
+    private Builder() {
+      // Only initialized in this file.
+      memoryMapJars = false;
+      parallelListingThreshold = 0;
+      contentCache = null;
+      heapOutputs = false;
+    }
+
+    /**
+     * Set whether archives should be memory-mapped.
+     *
+     * @param memoryMapJars {@code true} or {@code false}.
+     * @return this builder.
+     */
+    public Builder memoryMapJars(boolean memoryMapJars) {
+      this.memoryMapJars = memoryMapJars;
+      return this;
+    }
+
+    /**
+     * Set the minimum number of containers that a listing must query before the containers are
+     * listed in parallel.
+     *
+     * @param parallelListingThreshold the threshold, or {@code 0} to always list serially.
+     * @return this builder.
+     */
+    public Builder parallelListingThreshold(int parallelListingThreshold) {
+      this.parallelListingThreshold = parallelListingThreshold;
+      return this;
+    }
+
+    /**
+     * Set the cache that file objects in directories should read their content through.
+     *
+     * @param contentCache the cache, or {@code null} to not cache content.
+     * @return this builder.
+     */
+    public Builder contentCache(@Nullable FileContentCache contentCache) {
+      this.contentCache = contentCache;
+      return this;
+    }
+
+    /**
+     * Set whether directories in output locations should hold the files written to them in
+     * memory.
+     *
+     * @param heapOutputs {@code true} or {@code false}.
+     * @return this builder.
+     */
+    public Builder heapOutputs(boolean heapOutputs) {
+      this.heapOutputs = heapOutputs;
+      return this;
+    }
+
+    /**
+     * Build the options.
+     *
+     * @return the options.
+     */
+    public ContainerGroupOptions build() {
+      return new ContainerGroupOptions(this);
+    }
+  }
+}
@@ -19,6 +19,7 @@ import io.github.ascopes.jct.containers.ContainerGroup;
 import io.github.ascopes.jct.containers.ModuleContainerGroup;
 import io.github.ascopes.jct.containers.OutputContainerGroup;
 import io.github.ascopes.jct.containers.PackageContainerGroup;
+import io.github.ascopes.jct.filemanagers.ListingStatistics;
 import io.github.ascopes.jct.filemanagers.ModuleLocation;
 import io.github.ascopes.jct.utils.ModuleDiscoverer;
 import io.github.ascopes.jct.workspaces.PathRoot;
@@ -46,12 +47,29 @@ public final class ContainerGroupRepositoryImpl implements AutoCloseable {
   private static final Logger LOGGER = LoggerFactory.getLogger(ContainerGroupRepositoryImpl.class);
 
   private final String release;
+  private final ContainerGroupOptions options;
   private final Map<Location, PackageContainerGroup> packageInputs;
   private final Map<Location, ModuleContainerGroup> moduleInputs;
   private final Map<Location, OutputContainerGroup> outputs;
 
+  /**
+   * Initialize this repository.
+   *
+   * @param release the release to use for Multi-Release JARs.
+   */
   public ContainerGroupRepositoryImpl(String release) {
+    this(release, ContainerGroupOptions.defaults());
+  }
+
+  /**
+   * Initialize this repository.
+   *
+   * @param release the release to use for Multi-Release JARs.
+   * @param options the options to use for creating and querying containers.
+   */
+  public ContainerGroupRepositoryImpl(String release, ContainerGroupOptions options) {
     this.release = release;
+    this.options = options;
     packageInputs = new ConcurrentHashMap<>();
     moduleInputs = new ConcurrentHashMap<>();
     outputs = new ConcurrentHashMap<>();
@@ -90,6 +108,49 @@ public final class ContainerGroupRepositoryImpl implements AutoCloseable {
     }
   }
 
+  /**
+   * Add the input container groups of another repository, without creating any new containers.
+   *
+   * <p>Locations that this repository does not have yet are backed by read-only views of the
+   * groups in the other repository, so they can be shared between any number of repositories.
+   * If this repository already has a group for a location, the containers of the other group are
+   * added to it instead. Adding a path to a location that is still backed by a shared group
+   * later on first copies the shared containers into a new group that only this repository can
+   * see.
+   *
+   * <p>The other repository must not be modified once it has been shared.
+   *
+   * @param shared the repository to share the groups of.
+   * @throws IllegalArgumentException if the other repository uses a different release, or has
+   *                                  any output locations.
+   */
+  public void addSharedGroups(ContainerGroupRepositoryImpl shared) {
+    if (!release.equals(shared.release)) {
+      throw new IllegalArgumentException(
+          "Cannot share groups for release " + shared.release + " with a repository for release "
+              + release
+      );
+    }
+
+    if (!shared.outputs.isEmpty()) {
+      throw new IllegalArgumentException("Cannot share groups for output locations");
+    }
+
+    shared.packageInputs.forEach((location, group) -> {
+      var existing = packageInputs.putIfAbsent(location, new SharedPackageContainerGroup(group));
+      if (existing != null) {
+        group.getPackages().forEach(getOrCreatePackageContainerGroup(location)::addPackage);
+      }
+    });
+
+    shared.moduleInputs.forEach((location, group) -> {
+      var existing = moduleInputs.putIfAbsent(location, new SharedModuleContainerGroup(group));
+      if (existing != null) {
+        copyModuleContainers(group, getOrCreateModuleContainerGroup(location));
+      }
+    });
+  }
+
   @Override
   public void close() {
     // Nothing to do here. This is a placeholder in case we ever need to allow closing logic
@@ -151,9 +212,10 @@ public final class ContainerGroupRepositoryImpl implements AutoCloseable {
               + "registering at least one file system path to enable output to."
       );
     } else if (location.isModuleOrientedLocation()) {
-      getOrCreateModuleContainerGroup(location);
+      // Shared groups are left as they are, since nothing is being added to them.
+      moduleInputs.computeIfAbsent(location, this::newModuleContainerGroup);
     } else {
-      getOrCreatePackageContainerGroup(location);
+      packageInputs.computeIfAbsent(location, this::newPackageContainerGroup);
     }
   }
 
@@ -183,6 +245,37 @@ public final class ContainerGroupRepositoryImpl implements AutoCloseable {
     return group;
   }
 
+  /**
+   * Get statistics for the file listings performed by all groups in this repository so far.
+   *
+   * <p>Listings through groups that are shared with other repositories are only counted if they
+   * were made through this repository.
+   *
+   * @return the statistics.
+   */
+  public ListingStatistics getListingStatistics() {
+    var statistics = ListingStatistics.empty();
+
+    for (var group : packageInputs.values()) {
+      statistics = statistics.plus(listingStatisticsOf(group));
+    }
+
+    for (var group : moduleInputs.values()) {
+      for (var module : group.getModules().values()) {
+        statistics = statistics.plus(listingStatisticsOf(module));
+      }
+    }
+
+    for (var group : outputs.values()) {
+      statistics = statistics.plus(listingStatisticsOf(group));
+      for (var module : group.getModules().values()) {
+        statistics = statistics.plus(listingStatisticsOf(module));
+      }
+    }
+
+    return statistics;
+  }
+
   /**
    * Get a module container group.
    *
@@ -405,23 +498,66 @@ public final class ContainerGroupRepositoryImpl implements AutoCloseable {
         ? getOrCreateOutputContainerGroup(to)
         : getOrCreateModuleContainerGroup(to);
 
+    copyModuleContainers(source, target);
+  }
+
+  private static void copyModuleContainers(
+      ModuleContainerGroup source,
+      ModuleContainerGroup target
+  ) {
     source.getModules().forEach((moduleLocation, containerGroup) -> containerGroup
         .getPackages()
         .forEach(container -> target.addModule(moduleLocation.getModuleName(), container)));
   }
 
+  // Returns a group that can be modified, copying the containers out of any shared group first.
   private PackageContainerGroup getOrCreatePackageContainerGroup(Location location) {
-    return packageInputs.computeIfAbsent(
-        location,
-        packageLocation -> new PackageContainerGroupImpl(packageLocation, release)
-    );
+    return packageInputs.compute(location, (packageLocation, existing) -> {
+      if (existing instanceof SharedPackageContainerGroup) {
+        var group = newPackageContainerGroup(packageLocation);
+        existing.getPackages().forEach(group::addPackage);
+        return group;
+      }
+
+      return existing == null
+          ? newPackageContainerGroup(packageLocation)
+          : existing;
+    });
   }
 
+  // Returns a group that can be modified, copying the containers out of any shared group first.
   private ModuleContainerGroup getOrCreateModuleContainerGroup(Location location) {
-    return moduleInputs.computeIfAbsent(
-        location,
-        moduleLocation -> new ModuleContainerGroupImpl(moduleLocation, release)
-    );
+    return moduleInputs.compute(location, (moduleLocation, existing) -> {
+      if (existing instanceof SharedModuleContainerGroup) {
+        var group = newModuleContainerGroup(moduleLocation);
+        copyModuleContainers(existing, group);
+        return group;
+      }
+
+      return existing == null
+          ? newModuleContainerGroup(moduleLocation)
+          : existing;
+    });
+  }
+
+  private static ListingStatistics listingStatisticsOf(PackageContainerGroup group) {
+    if (group instanceof AbstractPackageContainerGroup) {
+      return ((AbstractPackageContainerGroup) group).getListingStatistics();
+    }
+
+    if (group instanceof SharedPackageContainerGroup) {
+      return ((SharedPackageContainerGroup) group).getListingStatistics();
+    }
+
+    return ListingStatistics.empty();
+  }
+
+  private PackageContainerGroup newPackageContainerGroup(Location location) {
+    return new PackageContainerGroupImpl(location, release, options);
+  }
+
+  private ModuleContainerGroup newModuleContainerGroup(Location location) {
+    return new ModuleContainerGroupImpl(location, release, options);
   }
 
   // Note that by itself, this method should be considered unsafe. The caller MUST
@@ -432,7 +568,7 @@ public final class ContainerGroupRepositoryImpl implements AutoCloseable {
   private OutputContainerGroup getOrCreateOutputContainerGroup(Location location) {
     return outputs.computeIfAbsent(
         location,
-        outputLocation -> new OutputContainerGroupImpl(outputLocation, release)
+        outputLocation -> new OutputContainerGroupImpl(outputLocation, release, options)
     );
   }
 }
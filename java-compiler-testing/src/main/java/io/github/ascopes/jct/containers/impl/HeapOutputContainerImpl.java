@@ -0,0 +1,369 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.containers.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ascopes.jct.containers.Container;
+import io.github.ascopes.jct.filemanagers.PathFileObject;
+import io.github.ascopes.jct.utils.FileUtils;
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import io.github.ascopes.jct.workspaces.PathRoot;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.module.ModuleFinder;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import javax.tools.JavaFileManager.Location;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An output container that holds the files written to it in memory, rather than on a file
+ * system.
+ *
+ * <p>Files written by the compiler are stored as byte arrays in a concurrent map keyed by their
+ * path relative to the root, so writing and reading them back never resolves paths against the
+ * file system or creates directories. Files that already existed within the root directory
+ * before the container was created can still be read.
+ *
+ * <p>The {@link Container} contract also exposes files as {@link Path paths}, which assertions
+ * and some class loaders rely upon. The first time any of these methods is called, the files
+ * held in memory are written out to the root directory, so that those callers see the same
+ * content. This normally only happens once the compilation has completed.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class HeapOutputContainerImpl implements Container {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HeapOutputContainerImpl.class);
+
+  private final Location location;
+  private final PathRoot root;
+  private final String name;
+  private final Map<Path, Entry> entries;
+  private final Lock materializeLock;
+
+  /**
+   * Initialize this container.
+   *
+   * @param location the location.
+   * @param root     the root directory that files would otherwise be written to.
+   */
+  public HeapOutputContainerImpl(Location location, PathRoot root) {
+    this.location = requireNonNull(location, "location");
+    this.root = requireNonNull(root, "root");
+    name = root.toString();
+    entries = new ConcurrentHashMap<>();
+    materializeLock = new ReentrantLock();
+  }
+
+  @Override
+  public void close() throws IOException {
+    // Nothing to close. The workspace is responsible for the root directory.
+  }
+
+  @Override
+  public boolean contains(PathFileObject fileObject) {
+    var path = fileObject.getFullPath();
+    return path.startsWith(root.getPath())
+        && (entries.containsKey(root.getPath().relativize(path)) || Files.isRegularFile(path));
+  }
+
+  @Nullable
+  @Override
+  public Path getFile(String fragment, String... fragments) {
+    materialize();
+    var realPath = FileUtils.relativeResourceNameToPath(root.getPath(), fragment, fragments);
+
+    return Files.isRegularFile(realPath)
+        ? realPath
+        : null;
+  }
+
+  @Nullable
+  @Override
+  public PathFileObject getFileForInput(String packageName, String relativeName) {
+    return existingFileObject(
+        FileUtils.resourceNameToPath(root.getPath(), packageName, relativeName)
+    );
+  }
+
+  @Override
+  public PathFileObject getFileForOutput(String packageName, String relativeName) {
+    var path = FileUtils.resourceNameToPath(root.getPath(), packageName, relativeName);
+    return newFileObject(path);
+  }
+
+  @Nullable
+  @Override
+  public PathFileObject getJavaFileForInput(String binaryName, Kind kind) {
+    return existingFileObject(FileUtils.binaryNameToPath(root.getPath(), binaryName, kind));
+  }
+
+  @Override
+  public PathFileObject getJavaFileForOutput(String className, Kind kind) {
+    var path = FileUtils.binaryNameToPath(root.getPath(), className, kind);
+    return newFileObject(path);
+  }
+
+  @Override
+  public Location getLocation() {
+    return location;
+  }
+
+  @Nullable
+  @Override
+  public ModuleFinder getModuleFinder() {
+    return null;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Get the path root of this container.
+   *
+   * <p>Any files held in memory are written out to the root first, so that callers that work
+   * with the root directly will see them.
+   *
+   * @return the path root.
+   */
+  @Override
+  public PathRoot getPathRoot() {
+    materialize();
+    return root;
+  }
+
+  @Nullable
+  @Override
+  public String inferBinaryName(PathFileObject javaFileObject) {
+    return javaFileObject.getFullPath().startsWith(root.getPath())
+        ? FileUtils.pathToBinaryName(javaFileObject.getRelativePath())
+        : null;
+  }
+
+  @Override
+  public Collection<Path> listAllFiles() throws IOException {
+    materialize();
+
+    try (var walker = Files.walk(root.getPath(), FileVisitOption.FOLLOW_LINKS)) {
+      return walker.collect(Collectors.toList());
+    }
+  }
+
+  @Override
+  public void listFileObjects(
+      String packageName,
+      Set<? extends Kind> kinds,
+      boolean recurse,
+      Collection<JavaFileObject> collection
+  ) throws IOException {
+    var basePath = FileUtils.packageNameToPath(root.getPath(), packageName);
+    var maxDepth = recurse ? Integer.MAX_VALUE : 1;
+    var filter = FileUtils.fileAttributesWithAnyKind(kinds);
+
+    // Files that existed before compilation are only visible on the file system. Anything held
+    // in memory is listed separately afterwards so that nothing gets listed twice.
+    try (var walker = Files.find(basePath, maxDepth, filter, FileVisitOption.FOLLOW_LINKS)) {
+      walker
+          .filter(path -> !entries.containsKey(root.getPath().relativize(path)))
+          .map(this::newFileObject)
+          .forEach(collection::add);
+    } catch (NoSuchFileException ex) {
+      LOGGER.trace("Directory {} does not exist so is being ignored", basePath);
+    }
+
+    for (var relativePath : entries.keySet()) {
+      var path = root.getPath().resolve(relativePath);
+      var parent = path.getParent();
+      var inPackage = recurse
+          ? path.startsWith(basePath)
+          : basePath.equals(parent);
+
+      if (inPackage && kinds.contains(FileUtils.pathToKind(path))) {
+        collection.add(newFileObject(path));
+      }
+    }
+  }
+
+  /**
+   * Get the relative paths of the files that are currently held in memory.
+   *
+   * @return the relative paths.
+   */
+  public Set<Path> getHeapFiles() {
+    return Set.copyOf(entries.keySet());
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("uri", root.getUri())
+        .attribute("location", location)
+        .attribute("heapFileCount", entries.size())
+        .toString();
+  }
+
+  @Nullable
+  private PathFileObject existingFileObject(Path path) {
+    return entries.containsKey(root.getPath().relativize(path)) || Files.isRegularFile(path)
+        ? newFileObject(path)
+        : null;
+  }
+
+  private void materialize() {
+    // A lock rather than a monitor, so that virtual threads do not pin their carrier threads
+    // while the files are written.
+    materializeLock.lock();
+
+    try {
+      materializePending();
+    } finally {
+      materializeLock.unlock();
+    }
+  }
+
+  private void materializePending() {
+    var pending = new ArrayList<Map.Entry<Path, Entry>>();
+
+    for (var mapEntry : entries.entrySet()) {
+      if (!mapEntry.getValue().materialized) {
+        pending.add(mapEntry);
+      }
+    }
+
+    if (pending.isEmpty()) {
+      return;
+    }
+
+    LOGGER.trace("Writing {} in-memory files out to {}", pending.size(), root.getUri());
+
+    for (var mapEntry : pending) {
+      var path = root.getPath().resolve(mapEntry.getKey());
+      var entry = mapEntry.getValue();
+
+      try {
+        Files.createDirectories(path.getParent());
+        Files.write(path, entry.content);
+        Files.setLastModifiedTime(path, FileTime.fromMillis(entry.lastModified));
+        entry.materialized = true;
+      } catch (IOException ex) {
+        LOGGER.warn("Failed to write in-memory file {} out to {}", mapEntry.getKey(), path, ex);
+      }
+    }
+  }
+
+  private static final class Entry {
+
+    private final byte[] content;
+    private final long lastModified;
+    private volatile boolean materialized;
+
+    private Entry(byte[] content) {
+      this.content = content;
+      lastModified = System.currentTimeMillis();
+      materialized = false;
+    }
+  }
+
+  private PathFileObject newFileObject(Path path) {
+    var relativePath = path.isAbsolute()
+        ? root.getPath().relativize(path)
+        : path;
+    return new PathFileObject(location, this, root.getPath(), path, new HeapStorage(relativePath));
+  }
+
+  private final class HeapStorage implements PathFileObject.Storage {
+
+    private final Path key;
+
+    private HeapStorage(Path key) {
+      this.key = key;
+    }
+
+    @Override
+    public boolean delete(PathFileObject fileObject) throws IOException {
+      var removed = entries.remove(key) != null;
+
+      try {
+        // The file may also exist on disk if it was there originally or has been written out.
+        return Files.deleteIfExists(fileObject.getFullPath()) || removed;
+      } catch (IOException ex) {
+        if (removed) {
+          LOGGER.debug("Ignoring error deleting {} from disk", fileObject.getFullPath(), ex);
+          return true;
+        }
+        throw ex;
+      }
+    }
+
+    @Override
+    public long getLastModified(PathFileObject fileObject) throws IOException {
+      var entry = entries.get(key);
+      return entry == null
+          ? Files.getLastModifiedTime(fileObject.getFullPath()).toMillis()
+          : entry.lastModified;
+    }
+
+    @Override
+    public InputStream openInputStream(PathFileObject fileObject) throws IOException {
+      var entry = entries.get(key);
+      return entry == null
+          ? Files.newInputStream(fileObject.getFullPath())
+          : new ByteArrayInputStream(entry.content);
+    }
+
+    @Override
+    public OutputStream openOutputStream(PathFileObject fileObject) {
+      return new ByteArrayOutputStream() {
+        private boolean closed = false;
+
+        @Override
+        public void close() {
+          // Only publish the content once it has been completely written.
+          if (!closed) {
+            closed = true;
+            entries.put(key, new Entry(toByteArray()));
+          }
+        }
+      };
+    }
+  }
+}
@@ -18,27 +18,19 @@ package io.github.ascopes.jct.containers.impl;
 import static io.github.ascopes.jct.utils.IoExceptionUtils.uncheckedIo;
 import static java.util.Objects.requireNonNull;
 
-import io.github.ascopes.jct.containers.Container;
 import io.github.ascopes.jct.filemanagers.PathFileObject;
 import io.github.ascopes.jct.utils.FileUtils;
 import io.github.ascopes.jct.utils.Lazy;
 import io.github.ascopes.jct.utils.ToStringBuilder;
 import io.github.ascopes.jct.workspaces.PathRoot;
-import io.github.ascopes.jct.workspaces.impl.WrappingDirectoryImpl;
 import java.io.IOException;
 import java.lang.module.ModuleFinder;
-import java.nio.file.FileSystem;
 import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.ProviderNotFoundException;
-import java.nio.file.spi.FileSystemProvider;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
-import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import javax.tools.JavaFileManager.Location;
 import javax.tools.JavaFileObject;
@@ -59,18 +51,21 @@ import org.slf4j.LoggerFactory;
  * explicitly. If something goes wrong in this lazy-loading process, then methods may throw an
  * undocumented {@link java.io.UncheckedIOException}.
  *
+ * <p>The underlying file system and package index are shared with any other containers that
+ * refer to the same JAR and release via the {@link JarFileSystemCache}.
+ *
  * @author Ashley Scopes
  * @since 0.0.1
  */
 @API(since = "0.0.1", status = Status.INTERNAL)
-public final class JarContainerImpl implements Container {
+public final class JarContainerImpl implements PackageIndexedContainer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JarContainerImpl.class);
 
   private final Location location;
   private final PathRoot jarPath;
   private final String release;
-  private final Lazy<PackageFileSystemHolder> holder;
+  private final Lazy<JarFileSystemCache.Handle> holder;
 
   /**
    * Initialize this JAR container.
@@ -86,12 +81,12 @@ public final class JarContainerImpl implements Container {
 
     // This will throw if, for example, the file doesn't exist or if the system encounters an IO
     // error of some description. Both of these cases should be unexpected, however.
-    holder = new Lazy<>(() -> uncheckedIo(PackageFileSystemHolder::new));
+    holder = new Lazy<>(() -> uncheckedIo(this::acquireHandle));
   }
 
   @Override
   public void close() throws IOException {
-    holder.ifInitialized(PackageFileSystemHolder::close);
+    holder.ifInitialized(JarFileSystemCache.Handle::close);
   }
 
   @Override
@@ -129,7 +124,7 @@ public final class JarContainerImpl implements Container {
       return null;
     }
 
-    return new PathFileObject(location, file.getRoot(), file);
+    return new PathFileObject(location, this, file.getRoot(), file);
   }
 
   @Override
@@ -154,7 +149,7 @@ public final class JarContainerImpl implements Container {
       return null;
     }
 
-    return new PathFileObject(location, file.getRoot(), file);
+    return new PathFileObject(location, this, file.getRoot(), file);
   }
 
   @Override
@@ -169,9 +164,8 @@ public final class JarContainerImpl implements Container {
 
   @Override
   public ModuleFinder getModuleFinder() {
-    var paths = holder
-        .access()
-        .getRootDirectoriesStream()
+    var paths = StreamSupport
+        .stream(holder.access().getRootDirectories().spliterator(), false)
         .toArray(Path[]::new);
     return ModuleFinder.of(paths);
   }
@@ -186,6 +180,11 @@ public final class JarContainerImpl implements Container {
     return jarPath;
   }
 
+  @Override
+  public boolean hasPackage(String packageName) {
+    return holder.access().hasPackage(packageName);
+  }
+
   @Override
   public String inferBinaryName(PathFileObject javaFileObject) {
     // For some reason, converting a zip entry to a URI gives us a scheme of `jar://file://`, but
@@ -205,7 +204,24 @@ public final class JarContainerImpl implements Container {
 
   @Override
   public Collection<Path> listAllFiles() throws IOException {
-    return holder.access().getAllFiles();
+    var allPaths = new ArrayList<Path>();
+
+    var handle = holder.access();
+    var directoryLock = handle.getDirectoryLock();
+    directoryLock.lock();
+
+    // We have to do this eagerly as the walkers must be closed to prevent resource leakage.
+    try {
+      for (var root : handle.getRootDirectories()) {
+        try (var walker = Files.walk(root)) {
+          walker.forEach(allPaths::add);
+        }
+      }
+    } finally {
+      directoryLock.unlock();
+    }
+
+    return allPaths;
   }
 
   @Override
@@ -215,7 +231,8 @@ public final class JarContainerImpl implements Container {
       boolean recurse,
       Collection<JavaFileObject> collection
   ) throws IOException {
-    var packageDir = holder.access().getPackages().get(packageName);
+    var handle = holder.access();
+    var packageDir = handle.getPackage(packageName);
 
     if (packageDir == null) {
       return;
@@ -224,11 +241,19 @@ public final class JarContainerImpl implements Container {
     var maxDepth = recurse ? Integer.MAX_VALUE : 1;
     var packagePath = packageDir.getPath();
 
-    try (var walker = Files.walk(packagePath, maxDepth, FileVisitOption.FOLLOW_LINKS)) {
+    var filter = FileUtils.fileAttributesWithAnyKind(kinds);
+
+    // Walks of the same JAR wait for each other here rather than inside the zip file system, so
+    // that virtual threads are not pinned while they wait.
+    var directoryLock = handle.getDirectoryLock();
+    directoryLock.lock();
+
+    try (var walker = Files.find(packagePath, maxDepth, filter, FileVisitOption.FOLLOW_LINKS)) {
       walker
-          .filter(FileUtils.fileWithAnyKind(kinds))
-          .map(path -> new PathFileObject(location, path.getRoot(), path))
+          .map(path -> new PathFileObject(location, this, path.getRoot(), path))
           .forEach(collection::add);
+    } finally {
+      directoryLock.unlock();
     }
   }
 
@@ -240,103 +265,16 @@ public final class JarContainerImpl implements Container {
         .toString();
   }
 
-  /**
-   * Wrapper around a set of packages and a file system that can be opened lazily.
-   */
-  private final class PackageFileSystemHolder {
-
-    private final Map<String, PathRoot> packages;
-    private final FileSystem fileSystem;
-
-    private PackageFileSystemHolder() throws IOException {
-      // It turns out that we can open more than one ZIP file system pointing to the
-      // same file at once, but we cannot do this with the JAR file system itself.
-      // This is an issue since it hinders our ability to run tests in parallel where multiple tests
-      // might be trying to read the same JAR at once.
-      //
-      // This means we have to do a little of hacking around to get this to work how we need it to.
-      // Remember that JARs are just glorified zip folders.
-
-      // Set the multi-release flag to enable reading META-INF/release/* files correctly if the
-      // MANIFEST.MF specifies the Multi-Release entry as true.
-      // Turns out the JDK implementation of the ZipFileSystem handles this for us.
-      packages = new HashMap<>();
-
-      var actualJarPath = jarPath.getPath();
-
-      var env = Map.<String, Object>of(
-          "releaseVersion", release,
-          "multi-release", release
-      );
-
-      // So, for some reason. I cannot make more than one instance of a ZipFileSystem
-      // if I pass a URI in here. If I pass a Path in here instead, then I can make
-      // multiple copies of it in memory. No idea why this is the way it is, but it
-      // appears to be how the JavacFileManager in the JDK can make itself run in parallel
-      // safely. While in Rome, I guess.
-      fileSystem = getJarFileSystemProvider().newFileSystem(actualJarPath, env);
-
-      // Index packages ahead-of-time to improve performance.
-      for (var root : fileSystem.getRootDirectories()) {
-        try (var walker = Files.walk(root)) {
-          walker
-              .filter(Files::isDirectory)
-              .map(root::relativize)
-              .forEach(path -> packages.put(
-                  FileUtils.pathToBinaryName(path),
-                  new WrappingDirectoryImpl(root.resolve(path))
-              ));
-        }
-      }
-    }
-
-    private void close() throws IOException {
-      LOGGER.trace(
-          "Closing JAR file system handle ({} @ {})",
-          jarPath.getUri(),
-          fileSystem.getRootDirectories()
-      );
-      packages.clear();
-      fileSystem.close();
-    }
-
-    private Map<String, PathRoot> getPackages() {
-      return packages;
-    }
-
-    private PathRoot getPackage(String name) {
-      return packages.get(name);
-    }
-
-    private Iterable<? extends Path> getRootDirectories() {
-      return fileSystem.getRootDirectories();
-    }
-
-    private Stream<? extends Path> getRootDirectoriesStream() {
-      return StreamSupport.stream(fileSystem.getRootDirectories().spliterator(), false);
-    }
-
-    private Collection<Path> getAllFiles() throws IOException {
-      var allPaths = new ArrayList<Path>();
-
-      // We have to do this eagerly as the walkers must be closed to prevent resource leakage.
-      for (var root : fileSystem.getRootDirectories()) {
-        try (var walker = Files.walk(root)) {
-          walker.forEach(allPaths::add);
-        }
-      }
-
-      return allPaths;
-    }
-  }
-
-  private static FileSystemProvider getJarFileSystemProvider() {
-    for (var fsProvider : FileSystemProvider.installedProviders()) {
-      if (fsProvider.getScheme().equals("jar")) {
-        return fsProvider;
-      }
-    }
-
-    throw new ProviderNotFoundException("jar");
+  private JarFileSystemCache.Handle acquireHandle() throws IOException {
+    // It turns out that we can open more than one ZIP file system pointing to the
+    // same file at once, but we cannot do this with the JAR file system itself.
+    // This is an issue since it hinders our ability to run tests in parallel where multiple tests
+    // might be trying to read the same JAR at once.
+    //
+    // The shared cache deals with this for us, and also lets us avoid re-indexing the same JAR
+    // for every single compilation.
+    var handle = JarFileSystemCache.getInstance().acquire(jarPath.getPath(), release);
+    LOGGER.trace("Acquired JAR file system handle {} for {}", handle, jarPath.getUri());
+    return handle;
   }
 }
@@ -0,0 +1,574 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.containers.impl;
+
+import io.github.ascopes.jct.utils.ClassPathIndexStore;
+import io.github.ascopes.jct.utils.FileUtils;
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import io.github.ascopes.jct.workspaces.PathRoot;
+import io.github.ascopes.jct.workspaces.impl.WrappingDirectoryImpl;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.ProviderNotFoundException;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.spi.FileSystemProvider;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JVM-wide cache of JAR file system handles and package indexes.
+ *
+ * <p>Indexing the packages within a JAR requires walking every directory in the archive, which
+ * is expensive when hundreds of JARs are inherited from the class path of the JVM running the
+ * tests. This cache indexes each JAR at most once for a given fingerprint (the path, size,
+ * modification time, and the release used to resolve {@code Multi-Release} entries). Indexes are
+ * immutable and are shared read-only between all compilations. If a {@link ClassPathIndexStore}
+ * is configured, indexes are also persisted there so that other JVMs can skip indexing.
+ *
+ * <p>Only indexes of JARs on the default file system are kept once the JAR is closed, since
+ * JARs in other file systems (such as RAM workspaces) are usually discarded along with the test
+ * that created them. The number of kept indexes is bounded, with the least recently used index
+ * being evicted first, and an index is replaced as soon as the JAR it was built from changes.
+ *
+ * <p>File system handles are reference-counted. Any containers that open the same JAR with the
+ * same release will share the same underlying file system, and that file system is closed once
+ * the last handle to it has been released.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class JarFileSystemCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(JarFileSystemCache.class);
+  private static final int DEFAULT_MAX_INDEXES = 1_000;
+  private static final JarFileSystemCache INSTANCE = new JarFileSystemCache();
+
+  /**
+   * Get the shared JVM-wide instance of this cache.
+   *
+   * @return the shared instance.
+   */
+  public static JarFileSystemCache getInstance() {
+    return INSTANCE;
+  }
+
+  private final int maxIndexes;
+  private final Lock indexLock;
+  private final Map<Fingerprint, Map<String, String>> indexes;
+  private final Map<Fingerprint, SharedFileSystem> fileSystems;
+
+  /**
+   * Initialise a new cache.
+   *
+   * <p>Most callers will want to use {@link #getInstance()} rather than creating a new cache.
+   */
+  public JarFileSystemCache() {
+    this(DEFAULT_MAX_INDEXES);
+  }
+
+  /**
+   * Initialise a new cache.
+   *
+   * <p>Most callers will want to use {@link #getInstance()} rather than creating a new cache.
+   *
+   * @param maxIndexes the maximum number of package indexes to keep once the file systems they
+   *                   were built for have been closed.
+   */
+  public JarFileSystemCache(int maxIndexes) {
+    if (maxIndexes < 0) {
+      throw new IllegalArgumentException("maxIndexes cannot be negative");
+    }
+
+    this.maxIndexes = maxIndexes;
+    indexLock = new ReentrantLock();
+    // Access-ordered, so that the least recently used index is evicted first.
+    indexes = new LinkedHashMap<>(16, 0.75f, true);
+    fileSystems = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Acquire a handle to the given JAR, opening the file system and indexing it if needed.
+   *
+   * <p>The handle must be {@link Handle#close() closed} once finished with.
+   *
+   * @param jarPath the path to the JAR.
+   * @param release the release to use for {@code Multi-Release} JARs.
+   * @return the handle.
+   * @throws IOException if the JAR cannot be opened or read.
+   */
+  public Handle acquire(Path jarPath, String release) throws IOException {
+    var fingerprint = Fingerprint.of(jarPath, release);
+    var created = new AtomicBoolean(false);
+
+    // Only the reference count is updated within the map lock. Opening and indexing the file
+    // system is slow I/O, so it is done afterwards by whichever caller created the entry, while
+    // any other callers for the same fingerprint wait on the future.
+    var sharedFileSystem = fileSystems.compute(fingerprint, (key, existing) -> {
+      if (existing == null) {
+        created.set(true);
+        return new SharedFileSystem();
+      }
+
+      return existing.retain();
+    });
+
+    if (created.get()) {
+      try {
+        sharedFileSystem.opened.complete(openFileSystem(fingerprint));
+      } catch (IOException | RuntimeException | Error ex) {
+        fileSystems.remove(fingerprint, sharedFileSystem);
+        sharedFileSystem.opened.completeExceptionally(ex);
+        throw ex;
+      }
+    }
+
+    try {
+      sharedFileSystem.opened.join();
+    } catch (CompletionException ex) {
+      var cause = ex.getCause();
+
+      if (cause instanceof IOException) {
+        throw new IOException("Failed to open JAR " + jarPath, cause);
+      }
+
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+
+      throw (RuntimeException) cause;
+    }
+
+    return new Handle(fingerprint, sharedFileSystem);
+  }
+
+  /**
+   * Drop all cached package indexes.
+   *
+   * <p>File systems that are currently open will keep using the index they were opened with.
+   */
+  public void clearIndexes() {
+    indexLock.lock();
+
+    try {
+      indexes.clear();
+    } finally {
+      indexLock.unlock();
+    }
+  }
+
+  /**
+   * Get the number of package indexes held in this cache.
+   *
+   * @return the number of indexes.
+   */
+  public int getIndexCount() {
+    indexLock.lock();
+
+    try {
+      return indexes.size();
+    } finally {
+      indexLock.unlock();
+    }
+  }
+
+  /**
+   * Get the number of JAR file systems currently held open by this cache.
+   *
+   * @return the number of open file systems.
+   */
+  public int getOpenFileSystemCount() {
+    return fileSystems.size();
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("indexCount", getIndexCount())
+        .attribute("maxIndexes", maxIndexes)
+        .attribute("openFileSystemCount", fileSystems.size())
+        .toString();
+  }
+
+  private OpenFileSystem openFileSystem(Fingerprint fingerprint) throws IOException {
+    // Set the multi-release flag to enable reading META-INF/release/* files correctly if the
+    // MANIFEST.MF specifies the Multi-Release entry as true.
+    // Turns out the JDK implementation of the ZipFileSystem handles this for us.
+    var env = Map.<String, Object>of(
+        "releaseVersion", fingerprint.release,
+        "multi-release", fingerprint.release
+    );
+
+    // So, for some reason. I cannot make more than one instance of a ZipFileSystem
+    // if I pass a URI in here. If I pass a Path in here instead, then I can make
+    // multiple copies of it in memory. No idea why this is the way it is, but it
+    // appears to be how the JavacFileManager in the JDK can make itself run in parallel
+    // safely. While in Rome, I guess.
+    var fileSystem = getJarFileSystemProvider().newFileSystem(fingerprint.path, env);
+
+    try {
+      var index = getIndex(fingerprint);
+
+      if (index == null) {
+        index = loadOrIndexPackages(fingerprint, fileSystem);
+        putIndex(fingerprint, index);
+      } else {
+        LOGGER.trace("Reusing cached index of {} packages for {}", index.size(), fingerprint);
+      }
+
+      return new OpenFileSystem(fileSystem, index);
+    } catch (IOException | RuntimeException | Error ex) {
+      try {
+        fileSystem.close();
+      } catch (IOException closeEx) {
+        ex.addSuppressed(closeEx);
+      }
+
+      throw ex;
+    }
+  }
+
+  @Nullable
+  private Map<String, String> getIndex(Fingerprint fingerprint) {
+    indexLock.lock();
+
+    try {
+      return indexes.get(fingerprint);
+    } finally {
+      indexLock.unlock();
+    }
+  }
+
+  private void putIndex(Fingerprint fingerprint, Map<String, String> index) {
+    // JARs in other file systems, such as RAM workspaces, are usually discarded with the test that
+    // created them. Holding onto their indexes would keep the whole file system alive.
+    if (fingerprint.path.getFileSystem() != FileSystems.getDefault()) {
+      return;
+    }
+
+    indexLock.lock();
+
+    try {
+      // An index for an older version of the same JAR can never be hit again.
+      indexes.keySet().removeIf(existing -> existing.isSameJarAs(fingerprint));
+      indexes.put(fingerprint, index);
+
+      var iterator = indexes.keySet().iterator();
+      while (indexes.size() > maxIndexes) {
+        iterator.next();
+        iterator.remove();
+      }
+    } finally {
+      indexLock.unlock();
+    }
+  }
+
+  private void release(Fingerprint fingerprint, SharedFileSystem sharedFileSystem) {
+    var closed = new AtomicBoolean(false);
+
+    fileSystems.computeIfPresent(fingerprint, (key, existing) -> {
+      if (existing != sharedFileSystem || existing.release() > 0) {
+        return existing;
+      }
+
+      closed.set(true);
+      return null;
+    });
+
+    if (closed.get()) {
+      LOGGER.trace("Closing JAR file system handle ({})", fingerprint);
+
+      try {
+        sharedFileSystem.get().fileSystem.close();
+      } catch (IOException ex) {
+        LOGGER.debug("Ignoring error closing JAR file system for {}", fingerprint, ex);
+      }
+    }
+  }
+
+  private static Map<String, String> loadOrIndexPackages(
+      Fingerprint fingerprint,
+      FileSystem fileSystem
+  ) throws IOException {
+    var store = ClassPathIndexStore.getConfiguredInstance();
+    var kind = "packages-" + fingerprint.release;
+
+    if (store != null) {
+      var index = store.read(fingerprint.path, kind);
+
+      if (index != null) {
+        LOGGER.trace("Loaded persisted index of {} packages for {}", index.size(), fingerprint);
+        return index;
+      }
+    }
+
+    var index = indexPackages(fileSystem);
+    LOGGER.trace("Indexed {} packages in {}", index.size(), fingerprint);
+
+    if (store != null) {
+      store.write(fingerprint.path, kind, index);
+    }
+
+    return index;
+  }
+
+  private static Map<String, String> indexPackages(FileSystem fileSystem) throws IOException {
+    var packages = new HashMap<String, String>();
+
+    for (var root : fileSystem.getRootDirectories()) {
+      try (var walker = Files.walk(root)) {
+        walker
+            .filter(Files::isDirectory)
+            .map(root::relativize)
+            .forEach(path -> packages.put(FileUtils.pathToBinaryName(path), path.toString()));
+      }
+    }
+
+    return Map.copyOf(packages);
+  }
+
+  private static FileSystemProvider getJarFileSystemProvider() {
+    for (var fsProvider : FileSystemProvider.installedProviders()) {
+      if (fsProvider.getScheme().equals("jar")) {
+        return fsProvider;
+      }
+    }
+
+    throw new ProviderNotFoundException("jar");
+  }
+
+  /**
+   * A handle to a shared JAR file system.
+   *
+   * <p>Closing the handle releases the reference to the file system. Closing the handle more
+   * than once has no further effect.
+   *
+   * @author Ashley Scopes
+   * @since 0.0.1
+   */
+  @API(since = "0.0.1", status = Status.INTERNAL)
+  public final class Handle implements Closeable {
+
+    private final Fingerprint fingerprint;
+    private final SharedFileSystem sharedFileSystem;
+    private final AtomicBoolean closed;
+
+    private Handle(Fingerprint fingerprint, SharedFileSystem sharedFileSystem) {
+      this.fingerprint = fingerprint;
+      this.sharedFileSystem = sharedFileSystem;
+      closed = new AtomicBoolean(false);
+    }
+
+    @Override
+    public void close() {
+      if (closed.compareAndSet(false, true)) {
+        release(fingerprint, sharedFileSystem);
+      }
+    }
+
+    /**
+     * Get the underlying file system.
+     *
+     * @return the file system.
+     */
+    public FileSystem getFileSystem() {
+      return sharedFileSystem.get().fileSystem;
+    }
+
+    /**
+     * Get the package with the given name.
+     *
+     * @param packageName the binary name of the package.
+     * @return the package path root, or {@code null} if the package does not exist in the JAR.
+     */
+    @Nullable
+    public PathRoot getPackage(String packageName) {
+      return sharedFileSystem.get().getPackage(packageName);
+    }
+
+    /**
+     * Determine if the package with the given name exists.
+     *
+     * @param packageName the binary name of the package.
+     * @return {@code true} if the package exists in the JAR, or {@code false} otherwise.
+     */
+    public boolean hasPackage(String packageName) {
+      return sharedFileSystem.get().index.containsKey(packageName);
+    }
+
+    /**
+     * Get the root directories of the file system.
+     *
+     * @return the root directories.
+     */
+    public Iterable<Path> getRootDirectories() {
+      return sharedFileSystem.get().fileSystem.getRootDirectories();
+    }
+
+    /**
+     * Get the lock to hold while walking directories in the file system.
+     *
+     * <p>The JDK zip file system holds a monitor while it waits to iterate over a directory, which
+     * pins the carrier of a virtual thread if another walk is in progress. Walks that take this
+     * lock first wait for each other here instead, without pinning.
+     *
+     * @return the lock.
+     */
+    public Lock getDirectoryLock() {
+      return sharedFileSystem.get().directoryLock;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .attribute("fingerprint", fingerprint)
+          .attribute("closed", closed.get())
+          .toString();
+    }
+  }
+
+  private static final class SharedFileSystem {
+
+    private final CompletableFuture<OpenFileSystem> opened;
+    private int references;
+
+    private SharedFileSystem() {
+      opened = new CompletableFuture<>();
+      references = 1;
+    }
+
+    // Only called once the file system has been opened successfully.
+    private OpenFileSystem get() {
+      return opened.join();
+    }
+
+    // Only called from within ConcurrentHashMap#compute, so access to the reference count is
+    // already serialized for a given fingerprint.
+    private SharedFileSystem retain() {
+      ++references;
+      return this;
+    }
+
+    private int release() {
+      return --references;
+    }
+  }
+
+  private static final class OpenFileSystem {
+
+    private final FileSystem fileSystem;
+    private final Map<String, String> index;
+    private final Map<String, PathRoot> packages;
+    private final Lock directoryLock;
+
+    private OpenFileSystem(FileSystem fileSystem, Map<String, String> index) {
+      this.fileSystem = fileSystem;
+      this.index = index;
+      packages = new ConcurrentHashMap<>();
+      directoryLock = new ReentrantLock();
+    }
+
+    @Nullable
+    private PathRoot getPackage(String packageName) {
+      var relativePath = index.get(packageName);
+
+      if (relativePath == null) {
+        return null;
+      }
+
+      // Materialise path roots lazily, as most packages in most JARs will never be looked at.
+      return packages.computeIfAbsent(packageName, unused -> {
+        var root = fileSystem.getRootDirectories().iterator().next();
+        return new WrappingDirectoryImpl(root.resolve(relativePath));
+      });
+    }
+  }
+
+  private static final class Fingerprint {
+
+    private final Path path;
+    private final long size;
+    private final long lastModified;
+    private final String release;
+
+    private Fingerprint(Path path, long size, long lastModified, String release) {
+      this.path = path;
+      this.size = size;
+      this.lastModified = lastModified;
+      this.release = release;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+      if (!(other instanceof Fingerprint)) {
+        return false;
+      }
+
+      var that = (Fingerprint) other;
+      return size == that.size
+          && lastModified == that.lastModified
+          && path.equals(that.path)
+          && release.equals(that.release);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, size, lastModified, release);
+    }
+
+    private boolean isSameJarAs(Fingerprint that) {
+      return path.equals(that.path) && release.equals(that.release);
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .attribute("path", path)
+          .attribute("size", size)
+          .attribute("lastModified", lastModified)
+          .attribute("release", release)
+          .toString();
+    }
+
+    private static Fingerprint of(Path path, String release) throws IOException {
+      var absolutePath = path.toAbsolutePath().normalize();
+      var attributes = Files.readAttributes(absolutePath, BasicFileAttributes.class);
+      return new Fingerprint(
+          absolutePath,
+          attributes.size(),
+          attributes.lastModifiedTime().toMillis(),
+          release
+      );
+    }
+  }
+}
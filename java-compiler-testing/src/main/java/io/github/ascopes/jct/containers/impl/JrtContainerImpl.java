@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.containers.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ascopes.jct.filemanagers.PathFileObject;
+import io.github.ascopes.jct.utils.FileUtils;
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import io.github.ascopes.jct.workspaces.PathRoot;
+import java.io.IOException;
+import java.lang.module.ModuleFinder;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Set;
+import javax.tools.JavaFileManager.Location;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Container that wraps a single module within the {@code jrt:/} file system of the running JVM.
+ *
+ * <p>Lookups and listings are answered from the shared {@link JrtPackageIndex} rather than by
+ * querying the file system, so asking every system module for a class or package that it does
+ * not contain is just a map lookup. File objects are identical to those produced by a
+ * {@link PathWrappingContainerImpl} for the same module root.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class JrtContainerImpl implements PackageIndexedContainer {
+
+  private final Location location;
+  private final PathRoot root;
+  private final String moduleName;
+  private final JrtPackageIndex index;
+  private final PathWrappingContainerImpl delegate;
+
+  /**
+   * Initialize this container.
+   *
+   * @param location the location.
+   * @param root     the root of the module within the {@code jrt:/} file system, such as
+   *                 {@code /modules/java.base}.
+   * @throws IllegalArgumentException if the root is not a module root in the {@code jrt:/} file
+   *                                  system.
+   */
+  public JrtContainerImpl(Location location, PathRoot root) {
+    this(location, root, JrtPackageIndex.getInstance());
+  }
+
+  /**
+   * Initialize this container.
+   *
+   * @param location the location.
+   * @param root     the root of the module within the {@code jrt:/} file system, such as
+   *                 {@code /modules/java.base}.
+   * @param index    the package index to use.
+   * @throws IllegalArgumentException if the root is not a module root in the {@code jrt:/} file
+   *                                  system.
+   */
+  public JrtContainerImpl(Location location, PathRoot root, JrtPackageIndex index) {
+    this.location = requireNonNull(location, "location");
+    this.root = requireNonNull(root, "root");
+    this.index = requireNonNull(index, "index");
+
+    if (!JrtPackageIndex.isModuleRoot(root.getPath())) {
+      throw new IllegalArgumentException(root.getPath() + " is not a Java runtime module root");
+    }
+
+    moduleName = root.getPath().getFileName().toString();
+    delegate = new PathWrappingContainerImpl(location, root);
+  }
+
+  @Override
+  public void close() throws IOException {
+    // Nothing to close, the runtime image is managed by the JVM.
+  }
+
+  @Override
+  public boolean contains(PathFileObject fileObject) {
+    var path = fileObject.getFullPath();
+
+    if (!path.startsWith(root.getPath()) || path.equals(root.getPath())) {
+      return false;
+    }
+
+    var relativePath = root.getPath().relativize(path);
+    var parent = relativePath.getParent();
+    var packageName = parent == null ? "" : FileUtils.pathToBinaryName(parent);
+    return index.hasFile(moduleName, packageName, relativePath.getFileName().toString());
+  }
+
+  @Nullable
+  @Override
+  public Path getFile(String fragment, String... fragments) {
+    return delegate.getFile(fragment, fragments);
+  }
+
+  @Nullable
+  @Override
+  public PathFileObject getFileForInput(String packageName, String relativeName) {
+    if (relativeName.indexOf('/') != -1) {
+      // Nested resource names cannot be answered from the package index directly.
+      return delegate.getFileForInput(packageName, relativeName);
+    }
+
+    return index.hasFile(moduleName, packageName, relativeName)
+        ? newFileObject(packageName, relativeName)
+        : null;
+  }
+
+  @Override
+  public PathFileObject getFileForOutput(String packageName, String relativeName) {
+    throw new UnsupportedOperationException("Cannot handle output files in the Java runtime");
+  }
+
+  @Nullable
+  @Override
+  public PathFileObject getJavaFileForInput(String binaryName, Kind kind) {
+    var packageSeparator = binaryName.lastIndexOf('.');
+    var packageName = packageSeparator == -1 ? "" : binaryName.substring(0, packageSeparator);
+    var fileName = binaryName.substring(packageSeparator + 1) + kind.extension;
+
+    return index.hasFile(moduleName, packageName, fileName)
+        ? newFileObject(packageName, fileName)
+        : null;
+  }
+
+  @Override
+  public PathFileObject getJavaFileForOutput(String className, Kind kind) {
+    throw new UnsupportedOperationException(
+        "Cannot handle output source files in the Java runtime"
+    );
+  }
+
+  @Override
+  public Location getLocation() {
+    return location;
+  }
+
+  @Nullable
+  @Override
+  public ModuleFinder getModuleFinder() {
+    return delegate.getModuleFinder();
+  }
+
+  @Override
+  public String getName() {
+    return delegate.getName();
+  }
+
+  @Override
+  public PathRoot getPathRoot() {
+    return root;
+  }
+
+  @Override
+  public boolean hasPackage(String packageName) {
+    // The unnamed package is not indexed, but holds the module-info.class file.
+    return packageName.isEmpty() || index.hasPackage(moduleName, packageName);
+  }
+
+  @Nullable
+  @Override
+  public String inferBinaryName(PathFileObject javaFileObject) {
+    return delegate.inferBinaryName(javaFileObject);
+  }
+
+  @Override
+  public Collection<Path> listAllFiles() throws IOException {
+    return delegate.listAllFiles();
+  }
+
+  @Override
+  public void listFileObjects(
+      String packageName,
+      Set<? extends Kind> kinds,
+      boolean recurse,
+      Collection<JavaFileObject> collection
+  ) {
+    var packages = index.getPackages(moduleName);
+
+    if (!recurse) {
+      listFileObjectsIn(packageName, kinds, collection);
+    } else if (packageName.isEmpty()) {
+      listFileObjectsIn(packageName, kinds, collection);
+      packages.forEach(nextPackageName -> listFileObjectsIn(nextPackageName, kinds, collection));
+    } else {
+      listFileObjectsIn(packageName, kinds, collection);
+
+      // '/' is the character after '.', so this is every package nested within this package.
+      packages
+          .subSet(packageName + ".", true, packageName + "/", false)
+          .forEach(nextPackageName -> listFileObjectsIn(nextPackageName, kinds, collection));
+    }
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("uri", root.getUri())
+        .attribute("location", location)
+        .toString();
+  }
+
+  private void listFileObjectsIn(
+      String packageName,
+      Set<? extends Kind> kinds,
+      Collection<JavaFileObject> collection
+  ) {
+    for (var fileName : index.getFiles(moduleName, packageName)) {
+      if (kinds.contains(FileUtils.fileNameToKind(fileName))) {
+        collection.add(newFileObject(packageName, fileName));
+      }
+    }
+  }
+
+  private PathFileObject newFileObject(String packageName, String fileName) {
+    var relativePath = packageName.isEmpty()
+        ? root.getPath().getFileSystem().getPath(fileName)
+        : root.getPath().getFileSystem().getPath(packageName.replace('.', '/'), fileName);
+    return new PathFileObject(location, this, root.getPath(), relativePath);
+  }
+}
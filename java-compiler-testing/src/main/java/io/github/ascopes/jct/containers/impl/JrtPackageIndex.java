@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.containers.impl;
+
+import static io.github.ascopes.jct.utils.IoExceptionUtils.uncheckedIo;
+
+import io.github.ascopes.jct.utils.Lazy;
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A JVM-wide index of the packages and files provided by each module in the {@code jrt:/}
+ * file system of the running JVM.
+ *
+ * <p>The package to module mapping is read once from the {@code /packages} tree of the
+ * {@code jrt:/} file system. The files within each package are listed the first time that
+ * package is queried, and are then kept for the lifetime of the JVM, since the runtime image
+ * cannot change while the JVM is running.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class JrtPackageIndex {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(JrtPackageIndex.class);
+  private static final URI JRT_URI = URI.create("jrt:/");
+  private static final String MODULES_DIRECTORY = "modules";
+  private static final String PACKAGES_DIRECTORY = "packages";
+  private static final Lazy<JrtPackageIndex> INSTANCE = new Lazy<>(
+      () -> uncheckedIo(() -> new JrtPackageIndex(FileSystems.getFileSystem(JRT_URI)))
+  );
+
+  /**
+   * Get the shared index for the {@code jrt:/} file system of the running JVM.
+   *
+   * @return the shared index.
+   */
+  public static JrtPackageIndex getInstance() {
+    return INSTANCE.access();
+  }
+
+  /**
+   * Determine if the given path is the root of a module within the {@code jrt:/} file system of
+   * the running JVM, such as {@code /modules/java.base}.
+   *
+   * <p>Module roots within other {@code jrt:/} file systems, such as those opened for a different
+   * {@code java.home}, are not served by this index, so this returns {@code false} for them.
+   *
+   * @param path the path to check.
+   * @return {@code true} if the path is a module root, or {@code false} otherwise.
+   */
+  public static boolean isModuleRoot(Path path) {
+    return "jrt".equals(path.getFileSystem().provider().getScheme())
+        && path.isAbsolute()
+        && path.getNameCount() == 2
+        && path.getName(0).toString().equals(MODULES_DIRECTORY)
+        && path.getFileSystem() == FileSystems.getFileSystem(JRT_URI);
+  }
+
+  private final FileSystem fileSystem;
+  private final Map<String, NavigableSet<String>> modulePackages;
+  private final Map<String, List<String>> packageFiles;
+
+  private JrtPackageIndex(FileSystem fileSystem) throws IOException {
+    this.fileSystem = fileSystem;
+    modulePackages = indexPackages(fileSystem);
+    packageFiles = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Get the names of the packages within the given module.
+   *
+   * @param moduleName the name of the module.
+   * @return the sorted package names, which will be empty if the module does not exist.
+   */
+  public NavigableSet<String> getPackages(String moduleName) {
+    return modulePackages.getOrDefault(moduleName, Collections.emptyNavigableSet());
+  }
+
+  /**
+   * Determine if the given module contains the given package.
+   *
+   * @param moduleName  the name of the module.
+   * @param packageName the name of the package.
+   * @return {@code true} if the package exists in the module, or {@code false} otherwise.
+   */
+  public boolean hasPackage(String moduleName, String packageName) {
+    return getPackages(moduleName).contains(packageName);
+  }
+
+  /**
+   * Get the names of the regular files directly within the given package of the given module.
+   *
+   * @param moduleName  the name of the module.
+   * @param packageName the name of the package.
+   * @return the sorted file names, which will be empty if the package is not in the module.
+   */
+  public List<String> getFiles(String moduleName, String packageName) {
+    // The unnamed package is never listed in the index, but holds the module-info.class file.
+    var exists = packageName.isEmpty()
+        ? modulePackages.containsKey(moduleName)
+        : hasPackage(moduleName, packageName);
+
+    if (!exists) {
+      return List.of();
+    }
+
+    return packageFiles.computeIfAbsent(
+        moduleName + "/" + packageName,
+        ignored -> uncheckedIo(() -> listFiles(moduleName, packageName))
+    );
+  }
+
+  /**
+   * Determine if the given file exists directly within the given package of the given module.
+   *
+   * @param moduleName  the name of the module.
+   * @param packageName the name of the package.
+   * @param fileName    the name of the file.
+   * @return {@code true} if the file exists, or {@code false} otherwise.
+   */
+  public boolean hasFile(String moduleName, String packageName, String fileName) {
+    return Collections.binarySearch(getFiles(moduleName, packageName), fileName) >= 0;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("moduleCount", modulePackages.size())
+        .attribute("listedPackageCount", packageFiles.size())
+        .toString();
+  }
+
+  private List<String> listFiles(String moduleName, String packageName) throws IOException {
+    var moduleRoot = fileSystem.getPath("/" + MODULES_DIRECTORY, moduleName);
+    var directory = packageName.isEmpty()
+        ? moduleRoot
+        : moduleRoot.resolve(packageName.replace('.', '/'));
+    var files = new ArrayList<String>();
+
+    try (var stream = Files.newDirectoryStream(directory, Files::isRegularFile)) {
+      stream.forEach(file -> files.add(file.getFileName().toString()));
+    } catch (NoSuchFileException ex) {
+      LOGGER.trace("Package directory {} does not exist", directory);
+    }
+
+    Collections.sort(files);
+    return List.copyOf(files);
+  }
+
+  private static Map<String, NavigableSet<String>> indexPackages(
+      FileSystem fileSystem
+  ) throws IOException {
+    var modulePackages = new HashMap<String, NavigableSet<String>>();
+
+    // Each package is a directory in /packages holding a link to each module providing it.
+    try (var packages = Files.newDirectoryStream(fileSystem.getPath("/" + PACKAGES_DIRECTORY))) {
+      for (var packageDirectory : packages) {
+        var packageName = packageDirectory.getFileName().toString();
+
+        try (var modules = Files.newDirectoryStream(packageDirectory)) {
+          for (var module : modules) {
+            modulePackages
+                .computeIfAbsent(module.getFileName().toString(), ignored -> new TreeSet<>())
+                .add(packageName);
+          }
+        }
+      }
+    }
+
+    var index = new HashMap<String, NavigableSet<String>>();
+    modulePackages.forEach((module, packageNames) ->
+        index.put(module, Collections.unmodifiableNavigableSet(packageNames)));
+
+    LOGGER.trace("Indexed packages for {} modules in the Java runtime image", index.size());
+    return Map.copyOf(index);
+  }
+}
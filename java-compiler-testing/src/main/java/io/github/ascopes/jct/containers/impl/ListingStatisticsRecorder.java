@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.containers.impl;
+
+import io.github.ascopes.jct.filemanagers.ListingStatistics;
+import java.util.concurrent.atomic.LongAdder;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Thread-safe counters for how container groups list their containers.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class ListingStatisticsRecorder {
+
+  private final LongAdder serialListingCount;
+  private final LongAdder parallelListingCount;
+
+  /**
+   * Initialize this recorder.
+   */
+  public ListingStatisticsRecorder() {
+    serialListingCount = new LongAdder();
+    parallelListingCount = new LongAdder();
+  }
+
+  /**
+   * Record a listing that queried containers one after the other.
+   */
+  public void recordSerialListing() {
+    serialListingCount.increment();
+  }
+
+  /**
+   * Record a listing that queried containers in parallel.
+   */
+  public void recordParallelListing() {
+    parallelListingCount.increment();
+  }
+
+  /**
+   * Get a snapshot of the listings recorded so far.
+   *
+   * @return the statistics.
+   */
+  public ListingStatistics getStatistics() {
+    return new ListingStatistics(serialListingCount.sum(), parallelListingCount.sum());
+  }
+}
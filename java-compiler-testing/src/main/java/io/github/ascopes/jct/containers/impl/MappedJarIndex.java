@@ -0,0 +1,769 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.containers.impl;
+
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A read-only index of the entries within a JAR, built by memory-mapping the archive and reading
+ * its ZIP central directory directly.
+ *
+ * <p>Entries are held in a compact table sorted by name, so lookups are a binary search and
+ * listing a package is a contiguous range scan. No locks are taken once the index is built, and
+ * entry contents are only inflated when a stream is opened for them.
+ *
+ * <p>If the manifest declares {@code Multi-Release: true}, then entries under
+ * {@code META-INF/versions/<N>/} for any {@code N} up to the requested release will shadow the
+ * base entries of the same name, in the same way that the ZIP file system provider does.
+ *
+ * <p>Indexes are shared JVM-wide per archive and release, and are rebuilt if the size or
+ * modification time of the archive changes. The cache only holds weak references to them, so the
+ * lifetime of each mapping is tied to the containers that use it: once the last container is
+ * closed or discarded, the garbage collector is free to release the mapping. Until then, some
+ * platforms such as Windows will refuse to delete the archive.
+ *
+ * <p>Archives must not be rewritten in place while an index of them is still in use. The
+ * mapping reflects the file on disk rather than a snapshot of it, so reading entries after the
+ * archive is truncated or rewritten may return garbage or fail with an {@link InternalError}.
+ * Replace archives by writing a new file and moving it over the old one instead.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class MappedJarIndex {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MappedJarIndex.class);
+  private static final Lock CACHE_LOCK = new ReentrantLock();
+  private static final Map<Map.Entry<Path, String>, CacheReference> CACHE = new HashMap<>();
+  private static final ReferenceQueue<MappedJarIndex> COLLECTED = new ReferenceQueue<>();
+
+  private static final int END_SIGNATURE = 0x06054b50;
+  private static final int END_SIZE = 22;
+  private static final int END_MAX_COMMENT_SIZE = 0xFFFF;
+  private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+  private static final int ZIP64_LOCATOR_SIZE = 20;
+  private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+  private static final int CENTRAL_SIGNATURE = 0x02014b50;
+  private static final int CENTRAL_SIZE = 46;
+  private static final int LOCAL_SIGNATURE = 0x04034b50;
+  private static final int LOCAL_SIZE = 30;
+  private static final int ZIP64_EXTRA_ID = 0x0001;
+  private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+  private static final int METHOD_STORED = 0;
+  private static final int METHOD_DEFLATED = 8;
+
+  private static final String VERSIONS_PREFIX = "META-INF/versions/";
+
+  private final Path path;
+  private final long size;
+  private final long lastModified;
+  private final String release;
+  private final ByteBuffer buffer;
+  private final String[] names;
+  private final long[] localHeaderOffsets;
+  private final long[] compressedSizes;
+  private final int[] methods;
+  private final int[] dosTimes;
+  private final Set<String> packages;
+
+  private MappedJarIndex(
+      Path path,
+      BasicFileAttributes attributes,
+      String release,
+      ByteBuffer buffer
+  ) throws IOException {
+    this.path = path;
+    size = attributes.size();
+    lastModified = attributes.lastModifiedTime().toMillis();
+    this.release = release;
+    this.buffer = buffer;
+
+    var rawEntries = readCentralDirectory();
+    var visibleEntries = resolveVisibleEntries(rawEntries);
+
+    names = visibleEntries.keySet().toArray(String[]::new);
+    Arrays.sort(names);
+
+    localHeaderOffsets = new long[names.length];
+    compressedSizes = new long[names.length];
+    methods = new int[names.length];
+    dosTimes = new int[names.length];
+    packages = new HashSet<>();
+
+    for (var i = 0; i < names.length; ++i) {
+      var entry = visibleEntries.get(names[i]);
+      localHeaderOffsets[i] = entry.localHeaderOffset;
+      compressedSizes[i] = entry.compressedSize;
+      methods[i] = entry.method;
+      dosTimes[i] = entry.dosTime;
+      addPackages(names[i]);
+    }
+  }
+
+  /**
+   * Get the path to the archive.
+   *
+   * @return the path to the archive.
+   */
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * Get the release used to resolve {@code Multi-Release} entries.
+   *
+   * @return the release.
+   */
+  public String getRelease() {
+    return release;
+  }
+
+  /**
+   * Get the number of visible file entries in this index.
+   *
+   * @return the number of entries.
+   */
+  public int getEntryCount() {
+    return names.length;
+  }
+
+  /**
+   * Get the name of the entry at the given index.
+   *
+   * @param index the index of the entry.
+   * @return the name of the entry, relative to the root of the archive.
+   */
+  public String getName(int index) {
+    return names[index];
+  }
+
+  /**
+   * Find the index of the entry with the given name.
+   *
+   * @param name the name of the entry, relative to the root of the archive.
+   * @return the index of the entry, or {@code -1} if no such entry exists.
+   */
+  public int find(String name) {
+    var index = Arrays.binarySearch(names, name);
+    return index < 0 ? -1 : index;
+  }
+
+  /**
+   * Determine if the archive contains any entries within the given package.
+   *
+   * @param packageName the binary name of the package, or an empty string for the root package.
+   * @return {@code true} if the package exists, or {@code false} otherwise.
+   */
+  public boolean hasPackage(String packageName) {
+    return packages.contains(packageName);
+  }
+
+  /**
+   * Get the time the entry at the given index was last modified.
+   *
+   * @param index the index of the entry.
+   * @return the timestamp in milliseconds since the UNIX epoch.
+   */
+  public long getLastModified(int index) {
+    var dosTime = dosTimes[index];
+
+    try {
+      return LocalDateTime
+          .of(
+              ((dosTime >> 25) & 0x7F) + 1980,
+              (dosTime >> 21) & 0x0F,
+              (dosTime >> 16) & 0x1F,
+              (dosTime >> 11) & 0x1F,
+              (dosTime >> 5) & 0x3F,
+              (dosTime << 1) & 0x3E
+          )
+          .atZone(ZoneId.systemDefault())
+          .toInstant()
+          .toEpochMilli();
+    } catch (DateTimeException ex) {
+      // Some tools write zeroed timestamps out, so fall back to the archive itself.
+      return lastModified;
+    }
+  }
+
+  /**
+   * Visit the index of each entry within the given directory.
+   *
+   * @param directory the directory, relative to the root of the archive, using forward slashes
+   *                  as separators. An empty string represents the root of the archive.
+   * @param recurse   {@code true} to include entries in nested directories, or {@code false} to
+   *                  only include entries directly within the directory.
+   * @param consumer  the consumer to call with the index of each matching entry.
+   */
+  public void forEachEntryIn(String directory, boolean recurse, IntConsumer consumer) {
+    var prefix = directory.isEmpty() || directory.endsWith("/")
+        ? directory
+        : directory + "/";
+
+    // Names sharing a prefix are contiguous in a sorted table.
+    var start = Arrays.binarySearch(names, prefix);
+    if (start < 0) {
+      start = -start - 1;
+    }
+
+    for (var i = start; i < names.length && names[i].startsWith(prefix); ++i) {
+      if (recurse || names[i].indexOf('/', prefix.length()) == -1) {
+        consumer.accept(i);
+      }
+    }
+  }
+
+  /**
+   * Open an input stream to read the uncompressed content of the entry at the given index.
+   *
+   * <p>Compressed entries are inflated lazily as the stream is read.
+   *
+   * @param index the index of the entry.
+   * @return the input stream.
+   * @throws IOException if the entry is malformed or uses an unsupported compression method.
+   */
+  public InputStream openEntry(int index) throws IOException {
+    return open(names[index], localHeaderOffsets[index], compressedSizes[index], methods[index]);
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("path", path)
+        .attribute("release", release)
+        .attribute("entryCount", names.length)
+        .toString();
+  }
+
+  private List<RawEntry> readCentralDirectory() throws IOException {
+    var end = findEndOfCentralDirectory();
+    long entryCount = Short.toUnsignedInt(buffer.getShort(end + 10));
+    long centralOffset = Integer.toUnsignedLong(buffer.getInt(end + 16));
+
+    var locator = end - ZIP64_LOCATOR_SIZE;
+    if (locator >= 0 && buffer.getInt(locator) == ZIP64_LOCATOR_SIGNATURE) {
+      var zip64End = toInt(buffer.getLong(locator + 8));
+      if (buffer.getInt(zip64End) != ZIP64_END_SIGNATURE) {
+        throw new ZipException("Invalid ZIP64 end of central directory record in " + path);
+      }
+      entryCount = buffer.getLong(zip64End + 32);
+      centralOffset = buffer.getLong(zip64End + 48);
+    }
+
+    var entries = new ArrayList<RawEntry>(toInt(Math.min(entryCount, 0xFFFF)));
+    var offset = toInt(centralOffset);
+
+    while (offset + CENTRAL_SIZE <= buffer.limit() && buffer.getInt(offset) == CENTRAL_SIGNATURE) {
+      var entry = new RawEntry();
+      entry.method = Short.toUnsignedInt(buffer.getShort(offset + 10));
+      entry.dosTime = buffer.getInt(offset + 12);
+      entry.compressedSize = Integer.toUnsignedLong(buffer.getInt(offset + 20));
+      var uncompressedSize = Integer.toUnsignedLong(buffer.getInt(offset + 24));
+      var nameLength = Short.toUnsignedInt(buffer.getShort(offset + 28));
+      var extraLength = Short.toUnsignedInt(buffer.getShort(offset + 30));
+      var commentLength = Short.toUnsignedInt(buffer.getShort(offset + 32));
+      entry.localHeaderOffset = Integer.toUnsignedLong(buffer.getInt(offset + 42));
+
+      var nameBytes = new byte[nameLength];
+      buffer.duplicate().position(offset + CENTRAL_SIZE).get(nameBytes);
+      entry.name = new String(nameBytes, StandardCharsets.UTF_8);
+
+      readZip64Extra(entry, uncompressedSize, offset + CENTRAL_SIZE + nameLength, extraLength);
+      entries.add(entry);
+
+      offset += CENTRAL_SIZE + nameLength + extraLength + commentLength;
+    }
+
+    if (entries.size() != entryCount) {
+      throw new ZipException(
+          "Expected " + entryCount + " entries in the central directory of " + path
+              + " but found " + entries.size()
+      );
+    }
+
+    return entries;
+  }
+
+  private int findEndOfCentralDirectory() throws ZipException {
+    var minimum = Math.max(0, buffer.limit() - END_SIZE - END_MAX_COMMENT_SIZE);
+
+    for (var offset = buffer.limit() - END_SIZE; offset >= minimum; --offset) {
+      if (buffer.getInt(offset) == END_SIGNATURE) {
+        return offset;
+      }
+    }
+
+    throw new ZipException("No end of central directory record found in " + path);
+  }
+
+  private void readZip64Extra(RawEntry entry, long uncompressedSize, int offset, int length) {
+    var end = offset + length;
+
+    while (offset + 4 <= end) {
+      var id = Short.toUnsignedInt(buffer.getShort(offset));
+      var dataSize = Short.toUnsignedInt(buffer.getShort(offset + 2));
+      var dataOffset = offset + 4;
+
+      if (id == ZIP64_EXTRA_ID) {
+        // Fields only appear if the corresponding header field overflowed, in this order.
+        if (uncompressedSize == ZIP64_MAGIC) {
+          dataOffset += 8;
+        }
+        if (entry.compressedSize == ZIP64_MAGIC) {
+          entry.compressedSize = buffer.getLong(dataOffset);
+          dataOffset += 8;
+        }
+        if (entry.localHeaderOffset == ZIP64_MAGIC) {
+          entry.localHeaderOffset = buffer.getLong(dataOffset);
+        }
+        return;
+      }
+
+      offset += 4 + dataSize;
+    }
+  }
+
+  private Map<String, RawEntry> resolveVisibleEntries(List<RawEntry> rawEntries)
+      throws IOException {
+    var visible = new HashMap<String, RawEntry>();
+    RawEntry manifest = null;
+
+    for (var entry : rawEntries) {
+      if (!entry.name.endsWith("/")) {
+        visible.put(entry.name, entry);
+      }
+      if (entry.name.equals(JarFile.MANIFEST_NAME)) {
+        manifest = entry;
+      }
+    }
+
+    var releaseVersion = parseRelease(release);
+
+    if (manifest == null || releaseVersion < 9 || !isMultiRelease(manifest)) {
+      return visible;
+    }
+
+    // Apply versioned entries in ascending version order so the newest applicable one wins.
+    var versioned = new TreeMap<Integer, List<RawEntry>>();
+
+    for (var entry : rawEntries) {
+      if (!entry.name.startsWith(VERSIONS_PREFIX) || entry.name.endsWith("/")) {
+        continue;
+      }
+
+      var versionEnd = entry.name.indexOf('/', VERSIONS_PREFIX.length());
+      if (versionEnd == -1) {
+        continue;
+      }
+
+      try {
+        var version = Integer.parseInt(entry.name.substring(VERSIONS_PREFIX.length(), versionEnd));
+        if (version >= 9 && version <= releaseVersion) {
+          versioned.computeIfAbsent(version, unused -> new ArrayList<>()).add(entry);
+        }
+      } catch (NumberFormatException ex) {
+        // Not a versioned entry, so just leave it alone.
+      }
+    }
+
+    for (var entries : versioned.values()) {
+      for (var entry : entries) {
+        var baseName = entry.name.substring(entry.name.indexOf('/', VERSIONS_PREFIX.length()) + 1);
+        visible.put(baseName, entry);
+      }
+    }
+
+    return visible;
+  }
+
+  private boolean isMultiRelease(RawEntry manifest) throws IOException {
+    // The table is not built yet, so read the manifest directly from its raw entry.
+    try (var input = open(
+        manifest.name,
+        manifest.localHeaderOffset,
+        manifest.compressedSize,
+        manifest.method
+    )) {
+      var value = new Manifest(input)
+          .getMainAttributes()
+          .getValue(Attributes.Name.MULTI_RELEASE);
+      return Boolean.parseBoolean(value);
+    }
+  }
+
+  private InputStream open(
+      String name,
+      long localHeaderOffset,
+      long compressedSize,
+      int method
+  ) throws IOException {
+    var offset = toInt(localHeaderOffset);
+
+    if (buffer.getInt(offset) != LOCAL_SIGNATURE) {
+      throw new ZipException("Invalid local header for " + name + " in " + path);
+    }
+
+    // The local header can have a different extra field to the central directory.
+    var dataOffset = offset
+        + LOCAL_SIZE
+        + Short.toUnsignedInt(buffer.getShort(offset + 26))
+        + Short.toUnsignedInt(buffer.getShort(offset + 28));
+
+    var data = buffer
+        .duplicate()
+        .position(dataOffset)
+        .limit(dataOffset + toInt(compressedSize));
+
+    switch (method) {
+      case METHOD_STORED:
+        return new ByteBufferInputStream(data);
+      case METHOD_DEFLATED:
+        return new InflatingInputStream(data);
+      default:
+        throw new ZipException(
+            "Unsupported compression method " + method + " for " + name + " in " + path
+        );
+    }
+  }
+
+  private void addPackages(String name) {
+    var end = name.lastIndexOf('/');
+
+    if (end == -1) {
+      packages.add("");
+      return;
+    }
+
+    // Register every parent directory as well, so recursive listings of parent packages
+    // are not skipped.
+    while (end != -1 && packages.add(name.substring(0, end).replace('/', '.'))) {
+      end = name.lastIndexOf('/', end - 1);
+    }
+
+    if (end == -1) {
+      packages.add("");
+    }
+  }
+
+  private int toInt(long value) throws ZipException {
+    if (value < 0 || value > Integer.MAX_VALUE) {
+      throw new ZipException("Offset " + value + " is out of range in " + path);
+    }
+    return (int) value;
+  }
+
+  /**
+   * Get the index for the given archive, building it if it is not already cached or if the
+   * archive has changed since it was cached.
+   *
+   * <p>The caller must hold onto the returned index for as long as it uses it, since the cache
+   * will not keep it alive by itself.
+   *
+   * @param path    the path to the archive.
+   * @param release the release to use for resolving {@code Multi-Release} entries.
+   * @return the index.
+   * @throws IOException if the archive cannot be read or is malformed.
+   */
+  public static MappedJarIndex of(Path path, String release) throws IOException {
+    var absolutePath = path.toAbsolutePath().normalize();
+    var attributes = Files.readAttributes(absolutePath, BasicFileAttributes.class);
+    var key = Map.entry(absolutePath, release);
+
+    CACHE_LOCK.lock();
+    try {
+      purgeCollected();
+      var reference = CACHE.get(key);
+      var existing = reference == null
+          ? null
+          : reference.get();
+
+      if (existing != null && existing.isSameArchiveAs(attributes)) {
+        return existing;
+      }
+    } finally {
+      CACHE_LOCK.unlock();
+    }
+
+    // Mapping and indexing happen outside the lock. Concurrent callers may build the same index
+    // twice, but only the last one is kept.
+    var index = build(absolutePath, attributes, release);
+
+    CACHE_LOCK.lock();
+    try {
+      CACHE.put(key, new CacheReference(key, index));
+    } finally {
+      CACHE_LOCK.unlock();
+    }
+
+    return index;
+  }
+
+  /**
+   * Get the number of indexes that are currently cached and still in use.
+   *
+   * @return the number of cached indexes.
+   */
+  public static int getCacheSize() {
+    CACHE_LOCK.lock();
+    try {
+      purgeCollected();
+      return (int) CACHE.values().stream()
+          .filter(reference -> reference.get() != null)
+          .count();
+    } finally {
+      CACHE_LOCK.unlock();
+    }
+  }
+
+  /**
+   * Drop all cached indexes.
+   *
+   * <p>Indexes that are still held by containers remain usable.
+   */
+  public static void clearCache() {
+    CACHE_LOCK.lock();
+    try {
+      CACHE.clear();
+    } finally {
+      CACHE_LOCK.unlock();
+    }
+  }
+
+  // Must be called while holding CACHE_LOCK.
+  private static void purgeCollected() {
+    CacheReference reference;
+    while ((reference = (CacheReference) COLLECTED.poll()) != null) {
+      // The key may have been remapped to a newer index since.
+      CACHE.remove(reference.key, reference);
+    }
+  }
+
+  private boolean isSameArchiveAs(BasicFileAttributes attributes) {
+    return size == attributes.size()
+        && lastModified == attributes.lastModifiedTime().toMillis();
+  }
+
+  private static MappedJarIndex build(
+      Path path,
+      BasicFileAttributes attributes,
+      String release
+  ) throws IOException {
+    if (attributes.size() > Integer.MAX_VALUE) {
+      throw new IOException("Cannot memory-map " + path + " as it exceeds 2GiB in size");
+    }
+
+    var startTime = System.nanoTime();
+
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      // The mapping remains valid after the channel is closed.
+      var buffer = channel
+          .map(FileChannel.MapMode.READ_ONLY, 0, attributes.size())
+          .order(ByteOrder.LITTLE_ENDIAN);
+      var index = new MappedJarIndex(path, attributes, release, buffer);
+
+      LOGGER.trace(
+          "Indexed {} entries in {} for release {} in ~{}ms",
+          index.names.length,
+          path,
+          release,
+          (System.nanoTime() - startTime) / 1_000_000L
+      );
+
+      return index;
+    }
+  }
+
+  private static int parseRelease(String release) {
+    try {
+      return Integer.parseInt(release);
+    } catch (NumberFormatException ex) {
+      return Runtime.version().feature();
+    }
+  }
+
+  private static final class CacheReference extends WeakReference<MappedJarIndex> {
+
+    private final Map.Entry<Path, String> key;
+
+    private CacheReference(Map.Entry<Path, String> key, MappedJarIndex index) {
+      super(index, COLLECTED);
+      this.key = key;
+    }
+  }
+
+  private static final class RawEntry {
+
+    private String name;
+    private int method;
+    private int dosTime;
+    private long compressedSize;
+    private long localHeaderOffset;
+  }
+
+  private static final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer data;
+
+    private ByteBufferInputStream(ByteBuffer data) {
+      this.data = data;
+    }
+
+    @Override
+    public int available() {
+      return data.remaining();
+    }
+
+    @Override
+    public int read() {
+      return data.hasRemaining()
+          ? Byte.toUnsignedInt(data.get())
+          : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+
+      if (!data.hasRemaining()) {
+        return -1;
+      }
+
+      var count = Math.min(length, data.remaining());
+      data.get(bytes, offset, count);
+      return count;
+    }
+
+    @Override
+    public long skip(long count) {
+      var skipped = (int) Math.max(0, Math.min(count, data.remaining()));
+      data.position(data.position() + skipped);
+      return skipped;
+    }
+  }
+
+  private static final class InflatingInputStream extends InputStream {
+
+    // Raw inflation may need a trailing padding byte to detect the end of the stream.
+    private static final byte[] PADDING = new byte[1];
+
+    private final Inflater inflater;
+    private boolean padded;
+    private boolean closed;
+
+    private InflatingInputStream(ByteBuffer data) {
+      inflater = new Inflater(true);
+      inflater.setInput(data);
+      padded = false;
+      closed = false;
+    }
+
+    @Override
+    public int available() {
+      return closed || inflater.finished() ? 0 : 1;
+    }
+
+    @Override
+    public int read() throws IOException {
+      var single = new byte[1];
+      return read(single, 0, 1) == -1
+          ? -1
+          : Byte.toUnsignedInt(single[0]);
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      if (closed) {
+        throw new IOException("Stream closed");
+      }
+
+      if (length == 0) {
+        return 0;
+      }
+
+      try {
+        int count;
+
+        while ((count = inflater.inflate(bytes, offset, length)) == 0) {
+          if (inflater.finished() || inflater.needsDictionary()) {
+            return -1;
+          }
+
+          if (inflater.needsInput()) {
+            if (padded) {
+              throw new EOFException("Unexpected end of compressed entry");
+            }
+
+            inflater.setInput(PADDING);
+            padded = true;
+          }
+        }
+
+        return count;
+      } catch (DataFormatException ex) {
+        throw new ZipException(ex.getMessage());
+      }
+    }
+
+    @Override
+    public void close() {
+      if (!closed) {
+        closed = true;
+        inflater.end();
+      }
+    }
+  }
+}
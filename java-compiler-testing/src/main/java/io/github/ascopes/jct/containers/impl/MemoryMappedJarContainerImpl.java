@@ -0,0 +1,359 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.containers.impl;
+
+import static io.github.ascopes.jct.utils.IoExceptionUtils.uncheckedIo;
+import static java.util.Objects.requireNonNull;
+
+import io.github.ascopes.jct.filemanagers.PathFileObject;
+import io.github.ascopes.jct.utils.FileUtils;
+import io.github.ascopes.jct.utils.Lazy;
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import io.github.ascopes.jct.workspaces.PathRoot;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.module.ModuleFinder;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+import java.util.StringJoiner;
+import javax.tools.JavaFileManager.Location;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Container that wraps a JAR path and reads it via a memory-mapped {@link MappedJarIndex}.
+ *
+ * <p>This is an alternative to {@link JarContainerImpl} that avoids opening a ZIP file system
+ * for the common operations that the compiler performs (listing packages and reading files).
+ * File objects produced by this container inflate their content lazily when opened, and share
+ * the same URIs that the ZIP file system provider would produce, so they compare equal to file
+ * objects produced by {@link JarContainerImpl} for the same entries.
+ *
+ * <p>Module finders read the JAR directly. Only operations that must hand out real {@link Path}
+ * objects for entries that exist ({@link #listAllFiles()}, {@link #getFile} and
+ * {@link PathFileObject#getFullPath()}) open a shared ZIP file system from the
+ * {@link JarFileSystemCache}, and only on first use. These are used by assertions rather than by
+ * the compiler.
+ *
+ * <p>Closing this container releases both the ZIP file system and its reference to the
+ * {@link MappedJarIndex}, which lets the mapping be released once no other container uses it.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class MemoryMappedJarContainerImpl implements PackageIndexedContainer {
+
+  private final Location location;
+  private final PathRoot jarPath;
+  private final String release;
+  private final Lazy<MappedJarIndex> index;
+  private final Lazy<JarFileSystemCache.Handle> fileSystemHandle;
+  private final Lazy<URI> archiveUri;
+
+  /**
+   * Initialize this JAR container.
+   *
+   * @param location the location.
+   * @param jarPath  the path to the JAR to open.
+   * @param release  the release version to use for {@code Multi-Release} JARs.
+   */
+  public MemoryMappedJarContainerImpl(Location location, PathRoot jarPath, String release) {
+    this.location = requireNonNull(location, "location");
+    this.jarPath = requireNonNull(jarPath, "jarPath");
+    this.release = requireNonNull(release, "release");
+
+    index = new Lazy<>(() -> uncheckedIo(() -> MappedJarIndex.of(jarPath.getPath(), release)));
+    fileSystemHandle = new Lazy<>(() -> uncheckedIo(
+        () -> JarFileSystemCache.getInstance().acquire(jarPath.getPath(), release)
+    ));
+    archiveUri = new Lazy<>(() -> index.access().getPath().toUri());
+  }
+
+  @Override
+  public void close() throws IOException {
+    fileSystemHandle.ifInitialized(JarFileSystemCache.Handle::close);
+    fileSystemHandle.destroy();
+    index.destroy();
+  }
+
+  @Override
+  public boolean contains(PathFileObject fileObject) {
+    return findEntry(fileObject) != -1;
+  }
+
+  @Nullable
+  @Override
+  public Path getFile(String fragment, String... fragments) {
+    // Avoid opening the ZIP file system for entries that do not exist.
+    if (index.access().find(entryName(fragment, fragments)) == -1) {
+      return null;
+    }
+
+    for (var root : fileSystemHandle.access().getRootDirectories()) {
+      var fullPath = FileUtils.relativeResourceNameToPath(root, fragment, fragments);
+      if (Files.isRegularFile(fullPath)) {
+        return fullPath;
+      }
+    }
+
+    return null;
+  }
+
+  @Nullable
+  @Override
+  public PathFileObject getFileForInput(String packageName, String relativeName) {
+    var directory = packageName.replace('.', '/');
+    var name = directory.isEmpty()
+        ? relativeName
+        : directory + "/" + relativeName;
+
+    return getFileObject(name);
+  }
+
+  @Override
+  public PathFileObject getFileForOutput(String packageName, String relativeName) {
+    throw new UnsupportedOperationException("Cannot handle output files in JARs");
+  }
+
+  @Nullable
+  @Override
+  public PathFileObject getJavaFileForInput(String binaryName, Kind kind) {
+    return getFileObject(binaryName.replace('.', '/') + kind.extension);
+  }
+
+  @Override
+  public PathFileObject getJavaFileForOutput(String className, Kind kind) {
+    throw new UnsupportedOperationException("Cannot handle output source files in JARs");
+  }
+
+  @Override
+  public Location getLocation() {
+    return location;
+  }
+
+  @Override
+  public ModuleFinder getModuleFinder() {
+    // The module system reads JARs itself, so there is no need for a ZIP file system here.
+    return ModuleFinder.of(jarPath.getPath());
+  }
+
+  @Override
+  public String getName() {
+    return jarPath.toString();
+  }
+
+  @Override
+  public PathRoot getPathRoot() {
+    return jarPath;
+  }
+
+  @Override
+  public boolean hasPackage(String packageName) {
+    return index.access().hasPackage(packageName);
+  }
+
+  @Nullable
+  @Override
+  public String inferBinaryName(PathFileObject javaFileObject) {
+    return findEntry(javaFileObject) == -1
+        ? null
+        : FileUtils.pathToBinaryName(javaFileObject.getRelativePath());
+  }
+
+  @Override
+  public Collection<Path> listAllFiles() throws IOException {
+    var allPaths = new ArrayList<Path>();
+
+    // We have to do this eagerly as the walkers must be closed to prevent resource leakage.
+    for (var root : fileSystemHandle.access().getRootDirectories()) {
+      try (var walker = Files.walk(root)) {
+        walker.forEach(allPaths::add);
+      }
+    }
+
+    return allPaths;
+  }
+
+  @Override
+  public void listFileObjects(
+      String packageName,
+      Set<? extends Kind> kinds,
+      boolean recurse,
+      Collection<JavaFileObject> collection
+  ) {
+    var jarIndex = index.access();
+
+    if (!jarIndex.hasPackage(packageName)) {
+      return;
+    }
+
+    jarIndex.forEachEntryIn(packageName.replace('.', '/'), recurse, entry -> {
+      var name = jarIndex.getName(entry);
+      var fileName = name.substring(name.lastIndexOf('/') + 1);
+
+      if (kinds.contains(FileUtils.fileNameToKind(fileName))) {
+        collection.add(newFileObject(jarIndex, entry));
+      }
+    });
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("uri", jarPath.getUri())
+        .attribute("location", location)
+        .toString();
+  }
+
+  @Nullable
+  private PathFileObject getFileObject(String name) {
+    var jarIndex = index.access();
+    var entry = jarIndex.find(name);
+
+    return entry == -1
+        ? null
+        : newFileObject(jarIndex, entry);
+  }
+
+  private static String entryName(String fragment, String... fragments) {
+    var joiner = new StringJoiner("/");
+
+    for (var part : (fragment + "/" + String.join("/", fragments)).split("/")) {
+      if (!part.isEmpty()) {
+        joiner.add(part);
+      }
+    }
+
+    return joiner.toString();
+  }
+
+  private int findEntry(PathFileObject fileObject) {
+    var jarIndex = index.access();
+
+    // File objects from this container share their URIs with those from a ZIP file system, so
+    // both are matched by rebuilding the URI of the entry they name.
+    var uri = fileObject.toUri();
+
+    if (!"jar".equals(uri.getScheme())) {
+      return -1;
+    }
+
+    var schemeSpecificPart = uri.getSchemeSpecificPart();
+    var separator = schemeSpecificPart.lastIndexOf("!/");
+
+    if (separator == -1) {
+      return -1;
+    }
+
+    var entry = jarIndex.find(schemeSpecificPart.substring(separator + 2));
+
+    return entry != -1 && entryUri(jarIndex.getName(entry)).equals(uri)
+        ? entry
+        : -1;
+  }
+
+  private URI entryUri(String name) {
+    // The ZIP file system provider names entries by the decoded URI of the archive, followed by
+    // the absolute path of the entry after a "!" separator. The multi-argument constructor
+    // then quotes anything that is not legal in a URI.
+    var archive = archiveUri.access();
+
+    try {
+      return new URI(
+          "jar",
+          archive.getScheme() + ":" + archive.getSchemeSpecificPart() + "!/" + name,
+          null
+      );
+    } catch (URISyntaxException ex) {
+      throw new IllegalArgumentException("Cannot build a URI for " + name + " in " + jarPath, ex);
+    }
+  }
+
+  private PathFileObject newFileObject(MappedJarIndex jarIndex, int entry) {
+    var name = jarIndex.getName(entry);
+    var relativePath = jarIndex.getPath().getFileSystem().getPath(name);
+    return new PathFileObject(
+        location,
+        this,
+        jarIndex.getPath(),
+        relativePath,
+        new MappedJarStorage(jarIndex, entry, name)
+    );
+  }
+
+  private final class MappedJarStorage implements PathFileObject.Storage {
+
+    private final MappedJarIndex jarIndex;
+    private final int entry;
+    private final String name;
+
+    private MappedJarStorage(MappedJarIndex jarIndex, int entry, String name) {
+      this.jarIndex = jarIndex;
+      this.entry = entry;
+      this.name = name;
+    }
+
+    @Override
+    public Path getFullPath() {
+      // The entry is not addressable on the file system that holds the JAR, so fall back to
+      // the shared ZIP file system for it.
+      var path = getFile(name);
+
+      if (path == null) {
+        throw new IllegalStateException(
+            "Entry " + name + " no longer exists in " + jarIndex.getPath()
+        );
+      }
+
+      return path;
+    }
+
+    @Override
+    public boolean delete(PathFileObject fileObject) {
+      return false;
+    }
+
+    @Override
+    public long getLastModified(PathFileObject fileObject) {
+      return jarIndex.getLastModified(entry);
+    }
+
+    @Override
+    public URI getUri() {
+      return entryUri(name);
+    }
+
+    @Override
+    public InputStream openInputStream(PathFileObject fileObject) throws IOException {
+      return jarIndex.openEntry(entry);
+    }
+
+    @Override
+    public OutputStream openOutputStream(PathFileObject fileObject) throws IOException {
+      throw new IOException("Cannot write to " + fileObject.toUri() + " as JARs are read-only");
+    }
+  }
+}
@@ -50,6 +50,7 @@ public final class ModuleContainerGroupImpl implements ModuleContainerGroup {
   private final Location location;
   private final Map<ModuleLocation, PackageContainerGroup> modules;
   private final String release;
+  private final ContainerGroupOptions options;
 
   /**
    * Initialize this container group.
@@ -60,8 +61,26 @@ public final class ModuleContainerGroupImpl implements ModuleContainerGroup {
    *                                       output-oriented.
    */
   public ModuleContainerGroupImpl(Location location, String release) {
+    this(location, release, ContainerGroupOptions.defaults());
+  }
+
+  /**
+   * Initialize this container group.
+   *
+   * @param location the module-oriented location.
+   * @param release  the release to use for Multi-Release JARs.
+   * @param options  the options to use for creating and querying containers.
+   * @throws UnsupportedOperationException if the {@code location} is not module-oriented, or is
+   *                                       output-oriented.
+   */
+  public ModuleContainerGroupImpl(
+      Location location,
+      String release,
+      ContainerGroupOptions options
+  ) {
     this.location = requireNonNull(location, "location");
     this.release = requireNonNull(release, "release");
+    this.options = requireNonNull(options, "options");
 
     if (location.isOutputLocation()) {
       throw new UnsupportedOperationException(
@@ -199,6 +218,6 @@ public final class ModuleContainerGroupImpl implements ModuleContainerGroup {
   private PackageContainerGroup newPackageGroup(ModuleLocation location) {
     // Use an anonymous class here to avoid the constraints that the PackageContainerGroupImpl
     // imposes on us.
-    return new AbstractPackageContainerGroup(location, release) {};
+    return new AbstractPackageContainerGroup(location, release, options) {};
   }
 }
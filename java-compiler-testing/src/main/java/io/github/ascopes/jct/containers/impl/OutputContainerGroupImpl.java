@@ -61,7 +61,22 @@ public final class OutputContainerGroupImpl
    * @param release  the release version.
    */
   public OutputContainerGroupImpl(Location location, String release) {
-    super(location, release);
+    this(location, release, ContainerGroupOptions.defaults());
+  }
+
+  /**
+   * Initialize this container group.
+   *
+   * @param location the location of the group.
+   * @param release  the release version.
+   * @param options  the options to use for creating and querying containers.
+   */
+  public OutputContainerGroupImpl(
+      Location location,
+      String release,
+      ContainerGroupOptions options
+  ) {
+    super(location, release, options);
     modules = new HashMap<>();
 
     if (location.isModuleOrientedLocation()) {
@@ -164,7 +179,7 @@ public final class OutputContainerGroupImpl
 
     // Use an anonymous class here to avoid the constraints that the PackageContainerGroupImpl
     // imposes on us.
-    var group = new AbstractPackageContainerGroup(moduleLocation, release) {};
+    var group = new AbstractPackageContainerGroup(moduleLocation, release, getOptions()) {};
     var pathWrapper = new WrappingDirectoryImpl(
         getPackages().iterator().next().getPathRoot(),
         moduleLocation.getModuleName()
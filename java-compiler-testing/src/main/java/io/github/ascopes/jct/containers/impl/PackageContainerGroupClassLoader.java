@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.containers.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ascopes.jct.containers.Container;
+import io.github.ascopes.jct.containers.PackageContainerGroup;
+import io.github.ascopes.jct.filemanagers.PathFileObject;
+import io.github.ascopes.jct.workspaces.PathRoot;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.security.CodeSigner;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.tools.JavaFileObject.Kind;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A parallel-capable class loader that defines classes directly from the contents of the
+ * containers within a container group.
+ *
+ * <p>Classes are looked up through the container group, so lookups benefit from any indexing
+ * that the containers provide, and the class file content is read straight from the file object
+ * that the container returns. This avoids resolving a URL and opening a connection through the
+ * URL handler of the file system for every class that is loaded, which is noticeable when tests
+ * load hundreds of classes from a RAM directory.
+ *
+ * <p>This still extends {@link URLClassLoader} using the URLs of each container, since many tools
+ * expect class loaders to expose their URLs. Resources are still resolved via these URLs.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class PackageContainerGroupClassLoader extends URLClassLoader {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(
+      PackageContainerGroupClassLoader.class
+  );
+
+  static {
+    registerAsParallelCapable();
+  }
+
+  private final PackageContainerGroup group;
+  private final Map<Path, CodeSource> codeSources;
+  private final Map<String, ClassContent> prefetchedClasses;
+
+  /**
+   * Initialise this class loader.
+   *
+   * @param group the container group to use.
+   */
+  public PackageContainerGroupClassLoader(PackageContainerGroup group) {
+    super(
+        "Packages within " + group.getLocation().getName(),
+        extractUrls(group),
+        ClassLoader.getSystemClassLoader()
+    );
+    this.group = requireNonNull(group, "group");
+    codeSources = new ConcurrentHashMap<>();
+    prefetchedClasses = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Load every class directly within the given package.
+   *
+   * <p>The content of every class that has not yet been loaded is read up front, and the classes
+   * are then defined one after the other. Classes that are already loaded are returned as-is.
+   * Nested packages, {@code package-info} and {@code module-info} are not included.
+   *
+   * @param packageName the name of the package to load.
+   * @return the classes in the package, in no particular order.
+   * @throws ClassNotFoundException if any class could not be read or defined.
+   */
+  public List<Class<?>> loadPackage(String packageName) throws ClassNotFoundException {
+    var binaryNames = new ArrayList<String>();
+
+    try {
+      for (var file : group.listFileObjects(packageName, Set.of(Kind.CLASS), false)) {
+        var fileObject = (PathFileObject) file;
+        var binaryName = group.inferBinaryName(fileObject);
+
+        if (binaryName == null
+            || binaryName.endsWith("package-info")
+            || binaryName.endsWith("module-info")) {
+          continue;
+        }
+
+        binaryNames.add(binaryName);
+
+        if (findLoadedClass(binaryName) == null) {
+          prefetchedClasses.putIfAbsent(binaryName, readClass(binaryName, fileObject));
+        }
+      }
+    } catch (IOException ex) {
+      throw new ClassNotFoundException("Failed to list classes in package " + packageName, ex);
+    }
+
+    LOGGER.trace("Loading {} classes in package {}", binaryNames.size(), packageName);
+
+    var classes = new ArrayList<Class<?>>(binaryNames.size());
+
+    try {
+      for (var binaryName : binaryNames) {
+        classes.add(loadClass(binaryName));
+      }
+    } finally {
+      // Anything left over was already defined by the parent, so is no longer needed.
+      binaryNames.forEach(prefetchedClasses::remove);
+    }
+
+    return classes;
+  }
+
+  @Override
+  protected Class<?> findClass(String name) throws ClassNotFoundException {
+    var content = prefetchedClasses.remove(name);
+
+    if (content == null) {
+      var fileObject = group.getJavaFileForInput(name, Kind.CLASS);
+
+      if (fileObject == null) {
+        throw new ClassNotFoundException(name);
+      }
+
+      content = readClass(name, fileObject);
+    }
+
+    var bytes = content.bytes;
+    return defineClass(name, bytes, 0, bytes.length, codeSourceFor(content.fileObject));
+  }
+
+  private CodeSource codeSourceFor(PathFileObject fileObject) {
+    // Each container produces file objects that share the same root path, so we only need to
+    // find the container that owns each root path once.
+    return codeSources.computeIfAbsent(
+        fileObject.getRootPath(),
+        rootPath -> new CodeSource(codeSourceUrlFor(fileObject), (CodeSigner[]) null)
+    );
+  }
+
+  @Nullable
+  private URL codeSourceUrlFor(PathFileObject fileObject) {
+    var origin = fileObject.getOrigin();
+
+    if (origin != null) {
+      return origin.getPathRoot().getUrl();
+    }
+
+    for (var container : group.getPackages()) {
+      if (container.contains(fileObject)) {
+        return container.getPathRoot().getUrl();
+      }
+    }
+
+    return null;
+  }
+
+  private static ClassContent readClass(
+      String name,
+      PathFileObject fileObject
+  ) throws ClassNotFoundException {
+    try (var inputStream = fileObject.openInputStream()) {
+      return new ClassContent(fileObject, inputStream.readAllBytes());
+    } catch (IOException ex) {
+      throw new ClassNotFoundException(
+          "Failed to read class " + name + " from " + fileObject.toUri(),
+          ex
+      );
+    }
+  }
+
+  private static URL[] extractUrls(PackageContainerGroup group) {
+    return group.getPackages()
+        .stream()
+        .map(Container::getPathRoot)
+        .map(PathRoot::getUrl)
+        .toArray(URL[]::new);
+  }
+
+  private static final class ClassContent {
+
+    private final PathFileObject fileObject;
+    private final byte[] bytes;
+
+    private ClassContent(PathFileObject fileObject, byte[] bytes) {
+      this.fileObject = fileObject;
+      this.bytes = bytes;
+    }
+  }
+}
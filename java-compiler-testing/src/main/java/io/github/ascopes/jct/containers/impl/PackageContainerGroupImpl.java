@@ -41,7 +41,23 @@ public final class PackageContainerGroupImpl extends AbstractPackageContainerGro
    *                 location.
    */
   public PackageContainerGroupImpl(Location location, String release) {
-    super(location, release);
+    this(location, release, ContainerGroupOptions.defaults());
+  }
+
+  /**
+   * Initialize this group.
+   *
+   * @param location the location of the group.
+   * @param release  the release version to use for handling {@code Multi-Release} JARs in this
+   *                 location.
+   * @param options  the options to use for creating and querying containers.
+   */
+  public PackageContainerGroupImpl(
+      Location location,
+      String release,
+      ContainerGroupOptions options
+  ) {
+    super(location, release, options);
 
     if (location.isOutputLocation()) {
       throw new UnsupportedOperationException(
@@ -16,40 +16,29 @@
 package io.github.ascopes.jct.containers.impl;
 
 import io.github.ascopes.jct.containers.Container;
-import io.github.ascopes.jct.containers.PackageContainerGroup;
-import io.github.ascopes.jct.workspaces.PathRoot;
-import java.net.URL;
-import java.net.URLClassLoader;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 /**
- * An extension of the Java {@link URLClassLoader} that wraps around container groups.
+ * A container with a fixed set of packages that can be queried cheaply.
+ *
+ * <p>Container groups use this to skip containers that cannot hold a given package. The set of
+ * packages must not change for the lifetime of the container, so this should only be implemented
+ * by read-only containers such as archives.
  *
  * @author Ashley Scopes
  * @since 0.0.1
  */
 @API(since = "0.0.1", status = Status.INTERNAL)
-public final class PackageContainerGroupUrlClassLoader extends URLClassLoader {
+public interface PackageIndexedContainer extends Container {
 
   /**
-   * Initialise this class loader.
+   * Determine if this container holds the given package.
    *
-   * @param group the container group to use.
+   * @param packageName the binary name of the package, or an empty string for the unnamed
+   *                    package.
+   * @return {@code true} if the package may hold files, or {@code false} if it definitely holds
+   *     no files.
    */
-  public PackageContainerGroupUrlClassLoader(PackageContainerGroup group) {
-    super(
-        "Packages within " + group.getLocation().getName(),
-        extractUrls(group),
-        ClassLoader.getSystemClassLoader()
-    );
-  }
-
-  private static URL[] extractUrls(PackageContainerGroup group) {
-    return group.getPackages()
-        .stream()
-        .map(Container::getPathRoot)
-        .map(PathRoot::getUrl)
-        .toArray(URL[]::new);
-  }
+  boolean hasPackage(String packageName);
 }
@@ -18,6 +18,7 @@ package io.github.ascopes.jct.containers.impl;
 import static java.util.Objects.requireNonNull;
 
 import io.github.ascopes.jct.containers.Container;
+import io.github.ascopes.jct.filemanagers.FileContentCache;
 import io.github.ascopes.jct.filemanagers.PathFileObject;
 import io.github.ascopes.jct.utils.FileUtils;
 import io.github.ascopes.jct.utils.ToStringBuilder;
@@ -36,6 +37,7 @@ import javax.tools.JavaFileObject;
 import javax.tools.JavaFileObject.Kind;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +55,7 @@ public final class PathWrappingContainerImpl implements Container {
   private final Location location;
   private final PathRoot root;
   private final String name;
+  private final @Nullable FileContentCache contentCache;
 
   /**
    * Initialize this container.
@@ -61,8 +64,25 @@ public final class PathWrappingContainerImpl implements Container {
    * @param root     the root directory to hold.
    */
   public PathWrappingContainerImpl(Location location, PathRoot root) {
+    this(location, root, null);
+  }
+
+  /**
+   * Initialize this container.
+   *
+   * @param location     the location.
+   * @param root         the root directory to hold.
+   * @param contentCache the cache for file objects to read their content through, or
+   *                     {@code null} if content should not be cached.
+   */
+  public PathWrappingContainerImpl(
+      Location location,
+      PathRoot root,
+      @Nullable FileContentCache contentCache
+  ) {
     this.location = requireNonNull(location, "location");
     this.root = requireNonNull(root, "root");
+    this.contentCache = contentCache;
     name = root.toString();
   }
 
@@ -92,28 +112,28 @@ public final class PathWrappingContainerImpl implements Container {
     var path = FileUtils.resourceNameToPath(root.getPath(), packageName, relativeName);
 
     return Files.isRegularFile(path)
-        ? new PathFileObject(location, root.getPath(), path)
+        ? newFileObject(path)
         : null;
   }
 
   @Override
   public PathFileObject getFileForOutput(String packageName, String relativeName) {
     var path = FileUtils.resourceNameToPath(root.getPath(), packageName, relativeName);
-    return new PathFileObject(location, root.getPath(), path);
+    return newFileObject(path);
   }
 
   @Override
   public PathFileObject getJavaFileForInput(String binaryName, Kind kind) {
     var path = FileUtils.binaryNameToPath(root.getPath(), binaryName, kind);
     return Files.isRegularFile(path)
-        ? new PathFileObject(location, root.getPath(), path)
+        ? newFileObject(path)
         : null;
   }
 
   @Override
   public PathFileObject getJavaFileForOutput(String className, Kind kind) {
     var path = FileUtils.binaryNameToPath(root.getPath(), className, kind);
-    return new PathFileObject(location, root.getPath(), path);
+    return newFileObject(path);
   }
 
   @Override
@@ -160,10 +180,13 @@ public final class PathWrappingContainerImpl implements Container {
     var maxDepth = recurse ? Integer.MAX_VALUE : 1;
     var basePath = FileUtils.packageNameToPath(root.getPath(), packageName);
 
-    try (var walker = Files.walk(basePath, maxDepth, FileVisitOption.FOLLOW_LINKS)) {
+    // Files.find reuses the attributes read while walking, rather than reading them again for
+    // every file to check if it is a regular file.
+    var filter = FileUtils.fileAttributesWithAnyKind(kinds);
+
+    try (var walker = Files.find(basePath, maxDepth, filter, FileVisitOption.FOLLOW_LINKS)) {
       walker
-          .filter(FileUtils.fileWithAnyKind(kinds))
-          .map(path -> new PathFileObject(location, root.getPath(), path))
+          .map(this::newFileObject)
           .forEach(collection::add);
     } catch (NoSuchFileException ex) {
       LOGGER.trace("Directory {} does not exist so is being ignored", root.getPath());
@@ -177,4 +200,8 @@ public final class PathWrappingContainerImpl implements Container {
         .attribute("location", location)
         .toString();
   }
+
+  private PathFileObject newFileObject(Path path) {
+    return new PathFileObject(location, this, root.getPath(), path, contentCache);
+  }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.containers.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ascopes.jct.containers.Container;
+import io.github.ascopes.jct.containers.ModuleContainerGroup;
+import io.github.ascopes.jct.containers.PackageContainerGroup;
+import io.github.ascopes.jct.filemanagers.ModuleLocation;
+import io.github.ascopes.jct.filemanagers.PathFileObject;
+import io.github.ascopes.jct.utils.StringUtils;
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import io.github.ascopes.jct.workspaces.PathRoot;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.tools.JavaFileManager.Location;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A read-only view of a module container group that is shared between file managers.
+ *
+ * <p>Each module is exposed as a {@link SharedPackageContainerGroup}, so the containers within
+ * the shared group are only ever created once. Modules cannot be added to the view, and closing
+ * it only discards the class loaders of the module views.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class SharedModuleContainerGroup implements ModuleContainerGroup {
+
+  private final ModuleContainerGroup delegate;
+  private final Map<ModuleLocation, SharedPackageContainerGroup> moduleViews;
+
+  /**
+   * Initialise this view.
+   *
+   * @param delegate the shared group to view.
+   */
+  public SharedModuleContainerGroup(ModuleContainerGroup delegate) {
+    this.delegate = requireNonNull(delegate, "delegate");
+    moduleViews = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Get the shared group that this view reads from.
+   *
+   * @return the shared group.
+   */
+  public ModuleContainerGroup getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public void addModule(String module, Container container) {
+    throw readOnly();
+  }
+
+  @Override
+  public void addModule(String module, PathRoot path) {
+    throw readOnly();
+  }
+
+  @Override
+  public void close() {
+    // The shared containers outlive this view, so only the module views are closed.
+    moduleViews.values().forEach(SharedPackageContainerGroup::close);
+  }
+
+  @Override
+  public boolean contains(PathFileObject fileObject) {
+    return delegate.contains(fileObject);
+  }
+
+  @Override
+  public Location getLocation() {
+    return delegate.getLocation();
+  }
+
+  @Override
+  public Set<Location> getLocationsForModules() {
+    return delegate.getLocationsForModules();
+  }
+
+  @Nullable
+  @Override
+  public PackageContainerGroup getModule(String module) {
+    var group = delegate.getModule(module);
+    return group == null
+        ? null
+        : view(new ModuleLocation(getLocation(), module), group);
+  }
+
+  @Override
+  public Map<ModuleLocation, PackageContainerGroup> getModules() {
+    var modules = new HashMap<ModuleLocation, PackageContainerGroup>();
+    delegate.getModules()
+        .forEach((location, group) -> modules.put(location, view(location, group)));
+    return Map.copyOf(modules);
+  }
+
+  @Override
+  public PackageContainerGroup getOrCreateModule(String moduleName) {
+    var group = getModule(moduleName);
+
+    if (group == null) {
+      throw readOnly();
+    }
+
+    return group;
+  }
+
+  @Override
+  public String getRelease() {
+    return delegate.getRelease();
+  }
+
+  @Override
+  public <S> ServiceLoader<S> getServiceLoader(Class<S> service) {
+    return delegate.getServiceLoader(service);
+  }
+
+  @Override
+  public boolean hasLocation(ModuleLocation location) {
+    return delegate.hasLocation(location);
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("delegate", delegate)
+        .toString();
+  }
+
+  private PackageContainerGroup view(ModuleLocation location, PackageContainerGroup group) {
+    return moduleViews.computeIfAbsent(location, ignored -> new SharedPackageContainerGroup(group));
+  }
+
+  private UnsupportedOperationException readOnly() {
+    return new UnsupportedOperationException(
+        "Cannot add modules to " + StringUtils.quoted(getLocation().getName())
+            + ", since it is shared with other file managers"
+    );
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.containers.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ascopes.jct.containers.Container;
+import io.github.ascopes.jct.containers.PackageContainerGroup;
+import io.github.ascopes.jct.filemanagers.ListingStatistics;
+import io.github.ascopes.jct.filemanagers.ModuleLocation;
+import io.github.ascopes.jct.filemanagers.PathFileObject;
+import io.github.ascopes.jct.utils.Lazy;
+import io.github.ascopes.jct.utils.StringUtils;
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import io.github.ascopes.jct.workspaces.PathRoot;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import javax.tools.JavaFileManager.Location;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A read-only view of a package container group that is shared between file managers.
+ *
+ * <p>Lookups are passed to the shared group, so the containers within it, and any indexes they
+ * have built, are only ever created once. Each view has its own class loader, so classes loaded
+ * by one compilation are never visible to another. Packages cannot be added to the view, and
+ * closing it only discards its class loader.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class SharedPackageContainerGroup implements PackageContainerGroup {
+
+  private final PackageContainerGroup delegate;
+  private final Lazy<ClassLoader> classLoaderLazy;
+  private final ListingStatisticsRecorder listingStatisticsRecorder;
+
+  /**
+   * Initialise this view.
+   *
+   * @param delegate the shared group to view.
+   */
+  public SharedPackageContainerGroup(PackageContainerGroup delegate) {
+    this.delegate = requireNonNull(delegate, "delegate");
+    classLoaderLazy = new Lazy<>(() -> new PackageContainerGroupClassLoader(this));
+    listingStatisticsRecorder = new ListingStatisticsRecorder();
+  }
+
+  /**
+   * Get the shared group that this view reads from.
+   *
+   * @return the shared group.
+   */
+  public PackageContainerGroup getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public void addPackage(Container container) {
+    throw readOnly();
+  }
+
+  @Override
+  public void addPackage(PathRoot path) {
+    throw readOnly();
+  }
+
+  @Override
+  public void close() {
+    // The shared containers outlive this view, so only the class loader is discarded.
+    classLoaderLazy.destroy();
+  }
+
+  @Override
+  public boolean contains(PathFileObject fileObject) {
+    return delegate.contains(fileObject);
+  }
+
+  @Override
+  public ClassLoader getClassLoader() {
+    return classLoaderLazy.access();
+  }
+
+  @Override
+  public Path getFile(String fragment, String... fragments) {
+    return delegate.getFile(fragment, fragments);
+  }
+
+  @Override
+  public PathFileObject getFileForInput(String packageName, String relativeName) {
+    return delegate.getFileForInput(packageName, relativeName);
+  }
+
+  @Override
+  public PathFileObject getFileForOutput(String packageName, String relativeName) {
+    return delegate.getFileForOutput(packageName, relativeName);
+  }
+
+  @Override
+  public PathFileObject getJavaFileForInput(String className, Kind kind) {
+    return delegate.getJavaFileForInput(className, kind);
+  }
+
+  @Override
+  public PathFileObject getJavaFileForOutput(String className, Kind kind) {
+    return delegate.getJavaFileForOutput(className, kind);
+  }
+
+  @Override
+  public Location getLocation() {
+    return delegate.getLocation();
+  }
+
+  @Override
+  public List<Container> getPackages() {
+    return delegate.getPackages();
+  }
+
+  @Override
+  public String getRelease() {
+    return delegate.getRelease();
+  }
+
+  @Override
+  public <S> ServiceLoader<S> getServiceLoader(Class<S> service) {
+    if (getLocation() instanceof ModuleLocation) {
+      throw new UnsupportedOperationException("Cannot load services from specific modules");
+    }
+
+    return ServiceLoader.load(service, classLoaderLazy.access());
+  }
+
+  @Override
+  public String inferBinaryName(PathFileObject fileObject) {
+    return delegate.inferBinaryName(fileObject);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return delegate.isEmpty();
+  }
+
+  @Override
+  public Set<JavaFileObject> listFileObjects(
+      String packageName,
+      Set<? extends Kind> kinds,
+      boolean recurse
+  ) throws IOException {
+    if (delegate instanceof AbstractPackageContainerGroup) {
+      return ((AbstractPackageContainerGroup) delegate)
+          .listFileObjects(packageName, kinds, recurse, listingStatisticsRecorder);
+    }
+
+    return delegate.listFileObjects(packageName, kinds, recurse);
+  }
+
+  /**
+   * Get statistics for the file listings made through this view so far.
+   *
+   * <p>Listings made through other views of the same group are not included.
+   *
+   * @return the statistics.
+   */
+  public ListingStatistics getListingStatistics() {
+    return listingStatisticsRecorder.getStatistics();
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("delegate", delegate)
+        .toString();
+  }
+
+  private UnsupportedOperationException readOnly() {
+    return new UnsupportedOperationException(
+        "Cannot add packages to " + StringUtils.quoted(getLocation().getName())
+            + ", since it is shared with other file managers"
+    );
+  }
+}
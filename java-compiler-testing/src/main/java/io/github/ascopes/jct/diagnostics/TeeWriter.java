@@ -19,13 +19,15 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.concurrent.locks.ReentrantLock;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 /**
  * A writer that wraps an output stream and also writes any content to an in-memory buffer.
  *
- * <p>This is thread-safe.
+ * <p>This is thread-safe. Writes are guarded by a {@link ReentrantLock} rather than a monitor,
+ * so that virtual threads waiting to write do not pin their carrier threads.
  *
  * @author Ashley Scopes
  * @since 0.0.1
@@ -33,7 +35,7 @@ import org.apiguardian.api.API.Status;
 @API(since = "0.0.1", status = Status.STABLE)
 public final class TeeWriter extends Writer {
 
-  private final Object lock;
+  private final ReentrantLock lock;
 
   private volatile boolean closed;
 
@@ -50,7 +52,7 @@ public final class TeeWriter extends Writer {
    * @param writer the underlying writer to "tee" to.
    */
   public TeeWriter(Writer writer) {
-    lock = new Object();
+    lock = new ReentrantLock();
     closed = false;
 
     this.writer = requireNonNull(writer, "writer");
@@ -62,40 +64,86 @@ public final class TeeWriter extends Writer {
   public void close() throws IOException {
     // release to set and acquire to check ensures in-order operations to prevent
     // a very minute chance of a race condition.
-    synchronized (lock) {
+    lock.lock();
+
+    try {
       if (!closed) {
         closed = true;
         builder.trimToSize();
         writer.flush();
         writer.close();
       }
+    } finally {
+      lock.unlock();
     }
   }
 
   @Override
   public void flush() throws IOException {
-    synchronized (lock) {
+    lock.lock();
+
+    try {
       ensureOpen();
       writer.flush();
+    } finally {
+      lock.unlock();
     }
   }
 
   @Override
   public String toString() {
-    synchronized (lock) {
+    lock.lock();
+
+    try {
       return builder.toString();
+    } finally {
+      lock.unlock();
     }
   }
 
   @Override
   public void write(char[] cbuf, int off, int len) throws IOException {
-    synchronized (lock) {
+    lock.lock();
+
+    try {
       ensureOpen();
 
       writer.write(cbuf, off, len);
       // Only append to the buffer once we know that the writing
       // operation has completed.
       builder.append(cbuf, off, len);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void write(int c) throws IOException {
+    // Overridden, as the default implementation synchronises on the writer.
+    lock.lock();
+
+    try {
+      ensureOpen();
+
+      writer.write(c);
+      builder.append((char) c);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void write(String str, int off, int len) throws IOException {
+    // Overridden, as the default implementation synchronises on the writer.
+    lock.lock();
+
+    try {
+      ensureOpen();
+
+      writer.write(str, off, len);
+      builder.append(str, off, off + len);
+    } finally {
+      lock.unlock();
     }
   }
 
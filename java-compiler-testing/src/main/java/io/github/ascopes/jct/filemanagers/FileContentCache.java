@@ -0,0 +1,263 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.filemanagers;
+
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A size-bounded, least-recently-used cache of the decoded character content of files.
+ *
+ * <p>Each entry is keyed by the URI of the file, and records the last-modified time and size of
+ * the file when it was read. An entry is only returned if both still match, so files that are
+ * rewritten will be read again. File systems with coarse timestamps can still miss a rewrite that
+ * keeps the same size within the same tick, so locations that are written to during compilation,
+ * such as output locations, should not be read through a cache.
+ *
+ * <p>The cache is bounded by the total number of characters held. Once that is exceeded, the
+ * least recently used entries are evicted. Content that is larger than the bound by itself is
+ * never cached.
+ *
+ * <p>Caches are usually created for a single file manager, and are shared by all the
+ * {@link PathFileObject path file objects} that it creates, so that a source file is read and
+ * decoded at most once, no matter how many times the compiler or diagnostic reporting asks for
+ * its content. Caches are safe to share between threads.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.STABLE)
+public final class FileContentCache {
+
+  private final long maxCharacters;
+  private final Lock lock;
+  private final LinkedHashMap<URI, Entry> entries;
+  private long characters;
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
+
+  /**
+   * Initialize this cache.
+   *
+   * @param maxCharacters the maximum total number of characters to hold.
+   * @throws IllegalArgumentException if the maximum is not positive.
+   */
+  public FileContentCache(long maxCharacters) {
+    if (maxCharacters <= 0) {
+      throw new IllegalArgumentException(
+          "Maximum cache size must be positive (got " + maxCharacters + ")"
+      );
+    }
+
+    this.maxCharacters = maxCharacters;
+    lock = new ReentrantLock();
+    // Access order makes iteration go from least to most recently used.
+    entries = new LinkedHashMap<>(16, 0.75f, true);
+    characters = 0;
+    hitCount = 0;
+    missCount = 0;
+    evictionCount = 0;
+  }
+
+  /**
+   * Get the cached content for a file.
+   *
+   * @param uri          the URI of the file.
+   * @param lastModified the current last-modified time of the file.
+   * @param size         the current size of the file, in bytes.
+   * @return the content, or {@code null} if no content for that version of the file is cached.
+   */
+  @Nullable
+  public String get(URI uri, long lastModified, long size) {
+    lock.lock();
+    try {
+      var entry = entries.get(uri);
+
+      if (entry == null || entry.lastModified != lastModified || entry.size != size) {
+        ++missCount;
+        return null;
+      }
+
+      ++hitCount;
+      return entry.content;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Store the content of a file, evicting older entries if needed.
+   *
+   * @param uri          the URI of the file.
+   * @param lastModified the last-modified time of the file that the content was read from.
+   * @param size         the size of the file that the content was read from, in bytes.
+   * @param content      the decoded content.
+   */
+  public void put(URI uri, long lastModified, long size, String content) {
+    lock.lock();
+    try {
+      var previous = entries.remove(uri);
+      if (previous != null) {
+        characters -= previous.content.length();
+      }
+
+      if (content.length() > maxCharacters) {
+        return;
+      }
+
+      entries.put(uri, new Entry(lastModified, size, content));
+      characters += content.length();
+
+      var iterator = entries.values().iterator();
+      while (characters > maxCharacters) {
+        characters -= iterator.next().content.length();
+        iterator.remove();
+        ++evictionCount;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Discard all cached content.
+   */
+  public void clear() {
+    lock.lock();
+    try {
+      entries.clear();
+      characters = 0;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Get the maximum total number of characters that this cache will hold.
+   *
+   * @return the maximum number of characters.
+   */
+  public long getMaxCharacters() {
+    return maxCharacters;
+  }
+
+  /**
+   * Get the total number of characters currently held.
+   *
+   * @return the number of characters.
+   */
+  public long getCharacters() {
+    lock.lock();
+    try {
+      return characters;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Get the number of files currently held.
+   *
+   * @return the number of files.
+   */
+  public int getSize() {
+    lock.lock();
+    try {
+      return entries.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Get the number of reads that were answered from this cache.
+   *
+   * @return the hit count.
+   */
+  public long getHitCount() {
+    lock.lock();
+    try {
+      return hitCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Get the number of reads that had to read the file.
+   *
+   * @return the miss count.
+   */
+  public long getMissCount() {
+    lock.lock();
+    try {
+      return missCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Get the number of entries that were evicted to stay within the maximum size.
+   *
+   * @return the eviction count.
+   */
+  public long getEvictionCount() {
+    lock.lock();
+    try {
+      return evictionCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public String toString() {
+    lock.lock();
+    try {
+      return new ToStringBuilder(this)
+          .attribute("maxCharacters", maxCharacters)
+          .attribute("characters", characters)
+          .attribute("size", entries.size())
+          .attribute("hitCount", hitCount)
+          .attribute("missCount", missCount)
+          .attribute("evictionCount", evictionCount)
+          .toString();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static final class Entry {
+
+    private final long lastModified;
+    private final long size;
+    private final String content;
+
+    private Entry(long lastModified, long size, String content) {
+      this.lastModified = lastModified;
+      this.size = size;
+      this.content = content;
+    }
+  }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.filemanagers;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A summary of the calls that were made to a file manager, recorded by a
+ * {@link ProfilingFileManager}.
+ *
+ * <p>Calls are grouped by the method that was called and the location that it was called with.
+ * Each group records how many calls were made, how long they took, and for lookups, how many
+ * found what they were looking for.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.STABLE)
+public final class FileManagerProfile {
+
+  private static final FileManagerProfile EMPTY = new FileManagerProfile(List.of());
+
+  /**
+   * Get a profile that recorded no calls.
+   *
+   * @return the empty profile.
+   */
+  public static FileManagerProfile empty() {
+    return EMPTY;
+  }
+
+  private final List<Entry> entries;
+
+  FileManagerProfile(List<Entry> entries) {
+    var sortedEntries = new ArrayList<>(entries);
+    sortedEntries.sort(Comparator.comparingLong(Entry::getTotalNanos).reversed());
+    this.entries = List.copyOf(sortedEntries);
+  }
+
+  /**
+   * Get the recorded entries, with the entries that took the most time in total first.
+   *
+   * @return the entries.
+   */
+  public List<Entry> getEntries() {
+    return entries;
+  }
+
+  /**
+   * Get the entry for the given method and location.
+   *
+   * @param methodName   the name of the method.
+   * @param locationName the name of the location, or {@code null} for methods that do not take a
+   *                     location.
+   * @return the entry, or {@code null} if no calls were recorded.
+   */
+  @Nullable
+  public Entry getEntry(String methodName, @Nullable String locationName) {
+    for (var entry : entries) {
+      if (entry.methodName.equals(methodName)
+          && Objects.equals(entry.locationName, locationName)) {
+        return entry;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Get the total number of calls that were recorded.
+   *
+   * @return the call count.
+   */
+  public long getCallCount() {
+    return entries.stream().mapToLong(Entry::getCallCount).sum();
+  }
+
+  /**
+   * Get the total time spent in all recorded calls.
+   *
+   * @return the total time.
+   */
+  public Duration getTotalTime() {
+    return Duration.ofNanos(entries.stream().mapToLong(Entry::getTotalNanos).sum());
+  }
+
+  /**
+   * Determine if no calls were recorded.
+   *
+   * @return {@code true} if no calls were recorded, or {@code false} otherwise.
+   */
+  public boolean isEmpty() {
+    return entries.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("callCount", getCallCount())
+        .attribute("totalTime", getTotalTime())
+        .attribute("entries", entries)
+        .toString();
+  }
+
+  /**
+   * The calls made to a single method with a single location.
+   *
+   * <p>Latencies are recorded in a histogram with a bucket for each power of two nanoseconds, so
+   * percentiles are approximate and are reported as the upper bound of the bucket that they fall
+   * within.
+   *
+   * @author Ashley Scopes
+   * @since 0.0.1
+   */
+  @API(since = "0.0.1", status = Status.STABLE)
+  public static final class Entry {
+
+    /**
+     * The number of buckets in each latency histogram.
+     */
+    static final int BUCKET_COUNT = 64;
+
+    private final String methodName;
+    private final @Nullable String locationName;
+    private final long callCount;
+    private final long hitCount;
+    private final long missCount;
+    private final long totalNanos;
+    private final long[] buckets;
+
+    Entry(
+        String methodName,
+        @Nullable String locationName,
+        long hitCount,
+        long missCount,
+        long totalNanos,
+        long[] buckets
+    ) {
+      this.methodName = requireNonNull(methodName, "methodName");
+      this.locationName = locationName;
+      this.hitCount = hitCount;
+      this.missCount = missCount;
+      this.totalNanos = totalNanos;
+      this.buckets = buckets.clone();
+
+      var callCount = 0L;
+      for (var bucket : buckets) {
+        callCount += bucket;
+      }
+      this.callCount = callCount;
+    }
+
+    /**
+     * Get the name of the method that was called.
+     *
+     * @return the method name.
+     */
+    public String getMethodName() {
+      return methodName;
+    }
+
+    /**
+     * Get the name of the location that the method was called with.
+     *
+     * @return the location name, or {@code null} if the method does not take a location.
+     */
+    @Nullable
+    public String getLocationName() {
+      return locationName;
+    }
+
+    /**
+     * Get the number of calls that were made.
+     *
+     * @return the call count.
+     */
+    public long getCallCount() {
+      return callCount;
+    }
+
+    /**
+     * Get the number of lookups that found what they were looking for.
+     *
+     * <p>This is always {@code 0} for methods that are not lookups.
+     *
+     * @return the hit count.
+     */
+    public long getHitCount() {
+      return hitCount;
+    }
+
+    /**
+     * Get the number of lookups that did not find what they were looking for.
+     *
+     * <p>This is always {@code 0} for methods that are not lookups.
+     *
+     * @return the miss count.
+     */
+    public long getMissCount() {
+      return missCount;
+    }
+
+    /**
+     * Get the total time spent in the calls.
+     *
+     * @return the total time.
+     */
+    public Duration getTotalTime() {
+      return Duration.ofNanos(totalNanos);
+    }
+
+    /**
+     * Get the mean time spent in each call.
+     *
+     * @return the mean time, or {@link Duration#ZERO} if no calls were made.
+     */
+    public Duration getMeanTime() {
+      return callCount == 0
+          ? Duration.ZERO
+          : Duration.ofNanos(totalNanos / callCount);
+    }
+
+    /**
+     * Get the approximate latency that the given percentage of calls completed within.
+     *
+     * @param percentile the percentile, greater than {@code 0} and at most {@code 100}.
+     * @return the latency, or {@link Duration#ZERO} if no calls were made.
+     * @throws IllegalArgumentException if the percentile is out of range.
+     */
+    public Duration getPercentile(double percentile) {
+      if (!(percentile > 0 && percentile <= 100)) {
+        throw new IllegalArgumentException(
+            "Percentile must be greater than 0 and at most 100 (got " + percentile + ")"
+        );
+      }
+
+      var target = (long) Math.ceil(callCount * percentile / 100);
+      var seen = 0L;
+
+      for (var bucket = 0; bucket < buckets.length; ++bucket) {
+        seen += buckets[bucket];
+
+        if (seen >= target && seen > 0) {
+          return Duration.ofNanos(upperBound(bucket));
+        }
+      }
+
+      return Duration.ZERO;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .attribute("methodName", methodName)
+          .attribute("locationName", locationName)
+          .attribute("callCount", callCount)
+          .attribute("hitCount", hitCount)
+          .attribute("missCount", missCount)
+          .attribute("totalTime", getTotalTime())
+          .attribute("p50", getPercentile(50))
+          .attribute("p99", getPercentile(99))
+          .toString();
+    }
+
+    long getTotalNanos() {
+      return totalNanos;
+    }
+
+    /**
+     * Determine the histogram bucket for the given latency.
+     *
+     * @param nanos the latency in nanoseconds.
+     * @return the bucket index.
+     */
+    static int bucketFor(long nanos) {
+      // Bucket 0 holds 0ns, and bucket N holds latencies from 2^(N-1) to 2^N - 1 nanoseconds.
+      return nanos <= 0
+          ? 0
+          : Long.SIZE - Long.numberOfLeadingZeros(nanos);
+    }
+
+    private static long upperBound(int bucket) {
+      return bucket >= Long.SIZE - 1
+          ? Long.MAX_VALUE
+          : (1L << bucket) - 1;
+    }
+  }
+}
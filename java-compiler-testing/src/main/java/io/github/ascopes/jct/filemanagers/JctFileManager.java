@@ -98,6 +98,41 @@ public interface JctFileManager extends JavaFileManager {
    */
   String getEffectiveRelease();
 
+  /**
+   * Get statistics for the memoized listings and lookups of read-only input locations, such as
+   * the class path, that this file manager has performed so far.
+   *
+   * <p>Queries against output locations and the source path are never memoized, and are not
+   * counted.
+   *
+   * @return the statistics.
+   * @since 0.0.1
+   */
+  LookupCacheStatistics getLookupCacheStatistics();
+
+  /**
+   * Get statistics for how this file manager has listed its container groups so far.
+   *
+   * <p>Listings that were answered by the memoized lookups described by
+   * {@link #getLookupCacheStatistics()} never reach the container groups, so they are not
+   * counted here.
+   *
+   * @return the statistics.
+   * @since 0.0.1
+   */
+  ListingStatistics getListingStatistics();
+
+  /**
+   * Get a profile of the calls that have been made to this file manager so far.
+   *
+   * <p>Calls are only recorded when the file manager has been wrapped in a
+   * {@link ProfilingFileManager}. Otherwise, the profile will be empty.
+   *
+   * @return the profile.
+   * @since 0.0.1
+   */
+  FileManagerProfile getProfile();
+
   /**
    * Get the container group for the given package-oriented location.
    *
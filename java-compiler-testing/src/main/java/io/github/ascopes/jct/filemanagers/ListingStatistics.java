@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.filemanagers;
+
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Statistics for how a file manager listed the contents of its container groups.
+ *
+ * <p>Listings that span enough containers may query them in parallel, if
+ * {@link io.github.ascopes.jct.compilers.JctCompiler#parallelListingThreshold(int) parallel
+ * listing} is enabled. This describes how often that happened.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.STABLE)
+public final class ListingStatistics {
+
+  private static final ListingStatistics EMPTY = new ListingStatistics(0, 0);
+
+  /**
+   * Get statistics for a file manager that never listed anything.
+   *
+   * @return the empty statistics.
+   */
+  public static ListingStatistics empty() {
+    return EMPTY;
+  }
+
+  private final long serialListingCount;
+  private final long parallelListingCount;
+
+  /**
+   * Initialize the statistics.
+   *
+   * @param serialListingCount   the number of listings that queried containers one at a time.
+   * @param parallelListingCount the number of listings that queried containers in parallel.
+   * @throws IllegalArgumentException if either count is negative.
+   */
+  public ListingStatistics(long serialListingCount, long parallelListingCount) {
+    if (serialListingCount < 0 || parallelListingCount < 0) {
+      throw new IllegalArgumentException(
+          "Counts cannot be negative (got serialListingCount=" + serialListingCount
+              + ", parallelListingCount=" + parallelListingCount + ")"
+      );
+    }
+
+    this.serialListingCount = serialListingCount;
+    this.parallelListingCount = parallelListingCount;
+  }
+
+  /**
+   * Get the number of listings that queried their containers one after the other.
+   *
+   * @return the serial listing count.
+   */
+  public long getSerialListingCount() {
+    return serialListingCount;
+  }
+
+  /**
+   * Get the number of listings that queried their containers in parallel.
+   *
+   * @return the parallel listing count.
+   */
+  public long getParallelListingCount() {
+    return parallelListingCount;
+  }
+
+  /**
+   * Get the total number of listings.
+   *
+   * @return the total number of serial and parallel listings.
+   */
+  public long getListingCount() {
+    return serialListingCount + parallelListingCount;
+  }
+
+  /**
+   * Add these statistics to some other statistics.
+   *
+   * @param other the other statistics.
+   * @return the combined statistics.
+   */
+  public ListingStatistics plus(ListingStatistics other) {
+    return new ListingStatistics(
+        serialListingCount + other.serialListingCount,
+        parallelListingCount + other.parallelListingCount
+    );
+  }
+
+  @Override
+  public boolean equals(@Nullable Object other) {
+    if (!(other instanceof ListingStatistics)) {
+      return false;
+    }
+
+    var that = (ListingStatistics) other;
+    return serialListingCount == that.serialListingCount
+        && parallelListingCount == that.parallelListingCount;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(serialListingCount) * 31 + Long.hashCode(parallelListingCount);
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("serialListingCount", serialListingCount)
+        .attribute("parallelListingCount", parallelListingCount)
+        .toString();
+  }
+}
@@ -21,7 +21,9 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Proxy;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -49,14 +51,17 @@ public final class LoggingFileManagerProxy implements InvocationHandler {
   private final Logger logger;
   private final JctFileManager inner;
   private final boolean stackTraces;
-  private final ThreadLocal<Integer> stackDepth;
+  private final Map<Long, Integer> stackDepths;
 
   private LoggingFileManagerProxy(JctFileManager inner, boolean stackTraces) {
     // Instance scoped for testing purposes.
     logger = LoggerFactory.getLogger(LoggingFileManagerProxy.class);
     this.inner = inner;
     this.stackTraces = stackTraces;
-    stackDepth = ThreadLocal.withInitial(() -> 0);
+    // Keyed by thread ID rather than using a ThreadLocal, as a ThreadLocal would be allocated
+    // for each of the potentially huge number of virtual threads that use this proxy. Entries
+    // only exist while a call is in progress on that thread.
+    stackDepths = new ConcurrentHashMap<>();
   }
 
   /**
@@ -77,7 +82,7 @@ public final class LoggingFileManagerProxy implements InvocationHandler {
     var thread = LoomPolyfill.getCurrentThread();
     var threadId = LoomPolyfill.getThreadId(thread);
 
-    var depth = incrementStackDepth();
+    var depth = incrementStackDepth(threadId);
     var returnType = method.getReturnType().getSimpleName();
     var methodName = method.getName();
     var paramStr = Stream
@@ -149,7 +154,7 @@ public final class LoggingFileManagerProxy implements InvocationHandler {
       throw ex.getCause();
 
     } finally {
-      decrementStackDepth();
+      decrementStackDepth(threadId);
     }
   }
 
@@ -161,15 +166,12 @@ public final class LoggingFileManagerProxy implements InvocationHandler {
         .toString();
   }
 
-  private int incrementStackDepth() {
-    var depth = stackDepth.get() + 1;
-    stackDepth.set(depth);
-    return depth;
+  private int incrementStackDepth(long threadId) {
+    return stackDepths.merge(threadId, 1, Integer::sum);
   }
 
-  private void decrementStackDepth() {
-    var depth = stackDepth.get() - 1;
-    stackDepth.set(depth);
+  private void decrementStackDepth(long threadId) {
+    stackDepths.computeIfPresent(threadId, (id, depth) -> depth == 1 ? null : depth - 1);
   }
 
   private Supplier<String> stackTraceFormatter(StackTraceElement[] stackTrace) {
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.filemanagers;
+
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Statistics for the memoized listings and lookups of read-only input locations performed by a
+ * file manager.
+ *
+ * <p>Input locations such as the class path cannot change while a compilation is running, so
+ * file managers may remember the result of each listing and lookup against them rather than
+ * querying the underlying containers again. This describes how effective that was.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.STABLE)
+public final class LookupCacheStatistics {
+
+  private static final LookupCacheStatistics EMPTY = new LookupCacheStatistics(0, 0);
+
+  /**
+   * Get statistics for a cache that was never queried.
+   *
+   * @return the empty statistics.
+   */
+  public static LookupCacheStatistics empty() {
+    return EMPTY;
+  }
+
+  private final long hitCount;
+  private final long missCount;
+
+  /**
+   * Initialize the statistics.
+   *
+   * @param hitCount  the number of queries answered from the cache.
+   * @param missCount the number of queries that had to query the containers.
+   * @throws IllegalArgumentException if either count is negative.
+   */
+  public LookupCacheStatistics(long hitCount, long missCount) {
+    if (hitCount < 0 || missCount < 0) {
+      throw new IllegalArgumentException(
+          "Counts cannot be negative (got hitCount=" + hitCount + ", missCount=" + missCount + ")"
+      );
+    }
+
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+  }
+
+  /**
+   * Get the number of queries that were answered from the cache.
+   *
+   * @return the hit count.
+   */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Get the number of queries that had to query the containers.
+   *
+   * @return the miss count.
+   */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Get the total number of cacheable queries.
+   *
+   * @return the total number of hits and misses.
+   */
+  public long getRequestCount() {
+    return hitCount + missCount;
+  }
+
+  /**
+   * Get the proportion of cacheable queries that were answered from the cache.
+   *
+   * @return the hit rate, between {@code 0.0} and {@code 1.0}. If no queries were made, this
+   *     will be {@code 0.0}.
+   */
+  public double getHitRate() {
+    var requestCount = getRequestCount();
+    return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object other) {
+    if (!(other instanceof LookupCacheStatistics)) {
+      return false;
+    }
+
+    var that = (LookupCacheStatistics) other;
+    return hitCount == that.hitCount
+        && missCount == that.missCount;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(hitCount) * 31 + Long.hashCode(missCount);
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("hitCount", hitCount)
+        .attribute("missCount", missCount)
+        .toString();
+  }
+}
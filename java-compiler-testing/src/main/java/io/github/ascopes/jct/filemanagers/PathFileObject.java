@@ -17,6 +17,7 @@ package io.github.ascopes.jct.filemanagers;
 
 import static java.util.Objects.requireNonNull;
 
+import io.github.ascopes.jct.containers.Container;
 import io.github.ascopes.jct.utils.FileUtils;
 import io.github.ascopes.jct.utils.ToStringBuilder;
 import java.io.BufferedInputStream;
@@ -30,6 +31,7 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
@@ -38,6 +40,8 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.NestingKind;
 import javax.tools.FileObject;
@@ -67,12 +71,20 @@ public final class PathFileObject implements JavaFileObject {
   private static final long NOT_MODIFIED = 0L;
 
   private final Location location;
+  private final @Nullable Container origin;
   private final Path rootPath;
   private final Path relativePath;
-  private final Path fullPath;
-  private final String name;
-  private final URI uri;
-  private final Kind kind;
+  private final @Nullable Storage storage;
+  private final @Nullable FileContentCache contentCache;
+
+  // These are derived on first use, since listings create many file objects that are never used
+  // for anything other than filtering by kind or name. Each is idempotent, so concurrent callers
+  // can at worst compute the same value twice.
+  private volatile @Nullable Path fullPath;
+  private volatile @Nullable URI uri;
+  private @Nullable String name;
+  private @Nullable String fileName;
+  private @Nullable Kind kind;
 
   /**
    * Initialize this file object.
@@ -82,6 +94,86 @@ public final class PathFileObject implements JavaFileObject {
    * @param relativePath the path to point to, relative to the root.
    */
   public PathFileObject(Location location, Path rootPath, Path relativePath) {
+    this(location, null, rootPath, relativePath, null, null);
+  }
+
+  /**
+   * Initialize this file object on behalf of the container that holds it.
+   *
+   * <p>Container groups use the origin container to route
+   * {@link io.github.ascopes.jct.containers.ContainerGroup#contains} and
+   * {@link io.github.ascopes.jct.containers.PackageContainerGroup#inferBinaryName} directly to
+   * it, rather than asking each of their containers in turn.
+   *
+   * @param location     the location that the file object is located within.
+   * @param origin       the container that holds the file object.
+   * @param rootPath     the root directory that the path is a package within.
+   * @param relativePath the path to point to, relative to the root.
+   * @since 0.0.1
+   */
+  @API(since = "0.0.1", status = Status.INTERNAL)
+  public PathFileObject(Location location, Container origin, Path rootPath, Path relativePath) {
+    this(location, requireNonNull(origin, "origin"), rootPath, relativePath, null, null);
+  }
+
+  /**
+   * Initialize this file object with a cache for its character content.
+   *
+   * @param location     the location that the file object is located within.
+   * @param origin       the container that holds the file object, or {@code null} if not known.
+   * @param rootPath     the root directory that the path is a package within.
+   * @param relativePath the path to point to, relative to the root.
+   * @param contentCache the cache to read character content through, or {@code null} to not
+   *                     cache content.
+   * @since 0.0.1
+   */
+  @API(since = "0.0.1", status = Status.INTERNAL)
+  public PathFileObject(
+      Location location,
+      @Nullable Container origin,
+      Path rootPath,
+      Path relativePath,
+      @Nullable FileContentCache contentCache
+  ) {
+    this(location, origin, rootPath, relativePath, null, contentCache);
+  }
+
+  /**
+   * Initialize this file object with storage other than the file at its path.
+   *
+   * @param location     the location that the file object is located within.
+   * @param origin       the container that holds the file object.
+   * @param rootPath     the root directory that the path is a package within.
+   * @param relativePath the path to point to, relative to the root.
+   * @param storage      the storage to read and write the file through.
+   * @since 0.0.1
+   */
+  @API(since = "0.0.1", status = Status.INTERNAL)
+  public PathFileObject(
+      Location location,
+      Container origin,
+      Path rootPath,
+      Path relativePath,
+      Storage storage
+  ) {
+    this(
+        location,
+        requireNonNull(origin, "origin"),
+        rootPath,
+        relativePath,
+        requireNonNull(storage, "storage"),
+        null
+    );
+  }
+
+  private PathFileObject(
+      Location location,
+      @Nullable Container origin,
+      Path rootPath,
+      Path relativePath,
+      @Nullable Storage storage,
+      @Nullable FileContentCache contentCache
+  ) {
     requireNonNull(location, "location");
     requireNonNull(rootPath, "rootPath");
     requireNonNull(relativePath, "relativePath");
@@ -91,16 +183,15 @@ public final class PathFileObject implements JavaFileObject {
     }
 
     this.location = location;
+    this.origin = origin;
     this.rootPath = rootPath;
 
     this.relativePath = relativePath.isAbsolute()
         ? rootPath.relativize(relativePath)
         : relativePath;
 
-    fullPath = rootPath.resolve(relativePath);
-    name = this.relativePath.toString();
-    uri = fullPath.toUri();
-    kind = FileUtils.pathToKind(relativePath);
+    this.storage = storage;
+    this.contentCache = contentCache;
   }
 
   /**
@@ -111,9 +202,11 @@ public final class PathFileObject implements JavaFileObject {
   @Override
   public boolean delete() {
     try {
-      return Files.deleteIfExists(fullPath);
+      return storage == null
+          ? Files.deleteIfExists(getFullPath())
+          : storage.delete(this);
     } catch (IOException ex) {
-      LOGGER.debug("Ignoring error deleting {}", uri, ex);
+      LOGGER.debug("Ignoring error deleting {}", toUri(), ex);
       return false;
     }
   }
@@ -128,7 +221,7 @@ public final class PathFileObject implements JavaFileObject {
   @Override
   public boolean equals(@Nullable Object other) {
     // Roughly the same as what Javac does.
-    return other instanceof FileObject && uri.equals(((FileObject) other).toUri());
+    return other instanceof FileObject && toUri().equals(((FileObject) other).toUri());
   }
 
   /**
@@ -152,25 +245,82 @@ public final class PathFileObject implements JavaFileObject {
    * Read the character content of the file into memory and decode it using the default character
    * set.
    *
+   * <p>If this file object was created with a {@link FileContentCache}, the content is read
+   * through that cache, so it is only read and decoded again if the last-modified time or size
+   * of the file has changed.
+   *
    * @param ignoreEncodingErrors ignore encoding errors if {@code true}, or throw them otherwise.
    * @return the character content, encoded as UTF-8.
    * @throws IOException if an IO error occurs.
    */
   @Override
   public String getCharContent(boolean ignoreEncodingErrors) throws IOException {
-    try (var input = openInputStream()) {
-      return decoder(ignoreEncodingErrors)
-          .decode(ByteBuffer.wrap(input.readAllBytes()))
-          .toString();
+    if (contentCache == null) {
+      return decode(readAllBytes(), ignoreEncodingErrors);
+    }
+
+    BasicFileAttributes attributes;
+
+    try {
+      attributes = Files.readAttributes(getFullPath(), BasicFileAttributes.class);
+    } catch (IOException ex) {
+      LOGGER.debug("Not caching content of {} as its attributes are unreadable", toUri(), ex);
+      return decode(readAllBytes(), ignoreEncodingErrors);
     }
+
+    var lastModified = attributes.lastModifiedTime().toMillis();
+    var size = attributes.size();
+    var content = contentCache.get(toUri(), lastModified, size);
+
+    if (content != null) {
+      return content;
+    }
+
+    var bytes = readAllBytes();
+
+    try {
+      // Only strictly decoded content is cached, since it is valid regardless of whether
+      // encoding errors are being ignored.
+      content = decode(bytes, false);
+    } catch (CharacterCodingException ex) {
+      if (ignoreEncodingErrors) {
+        return decode(bytes, true);
+      }
+      throw ex;
+    }
+
+    if (bytes.length == size) {
+      // The file changed while it was being read if the sizes disagree, so the content may not
+      // match the attributes that it would be cached against.
+      contentCache.put(toUri(), lastModified, size, content);
+    }
+
+    return content;
   }
 
   /**
    * Get the full path of this file object.
    *
+   * <p>If this file object has its own storage, then this may be a path on a different file
+   * system to the root path.
+   *
    * @return the full path.
    */
   public Path getFullPath() {
+    var fullPath = this.fullPath;
+
+    if (fullPath == null) {
+      fullPath = storage == null
+          ? null
+          : storage.getFullPath();
+
+      if (fullPath == null) {
+        fullPath = rootPath.resolve(relativePath);
+      }
+
+      this.fullPath = fullPath;
+    }
+
     return fullPath;
   }
 
@@ -181,6 +331,13 @@ public final class PathFileObject implements JavaFileObject {
    */
   @Override
   public Kind getKind() {
+    var kind = this.kind;
+
+    if (kind == null) {
+      kind = FileUtils.fileNameToKind(getFileName());
+      this.kind = kind;
+    }
+
     return kind;
   }
 
@@ -193,9 +350,11 @@ public final class PathFileObject implements JavaFileObject {
   @Override
   public long getLastModified() {
     try {
-      return Files.getLastModifiedTime(fullPath).toMillis();
+      return storage == null
+          ? Files.getLastModifiedTime(getFullPath()).toMillis()
+          : storage.getLastModified(this);
     } catch (IOException ex) {
-      LOGGER.debug("Ignoring error reading last modified time for {}", uri, ex);
+      LOGGER.debug("Ignoring error reading last modified time for {}", toUri(), ex);
       return NOT_MODIFIED;
     }
   }
@@ -216,6 +375,13 @@ public final class PathFileObject implements JavaFileObject {
    */
   @Override
   public String getName() {
+    var name = this.name;
+
+    if (name == null) {
+      name = relativePath.toString();
+      this.name = name;
+    }
+
     return name;
   }
 
@@ -236,6 +402,17 @@ public final class PathFileObject implements JavaFileObject {
     return unknown();
   }
 
+  /**
+   * Get the container that holds this file object, if known.
+   *
+   * @return the container, or {@code null} if this file object was not created by a container.
+   * @since 0.0.1
+   */
+  @Nullable
+  public Container getOrigin() {
+    return origin;
+  }
+
   /**
    * Get the relative path of this file object.
    *
@@ -262,7 +439,7 @@ public final class PathFileObject implements JavaFileObject {
   @Override
   public int hashCode() {
     // Corresponds to what the .equals override checks for.
-    return uri.hashCode();
+    return toUri().hashCode();
   }
 
   /**
@@ -275,10 +452,13 @@ public final class PathFileObject implements JavaFileObject {
    */
   @Override
   public boolean isNameCompatible(String simpleName, Kind kind) {
-    // Note that this behaves case-sensitively, even on Windows.
-    var fileName = simpleName + kind.extension;
+    // Note that this behaves case-sensitively, even on Windows. This is called for every file
+    // that javac considers, so avoid concatenating the name and extension here.
+    var fileName = getFileName();
 
-    return relativePath.getFileName().toString().equals(fileName);
+    return fileName.length() == simpleName.length() + kind.extension.length()
+        && fileName.startsWith(simpleName)
+        && fileName.endsWith(kind.extension);
   }
 
   /**
@@ -371,6 +551,20 @@ public final class PathFileObject implements JavaFileObject {
    */
   @Override
   public URI toUri() {
+    var uri = this.uri;
+
+    if (uri == null) {
+      uri = storage == null
+          ? null
+          : storage.getUri();
+
+      if (uri == null) {
+        uri = getFullPath().toUri();
+      }
+
+      this.uri = uri;
+    }
+
     return uri;
   }
 
@@ -382,20 +576,52 @@ public final class PathFileObject implements JavaFileObject {
   @Override
   public String toString() {
     return new ToStringBuilder(this)
-        .attribute("uri", uri)
+        .attribute("uri", toUri())
         .toString();
   }
 
   private InputStream openUnbufferedInputStream() throws IOException {
-    return Files.newInputStream(fullPath);
+    return storage == null
+        ? Files.newInputStream(getFullPath())
+        : storage.openInputStream(this);
   }
 
   private OutputStream openUnbufferedOutputStream() throws IOException {
+    if (storage != null) {
+      return storage.openOutputStream(this);
+    }
+
     // Ensure parent directories exist first.
+    var fullPath = getFullPath();
     Files.createDirectories(fullPath.getParent());
     return Files.newOutputStream(fullPath);
   }
 
+  private String getFileName() {
+    var fileName = this.fileName;
+
+    if (fileName == null) {
+      // Null if the path is the root path. Shouldn't ever happen, but avoids unexpected
+      // NullPointerExceptions elsewhere.
+      fileName = Objects.toString(relativePath.getFileName(), "");
+      this.fileName = fileName;
+    }
+
+    return fileName;
+  }
+
+  private byte[] readAllBytes() throws IOException {
+    try (var input = openInputStream()) {
+      return input.readAllBytes();
+    }
+  }
+
+  private String decode(byte[] bytes, boolean ignoreEncodingErrors) throws IOException {
+    return decoder(ignoreEncodingErrors)
+        .decode(ByteBuffer.wrap(bytes))
+        .toString();
+  }
+
   private CharsetDecoder decoder(boolean ignoreEncodingErrors) {
     var action = ignoreEncodingErrors
         ? CodingErrorAction.IGNORE
@@ -410,4 +636,74 @@ public final class PathFileObject implements JavaFileObject {
   private <T> T unknown() {
     return null;
   }
+
+  /**
+   * Storage for the content of a file object, other than the file at its path.
+   *
+   * <p>This is a hook for containers within this library, such as those that hold files in
+   * memory or read archives directly, and is not intended to be implemented elsewhere.
+   *
+   * @author Ashley Scopes
+   * @since 0.0.1
+   */
+  @API(since = "0.0.1", status = Status.INTERNAL)
+  public interface Storage {
+
+    /**
+     * Get the full path of the file, if it differs from the root path resolved with the relative
+     * path.
+     *
+     * @return the full path, or {@code null} to use the default.
+     */
+    @Nullable
+    default Path getFullPath() {
+      return null;
+    }
+
+    /**
+     * Get the URI of the file, if it differs from the URI of the full path.
+     *
+     * @return the URI, or {@code null} to use the default.
+     */
+    @Nullable
+    default URI getUri() {
+      return null;
+    }
+
+    /**
+     * Delete the file.
+     *
+     * @param fileObject the file object being deleted.
+     * @return {@code true} if the file was deleted, or {@code false} otherwise.
+     * @throws IOException if an IO error occurs.
+     */
+    boolean delete(PathFileObject fileObject) throws IOException;
+
+    /**
+     * Determine when the file was last modified.
+     *
+     * @param fileObject the file object to inspect.
+     * @return the timestamp in milliseconds since UNIX epoch.
+     * @throws IOException if an IO error occurs.
+     */
+    long getLastModified(PathFileObject fileObject) throws IOException;
+
+    /**
+     * Open an unbuffered input stream to read the file.
+     *
+     * @param fileObject the file object to read.
+     * @return the input stream.
+     * @throws IOException if an IO error occurs.
+     */
+    InputStream openInputStream(PathFileObject fileObject) throws IOException;
+
+    /**
+     * Open an unbuffered output stream to write the file.
+     *
+     * @param fileObject the file object to write.
+     * @return the output stream.
+     * @throws IOException if an IO error occurs.
+     */
+    OutputStream openOutputStream(PathFileObject fileObject) throws IOException;
+  }
 }
@@ -0,0 +1,461 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.filemanagers;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ascopes.jct.containers.ModuleContainerGroup;
+import io.github.ascopes.jct.containers.OutputContainerGroup;
+import io.github.ascopes.jct.containers.PackageContainerGroup;
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import io.github.ascopes.jct.workspaces.PathRoot;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A file manager that wraps another {@link JctFileManager} and records how many times each
+ * {@link javax.tools.JavaFileManager} method is called, and how long each call takes.
+ *
+ * <p>Calls are grouped by method and by location, and each lookup is recorded as a hit if it
+ * found a file, location, or name, or as a miss otherwise. The recorded calls can be retrieved as
+ * a {@link FileManagerProfile} by calling {@link #getProfile()}.
+ *
+ * <p>Unlike the {@link LoggingFileManagerProxy}, this delegates each method directly rather than
+ * reflectively, so the overhead is just reading the clock and updating a few counters. Calls
+ * that throw an exception are not recorded. Methods specific to {@link JctFileManager}, which
+ * are only used to configure the file manager, are delegated without being recorded.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.STABLE)
+public final class ProfilingFileManager implements JctFileManager {
+
+  /**
+   * Wrap the given file manager in a profiling file manager.
+   *
+   * @param fileManager the file manager to wrap.
+   * @return the profiling file manager.
+   */
+  public static JctFileManager wrap(JctFileManager fileManager) {
+    return new ProfilingFileManager(fileManager);
+  }
+
+  private final JctFileManager inner;
+  private final Map<Key, CallStatistics> statistics;
+
+  private ProfilingFileManager(JctFileManager inner) {
+    this.inner = requireNonNull(inner, "inner");
+    statistics = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public void addPath(Location location, PathRoot path) {
+    inner.addPath(location, path);
+  }
+
+  @Override
+  public void addPaths(Location location, Collection<? extends PathRoot> paths) {
+    inner.addPaths(location, paths);
+  }
+
+  @Override
+  public void close() throws IOException {
+    profileVoid("close", inner::close);
+  }
+
+  @Override
+  public boolean contains(Location location, FileObject fo) throws IOException {
+    return profile(
+        "contains",
+        location,
+        Boolean::booleanValue,
+        () -> inner.contains(location, fo)
+    );
+  }
+
+  @Override
+  public void copyContainers(Location from, Location to) {
+    inner.copyContainers(from, to);
+  }
+
+  @Override
+  public void createEmptyLocation(Location location) {
+    inner.createEmptyLocation(location);
+  }
+
+  @Override
+  public void flush() throws IOException {
+    profileVoid("flush", inner::flush);
+  }
+
+  @Override
+  public ClassLoader getClassLoader(Location location) {
+    return profile("getClassLoader", location, null, () -> inner.getClassLoader(location));
+  }
+
+  @Override
+  public String getEffectiveRelease() {
+    return inner.getEffectiveRelease();
+  }
+
+  @Override
+  public FileObject getFileForInput(
+      Location location,
+      String packageName,
+      String relativeName
+  ) throws IOException {
+    return profile(
+        "getFileForInput",
+        location,
+        Objects::nonNull,
+        () -> inner.getFileForInput(location, packageName, relativeName)
+    );
+  }
+
+  @Override
+  public FileObject getFileForOutput(
+      Location location,
+      String packageName,
+      String relativeName,
+      FileObject sibling
+  ) throws IOException {
+    return profile(
+        "getFileForOutput",
+        location,
+        null,
+        () -> inner.getFileForOutput(location, packageName, relativeName, sibling)
+    );
+  }
+
+  @Override
+  public JavaFileObject getJavaFileForInput(
+      Location location,
+      String className,
+      Kind kind
+  ) throws IOException {
+    return profile(
+        "getJavaFileForInput",
+        location,
+        Objects::nonNull,
+        () -> inner.getJavaFileForInput(location, className, kind)
+    );
+  }
+
+  @Override
+  public JavaFileObject getJavaFileForOutput(
+      Location location,
+      String className,
+      Kind kind,
+      FileObject sibling
+  ) throws IOException {
+    return profile(
+        "getJavaFileForOutput",
+        location,
+        null,
+        () -> inner.getJavaFileForOutput(location, className, kind, sibling)
+    );
+  }
+
+  @Override
+  public Location getLocationForModule(Location location, String moduleName) throws IOException {
+    return profile(
+        "getLocationForModule",
+        location,
+        Objects::nonNull,
+        () -> inner.getLocationForModule(location, moduleName)
+    );
+  }
+
+  @Override
+  public Location getLocationForModule(Location location, JavaFileObject fo) throws IOException {
+    return profile(
+        "getLocationForModule",
+        location,
+        Objects::nonNull,
+        () -> inner.getLocationForModule(location, fo)
+    );
+  }
+
+  @Override
+  public LookupCacheStatistics getLookupCacheStatistics() {
+    return inner.getLookupCacheStatistics();
+  }
+
+  @Override
+  public ListingStatistics getListingStatistics() {
+    return inner.getListingStatistics();
+  }
+
+  @Override
+  public ModuleContainerGroup getModuleContainerGroup(Location location) {
+    return inner.getModuleContainerGroup(location);
+  }
+
+  @Override
+  public Collection<ModuleContainerGroup> getModuleContainerGroups() {
+    return inner.getModuleContainerGroups();
+  }
+
+  @Override
+  public OutputContainerGroup getOutputContainerGroup(Location location) {
+    return inner.getOutputContainerGroup(location);
+  }
+
+  @Override
+  public Collection<OutputContainerGroup> getOutputContainerGroups() {
+    return inner.getOutputContainerGroups();
+  }
+
+  @Override
+  public PackageContainerGroup getPackageContainerGroup(Location location) {
+    return inner.getPackageContainerGroup(location);
+  }
+
+  @Override
+  public Collection<PackageContainerGroup> getPackageContainerGroups() {
+    return inner.getPackageContainerGroups();
+  }
+
+  /**
+   * Get a snapshot of the calls that have been recorded so far.
+   *
+   * @return the profile.
+   */
+  @Override
+  public FileManagerProfile getProfile() {
+    var entries = new ArrayList<FileManagerProfile.Entry>();
+    statistics.forEach((key, value) -> entries.add(value.snapshot(key)));
+    return new FileManagerProfile(entries);
+  }
+
+  @Override
+  public <S> ServiceLoader<S> getServiceLoader(
+      Location location,
+      Class<S> service
+  ) throws IOException {
+    return profile(
+        "getServiceLoader",
+        location,
+        null,
+        () -> inner.getServiceLoader(location, service)
+    );
+  }
+
+  @Override
+  public boolean handleOption(String current, Iterator<String> remaining) {
+    return inner.handleOption(current, remaining);
+  }
+
+  @Override
+  public boolean hasLocation(Location location) {
+    return profile(
+        "hasLocation",
+        location,
+        Boolean::booleanValue,
+        () -> inner.hasLocation(location)
+    );
+  }
+
+  @Override
+  public String inferBinaryName(Location location, JavaFileObject file) {
+    return profile(
+        "inferBinaryName",
+        location,
+        Objects::nonNull,
+        () -> inner.inferBinaryName(location, file)
+    );
+  }
+
+  @Override
+  public String inferModuleName(Location location) throws IOException {
+    return profile(
+        "inferModuleName",
+        location,
+        Objects::nonNull,
+        () -> inner.inferModuleName(location)
+    );
+  }
+
+  @Override
+  public boolean isSameFile(FileObject a, FileObject b) {
+    return profile("isSameFile", null, null, () -> inner.isSameFile(a, b));
+  }
+
+  @Override
+  public int isSupportedOption(String option) {
+    return inner.isSupportedOption(option);
+  }
+
+  @Override
+  public Set<JavaFileObject> list(
+      Location location,
+      String packageName,
+      Set<Kind> kinds,
+      boolean recurse
+  ) throws IOException {
+    return profile(
+        "list",
+        location,
+        files -> !files.isEmpty(),
+        () -> inner.list(location, packageName, kinds, recurse)
+    );
+  }
+
+  @Override
+  public Iterable<Set<Location>> listLocationsForModules(Location location) throws IOException {
+    return profile(
+        "listLocationsForModules",
+        location,
+        null,
+        () -> inner.listLocationsForModules(location)
+    );
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("inner", inner)
+        .toString();
+  }
+
+  private <T, E extends Exception> T profile(
+      String methodName,
+      @Nullable Location location,
+      @Nullable Predicate<? super T> hit,
+      Call<T, E> call
+  ) throws E {
+    var start = System.nanoTime();
+    var result = call.call();
+    var elapsed = System.nanoTime() - start;
+
+    var stats = statistics.computeIfAbsent(
+        new Key(methodName, location == null ? null : location.getName()),
+        ignored -> new CallStatistics()
+    );
+
+    if (hit == null) {
+      stats.record(elapsed);
+    } else {
+      stats.record(elapsed, hit.test(result));
+    }
+
+    return result;
+  }
+
+  private <E extends Exception> void profileVoid(String methodName, VoidCall<E> call) throws E {
+    profile(methodName, null, null, () -> {
+      call.call();
+      return null;
+    });
+  }
+
+  @FunctionalInterface
+  private interface Call<T, E extends Exception> {
+
+    T call() throws E;
+  }
+
+  @FunctionalInterface
+  private interface VoidCall<E extends Exception> {
+
+    void call() throws E;
+  }
+
+  private static final class Key {
+
+    private final String methodName;
+    private final @Nullable String locationName;
+
+    private Key(String methodName, @Nullable String locationName) {
+      this.methodName = methodName;
+      this.locationName = locationName;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+      if (!(other instanceof Key)) {
+        return false;
+      }
+
+      var that = (Key) other;
+      return methodName.equals(that.methodName)
+          && Objects.equals(locationName, that.locationName);
+    }
+
+    @Override
+    public int hashCode() {
+      return methodName.hashCode() * 31 + Objects.hashCode(locationName);
+    }
+  }
+
+  private static final class CallStatistics {
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder totalNanos;
+    private final AtomicLongArray buckets;
+
+    private CallStatistics() {
+      hits = new LongAdder();
+      misses = new LongAdder();
+      totalNanos = new LongAdder();
+      buckets = new AtomicLongArray(FileManagerProfile.Entry.BUCKET_COUNT);
+    }
+
+    private void record(long nanos) {
+      totalNanos.add(nanos);
+      buckets.incrementAndGet(FileManagerProfile.Entry.bucketFor(nanos));
+    }
+
+    private void record(long nanos, boolean hit) {
+      (hit ? hits : misses).increment();
+      record(nanos);
+    }
+
+    private FileManagerProfile.Entry snapshot(Key key) {
+      var bucketCounts = new long[buckets.length()];
+      for (var i = 0; i < bucketCounts.length; ++i) {
+        bucketCounts[i] = buckets.get(i);
+      }
+
+      return new FileManagerProfile.Entry(
+          key.methodName,
+          key.locationName,
+          hits.sum(),
+          misses.sum(),
+          totalNanos.sum(),
+          bucketCounts
+      );
+    }
+  }
+}
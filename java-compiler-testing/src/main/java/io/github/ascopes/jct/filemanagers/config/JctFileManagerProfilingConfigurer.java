@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.filemanagers.config;
+
+import io.github.ascopes.jct.compilers.JctCompiler;
+import io.github.ascopes.jct.filemanagers.JctFileManager;
+import io.github.ascopes.jct.filemanagers.ProfilingFileManager;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * File manager configurer that optionally wraps the file manager in a
+ * {@link ProfilingFileManager} that records the calls made to it.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.STABLE)
+public final class JctFileManagerProfilingConfigurer implements JctFileManagerConfigurer {
+
+  private static final Logger LOGGER = LoggerFactory
+      .getLogger(JctFileManagerProfilingConfigurer.class);
+
+  private final JctCompiler<?, ?> compiler;
+
+  /**
+   * Initialise this configurer.
+   *
+   * @param compiler the compiler to apply to the file manager.
+   */
+  public JctFileManagerProfilingConfigurer(JctCompiler<?, ?> compiler) {
+    this.compiler = compiler;
+  }
+
+  @Override
+  public JctFileManager configure(JctFileManager fileManager) {
+    LOGGER.trace("Decorating file manager {} in a profiling file manager", fileManager);
+    return ProfilingFileManager.wrap(fileManager);
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return compiler.isFileManagerProfiling();
+  }
+}
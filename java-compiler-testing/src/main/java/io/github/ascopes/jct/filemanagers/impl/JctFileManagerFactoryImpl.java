@@ -16,22 +16,22 @@
 package io.github.ascopes.jct.filemanagers.impl;
 
 import io.github.ascopes.jct.compilers.JctCompiler;
+import io.github.ascopes.jct.containers.impl.ContainerGroupOptions;
+import io.github.ascopes.jct.filemanagers.FileContentCache;
 import io.github.ascopes.jct.filemanagers.JctFileManager;
 import io.github.ascopes.jct.filemanagers.JctFileManagerFactory;
 import io.github.ascopes.jct.filemanagers.config.JctFileManagerAnnotationProcessorClassPathConfigurer;
 import io.github.ascopes.jct.filemanagers.config.JctFileManagerConfigurerChain;
-import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmClassPathConfigurer;
-import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmClassPathModuleConfigurer;
-import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmModulePathConfigurer;
-import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmPlatformClassPathConfigurer;
-import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmSystemModulesConfigurer;
 import io.github.ascopes.jct.filemanagers.config.JctFileManagerLoggingProxyConfigurer;
+import io.github.ascopes.jct.filemanagers.config.JctFileManagerProfilingConfigurer;
 import io.github.ascopes.jct.filemanagers.config.JctFileManagerRequiredLocationsConfigurer;
 import io.github.ascopes.jct.filemanagers.config.JctFileManagerWorkspaceConfigurer;
 import io.github.ascopes.jct.utils.VisibleForTestingOnly;
 import io.github.ascopes.jct.workspaces.Workspace;
+import io.github.ascopes.jct.workspaces.impl.IsolatedOutputsWorkspace;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Basic implementation for a file manager factory that returns a {@link JctFileManagerImpl}
@@ -60,8 +60,20 @@ public final class JctFileManagerFactoryImpl implements JctFileManagerFactory {
   @Override
   public JctFileManager createFileManager(Workspace workspace) {
     var release = compiler.getEffectiveRelease();
-    var fileManager = new JctFileManagerImpl(release);
-    return createConfigurerChain(workspace)
+    var options = ContainerGroupOptions.builder()
+        .memoryMapJars(compiler.isMemoryMapJars())
+        .parallelListingThreshold(compiler.getParallelListingThreshold())
+        .contentCache(createContentCache())
+        .heapOutputs(compiler.isHeapOutputs())
+        .build();
+    var fileManager = new JctFileManagerImpl(release, options);
+
+    // Isolated compilations only read from the workspace, and write to their own outputs.
+    var effectiveWorkspace = compiler.isIsolatedOutputs()
+        ? new IsolatedOutputsWorkspace(workspace)
+        : workspace;
+
+    return createConfigurerChain(effectiveWorkspace)
         .configure(fileManager);
   }
 
@@ -78,13 +90,20 @@ public final class JctFileManagerFactoryImpl implements JctFileManagerFactory {
     // The order here is important. Do not adjust it without testing extensively first!
     return new JctFileManagerConfigurerChain()
         .addLast(new JctFileManagerWorkspaceConfigurer(workspace))
-        .addLast(new JctFileManagerJvmClassPathConfigurer(compiler))
-        .addLast(new JctFileManagerJvmClassPathModuleConfigurer(compiler))
-        .addLast(new JctFileManagerJvmModulePathConfigurer(compiler))
-        .addLast(new JctFileManagerJvmPlatformClassPathConfigurer(compiler))
-        .addLast(new JctFileManagerJvmSystemModulesConfigurer(compiler))
+        // Replays the JVM class path, module path, platform class path, and system modules
+        // from a template that is only built once per compiler configuration.
+        .addLast(new JctFileManagerTemplateConfigurer(compiler))
         .addLast(new JctFileManagerAnnotationProcessorClassPathConfigurer(compiler))
         .addLast(new JctFileManagerRequiredLocationsConfigurer(workspace))
+        .addLast(new JctFileManagerProfilingConfigurer(compiler))
         .addLast(new JctFileManagerLoggingProxyConfigurer(compiler));
   }
+
+  @Nullable
+  private FileContentCache createContentCache() {
+    var contentCacheSize = compiler.getContentCacheSize();
+    return contentCacheSize > 0
+        ? new FileContentCache(contentCacheSize)
+        : null;
+  }
 }
@@ -20,8 +20,12 @@ import static java.util.Objects.requireNonNull;
 import io.github.ascopes.jct.containers.ModuleContainerGroup;
 import io.github.ascopes.jct.containers.OutputContainerGroup;
 import io.github.ascopes.jct.containers.PackageContainerGroup;
+import io.github.ascopes.jct.containers.impl.ContainerGroupOptions;
 import io.github.ascopes.jct.containers.impl.ContainerGroupRepositoryImpl;
+import io.github.ascopes.jct.filemanagers.FileManagerProfile;
 import io.github.ascopes.jct.filemanagers.JctFileManager;
+import io.github.ascopes.jct.filemanagers.ListingStatistics;
+import io.github.ascopes.jct.filemanagers.LookupCacheStatistics;
 import io.github.ascopes.jct.filemanagers.ModuleLocation;
 import io.github.ascopes.jct.filemanagers.PathFileObject;
 import io.github.ascopes.jct.utils.ToStringBuilder;
@@ -54,15 +58,28 @@ public final class JctFileManagerImpl implements JctFileManager {
 
   private final String effectiveRelease;
   private final ContainerGroupRepositoryImpl repository;
+  private final JctFileManagerLookupCache lookupCache;
 
   public JctFileManagerImpl(String release) {
+    this(release, ContainerGroupOptions.defaults());
+  }
+
+  /**
+   * Initialize this file manager.
+   *
+   * @param release the release to use for Multi-Release JARs.
+   * @param options the options to use for creating and querying containers.
+   */
+  public JctFileManagerImpl(String release, ContainerGroupOptions options) {
     effectiveRelease = requireNonNull(release, "release");
-    repository = new ContainerGroupRepositoryImpl(release);
+    repository = new ContainerGroupRepositoryImpl(release, requireNonNull(options, "options"));
+    lookupCache = new JctFileManagerLookupCache();
   }
 
   @Override
   public void addPath(Location location, PathRoot pathRoot) {
     repository.addPath(location, pathRoot);
+    lookupCache.invalidate();
   }
 
   @Override
@@ -70,6 +87,19 @@ public final class JctFileManagerImpl implements JctFileManager {
     pathRoots.forEach(pathRoot -> addPath(location, pathRoot));
   }
 
+  /**
+   * Add the input container groups of a repository that is shared with other file managers.
+   *
+   * <p>No new containers are created for locations that this file manager does not have yet.
+   *
+   * @param shared the repository to share the groups of.
+   * @see ContainerGroupRepositoryImpl#addSharedGroups(ContainerGroupRepositoryImpl)
+   */
+  public void addSharedGroups(ContainerGroupRepositoryImpl shared) {
+    repository.addSharedGroups(shared);
+    lookupCache.invalidate();
+  }
+
   @Override
   public void close() {
     repository.close();
@@ -88,11 +118,13 @@ public final class JctFileManagerImpl implements JctFileManager {
   @Override
   public void copyContainers(Location from, Location to) {
     repository.copyContainers(from, to);
+    lookupCache.invalidate();
   }
 
   @Override
   public void createEmptyLocation(Location location) {
     repository.createEmptyLocation(location);
+    lookupCache.invalidate();
   }
 
   @Override
@@ -123,11 +155,13 @@ public final class JctFileManagerImpl implements JctFileManager {
       String packageName,
       String relativeName
   ) {
-    var group = repository.getPackageOrientedContainerGroup(location);
+    return lookupCache.getFileForInput(location, packageName, relativeName, () -> {
+      var group = repository.getPackageOrientedContainerGroup(location);
 
-    return group == null
-        ? null
-        : group.getFileForInput(packageName, relativeName);
+      return group == null
+          ? null
+          : group.getFileForInput(packageName, relativeName);
+    });
   }
 
   @Override
@@ -164,11 +198,13 @@ public final class JctFileManagerImpl implements JctFileManager {
       String className,
       Kind kind
   ) {
-    var group = repository.getPackageOrientedContainerGroup(location);
+    return lookupCache.getJavaFileForInput(location, className, kind, () -> {
+      var group = repository.getPackageOrientedContainerGroup(location);
 
-    return group == null
-        ? null
-        : group.getJavaFileForInput(className, kind);
+      return group == null
+          ? null
+          : group.getJavaFileForInput(className, kind);
+    });
   }
 
   @Override
@@ -199,6 +235,16 @@ public final class JctFileManagerImpl implements JctFileManager {
         : group.getJavaFileForOutput(className, kind);
   }
 
+  @Override
+  public LookupCacheStatistics getLookupCacheStatistics() {
+    return lookupCache.getStatistics();
+  }
+
+  @Override
+  public ListingStatistics getListingStatistics() {
+    return repository.getListingStatistics();
+  }
+
   @Override
   public ModuleLocation getLocationForModule(Location location, String moduleName) {
     // ModuleLocation will also validate this, but we do this to keep consistent
@@ -232,6 +278,12 @@ public final class JctFileManagerImpl implements JctFileManager {
   }
 
 
+  @Override
+  public FileManagerProfile getProfile() {
+    // Calls are only profiled when this file manager is wrapped in a ProfilingFileManager.
+    return FileManagerProfile.empty();
+  }
+
   @Override
   public ModuleContainerGroup getModuleContainerGroup(Location location) {
     requireModuleOrientedLocation(location);
@@ -333,11 +385,13 @@ public final class JctFileManagerImpl implements JctFileManager {
   ) throws IOException {
     requirePackageOrientedLocation(location);
 
-    var group = repository.getPackageOrientedContainerGroup(location);
+    return lookupCache.list(location, packageName, kinds, recurse, () -> {
+      var group = repository.getPackageOrientedContainerGroup(location);
 
-    return group == null
-        ? Set.of()
-        : group.listFileObjects(packageName, kinds, recurse);
+      return group == null
+          ? Set.of()
+          : group.listFileObjects(packageName, kinds, recurse);
+    });
   }
 
   @Override
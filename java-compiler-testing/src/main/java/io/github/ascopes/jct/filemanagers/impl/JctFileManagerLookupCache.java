@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.filemanagers.impl;
+
+import io.github.ascopes.jct.filemanagers.LookupCacheStatistics;
+import io.github.ascopes.jct.filemanagers.ModuleLocation;
+import io.github.ascopes.jct.utils.IoExceptionUtils.IoSupplier;
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager.Location;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.StandardLocation;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Memo of the listings and lookups performed against the read-only input locations of a single
+ * file manager.
+ *
+ * <p>The compiler repeatedly lists and looks up the same packages and classes while completing
+ * symbols, such as {@code java.lang}. The class path, module path, platform class path, and
+ * system modules cannot change while a compilation is running, so the results of these queries
+ * are remembered, including queries that found nothing. All other locations, including every
+ * output location and the source path, are never cached, since the compiler and annotation
+ * processors may write to them.
+ *
+ * <p>The file manager must {@link #invalidate() invalidate} this memo whenever it changes the
+ * containers in any location.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class JctFileManagerLookupCache {
+
+  private static final Set<Location> CACHEABLE_LOCATIONS = Set.of(
+      StandardLocation.CLASS_PATH,
+      StandardLocation.PLATFORM_CLASS_PATH
+  );
+
+  private static final Set<Location> CACHEABLE_MODULE_LOCATIONS = Set.of(
+      StandardLocation.MODULE_PATH,
+      StandardLocation.SYSTEM_MODULES
+  );
+
+  /**
+   * Determine whether queries against the given location can be cached.
+   *
+   * @param location the location to check.
+   * @return {@code true} if the location is a read-only input location, or {@code false}
+   *     otherwise.
+   */
+  public static boolean isCacheable(Location location) {
+    if (location instanceof ModuleLocation) {
+      return CACHEABLE_MODULE_LOCATIONS.contains(((ModuleLocation) location).getParent());
+    }
+
+    return CACHEABLE_LOCATIONS.contains(location);
+  }
+
+  private final Map<List<Object>, Set<JavaFileObject>> listings;
+  private final Map<List<Object>, Optional<JavaFileObject>> javaFiles;
+  private final Map<List<Object>, Optional<FileObject>> files;
+  private final LongAdder hitCount;
+  private final LongAdder missCount;
+
+  /**
+   * Initialize this memo.
+   */
+  public JctFileManagerLookupCache() {
+    listings = new ConcurrentHashMap<>();
+    javaFiles = new ConcurrentHashMap<>();
+    files = new ConcurrentHashMap<>();
+    hitCount = new LongAdder();
+    missCount = new LongAdder();
+  }
+
+  /**
+   * List the files in a package, using the memoized result if possible.
+   *
+   * @param location    the location being listed.
+   * @param packageName the package being listed.
+   * @param kinds       the kinds of file being listed.
+   * @param recurse     whether the listing is recursive.
+   * @param lister      the function that performs the listing on a cache miss.
+   * @return the listed files. This is always unmodifiable, whether or not it was cached.
+   * @throws IOException if the lister throws an {@link IOException}.
+   */
+  public Set<JavaFileObject> list(
+      Location location,
+      String packageName,
+      Set<Kind> kinds,
+      boolean recurse,
+      IoSupplier<Set<JavaFileObject>> lister
+  ) throws IOException {
+    if (!isCacheable(location)) {
+      return Collections.unmodifiableSet(lister.get());
+    }
+
+    var key = List.of(location, packageName, Set.copyOf(kinds), recurse);
+    var listing = listings.get(key);
+
+    if (listing != null) {
+      hitCount.increment();
+      return listing;
+    }
+
+    // An IOException cannot pass through computeIfAbsent. Two threads racing to list the same
+    // package will produce identical results, so the first one to be stored is kept.
+    missCount.increment();
+    listing = Collections.unmodifiableSet(lister.get());
+    var existing = listings.putIfAbsent(key, listing);
+    return existing == null ? listing : existing;
+  }
+
+  /**
+   * Look up a Java file, using the memoized result if possible.
+   *
+   * @param location  the location to look in.
+   * @param className the binary name of the class.
+   * @param kind      the kind of file.
+   * @param finder    the function that performs the lookup on a cache miss.
+   * @return the file, or {@code null} if it does not exist.
+   */
+  @Nullable
+  public JavaFileObject getJavaFileForInput(
+      Location location,
+      String className,
+      Kind kind,
+      Supplier<JavaFileObject> finder
+  ) {
+    return lookup(javaFiles, location, List.of(location, className, kind), finder);
+  }
+
+  /**
+   * Look up a file, using the memoized result if possible.
+   *
+   * @param location     the location to look in.
+   * @param packageName  the name of the package holding the file.
+   * @param relativeName the name of the file relative to the package.
+   * @param finder       the function that performs the lookup on a cache miss.
+   * @return the file, or {@code null} if it does not exist.
+   */
+  @Nullable
+  public FileObject getFileForInput(
+      Location location,
+      String packageName,
+      String relativeName,
+      Supplier<FileObject> finder
+  ) {
+    return lookup(files, location, List.of(location, packageName, relativeName), finder);
+  }
+
+  /**
+   * Discard all memoized results.
+   *
+   * <p>The hit and miss counts are retained.
+   */
+  public void invalidate() {
+    listings.clear();
+    javaFiles.clear();
+    files.clear();
+  }
+
+  /**
+   * Get the statistics for this memo so far.
+   *
+   * @return the statistics.
+   */
+  public LookupCacheStatistics getStatistics() {
+    return new LookupCacheStatistics(hitCount.sum(), missCount.sum());
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("hitCount", hitCount.sum())
+        .attribute("missCount", missCount.sum())
+        .toString();
+  }
+
+  @Nullable
+  private <F extends FileObject> F lookup(
+      Map<List<Object>, Optional<F>> cache,
+      Location location,
+      List<Object> key,
+      Supplier<F> finder
+  ) {
+    if (!isCacheable(location)) {
+      return finder.get();
+    }
+
+    var result = cache.get(key);
+
+    if (result != null) {
+      hitCount.increment();
+    } else {
+      missCount.increment();
+      result = Optional.ofNullable(finder.get());
+      var existing = cache.putIfAbsent(key, result);
+      result = existing == null ? result : existing;
+    }
+
+    return result.orElse(null);
+  }
+}
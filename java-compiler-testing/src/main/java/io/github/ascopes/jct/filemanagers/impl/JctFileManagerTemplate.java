@@ -0,0 +1,290 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.filemanagers.impl;
+
+import io.github.ascopes.jct.compilers.JctCompiler;
+import io.github.ascopes.jct.containers.impl.ContainerGroupOptions;
+import io.github.ascopes.jct.containers.impl.ContainerGroupRepositoryImpl;
+import io.github.ascopes.jct.filemanagers.FileContentCache;
+import io.github.ascopes.jct.filemanagers.JctFileManager;
+import io.github.ascopes.jct.filemanagers.config.JctFileManagerConfigurerChain;
+import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmClassPathConfigurer;
+import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmClassPathModuleConfigurer;
+import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmModulePathConfigurer;
+import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmPlatformClassPathConfigurer;
+import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmSystemModulesConfigurer;
+import io.github.ascopes.jct.utils.SpecialLocationSnapshot;
+import io.github.ascopes.jct.utils.SpecialLocationUtils;
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import io.github.ascopes.jct.workspaces.PathRoot;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.tools.JavaFileManager.Location;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pre-built template of the locations that a file manager inherits from the running JVM.
+ *
+ * <p>Inheriting the class path, module path, platform class path, and system modules requires
+ * parsing the JVM locations, wrapping every entry in a new {@link PathRoot}, and creating a
+ * container for each of them. Rather than repeating this for every compilation, the inherited
+ * configurers are run once for each distinct compiler configuration, and the container groups
+ * that they produce are kept in a repository that is shared between file managers.
+ *
+ * <p>Each {@link JctFileManagerImpl} that the template is applied to reads the shared groups
+ * through read-only views, so the containers and any indexes they build are shared by every
+ * compilation using the same configuration. Workspace locations form an overlay on top of this:
+ * a location that the workspace also uses gets its own group, holding the workspace containers
+ * followed by the shared containers. Other file manager implementations have the recorded paths
+ * replayed onto them instead.
+ *
+ * <p>Templates are cached JVM-wide. The cache key includes the snapshots of the JVM locations
+ * held by {@link SpecialLocationUtils}, so a new template is built whenever those snapshots
+ * change.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class JctFileManagerTemplate {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(JctFileManagerTemplate.class);
+  private static final Map<Key, JctFileManagerTemplate> CACHE = new ConcurrentHashMap<>();
+
+  /**
+   * Get the template for the given compiler configuration, building it if needed.
+   *
+   * @param compiler the compiler to read the configuration from.
+   * @return the template.
+   */
+  public static JctFileManagerTemplate forCompiler(JctCompiler<?, ?> compiler) {
+    var key = new Key(compiler);
+    var template = CACHE.get(key);
+
+    if (template == null) {
+      // Templates for snapshots that have since been replaced can never be hit again.
+      CACHE.keySet().removeIf(existing -> !existing.isCurrent());
+      template = CACHE.computeIfAbsent(key, ignored -> build(key, compiler));
+    }
+
+    return template;
+  }
+
+  /**
+   * Discard all cached templates.
+   */
+  public static void clearCache() {
+    CACHE.clear();
+  }
+
+  private final List<Entry<Location, PathRoot>> entries;
+  private final ContainerGroupRepositoryImpl repository;
+
+  private JctFileManagerTemplate(
+      List<Entry<Location, PathRoot>> entries,
+      ContainerGroupRepositoryImpl repository
+  ) {
+    this.entries = List.copyOf(entries);
+    this.repository = repository;
+  }
+
+  /**
+   * Add the inherited locations in this template to the given file manager.
+   *
+   * <p>If the file manager is a {@link JctFileManagerImpl}, it is given read-only views of the
+   * shared container groups. Otherwise, each of the recorded paths is added to it in the order
+   * they were originally added.
+   *
+   * @param fileManager the file manager to add the locations to.
+   * @return the file manager.
+   */
+  public JctFileManager applyTo(JctFileManager fileManager) {
+    if (fileManager instanceof JctFileManagerImpl
+        && fileManager.getEffectiveRelease().equals(repository.getRelease())) {
+      ((JctFileManagerImpl) fileManager).addSharedGroups(repository);
+      return fileManager;
+    }
+
+    for (var entry : entries) {
+      fileManager.addPath(entry.getKey(), entry.getValue());
+    }
+
+    return fileManager;
+  }
+
+  /**
+   * Get the recorded locations and paths, in the order they were added.
+   *
+   * @return the entries.
+   */
+  public List<Entry<Location, PathRoot>> getEntries() {
+    return entries;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("entryCount", entries.size())
+        .toString();
+  }
+
+  private static JctFileManagerTemplate build(Key key, JctCompiler<?, ?> compiler) {
+    LOGGER.debug("Building inherited file manager locations template");
+
+    var entries = new ArrayList<Entry<Location, PathRoot>>();
+
+    // The order here must match the order in which these are applied in the default configurer
+    // chain.
+    new JctFileManagerConfigurerChain()
+        .addLast(new JctFileManagerJvmClassPathConfigurer(compiler))
+        .addLast(new JctFileManagerJvmClassPathModuleConfigurer(compiler))
+        .addLast(new JctFileManagerJvmModulePathConfigurer(compiler))
+        .addLast(new JctFileManagerJvmPlatformClassPathConfigurer(compiler))
+        .addLast(new JctFileManagerJvmSystemModulesConfigurer(compiler))
+        .configure(recorder(entries));
+
+    // The containers are only created here, and are then shared by every file manager that
+    // this template is applied to.
+    var options = ContainerGroupOptions.builder()
+        .memoryMapJars(key.memoryMapJars)
+        .parallelListingThreshold(key.parallelListingThreshold)
+        .contentCache(key.contentCacheSize > 0 ? new FileContentCache(key.contentCacheSize) : null)
+        .build();
+    var repository = new ContainerGroupRepositoryImpl(key.release, options);
+    entries.forEach(entry -> repository.addPath(entry.getKey(), entry.getValue()));
+
+    LOGGER.trace("Recorded {} inherited paths in template", entries.size());
+    return new JctFileManagerTemplate(entries, repository);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static JctFileManager recorder(List<Entry<Location, PathRoot>> entries) {
+    return (JctFileManager) Proxy.newProxyInstance(
+        JctFileManager.class.getClassLoader(),
+        new Class<?>[]{JctFileManager.class},
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "addPath":
+              entries.add(Map.entry((Location) args[0], (PathRoot) args[1]));
+              return null;
+            case "addPaths":
+              for (var pathRoot : (Collection<? extends PathRoot>) args[1]) {
+                entries.add(Map.entry((Location) args[0], pathRoot));
+              }
+              return null;
+            case "toString":
+              return "JctFileManagerTemplate recorder";
+            default:
+              throw unsupportedRecorderMethod(method);
+          }
+        }
+    );
+  }
+
+  private static UnsupportedOperationException unsupportedRecorderMethod(Method method) {
+    return new UnsupportedOperationException(
+        "Inherited location configurers may only add paths, but " + method + " was called"
+    );
+  }
+
+  private static final class Key {
+
+    private final boolean inheritClassPath;
+    private final boolean fixJvmModulePathMismatch;
+    private final boolean inheritModulePath;
+    private final boolean inheritPlatformClassPath;
+    private final boolean inheritSystemModulePath;
+    private final String release;
+    private final boolean memoryMapJars;
+    private final int parallelListingThreshold;
+    private final long contentCacheSize;
+    private final SpecialLocationSnapshot classPath;
+    private final SpecialLocationSnapshot modulePath;
+    private final SpecialLocationSnapshot platformClassPath;
+
+    private Key(JctCompiler<?, ?> compiler) {
+      inheritClassPath = compiler.isInheritClassPath();
+      fixJvmModulePathMismatch = compiler.isFixJvmModulePathMismatch();
+      inheritModulePath = compiler.isInheritModulePath();
+      inheritPlatformClassPath = compiler.isInheritPlatformClassPath();
+      inheritSystemModulePath = compiler.isInheritSystemModulePath();
+      // The shared containers depend on these, since they are created up front.
+      release = compiler.getEffectiveRelease();
+      memoryMapJars = compiler.isMemoryMapJars();
+      parallelListingThreshold = compiler.getParallelListingThreshold();
+      contentCacheSize = compiler.getContentCacheSize();
+      classPath = SpecialLocationUtils.currentClassPathSnapshot();
+      modulePath = SpecialLocationUtils.currentModulePathSnapshot();
+      platformClassPath = SpecialLocationUtils.currentPlatformClassPathSnapshot();
+    }
+
+    private boolean isCurrent() {
+      return classPath.equals(SpecialLocationUtils.currentClassPathSnapshot())
+          && modulePath.equals(SpecialLocationUtils.currentModulePathSnapshot())
+          && platformClassPath.equals(SpecialLocationUtils.currentPlatformClassPathSnapshot());
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+      if (!(other instanceof Key)) {
+        return false;
+      }
+
+      var that = (Key) other;
+      return inheritClassPath == that.inheritClassPath
+          && fixJvmModulePathMismatch == that.fixJvmModulePathMismatch
+          && inheritModulePath == that.inheritModulePath
+          && inheritPlatformClassPath == that.inheritPlatformClassPath
+          && inheritSystemModulePath == that.inheritSystemModulePath
+          && release.equals(that.release)
+          && memoryMapJars == that.memoryMapJars
+          && parallelListingThreshold == that.parallelListingThreshold
+          && contentCacheSize == that.contentCacheSize
+          && classPath.equals(that.classPath)
+          && modulePath.equals(that.modulePath)
+          && platformClassPath.equals(that.platformClassPath);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(
+          inheritClassPath,
+          fixJvmModulePathMismatch,
+          inheritModulePath,
+          inheritPlatformClassPath,
+          inheritSystemModulePath,
+          release,
+          memoryMapJars,
+          parallelListingThreshold,
+          contentCacheSize,
+          classPath,
+          modulePath,
+          platformClassPath
+      );
+    }
+  }
+}
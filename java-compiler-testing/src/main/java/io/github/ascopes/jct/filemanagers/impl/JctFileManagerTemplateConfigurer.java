@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.filemanagers.impl;
+
+import io.github.ascopes.jct.compilers.JctCompiler;
+import io.github.ascopes.jct.filemanagers.JctFileManager;
+import io.github.ascopes.jct.filemanagers.config.JctFileManagerConfigurer;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Configurer for a file manager that applies the locations inherited from the running JVM, using
+ * a cached {@link JctFileManagerTemplate}.
+ *
+ * <p>This has the same effect as applying the JVM class path, class path module, module path,
+ * platform class path, and system module configurers in turn.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class JctFileManagerTemplateConfigurer implements JctFileManagerConfigurer {
+
+  private static final Logger LOGGER = LoggerFactory
+      .getLogger(JctFileManagerTemplateConfigurer.class);
+
+  private final JctCompiler<?, ?> compiler;
+
+  /**
+   * Initialise the configurer with the desired compiler.
+   *
+   * @param compiler the compiler to wrap.
+   */
+  public JctFileManagerTemplateConfigurer(JctCompiler<?, ?> compiler) {
+    this.compiler = compiler;
+  }
+
+  @Override
+  public JctFileManager configure(JctFileManager fileManager) {
+    LOGGER.debug("Configuring locations inherited from the JVM");
+
+    return JctFileManagerTemplate
+        .forCompiler(compiler)
+        .applyTo(fileManager);
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return compiler.isInheritClassPath()
+        || compiler.isInheritModulePath()
+        || compiler.isInheritPlatformClassPath()
+        || compiler.isInheritSystemModulePath();
+  }
+}
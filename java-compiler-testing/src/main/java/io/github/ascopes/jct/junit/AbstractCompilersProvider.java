@@ -40,6 +40,7 @@ import org.opentest4j.TestAbortedException;
  *
  * <pre><code>
  * {@literal @ArgumentsSource(MyCompilersProvider.class)}
+ * {@literal @ExtendWith(CompilerInvocationLimiter.class)}
  * {@literal @ParameterizedTest(name = "for {0}")}
  * {@literal @Retention(RetentionPolicy.RUNTIME)}
  * {@literal @Target}({
@@ -123,6 +124,7 @@ public abstract class AbstractCompilersProvider implements ArgumentsProvider {
   private int maxVersion;
   private Class<? extends JctCompilerConfigurer<?>>[] configurerClasses;
   private VersionStrategy versionStrategy;
+  private int parallelism;
 
   /**
    * Initialise this provider.
@@ -132,10 +134,15 @@ public abstract class AbstractCompilersProvider implements ArgumentsProvider {
     maxVersion = Integer.MAX_VALUE;
     configurerClasses = emptyArray();
     versionStrategy = VersionStrategy.RELEASE;
+    parallelism = 0;
   }
 
   @Override
   public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+    if (parallelism > 0) {
+      CompilerInvocationLimiter.register(context, parallelism);
+    }
+
     return IntStream
         .rangeClosed(minVersion, maxVersion)
         .mapToObj(this::createCompilerForVersion)
@@ -159,6 +166,36 @@ public abstract class AbstractCompilersProvider implements ArgumentsProvider {
       Class<? extends JctCompilerConfigurer<?>>[] configurerClasses,
       VersionStrategy versionStrategy
   ) {
+    configure(min, max, modules, configurerClasses, versionStrategy, 0);
+  }
+
+  /**
+   * Configure this provider with parameters from annotations.
+   *
+   * <p>The parallelism only caps how many of the provided compilers are used at once when JUnit
+   * runs the invocations of the test template concurrently. It is enforced by the
+   * {@link CompilerInvocationLimiter} extension, which must be registered on the test.
+   *
+   * @param min               the inclusive minimum compiler version to use.
+   * @param max               the inclusive maximum compiler version to use.
+   * @param modules           whether the compiler version must support modules.
+   * @param configurerClasses the configurer classes to apply to each compiler.
+   * @param versionStrategy   the version strategy to use.
+   * @param parallelism       the maximum number of compilers to run at once, or {@code 0} to
+   *                          not impose a limit.
+   */
+  protected final void configure(
+      int min,
+      int max,
+      boolean modules,
+      Class<? extends JctCompilerConfigurer<?>>[] configurerClasses,
+      VersionStrategy versionStrategy,
+      int parallelism
+  ) {
+    if (parallelism < 0) {
+      throw new IllegalArgumentException("Cannot set parallelism to a negative value");
+    }
+
     min = Math.max(min, minSupportedVersion(modules));
     max = Math.min(max, maxSupportedVersion(modules));
 
@@ -177,6 +214,7 @@ public abstract class AbstractCompilersProvider implements ArgumentsProvider {
 
     this.configurerClasses = requireNonNullValues(configurerClasses, "configurerClasses");
     this.versionStrategy = requireNonNull(versionStrategy, "versionStrategy");
+    this.parallelism = parallelism;
   }
 
   /**
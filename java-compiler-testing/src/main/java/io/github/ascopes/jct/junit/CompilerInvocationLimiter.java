@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.junit;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ManagedBlocker;
+import java.util.concurrent.Semaphore;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+/**
+ * JUnit Jupiter extension that caps how many compiler versions of the same test template may run
+ * at once.
+ *
+ * <p>The cap is registered by {@link AbstractCompilersProvider} when the provided compilers are
+ * created, so it only applies to test templates that have a parallelism configured. JUnit will
+ * only run the invocations of a test template concurrently if parallel execution is enabled and
+ * the test is annotated with
+ * {@link org.junit.jupiter.api.parallel.Execution @Execution(ExecutionMode.CONCURRENT)}.
+ *
+ * <p>Invocations that are waiting for a permit are blocked in a way that allows the JUnit
+ * fork-join pool to compensate with additional worker threads, so other tests can continue to
+ * run in the meantime.
+ *
+ * <p>Custom compiler test annotations should register this extension using
+ * {@code @ExtendWith(CompilerInvocationLimiter.class)} alongside their
+ * {@code @ArgumentsSource}.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.STABLE)
+public final class CompilerInvocationLimiter implements InvocationInterceptor {
+
+  private static final Namespace NAMESPACE = Namespace.create(CompilerInvocationLimiter.class);
+  private static final String PERMITS_KEY = "permits";
+
+  /**
+   * Initialise this extension.
+   *
+   * <p>This is only expected to be called by JUnit.
+   */
+  public CompilerInvocationLimiter() {
+    // Nothing to do here.
+  }
+
+  @Override
+  public void interceptTestTemplateMethod(
+      Invocation<Void> invocation,
+      ReflectiveInvocationContext<Method> invocationContext,
+      ExtensionContext extensionContext
+  ) throws Throwable {
+    // Stores are hierarchical, so this finds the permits registered on the test template.
+    var permits = extensionContext.getStore(NAMESPACE).get(PERMITS_KEY, Semaphore.class);
+
+    if (permits == null) {
+      invocation.proceed();
+      return;
+    }
+
+    ForkJoinPool.managedBlock(new PermitBlocker(permits));
+
+    try {
+      invocation.proceed();
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Register the maximum number of concurrent invocations for the given test template.
+   *
+   * @param context     the context of the test template.
+   * @param parallelism the maximum number of concurrent invocations.
+   */
+  static void register(ExtensionContext context, int parallelism) {
+    context.getStore(NAMESPACE).put(PERMITS_KEY, new Semaphore(parallelism, true));
+  }
+
+  private static final class PermitBlocker implements ManagedBlocker {
+
+    private final Semaphore permits;
+    private boolean acquired;
+
+    private PermitBlocker(Semaphore permits) {
+      this.permits = permits;
+      acquired = false;
+    }
+
+    @Override
+    public boolean block() throws InterruptedException {
+      if (!acquired) {
+        permits.acquire();
+        acquired = true;
+      }
+
+      return true;
+    }
+
+    @Override
+    public boolean isReleasable() {
+      if (!acquired) {
+        acquired = permits.tryAcquire();
+      }
+
+      return acquired;
+    }
+  }
+}
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Tags;
 import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
@@ -45,6 +46,11 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
  * <p>If your build is running in a GraalVM Native Image, then this test will not execute, as
  * the <em>Java Compiler Testing</em> API is not yet tested within Native Images.
  *
+ * <p>Each compiler version is reported as a separate invocation of the test. If JUnit parallel
+ * execution is enabled, annotating the test with
+ * {@link org.junit.jupiter.api.parallel.Execution @Execution(ExecutionMode.CONCURRENT)} will run
+ * the versions concurrently, up to the limit set by {@link #parallelism()}.
+ *
  * @author Ashley Scopes
  * @since 0.0.1
  */
@@ -52,6 +58,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 @ArgumentsSource(JavacCompilersProvider.class)
 @DisabledInNativeImage
 @Documented
+@ExtendWith(CompilerInvocationLimiter.class)
 @Inherited
 @ParameterizedTest(name = "for compiler \"{0}\"")
 @Retention(RetentionPolicy.RUNTIME)
@@ -108,4 +115,20 @@ public @interface JavacCompilerTest {
    * @return the version strategy to use.
    */
   VersionStrategy versionStrategy() default VersionStrategy.RELEASE;
+
+  /**
+   * The maximum number of compiler versions of this test to run at the same time.
+   *
+   * <p>This only has an effect when JUnit runs the versions concurrently, which requires
+   * parallel execution to be enabled and the test to be annotated with
+   * {@link org.junit.jupiter.api.parallel.Execution @Execution(ExecutionMode.CONCURRENT)}.
+   * Each compiler shares the same JVM-wide inherited locations and class path indexes, so running
+   * the versions concurrently does not repeat that work.
+   *
+   * <p>The default is {@code 0}, which does not impose a limit beyond the parallelism that JUnit
+   * is configured with.
+   *
+   * @return the maximum number of versions to run at once, or {@code 0} for no limit.
+   */
+  int parallelism() default 0;
 }
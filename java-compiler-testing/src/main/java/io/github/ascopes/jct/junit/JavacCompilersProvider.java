@@ -66,7 +66,8 @@ public final class JavacCompilersProvider extends AbstractCompilersProvider
         javacCompilers.maxVersion(),
         javacCompilers.modules(),
         javacCompilers.configurers(),
-        javacCompilers.versionStrategy()
+        javacCompilers.versionStrategy(),
+        javacCompilers.parallelism()
     );
   }
 }
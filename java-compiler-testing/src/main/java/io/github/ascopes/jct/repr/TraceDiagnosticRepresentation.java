@@ -162,7 +162,8 @@ public final class TraceDiagnosticRepresentation implements Representation {
     var implName = fileObject.getClass().getName();
     var uri = fileObject.toUri();
 
-    // Try to get the content via the getCharContent method.
+    // Try to get the content via the getCharContent method. For path file objects created with a
+    // content cache, this avoids reading the file again for every diagnostic that refers to it.
     try {
       var content = fileObject.getCharContent(true);
       if (content != null) {
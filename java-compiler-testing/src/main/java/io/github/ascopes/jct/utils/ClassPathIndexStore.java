@@ -0,0 +1,316 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.utils;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A persistent on-disk store of indexes for archives on the class path, shared between JVMs.
+ *
+ * <p>In-memory caches are lost each time a new JVM is started, which is usually once per test
+ * fork. This store allows the results of indexing an archive, such as the packages it contains
+ * or the modules it provides, to be written to a directory and read back in by later JVMs.
+ * Only archives on the default file system are stored, since the paths of archives on other file
+ * systems, such as in-memory ones, do not identify the same archive across file systems or JVMs.
+ *
+ * <p>Each index is held in its own small file, named after the archive path and the kind of
+ * index. Each file records the size and modification time of the archive it was built from, and
+ * is treated as missing once either of those changes, so stale indexes are rebuilt one archive
+ * at a time. Files are replaced atomically, so concurrent JVMs sharing the same directory will
+ * never see a partially written index. Any error reading or writing the store is logged and
+ * otherwise ignored, since the store is only ever an optimisation.
+ *
+ * <p>The store is disabled by default. It is enabled by setting the
+ * {@value #DIRECTORY_PROPERTY} system property to a directory, for example
+ * {@code target/jct-index}.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class ClassPathIndexStore {
+
+  /**
+   * The system property that holds the directory to persist indexes in.
+   */
+  public static final String DIRECTORY_PROPERTY = "jct.index.directory";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ClassPathIndexStore.class);
+  private static final Map<Path, ClassPathIndexStore> INSTANCES = new ConcurrentHashMap<>();
+
+  private static final int MAGIC = 0x4a435449;
+  private static final int FORMAT_VERSION = 1;
+  private static final String FILE_EXTENSION = ".idx";
+
+  /**
+   * Get the store configured by the {@value #DIRECTORY_PROPERTY} system property.
+   *
+   * @return the store, or {@code null} if no directory is configured.
+   */
+  @Nullable
+  public static ClassPathIndexStore getConfiguredInstance() {
+    var directory = System.getProperty(DIRECTORY_PROPERTY);
+
+    if (directory == null || directory.isBlank()) {
+      return null;
+    }
+
+    return INSTANCES.computeIfAbsent(
+        Path.of(directory).toAbsolutePath().normalize(),
+        ClassPathIndexStore::new
+    );
+  }
+
+  private final Path directory;
+
+  /**
+   * Initialise this store.
+   *
+   * <p>Most callers will want to use {@link #getConfiguredInstance()} rather than creating a new
+   * store.
+   *
+   * @param directory the directory to hold the index files in. This will be created on first
+   *                  write if it does not exist.
+   */
+  public ClassPathIndexStore(Path directory) {
+    this.directory = requireNonNull(directory, "directory");
+  }
+
+  /**
+   * Get the directory holding the index files.
+   *
+   * @return the directory.
+   */
+  public Path getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Read an index for the given archive.
+   *
+   * @param archive the archive that was indexed.
+   * @param kind    the kind of index, which must be unique for each type of data stored about
+   *                the archive.
+   * @return the index, or {@code null} if no up-to-date index is stored.
+   */
+  @Nullable
+  public Map<String, String> read(Path archive, String kind) {
+    if (!isStorable(archive)) {
+      return null;
+    }
+
+    var archivePath = archive.toAbsolutePath().normalize();
+    var indexFile = indexFileFor(archivePath, kind);
+
+    try {
+      // Index files are small, so reading them outright is cheaper than mapping them, and does
+      // not hold the file open while concurrent writers try to replace it.
+      var buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+      var attributes = Files.readAttributes(archivePath, BasicFileAttributes.class);
+
+      if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+        LOGGER.debug("Ignoring index {} for {} with an unknown format", indexFile, archivePath);
+        return null;
+      }
+
+      if (!readString(buffer).equals(archivePath.toString())
+          || !readString(buffer).equals(kind)
+          || buffer.getLong() != attributes.size()
+          || buffer.getLong() != attributes.lastModifiedTime().toMillis()) {
+        LOGGER.trace("Ignoring stale index {} for {}", indexFile, archivePath);
+        return null;
+      }
+
+      var count = buffer.getInt();
+      var entries = new HashMap<String, String>(count * 2);
+
+      for (var i = 0; i < count; ++i) {
+        entries.put(readString(buffer), readString(buffer));
+      }
+
+      LOGGER.trace("Read {} entries from index {} for {}", count, indexFile, archivePath);
+      return Map.copyOf(entries);
+
+    } catch (NoSuchFileException ex) {
+      return null;
+    } catch (IOException | BufferUnderflowException | IllegalArgumentException ex) {
+      LOGGER.debug("Ignoring unreadable index {} for {}", indexFile, archivePath, ex);
+      return null;
+    }
+  }
+
+  /**
+   * Write an index for the given archive, replacing any existing index of the same kind.
+   *
+   * @param archive the archive that was indexed.
+   * @param kind    the kind of index, which must be unique for each type of data stored about
+   *                the archive.
+   * @param entries the entries to store.
+   */
+  public void write(Path archive, String kind, Map<String, String> entries) {
+    if (!isStorable(archive)) {
+      return;
+    }
+
+    var archivePath = archive.toAbsolutePath().normalize();
+    var indexFile = indexFileFor(archivePath, kind);
+    Path tempFile = null;
+
+    try {
+      var attributes = Files.readAttributes(archivePath, BasicFileAttributes.class);
+      var buffer = new ByteBufferBuilder()
+          .putInt(MAGIC)
+          .putInt(FORMAT_VERSION)
+          .putString(archivePath.toString())
+          .putString(kind)
+          .putLong(attributes.size())
+          .putLong(attributes.lastModifiedTime().toMillis())
+          .putInt(entries.size());
+
+      for (var entry : entries.entrySet()) {
+        buffer.putString(entry.getKey()).putString(entry.getValue());
+      }
+
+      Files.createDirectories(directory);
+      tempFile = Files.createTempFile(directory, indexFile.getFileName().toString(), ".tmp");
+      Files.write(tempFile, buffer.toByteArray());
+      Files.move(
+          tempFile,
+          indexFile,
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING
+      );
+      tempFile = null;
+
+      LOGGER.trace("Wrote {} entries to index {} for {}", entries.size(), indexFile, archivePath);
+
+    } catch (IOException ex) {
+      LOGGER.debug("Failed to write index {} for {}, ignoring", indexFile, archivePath, ex);
+    } finally {
+      if (tempFile != null) {
+        try {
+          Files.deleteIfExists(tempFile);
+        } catch (IOException ex) {
+          LOGGER.debug("Failed to delete temporary index file {}, ignoring", tempFile, ex);
+        }
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("directory", directory)
+        .toString();
+  }
+
+  private boolean isStorable(Path archive) {
+    return archive.getFileSystem() == FileSystems.getDefault();
+  }
+
+  private Path indexFileFor(Path archivePath, String kind) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256");
+      digest.update(archivePath.toString().getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      digest.update(kind.getBytes(StandardCharsets.UTF_8));
+
+      var name = new StringBuilder();
+      for (var b : digest.digest()) {
+        name.append(Character.forDigit((b >> 4) & 0xF, 16))
+            .append(Character.forDigit(b & 0xF, 16));
+      }
+
+      return directory.resolve(name.append(FILE_EXTENSION).toString());
+    } catch (NoSuchAlgorithmException ex) {
+      // Every JVM is required to support SHA-256, so this should never happen.
+      throw new IllegalStateException("SHA-256 is not supported by this JVM", ex);
+    }
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    var length = buffer.getInt();
+
+    if (length < 0 || length > buffer.remaining()) {
+      throw new IllegalArgumentException("Invalid string length " + length);
+    }
+
+    var bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static final class ByteBufferBuilder {
+
+    private ByteBuffer buffer;
+
+    private ByteBufferBuilder() {
+      buffer = ByteBuffer.allocate(4_096);
+    }
+
+    private ByteBufferBuilder putInt(int value) {
+      ensureCapacity(Integer.BYTES).putInt(value);
+      return this;
+    }
+
+    private ByteBufferBuilder putLong(long value) {
+      ensureCapacity(Long.BYTES).putLong(value);
+      return this;
+    }
+
+    private ByteBufferBuilder putString(String value) {
+      var bytes = value.getBytes(StandardCharsets.UTF_8);
+      ensureCapacity(Integer.BYTES + bytes.length).putInt(bytes.length).put(bytes);
+      return this;
+    }
+
+    private byte[] toByteArray() {
+      var bytes = new byte[buffer.position()];
+      buffer.flip().get(bytes);
+      return bytes;
+    }
+
+    private ByteBuffer ensureCapacity(int required) {
+      if (buffer.remaining() < required) {
+        var newCapacity = Math.max(buffer.capacity() * 2, buffer.position() + required);
+        buffer = ByteBuffer.allocate(newCapacity).put(buffer.flip());
+      }
+
+      return buffer;
+    }
+  }
+}
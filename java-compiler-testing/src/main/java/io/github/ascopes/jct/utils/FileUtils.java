@@ -22,10 +22,12 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import javax.tools.JavaFileObject.Kind;
@@ -276,8 +278,16 @@ public final class FileUtils extends UtilityClass {
     // path.getFileName() will be null if the path is the root path. Shouldn't ever
     // result in this being called ideally, but this prevents unexpected NullPointerExceptions
     // elsewhere.
-    var fileName = Objects.toString(path.getFileName(), "");
+    return fileNameToKind(Objects.toString(path.getFileName(), ""));
+  }
 
+  /**
+   * Determine the kind of file with the given file name.
+   *
+   * @param fileName the file name to inspect.
+   * @return the kind of file. If not known, this will return {@link Kind#OTHER}.
+   */
+  public static Kind fileNameToKind(String fileName) {
     for (var kind : KINDS) {
       if (fileName.endsWith(kind.extension)) {
         return kind;
@@ -302,6 +312,24 @@ public final class FileUtils extends UtilityClass {
     return path -> Files.isRegularFile(path) && kinds.contains(pathToKind(path));
   }
 
+  /**
+   * Return a predicate for NIO paths and their attributes that filters out any files that do not
+   * match one of the given file kinds.
+   *
+   * <p>This behaves like {@link #fileWithAnyKind(Set)}, but uses attributes that have already
+   * been read, such as those provided by
+   * {@link Files#find(Path, int, BiPredicate, java.nio.file.FileVisitOption...)}, rather than
+   * reading them from the file system again.
+   *
+   * @param kinds the set of kinds of file to allow.
+   * @return the predicate.
+   */
+  public static BiPredicate<Path, BasicFileAttributes> fileAttributesWithAnyKind(
+      Set<? extends Kind> kinds
+  ) {
+    return (path, attributes) -> attributes.isRegularFile() && kinds.contains(pathToKind(path));
+  }
+
   private static Path resolve(Path root, String... parts) {
     for (var part : parts) {
       root = root.resolve(part);
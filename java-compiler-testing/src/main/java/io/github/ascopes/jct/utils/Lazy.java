@@ -16,6 +16,8 @@
 package io.github.ascopes.jct.utils;
 
 import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -30,7 +32,9 @@ import org.apiguardian.api.API.Status;
  * {@link Lazy#ifInitialized} for a mechanism to support this.
  *
  * <p>This descriptor is thread-safe. No guarantees are made about the thread-safety of the
- * internally stored data, nor the initializer supplier.
+ * internally stored data, nor the initializer supplier. Initialization is guarded by a
+ * {@link ReentrantLock} rather than a monitor, so virtual threads waiting for another thread to
+ * initialize the value do not pin their carrier threads.
  *
  * @param <T> the type of lazy value to return when accessed.
  * @author Ashley Scopes
@@ -41,7 +45,7 @@ import org.apiguardian.api.API.Status;
 public class Lazy<T> {
 
   private final Supplier<T> initializer;
-  private final Object lock;
+  private final Lock lock;
   private volatile T data;
 
   /**
@@ -51,24 +55,23 @@ public class Lazy<T> {
    */
   public Lazy(Supplier<T> initializer) {
     this.initializer = Objects.requireNonNull(initializer, "initializer must not be null");
-    lock = new Object();
+    lock = new ReentrantLock();
     data = null;
   }
 
   @Override
   public String toString() {
-    // Declare outside the synchronized block to help IntelliJ with a coverage bug.
-    String repr;
-
-    // Synchronize to prevent a race condition between reading
+    // Lock to prevent a race condition between reading
     // the data and reading the "initialized" flag.
-    synchronized (lock) {
-      repr = new ToStringBuilder(this)
+    lock.lock();
+
+    try {
+      return new ToStringBuilder(this)
           .attribute("data", data)
           .toString();
+    } finally {
+      lock.unlock();
     }
-
-    return repr;
   }
 
   /**
@@ -78,10 +81,14 @@ public class Lazy<T> {
    */
   public T access() {
     if (data == null) {
-      synchronized (lock) {
+      lock.lock();
+
+      try {
         if (data == null) {
           data = initializer.get();
         }
+      } finally {
+        lock.unlock();
       }
     }
 
@@ -98,8 +105,12 @@ public class Lazy<T> {
    */
   public void destroy() {
     if (data != null) {
-      synchronized (lock) {
+      lock.lock();
+
+      try {
         data = null;
+      } finally {
+        lock.unlock();
       }
     }
   }
@@ -117,10 +128,14 @@ public class Lazy<T> {
       ThrowingConsumer<? super T, ? extends E> consumer
   ) throws E {
     if (data != null) {
-      synchronized (lock) {
+      lock.lock();
+
+      try {
         if (data != null) {
           consumer.consume(data);
         }
+      } finally {
+        lock.unlock();
       }
     }
 
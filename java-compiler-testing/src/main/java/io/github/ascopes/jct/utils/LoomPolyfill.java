@@ -15,8 +15,14 @@
  */
 package io.github.ascopes.jct.utils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Polyfill support for Project Loom virtual threads.
@@ -27,6 +33,9 @@ import org.apiguardian.api.API.Status;
 @API(since = "0.0.1", status = Status.INTERNAL)
 public final class LoomPolyfill extends UtilityClass {
 
+  // Looked up once, as getThreadId is called for every diagnostic that is reported.
+  private static final @Nullable MethodHandle THREAD_ID = findThreadIdMethod();
+
   private LoomPolyfill() {
     // Static-only class.
   }
@@ -43,15 +52,43 @@ public final class LoomPolyfill extends UtilityClass {
     // Note: this test will never get 100% coverage on one JDK, because it totally depends on the
     // JDK in use as to which code path runs. In CI, it should get covered when reports are merged.
 
+    if (THREAD_ID != null) {
+      try {
+        return (long) THREAD_ID.invokeExact(thread);
+      } catch (Throwable ex) {
+        // Fall through to the legacy method.
+      }
+    }
+
+    @SuppressWarnings("deprecation")
+    var tid = thread.getId();
+    return tid;
+  }
+
+  /**
+   * Create a new executor that starts a new virtual thread for each task, if virtual threads are
+   * available.
+   *
+   * <p>Virtual threads are only used on JDK 21 and newer, where they are no longer a preview
+   * feature.
+   *
+   * @return the executor, or {@code null} if virtual threads are not available.
+   */
+  @Nullable
+  public static ExecutorService newVirtualThreadPerTaskExecutor() {
+    if (Runtime.version().feature() < 21) {
+      return null;
+    }
+
     try {
-      // If we are on JDK 19, attempt to call the .threadId() method instead of the .getId()
-      // method. The former is new to JDK 19 and fetches the virtual thread ID.
-      var method = Thread.class.getDeclaredMethod("threadId");
-      return (long) method.invoke(thread);
-    } catch (Exception ex) {
-      @SuppressWarnings("deprecation")
-      var tid = thread.getId();
-      return tid;
+      var method = MethodHandles.publicLookup().findStatic(
+          Executors.class,
+          "newVirtualThreadPerTaskExecutor",
+          MethodType.methodType(ExecutorService.class)
+      );
+      return (ExecutorService) method.invoke();
+    } catch (Throwable ex) {
+      return null;
     }
   }
 
@@ -63,4 +100,19 @@ public final class LoomPolyfill extends UtilityClass {
   public static Thread getCurrentThread() {
     return Thread.currentThread();
   }
+
+  @Nullable
+  private static MethodHandle findThreadIdMethod() {
+    try {
+      // If we are on JDK 19, use the .threadId() method instead of the .getId() method. The
+      // former is new to JDK 19 and fetches the virtual thread ID.
+      return MethodHandles.publicLookup().findVirtual(
+          Thread.class,
+          "threadId",
+          MethodType.methodType(long.class)
+      );
+    } catch (ReflectiveOperationException ex) {
+      return null;
+    }
+  }
 }
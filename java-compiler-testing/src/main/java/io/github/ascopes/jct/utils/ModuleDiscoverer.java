@@ -17,14 +17,20 @@ package io.github.ascopes.jct.utils;
 
 import static java.util.stream.Collectors.toMap;
 
+import java.io.IOException;
 import java.lang.module.FindException;
 import java.lang.module.ModuleFinder;
 import java.lang.module.ModuleReference;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +38,14 @@ import org.slf4j.LoggerFactory;
 /**
  * Utility for discovering modules in a given path.
  *
+ * <p>Discovering modules in a JAR requires opening it to look for a {@code module-info.class}
+ * or an {@code Automatic-Module-Name} manifest entry. Since the same JARs get inherited from the
+ * class path for every compilation, the results for regular files on the default file system
+ * are cached JVM-wide, including when no modules were found. Cached results are keyed by the
+ * size and modification time of the file, so modified files are rediscovered. If a
+ * {@link ClassPathIndexStore} is configured, results are also persisted there for use by other
+ * JVMs.
+ *
  * @author Ashley Scopes
  * @since 0.0.1 (0.0.1-M7)
  */
@@ -39,6 +53,8 @@ import org.slf4j.LoggerFactory;
 public final class ModuleDiscoverer extends UtilityClass {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ModuleDiscoverer.class);
+  private static final Map<Path, CachedModules> CACHE = new ConcurrentHashMap<>();
+  private static final String PERSISTED_INDEX_KIND = "modules";
 
   private ModuleDiscoverer() {
     // Static-only class.
@@ -54,6 +70,57 @@ public final class ModuleDiscoverer extends UtilityClass {
    * @return a map of module names to the path of the module's package root.
    */
   public static Map<String, Path> findModulesIn(Path path) {
+    var attributes = readCacheableAttributes(path);
+
+    if (attributes == null) {
+      return discoverModulesIn(path);
+    }
+
+    var key = path.toAbsolutePath().normalize();
+    var cached = CACHE.get(key);
+
+    if (cached != null && cached.isFor(attributes)) {
+      LOGGER.trace("Using cached discovery of {} modules in {}", cached.modules.size(), path);
+      return cached.modules;
+    }
+
+    var modules = loadOrDiscoverModulesIn(key);
+    var entry = new CachedModules(attributes, modules);
+    CACHE.put(key, entry);
+    return entry.modules;
+  }
+
+  /**
+   * Drop all cached module discovery results.
+   */
+  public static void clearCache() {
+    CACHE.clear();
+  }
+
+  private static Map<String, Path> loadOrDiscoverModulesIn(Path path) {
+    var store = ClassPathIndexStore.getConfiguredInstance();
+
+    if (store == null) {
+      return discoverModulesIn(path);
+    }
+
+    var persisted = store.read(path, PERSISTED_INDEX_KIND);
+
+    if (persisted != null) {
+      LOGGER.trace("Loaded persisted discovery of {} modules in {}", persisted.size(), path);
+      return persisted.entrySet()
+          .stream()
+          .collect(toMap(Map.Entry::getKey, entry -> Path.of(entry.getValue())));
+    }
+
+    var modules = discoverModulesIn(path);
+    store.write(path, PERSISTED_INDEX_KIND, modules.entrySet()
+        .stream()
+        .collect(toMap(Map.Entry::getKey, entry -> entry.getValue().toString())));
+    return modules;
+  }
+
+  private static Map<String, Path> discoverModulesIn(Path path) {
     try {
       // TODO(ascopes): should I deal with sources here too? How should I do that?
       return ModuleFinder
@@ -67,6 +134,22 @@ public final class ModuleDiscoverer extends UtilityClass {
     }
   }
 
+  @Nullable
+  private static BasicFileAttributes readCacheableAttributes(Path path) {
+    // Directories can change without their own modification time changing, and paths on other
+    // file systems (such as in-memory workspaces) are rarely reused, so we avoid caching those.
+    if (path.getFileSystem() != FileSystems.getDefault()) {
+      return null;
+    }
+
+    try {
+      var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+      return attributes.isRegularFile() ? attributes : null;
+    } catch (IOException ex) {
+      return null;
+    }
+  }
+
   private static Function<ModuleReference, String> nameExtractor() {
     return ref -> ref.descriptor().name();
   }
@@ -74,4 +157,22 @@ public final class ModuleDiscoverer extends UtilityClass {
   private static Function<ModuleReference, Path> pathExtractor() {
     return ref -> Path.of(ref.location().orElseThrow());
   }
+
+  private static final class CachedModules {
+
+    private final long size;
+    private final long lastModified;
+    private final Map<String, Path> modules;
+
+    private CachedModules(BasicFileAttributes attributes, Map<String, Path> modules) {
+      size = attributes.size();
+      lastModified = attributes.lastModifiedTime().toMillis();
+      this.modules = Map.copyOf(modules);
+    }
+
+    private boolean isFor(BasicFileAttributes attributes) {
+      return size == attributes.size()
+          && lastModified == attributes.lastModifiedTime().toMillis();
+    }
+  }
 }
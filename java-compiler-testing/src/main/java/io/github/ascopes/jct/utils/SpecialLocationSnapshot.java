@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.utils;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An immutable snapshot of a path-like JVM location, such as the class path.
+ *
+ * <p>Snapshots are produced and memoized by {@link SpecialLocationUtils}. Two snapshots are
+ * equal if they were built from the same raw value and retained the same paths, regardless of
+ * how long either took to build.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class SpecialLocationSnapshot {
+
+  private final String rawValue;
+  private final int rawEntryCount;
+  private final List<Path> paths;
+  private final Duration buildDuration;
+
+  /**
+   * Initialise this snapshot.
+   *
+   * @param rawValue      the raw path-separated value that the snapshot was built from.
+   * @param rawEntryCount the number of entries in the raw value.
+   * @param paths         the paths that were retained.
+   * @param buildDuration how long it took to build the snapshot.
+   */
+  public SpecialLocationSnapshot(
+      String rawValue,
+      int rawEntryCount,
+      List<Path> paths,
+      Duration buildDuration
+  ) {
+    this.rawValue = requireNonNull(rawValue, "rawValue");
+    this.rawEntryCount = rawEntryCount;
+    this.paths = List.copyOf(requireNonNull(paths, "paths"));
+    this.buildDuration = requireNonNull(buildDuration, "buildDuration");
+  }
+
+  /**
+   * Get the raw path-separated value that this snapshot was built from.
+   *
+   * @return the raw value.
+   */
+  public String getRawValue() {
+    return rawValue;
+  }
+
+  /**
+   * Get the number of non-blank entries in the raw value.
+   *
+   * @return the number of raw entries.
+   */
+  public int getRawEntryCount() {
+    return rawEntryCount;
+  }
+
+  /**
+   * Get the paths that were retained after removing duplicates, excluded files, and paths that
+   * did not exist.
+   *
+   * @return the paths.
+   */
+  public List<Path> getPaths() {
+    return paths;
+  }
+
+  /**
+   * Get the number of entries that were discarded.
+   *
+   * @return the number of discarded entries.
+   */
+  public int getSkippedEntryCount() {
+    return rawEntryCount - paths.size();
+  }
+
+  /**
+   * Get how long it took to build this snapshot.
+   *
+   * @return the build duration.
+   */
+  public Duration getBuildDuration() {
+    return buildDuration;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object other) {
+    if (!(other instanceof SpecialLocationSnapshot)) {
+      return false;
+    }
+
+    var that = (SpecialLocationSnapshot) other;
+    return rawValue.equals(that.rawValue)
+        && rawEntryCount == that.rawEntryCount
+        && paths.equals(that.paths);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(rawValue, rawEntryCount, paths);
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("rawEntryCount", rawEntryCount)
+        .attribute("pathCount", paths.size())
+        .attribute("buildDuration", buildDuration)
+        .toString();
+  }
+}
@@ -22,8 +22,11 @@ import java.lang.management.ManagementFactory;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -33,6 +36,12 @@ import org.slf4j.LoggerFactory;
 /**
  * Helper methods that expose special JVM locations.
  *
+ * <p>Parsing these locations requires checking that every entry exists, which is costly for
+ * large class paths on slow file systems. To avoid repeating this for every compilation, the
+ * parsed locations are memoized as {@link SpecialLocationSnapshot snapshots}. A snapshot is reused
+ * for as long as the raw value it was built from is unchanged, and can be discarded explicitly
+ * with {@link #invalidateSnapshots()} if files on the paths are created or deleted.
+ *
  * @author Ashley Scopes
  * @since 0.0.1
  */
@@ -59,6 +68,15 @@ public final class SpecialLocationUtils extends UtilityClass {
       System.getProperty("path.separator", File.pathSeparator)
   );
 
+  private static final AtomicReference<SpecialLocationSnapshot> CLASS_PATH_SNAPSHOT
+      = new AtomicReference<>();
+  private static final AtomicReference<SpecialLocationSnapshot> MODULE_PATH_SNAPSHOT
+      = new AtomicReference<>();
+  private static final AtomicReference<SpecialLocationSnapshot> PLATFORM_CLASS_PATH_SNAPSHOT
+      = new AtomicReference<>();
+  private static final LongAdder SNAPSHOT_HITS = new LongAdder();
+  private static final LongAdder SNAPSHOT_MISSES = new LongAdder();
+
   private SpecialLocationUtils() {
     // Disallow initialisation.
   }
@@ -91,7 +109,18 @@ public final class SpecialLocationUtils extends UtilityClass {
    * @return a list across the paths.
    */
   public static List<Path> currentClassPathLocations() {
-    return createPaths(ManagementFactory.getRuntimeMXBean().getClassPath());
+    return currentClassPathSnapshot().getPaths();
+  }
+
+  /**
+   * Get the memoized snapshot of the classpath of the current JVM.
+   *
+   * @return the snapshot.
+   * @see #currentClassPathLocations()
+   */
+  public static SpecialLocationSnapshot currentClassPathSnapshot() {
+    var raw = ManagementFactory.getRuntimeMXBean().getClassPath();
+    return snapshot(CLASS_PATH_SNAPSHOT, raw);
   }
 
   /**
@@ -106,7 +135,18 @@ public final class SpecialLocationUtils extends UtilityClass {
    * @return a list across the paths.
    */
   public static List<Path> currentModulePathLocations() {
-    return createPaths(System.getProperty(JDK_MODULE_PROPERTY, NO_PATH));
+    return currentModulePathSnapshot().getPaths();
+  }
+
+  /**
+   * Get the memoized snapshot of the module path of the current JVM.
+   *
+   * @return the snapshot.
+   * @see #currentModulePathLocations()
+   */
+  public static SpecialLocationSnapshot currentModulePathSnapshot() {
+    var raw = System.getProperty(JDK_MODULE_PROPERTY, NO_PATH);
+    return snapshot(MODULE_PATH_SNAPSHOT, raw);
   }
 
   /**
@@ -122,21 +162,107 @@ public final class SpecialLocationUtils extends UtilityClass {
    * @return a list across the paths.
    */
   public static List<Path> currentPlatformClassPathLocations() {
+    return currentPlatformClassPathSnapshot().getPaths();
+  }
+
+  /**
+   * Get the memoized snapshot of the boot classpath of the current JVM.
+   *
+   * <p>If the boot classpath is not supported, the snapshot will be empty.
+   *
+   * @return the snapshot.
+   * @see #currentPlatformClassPathLocations()
+   */
+  public static SpecialLocationSnapshot currentPlatformClassPathSnapshot() {
     var mxBean = ManagementFactory.getRuntimeMXBean();
 
     if (mxBean.isBootClassPathSupported()) {
       LOGGER.trace("Platform (boot) classpath is supported on this JVM, so will be inspected");
-      return createPaths(mxBean.getBootClassPath());
+      return snapshot(PLATFORM_CLASS_PATH_SNAPSHOT, mxBean.getBootClassPath());
     }
 
     LOGGER.trace("Platform (boot) classpath is not supported on this JVM, so will be ignored");
-    return List.of();
+    return snapshot(PLATFORM_CLASS_PATH_SNAPSHOT, NO_PATH);
+  }
+
+  /**
+   * Discard all memoized snapshots, forcing them to be rebuilt the next time they are requested.
+   *
+   * <p>This should be called if paths on any of the locations may have been created or deleted
+   * since the snapshots were taken.
+   */
+  public static void invalidateSnapshots() {
+    LOGGER.trace("Invalidating special location snapshots");
+    CLASS_PATH_SNAPSHOT.set(null);
+    MODULE_PATH_SNAPSHOT.set(null);
+    PLATFORM_CLASS_PATH_SNAPSHOT.set(null);
   }
 
-  private static List<Path> createPaths(String raw) {
-    return SEPARATOR
+  /**
+   * Get the number of times a memoized snapshot has been reused.
+   *
+   * @return the number of hits.
+   */
+  public static long getSnapshotHitCount() {
+    return SNAPSHOT_HITS.sum();
+  }
+
+  /**
+   * Get the number of times a snapshot has had to be built.
+   *
+   * @return the number of misses.
+   */
+  public static long getSnapshotMissCount() {
+    return SNAPSHOT_MISSES.sum();
+  }
+
+  private static SpecialLocationSnapshot snapshot(
+      AtomicReference<SpecialLocationSnapshot> reference,
+      String raw
+  ) {
+    var existing = reference.get();
+
+    if (existing != null && existing.getRawValue().equals(raw)) {
+      SNAPSHOT_HITS.increment();
+      return existing;
+    }
+
+    SNAPSHOT_MISSES.increment();
+
+    // Racing threads may both build a snapshot. Only the first one to be published is kept, so
+    // that every caller ends up sharing the same instance.
+    var startTime = System.nanoTime();
+    var rawEntries = SEPARATOR
         .splitToStream(raw)
         .filter(not(String::isBlank))
+        .collect(Collectors.toUnmodifiableList());
+    var paths = createPaths(rawEntries);
+    var snapshot = new SpecialLocationSnapshot(
+        raw,
+        rawEntries.size(),
+        paths,
+        Duration.ofNanos(System.nanoTime() - startTime)
+    );
+
+    if (reference.compareAndSet(existing, snapshot)) {
+      LOGGER.debug("Built special location snapshot {}", snapshot);
+      return snapshot;
+    }
+
+    var winner = reference.get();
+
+    if (winner != null && winner.getRawValue().equals(raw)) {
+      LOGGER.trace("Discarding special location snapshot {} built by a racing thread", snapshot);
+      return winner;
+    }
+
+    // The snapshots were invalidated or the raw value changed while this one was being built.
+    return snapshot;
+  }
+
+  private static List<Path> createPaths(List<String> rawEntries) {
+    return rawEntries
+        .stream()
         .map(Path::of)
         .filter(not(SpecialLocationUtils::isBlacklistedFile))
         // We have to check this, annoyingly, because some tools like Maven (Surefire) will report
@@ -299,6 +299,34 @@ public interface Workspace extends AutoCloseable {
    */
   ManagedDirectory createPackage(Location location);
 
+  /**
+   * Create a new test directory for a package root without associating it with any location.
+   *
+   * <p>The directory will not be included in {@link #getAllPaths()}, so it will not be seen by
+   * any compilation that this workspace is given to. It will still be destroyed when the
+   * workspace is {@link #close() closed}.
+   *
+   * <p>This is used to give compilations private output locations, and unlike the other methods
+   * on this interface, may be called from multiple threads at the same time.
+   *
+   * <p>The default implementation does not support detached packages, so workspaces that do not
+   * override this method cannot be used by compilers with
+   * {@link io.github.ascopes.jct.compilers.JctCompiler#isolatedOutputs(boolean) isolated outputs}.
+   *
+   * @param location the location that the directory will be used for. This is only used to name
+   *                 the directory.
+   * @return the test directory that was created.
+   * @throws IllegalArgumentException      if the location is
+   *                                       {@link Location#isModuleOrientedLocation()
+   *                                       module-oriented}.
+   * @throws UnsupportedOperationException if this workspace does not support detached packages.
+   */
+  default ManagedDirectory createDetachedPackage(Location location) {
+    throw new UnsupportedOperationException(
+        getClass().getName() + " does not support detached packages"
+    );
+  }
+
   /**
    * Create a new test directory for a package root and associate it with the given module name in
    * the given location.
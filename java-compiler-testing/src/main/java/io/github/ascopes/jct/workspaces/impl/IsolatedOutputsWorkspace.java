@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.workspaces.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ascopes.jct.filemanagers.ModuleLocation;
+import io.github.ascopes.jct.utils.ToStringBuilder;
+import io.github.ascopes.jct.workspaces.ManagedDirectory;
+import io.github.ascopes.jct.workspaces.PathRoot;
+import io.github.ascopes.jct.workspaces.PathStrategy;
+import io.github.ascopes.jct.workspaces.Workspace;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.tools.JavaFileManager.Location;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A view of a workspace for a single compilation, where the workspace is treated as read-only
+ * and the compilation gets its own output locations.
+ *
+ * <p>Output locations registered in the underlying workspace are hidden, and any locations
+ * created through this view are created as
+ * {@link Workspace#createDetachedPackage(Location) detached packages} of the underlying
+ * workspace. This means the underlying workspace is never modified, so it can be shared between
+ * many concurrent compilations, and the directories that are created are still destroyed when
+ * the underlying workspace is closed.
+ *
+ * @author Ashley Scopes
+ * @since 0.0.1
+ */
+@API(since = "0.0.1", status = Status.INTERNAL)
+public final class IsolatedOutputsWorkspace implements Workspace {
+
+  private final Workspace delegate;
+
+  /**
+   * Initialise this view.
+   *
+   * @param delegate the workspace to wrap.
+   */
+  public IsolatedOutputsWorkspace(Workspace delegate) {
+    this.delegate = requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * Get the underlying workspace.
+   *
+   * @return the underlying workspace.
+   */
+  public Workspace getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public void addPackage(Location location, Path path) {
+    throw readOnly();
+  }
+
+  @Override
+  public void addModule(Location location, String moduleName, Path path) {
+    throw readOnly();
+  }
+
+  @Override
+  public void close() {
+    // The underlying workspace owns every directory, including those created here.
+  }
+
+  @Override
+  public ManagedDirectory createPackage(Location location) {
+    return delegate.createDetachedPackage(location);
+  }
+
+  @Override
+  public ManagedDirectory createDetachedPackage(Location location) {
+    return delegate.createDetachedPackage(location);
+  }
+
+  @Override
+  public ManagedDirectory createModule(Location location, String moduleName) {
+    requireNonNull(location, "location");
+    requireNonNull(moduleName, "moduleName");
+    return delegate.createDetachedPackage(new ModuleLocation(location, moduleName));
+  }
+
+  @Override
+  public Map<Location, List<? extends PathRoot>> getAllPaths() {
+    var inputPaths = new HashMap<Location, List<? extends PathRoot>>();
+
+    delegate.getAllPaths().forEach((location, paths) -> {
+      if (!location.isOutputLocation()) {
+        inputPaths.put(location, paths);
+      }
+    });
+
+    return Collections.unmodifiableMap(inputPaths);
+  }
+
+  @Override
+  public PathStrategy getPathStrategy() {
+    return delegate.getPathStrategy();
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attribute("delegate", delegate)
+        .toString();
+  }
+
+  private static UnsupportedOperationException readOnly() {
+    return new UnsupportedOperationException(
+        "Cannot add paths to a workspace that is being compiled with isolated outputs"
+    );
+  }
+}
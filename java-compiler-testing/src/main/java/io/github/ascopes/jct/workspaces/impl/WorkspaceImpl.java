@@ -29,6 +29,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import javax.tools.JavaFileManager.Location;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -36,7 +38,9 @@ import org.apiguardian.api.API.Status;
 /**
  * Implementation of a workspace to use by default.
  *
- * <p>This is not threadsafe, and should only be used once per test.
+ * <p>This is not threadsafe, and should only be used once per test. The only exception is
+ * {@link #createDetachedPackage(Location)}, which allows compilations with isolated outputs to
+ * share the same workspace concurrently.
  *
  * <p>Care should be taken to use instances of this class in a try-with-resources block
  * to ensure resources get closed correctly at the end of your tests.
@@ -49,10 +53,12 @@ public final class WorkspaceImpl implements Workspace {
 
   private final PathStrategy pathStrategy;
   private final Map<Location, List<PathRoot>> paths;
+  private final Queue<ManagedDirectory> detachedPaths;
 
   public WorkspaceImpl(PathStrategy pathStrategy) {
     this.pathStrategy = requireNonNull(pathStrategy, "pathStrategy");
     paths = new HashMap<>();
+    detachedPaths = new ConcurrentLinkedQueue<>();
   }
 
   @Override
@@ -73,6 +79,14 @@ public final class WorkspaceImpl implements Workspace {
       }
     }
 
+    for (var path : detachedPaths) {
+      try {
+        path.close();
+      } catch (Exception ex) {
+        exceptions.add(ex);
+      }
+    }
+
     if (exceptions.size() > 0) {
       var newEx = new IllegalStateException("One or more components failed to close");
       exceptions.forEach(newEx::addSuppressed);
@@ -129,6 +143,19 @@ public final class WorkspaceImpl implements Workspace {
     return dir;
   }
 
+  @Override
+  public ManagedDirectory createDetachedPackage(Location location) {
+    requireNonNull(location, "location");
+
+    if (location.isModuleOrientedLocation()) {
+      throw new IllegalArgumentException("Location must not be module-oriented");
+    }
+
+    var dir = pathStrategy.newInstance(location.getName());
+    detachedPaths.add(dir);
+    return dir;
+  }
+
   @Override
   public ManagedDirectory createModule(Location location, String moduleName) {
     requireNonNull(location, "location");
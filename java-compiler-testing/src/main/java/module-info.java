@@ -15,6 +15,7 @@
  */
 
 import io.github.ascopes.jct.workspaces.RamFileSystemProvider;
+import javax.annotation.processing.Processor;
 
 /**
  * A framework for performing exhaustive integration testing against Java compilers in modern Java
@@ -96,6 +97,7 @@ module io.github.ascopes.jct {
 
   requires java.compiler;
   requires java.management;
+  requires static jdk.compiler;
   requires jimfs;
   requires me.xdrop.fuzzywuzzy;
   requires static transitive org.apiguardian.api;
@@ -124,6 +126,7 @@ module io.github.ascopes.jct {
   ///////////////////////////////////
 
   uses RamFileSystemProvider;
+  uses Processor;
 
   //////////////////////////////////////////////////////
   /// EXPOSURE OF INTERNALS TO THE TESTING NAMESPACE ///
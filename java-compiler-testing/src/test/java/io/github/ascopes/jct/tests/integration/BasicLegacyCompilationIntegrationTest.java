@@ -16,12 +16,30 @@
 package io.github.ascopes.jct.tests.integration;
 
 import static io.github.ascopes.jct.assertions.JctAssertions.assertThatCompilation;
+import static org.assertj.core.api.Assertions.assertThat;
 
+import io.github.ascopes.jct.compilers.AnnotationProcessorProfile;
+import io.github.ascopes.jct.compilers.JctCompilation;
 import io.github.ascopes.jct.compilers.JctCompiler;
+import io.github.ascopes.jct.compilers.impl.JavacContextPool;
+import io.github.ascopes.jct.containers.impl.PackageContainerGroupClassLoader;
 import io.github.ascopes.jct.junit.JavacCompilerTest;
 import io.github.ascopes.jct.tests.helpers.DoNotMutationTest;
 import io.github.ascopes.jct.workspaces.PathStrategy;
+import io.github.ascopes.jct.workspaces.Workspace;
 import io.github.ascopes.jct.workspaces.Workspaces;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
 import javax.tools.StandardLocation;
 import org.junit.jupiter.api.DisplayName;
 
@@ -87,4 +105,566 @@ class BasicLegacyCompilationIntegrationTest {
           .isNotEmptyFile();
     }
   }
+
+  @DisplayName("I can compile against inherited JARs when memory-mapping them")
+  @JavacCompilerTest
+  void compileAgainstInheritedJarsWhenMemoryMappingThem(JctCompiler<?, ?> compiler) {
+    try (var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES)) {
+      workspace
+          .createPackage(StandardLocation.SOURCE_PATH)
+          .createFile("com", "example", "HelloWorld.java").withContents(
+              "package com.example;",
+              "import org.slf4j.Logger;",
+              "import org.slf4j.LoggerFactory;",
+              "public class HelloWorld {",
+              "  private static final Logger LOGGER = LoggerFactory.getLogger(HelloWorld.class);",
+              "  public static void main(String[] args) {",
+              "    LOGGER.info(\"Hello, World\");",
+              "  }",
+              "}"
+          );
+
+      var compilation = compiler
+          .memoryMapJars(true)
+          .compile(workspace);
+
+      assertThatCompilation(compilation)
+          .isSuccessfulWithoutWarnings();
+
+      assertThatCompilation(compilation)
+          .classOutput().packages()
+          .fileExists("com", "example", "HelloWorld.class")
+          .isNotEmptyFile();
+    }
+  }
+
+  @DisplayName("I can compile against inherited JARs when listing them in parallel")
+  @JavacCompilerTest
+  void compileAgainstInheritedJarsWhenListingThemInParallel(JctCompiler<?, ?> compiler) {
+    try (var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES)) {
+      workspace
+          .createPackage(StandardLocation.SOURCE_PATH)
+          .createFile("com", "example", "HelloWorld.java").withContents(
+              "package com.example;",
+              "import org.slf4j.Logger;",
+              "import org.slf4j.LoggerFactory;",
+              "public class HelloWorld {",
+              "  private static final Logger LOGGER = LoggerFactory.getLogger(HelloWorld.class);",
+              "  public static void main(String[] args) {",
+              "    LOGGER.info(\"Hello, World\");",
+              "  }",
+              "}"
+          );
+
+      var compilation = compiler
+          .parallelListingThreshold(1)
+          .compile(workspace);
+
+      assertThatCompilation(compilation)
+          .isSuccessfulWithoutWarnings();
+      assertThat(compilation.getListingStatistics().getParallelListingCount())
+          .isPositive();
+
+      assertThatCompilation(compilation)
+          .classOutput().packages()
+          .fileExists("com", "example", "HelloWorld.class")
+          .isNotEmptyFile();
+    }
+  }
+
+  @DisplayName("I can compile a basic 'Hello, World!' program with outputs held in memory")
+  @JavacCompilerTest
+  void helloWorldWithHeapOutputs(JctCompiler<?, ?> compiler) {
+    try (var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES)) {
+      workspace
+          .createPackage(StandardLocation.SOURCE_PATH)
+          .createFile("com", "example", "HelloWorld.java").withContents(
+              "package com.example;",
+              "public class HelloWorld {",
+              "  public static void main(String[] args) {",
+              "    System.out.println(\"Hello, World\");",
+              "  }",
+              "}"
+          );
+
+      var compilation = compiler
+          .heapOutputs(true)
+          .compile(workspace);
+
+      assertThatCompilation(compilation)
+          .isSuccessfulWithoutWarnings();
+
+      assertThatCompilation(compilation)
+          .classOutput().packages()
+          .fileExists("com", "example", "HelloWorld.class")
+          .isNotEmptyFile();
+    }
+  }
+
+  @DisplayName("I can load every compiled class in a package from the class outputs")
+  @JavacCompilerTest
+  void loadCompiledPackage(JctCompiler<?, ?> compiler) throws Exception {
+    try (var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES)) {
+      workspace
+          .createPackage(StandardLocation.SOURCE_PATH)
+          .createFile("com", "example", "Foo.java").withContents(
+              "package com.example;",
+              "public class Foo {}"
+          )
+          .and()
+          .createFile("com", "example", "Bar.java").withContents(
+              "package com.example;",
+              "public class Bar extends Foo {}"
+          )
+          .and()
+          .createFile("com", "example", "package-info.java").withContents(
+              "package com.example;"
+          );
+
+      var compilation = compiler
+          .heapOutputs(true)
+          .compile(workspace);
+
+      assertThatCompilation(compilation)
+          .isSuccessfulWithoutWarnings();
+
+      var classLoader = (PackageContainerGroupClassLoader) compilation
+          .getClassOutputs()
+          .getClassLoader();
+
+      assertThat(classLoader.loadPackage("com.example"))
+          .extracting(Class::getName)
+          .containsExactlyInAnyOrder("com.example.Foo", "com.example.Bar");
+
+      var bar = classLoader.loadClass("com.example.Bar");
+      assertThat(bar.getClassLoader()).isSameAs(classLoader);
+      assertThat(bar.getSuperclass()).isSameAs(classLoader.loadClass("com.example.Foo"));
+      assertThat(bar.getProtectionDomain().getCodeSource().getLocation()).isNotNull();
+    }
+  }
+
+  @DisplayName("Lookups of read-only input locations are recorded during compilation")
+  @JavacCompilerTest
+  void lookupsOfReadOnlyInputLocationsAreRecorded(JctCompiler<?, ?> compiler) {
+    try (var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES)) {
+      workspace
+          .createPackage(StandardLocation.SOURCE_PATH)
+          .createFile("com", "example", "Foo.java").withContents(
+              "package com.example;",
+              "public class Foo {",
+              "  public String foo() { return new Bar().bar(); }",
+              "}"
+          )
+          .and()
+          .createFile("com", "example", "Bar.java").withContents(
+              "package com.example;",
+              "public class Bar {",
+              "  public String bar() { return String.valueOf(new Foo().hashCode()); }",
+              "}"
+          );
+
+      var compilation = compiler.compile(workspace);
+
+      assertThatCompilation(compilation)
+          .isSuccessfulWithoutWarnings();
+
+      assertThat(compilation.getLookupCacheStatistics().getMissCount())
+          .isPositive();
+    }
+  }
+
+  @DisplayName("File manager calls are profiled during compilation when enabled")
+  @JavacCompilerTest
+  void fileManagerCallsAreProfiledWhenEnabled(JctCompiler<?, ?> compiler) {
+    try (var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES)) {
+      workspace
+          .createPackage(StandardLocation.SOURCE_PATH)
+          .createFile("com", "example", "HelloWorld.java").withContents(
+              "package com.example;",
+              "public class HelloWorld {",
+              "  public static void main(String[] args) {",
+              "    System.out.println(\"Hello, World\");",
+              "  }",
+              "}"
+          );
+
+      var compilation = compiler
+          .fileManagerProfiling(true)
+          .compile(workspace);
+
+      assertThatCompilation(compilation)
+          .isSuccessfulWithoutWarnings();
+
+      var profile = compilation.getFileManagerProfile();
+      assertThat(profile.getCallCount()).isPositive();
+
+      var classOutputWrites = profile.getEntry("getJavaFileForOutput", "CLASS_OUTPUT");
+      assertThat(classOutputWrites).isNotNull();
+      assertThat(classOutputWrites.getCallCount()).isOne();
+    }
+  }
+
+  @DisplayName("The time spent in each compiler phase is recorded")
+  @JavacCompilerTest
+  void timeSpentInEachCompilerPhaseIsRecorded(JctCompiler<?, ?> compiler) {
+    try (var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES)) {
+      workspace
+          .createPackage(StandardLocation.SOURCE_PATH)
+          .createFile("com", "example", "HelloWorld.java").withContents(
+              "package com.example;",
+              "public class HelloWorld {",
+              "  public static void main(String[] args) {",
+              "    System.out.println(\"Hello, World\");",
+              "  }",
+              "}"
+          );
+
+      var compilation = compiler
+          .addAnnotationProcessors(new NoOpProcessor())
+          .compile(workspace);
+
+      assertThatCompilation(compilation)
+          .isSuccessfulWithoutWarnings();
+
+      var timings = assertThatCompilation(compilation).timings();
+      timings.parseTime().isPositive();
+      timings.enterTime().isPositive();
+      timings.analyzeTime().isPositive();
+      timings.generateTime().isPositive();
+      timings.annotationProcessingRoundTimes().isNotEmpty();
+      timings.totalTime().isGreaterThanOrEqualTo(compilation.getTimings().getAnalyzeTime());
+    }
+  }
+
+  @DisplayName("Annotation processors are profiled when enabled")
+  @JavacCompilerTest
+  void annotationProcessorsAreProfiledWhenEnabled(JctCompiler<?, ?> compiler) {
+    try (var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES)) {
+      workspace
+          .createPackage(StandardLocation.SOURCE_PATH)
+          .createFile("com", "example", "HelloWorld.java").withContents(
+              "package com.example;",
+              "public class HelloWorld {",
+              "}"
+          );
+
+      var compilation = compiler
+          .addAnnotationProcessors(new NoOpProcessor(), new GeneratingProcessor())
+          .annotationProcessorProfiling(true)
+          .compile(workspace);
+
+      assertThatCompilation(compilation)
+          .isSuccessfulWithoutWarnings();
+
+      assertThatCompilation(compilation)
+          .classOutput().packages()
+          .fileExists("com", "example", "Generated.class")
+          .isNotEmptyFile();
+
+      var profiles = compilation.getAnnotationProcessorProfiles();
+      assertThat(profiles)
+          .extracting(AnnotationProcessorProfile::getProcessorName)
+          .containsExactly(NoOpProcessor.class.getName(), GeneratingProcessor.class.getName());
+
+      // The generated source triggers a second round, followed by the final round.
+      var generatingProfile = profiles.get(1);
+      assertThat(generatingProfile.getRounds()).hasSizeGreaterThanOrEqualTo(2);
+      assertThat(generatingProfile.getRounds().get(0).getFilesCreated()).isOne();
+      assertThat(generatingProfile.getFilesCreated()).isOne();
+    }
+  }
+
+  @DisplayName("Annotation processors that the compiler discovers are left to the compiler")
+  @JavacCompilerTest
+  void annotationProcessorsThatTheCompilerDiscoversAreLeftToTheCompiler(
+      JctCompiler<?, ?> compiler
+  ) {
+    try (var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES)) {
+      workspace
+          .createPackage(StandardLocation.SOURCE_PATH)
+          .createFile("com", "example", "HelloWorld.java").withContents(
+              "package com.example;",
+              "public class HelloWorld {",
+              "}"
+          );
+
+      var compilation = compiler
+          .addCompilerOptions("-processor", GeneratingProcessor.class.getName())
+          .annotationProcessorProfiling(true)
+          .compile(workspace);
+
+      assertThatCompilation(compilation)
+          .isSuccessfulWithoutWarnings();
+
+      assertThatCompilation(compilation)
+          .classOutput().packages()
+          .fileExists("com", "example", "Generated.class")
+          .isNotEmptyFile();
+
+      assertThat(compilation.getAnnotationProcessorProfiles()).isEmpty();
+      assertThat(compilation.getTimings().getAnnotationProcessingRoundTimes())
+          .hasSizeGreaterThanOrEqualTo(2);
+    }
+  }
+
+  @DisplayName("Compiler contexts are reused between compilations when enabled")
+  @JavacCompilerTest
+  void compilerContextsAreReusedBetweenCompilationsWhenEnabled(JctCompiler<?, ?> compiler) {
+    compiler
+        .compilerContextReuse(true)
+        .memoryMapJars(true);
+
+    var pool = JavacContextPool.getInstance();
+    var reusedCountBefore = pool.getReusedCount();
+
+    try (var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES)) {
+      workspace
+          .createPackage(StandardLocation.SOURCE_PATH)
+          .createFile("com", "example", "First.java").withContents(
+              "package com.example;",
+              "public class First {",
+              "  public String greet() {",
+              "    return String.join(\", \", \"Hello\", \"World\");",
+              "  }",
+              "}"
+          );
+
+      assertThatCompilation(compiler.compile(workspace))
+          .isSuccessfulWithoutWarnings()
+          .classOutput().packages()
+          .fileExists("com", "example", "First.class")
+          .isNotEmptyFile();
+    }
+
+    try (var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES)) {
+      workspace
+          .createPackage(StandardLocation.SOURCE_PATH)
+          .createFile("com", "example", "Second.java").withContents(
+              "package com.example;",
+              "public class Second {",
+              "  public String greet() {",
+              "    return String.join(\", \", \"Goodbye\", \"World\");",
+              "  }",
+              "}"
+          );
+
+      var compilation = compiler.compile(workspace);
+
+      assertThatCompilation(compilation)
+          .isSuccessfulWithoutWarnings()
+          .classOutput().packages()
+          .fileExists("com", "example", "Second.class")
+          .isNotEmptyFile();
+
+      // Nothing from the previous workspace may leak into this one.
+      assertThatCompilation(compilation)
+          .classOutput().packages()
+          .fileDoesNotExist("com", "example", "First.class");
+    }
+
+    try (var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES)) {
+      workspace
+          .createPackage(StandardLocation.SOURCE_PATH)
+          .createFile("com", "example", "Third.java").withContents(
+              "package com.example;",
+              "public class Third {",
+              "  private final First first = new First();",
+              "}"
+          );
+
+      // First was only ever compiled in a previous workspace, so must not be visible here.
+      assertThatCompilation(compiler.compile(workspace))
+          .isFailure();
+    }
+
+    if (pool.isAvailable()) {
+      assertThat(pool.getReusedCount()).isGreaterThan(reusedCountBefore);
+    }
+  }
+
+  @DisplayName("I can compile many workspaces concurrently")
+  @JavacCompilerTest
+  void manyWorkspacesCanBeCompiledConcurrently(JctCompiler<?, ?> compiler) {
+    var workspaces = new ArrayList<Workspace>();
+
+    try {
+      for (var i = 0; i < 6; ++i) {
+        var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES);
+        workspaces.add(workspace);
+        workspace
+            .createPackage(StandardLocation.SOURCE_PATH)
+            .createFile("com", "example", "Class" + i + ".java").withContents(
+                "package com.example;",
+                "public class Class" + i + " {",
+                "}"
+            );
+      }
+
+      var compilations = compiler.compileAll(workspaces, 3);
+
+      assertThat(compilations).hasSameSizeAs(workspaces);
+
+      for (var i = 0; i < compilations.size(); ++i) {
+        assertThatCompilation(compilations.get(i))
+            .isSuccessfulWithoutWarnings()
+            .classOutput().packages()
+            .fileExists("com", "example", "Class" + i + ".class")
+            .isNotEmptyFile();
+      }
+    } finally {
+      workspaces.forEach(Workspace::close);
+    }
+  }
+
+  @DisplayName("I can compile many workspaces asynchronously")
+  @JavacCompilerTest
+  void manyWorkspacesCanBeCompiledAsynchronously(JctCompiler<?, ?> compiler) {
+    var workspaces = new ArrayList<Workspace>();
+
+    try {
+      var futures = new ArrayList<CompletableFuture<? extends JctCompilation>>();
+
+      for (var i = 0; i < 6; ++i) {
+        var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES);
+        workspaces.add(workspace);
+        workspace
+            .createPackage(StandardLocation.SOURCE_PATH)
+            .createFile("com", "example", "Class" + i + ".java").withContents(
+                "package com.example;",
+                "public class Class" + i + " {",
+                "}"
+            );
+
+        futures.add(compiler.compileAsync(workspace));
+      }
+
+      for (var i = 0; i < futures.size(); ++i) {
+        assertThatCompilation(futures.get(i).join())
+            .isSuccessfulWithoutWarnings()
+            .classOutput().packages()
+            .fileExists("com", "example", "Class" + i + ".class")
+            .isNotEmptyFile();
+      }
+    } finally {
+      workspaces.forEach(Workspace::close);
+    }
+  }
+
+  @DisplayName("Reconfiguring the compiler does not affect compilations that are already scheduled")
+  @JavacCompilerTest
+  void reconfiguringTheCompilerDoesNotAffectScheduledCompilations(JctCompiler<?, ?> compiler) {
+    try (var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES)) {
+      // Needs the inherited class path to compile.
+      workspace
+          .createPackage(StandardLocation.SOURCE_PATH)
+          .createFile("com", "example", "HelloWorld.java").withContents(
+              "package com.example;",
+              "public class HelloWorld {",
+              "  static final org.slf4j.Logger LOGGER = null;",
+              "}"
+          );
+
+      var tasks = new ArrayList<Runnable>();
+      compiler.inheritClassPath(true).failOnWarnings(false);
+
+      var future = compiler.compileAsync(workspace, tasks::add);
+      compiler.inheritClassPath(false).failOnWarnings(true);
+      tasks.forEach(Runnable::run);
+
+      var compilation = future.join();
+      assertThatCompilation(compilation)
+          .isSuccessfulWithoutWarnings()
+          .classOutput().packages()
+          .fileExists("com", "example", "HelloWorld.class")
+          .isNotEmptyFile();
+      assertThat(compilation.isFailOnWarnings()).isFalse();
+    }
+  }
+
+  @DisplayName("I can compile one workspace concurrently with isolated outputs")
+  @JavacCompilerTest(minVersion = 11)
+  void oneWorkspaceCanBeCompiledConcurrentlyWithIsolatedOutputs(JctCompiler<?, ?> compiler) {
+    try (var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES)) {
+      workspace
+          .createPackage(StandardLocation.SOURCE_PATH)
+          .createFile("com", "example", "HelloWorld.java").withContents(
+              "package com.example;",
+              "public class HelloWorld {",
+              "}"
+          );
+
+      compiler.isolatedOutputs(true);
+
+      var futures = new ArrayList<CompletableFuture<? extends JctCompilation>>();
+
+      for (var i = 0; i < 6; ++i) {
+        futures.add(compiler.compileAsync(workspace));
+      }
+
+      var outputRoots = new HashSet<Path>();
+
+      for (var future : futures) {
+        var compilation = future.join();
+
+        assertThatCompilation(compilation)
+            .isSuccessfulWithoutWarnings()
+            .classOutput().packages()
+            .fileExists("com", "example", "HelloWorld.class")
+            .isNotEmptyFile();
+
+        compilation.getClassOutputs().getPackages()
+            .forEach(container -> outputRoots.add(container.getPathRoot().getPath()));
+      }
+
+      assertThat(outputRoots)
+          .as("class output roots of each compilation")
+          .hasSize(futures.size());
+
+      assertThat(workspace.getAllPaths())
+          .as("workspace paths")
+          .containsOnlyKeys(StandardLocation.SOURCE_PATH);
+    }
+  }
+
+  @SupportedAnnotationTypes("*")
+  static final class NoOpProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+      return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+      return false;
+    }
+  }
+
+  // Public so that the compiler can load it by name.
+  @SupportedAnnotationTypes("*")
+  public static final class GeneratingProcessor extends AbstractProcessor {
+
+    private boolean generated = false;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+      return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+      if (!generated) {
+        generated = true;
+
+        try (var writer = processingEnv.getFiler().createSourceFile("com.example.Generated")
+            .openWriter()) {
+          writer.write("package com.example; public class Generated {}");
+        } catch (IOException ex) {
+          throw new UncheckedIOException(ex);
+        }
+      }
+
+      return false;
+    }
+  }
 }
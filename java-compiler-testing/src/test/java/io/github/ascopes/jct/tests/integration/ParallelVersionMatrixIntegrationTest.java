@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.integration;
+
+import static io.github.ascopes.jct.assertions.JctAssertions.assertThatCompilation;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.ascopes.jct.compilers.JctCompiler;
+import io.github.ascopes.jct.junit.JavacCompilerTest;
+import io.github.ascopes.jct.tests.helpers.DoNotMutationTest;
+import io.github.ascopes.jct.workspaces.PathStrategy;
+import io.github.ascopes.jct.workspaces.Workspaces;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+/**
+ * Tests for running the compiler version matrix of a single test concurrently.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("Parallel version matrix integration tests")
+@DoNotMutationTest
+class ParallelVersionMatrixIntegrationTest {
+
+  private static final int PARALLELISM = 2;
+  private static final AtomicInteger RUNNING = new AtomicInteger();
+  private static final AtomicInteger MAX_RUNNING = new AtomicInteger();
+  private static final AtomicInteger COMPLETED = new AtomicInteger();
+
+  @AfterAll
+  static void noMoreVersionsThanTheParallelismRanAtOnce() {
+    assertThat(COMPLETED.get())
+        .as("completed invocations")
+        .isPositive();
+
+    assertThat(MAX_RUNNING.get())
+        .as("maximum number of versions running at once")
+        .isBetween(1, PARALLELISM);
+  }
+
+  @DisplayName("I can compile each version concurrently up to the parallelism limit")
+  @Execution(ExecutionMode.CONCURRENT)
+  @JavacCompilerTest(minVersion = 11, parallelism = PARALLELISM)
+  void versionsCanBeCompiledConcurrently(JctCompiler<?, ?> compiler) {
+    MAX_RUNNING.accumulateAndGet(RUNNING.incrementAndGet(), Math::max);
+
+    try (var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES)) {
+      workspace
+          .createPackage(StandardLocation.SOURCE_PATH)
+          .createFile("com", "example", "HelloWorld.java").withContents(
+              "package com.example;",
+              "public class HelloWorld {",
+              "  public static void main(String[] args) {",
+              "    System.out.println(\"Hello, World\");",
+              "  }",
+              "}"
+          );
+
+      var compilation = compiler.compile(workspace);
+
+      assertThatCompilation(compilation)
+          .isSuccessfulWithoutWarnings();
+
+      COMPLETED.incrementAndGet();
+    } finally {
+      RUNNING.decrementAndGet();
+    }
+  }
+}
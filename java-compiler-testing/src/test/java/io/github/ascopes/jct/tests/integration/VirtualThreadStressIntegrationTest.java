@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.integration;
+
+import static io.github.ascopes.jct.assertions.JctAssertions.assertThatCompilation;
+import static java.util.function.Predicate.not;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.ascopes.jct.compilers.JctCompilation;
+import io.github.ascopes.jct.compilers.JctCompiler;
+import io.github.ascopes.jct.compilers.JctCompilers;
+import io.github.ascopes.jct.tests.helpers.DoNotMutationTest;
+import io.github.ascopes.jct.workspaces.PathStrategy;
+import io.github.ascopes.jct.workspaces.Workspace;
+import io.github.ascopes.jct.workspaces.Workspaces;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import javax.tools.StandardLocation;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Stress tests for running many compilations at once on virtual threads.
+ *
+ * <p>Archives on the inherited class path and module path are read through the JDK zip file
+ * system, which holds a monitor while it waits to list a directory. Listings of the same archive
+ * made by this library wait for each other beforehand, but a listing that has to wait for a read
+ * made by the compiler itself still pins its carrier. The first test turns inheritance off and
+ * expects no pinning at all. The second keeps the defaults and expects only that known pinning,
+ * at no more than the rate it has been seen at.
+ *
+ * <p>The logger used by the tests writes each message while holding a monitor. It is not used
+ * outside the tests, so any pinning it causes is ignored.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("Virtual thread stress integration tests")
+@DoNotMutationTest
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadStressIntegrationTest {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final String TEST_LOGGER_PACKAGE = "org.slf4j.simple.";
+  private static final String ZIP_DIRECTORY_STREAM = "jdk.nio.zipfs.ZipDirectoryStream";
+  private static final int COMPILATION_COUNT = 200;
+
+  // Between zero and two pinned threads per run were seen for COMPILATION_COUNT compilations,
+  // and between four and sixteen before listings of the same archive waited for each other.
+  private static final int KNOWN_ZIP_FILE_SYSTEM_PINNING_LIMIT = 4;
+
+  @DisplayName("Hundreds of concurrent compilations on virtual threads do not pin carriers")
+  @Test
+  void hundredsOfConcurrentCompilationsOnVirtualThreadsDoNotPinCarriers(
+      @TempDir Path tempDir
+  ) throws IOException {
+    // Given
+    var compiler = JctCompilers.createPlatformCompiler()
+        .inheritClassPath(false)
+        .inheritModulePath(false);
+
+    // When
+    var pinned = compileConcurrentlyAndRecordPinning(compiler, tempDir);
+
+    // Then
+    assertThat(pinned)
+        .withFailMessage("Virtual threads were pinned:\n%s", describeAll(pinned))
+        .isEmpty();
+  }
+
+  @DisplayName("Concurrent compilations with inherited paths only pin carriers in the zip FS")
+  @Test
+  void concurrentCompilationsWithInheritedPathsOnlyPinCarriersInTheZipFileSystem(
+      @TempDir Path tempDir
+  ) throws IOException {
+    // Given
+    var compiler = JctCompilers.createPlatformCompiler();
+
+    // When
+    var pinned = compileConcurrentlyAndRecordPinning(compiler, tempDir);
+
+    // Then
+    assertThat(pinned)
+        .withFailMessage(
+            "Virtual threads were pinned outside the zip file system:\n%s",
+            describeAll(pinned)
+        )
+        .allMatch(VirtualThreadStressIntegrationTest::isPinnedByZipFileSystem);
+
+    assertThat(pinned)
+        .withFailMessage(
+            "Virtual threads were pinned by the zip file system %d times, expected at most %d:\n%s",
+            pinned.size(),
+            KNOWN_ZIP_FILE_SYSTEM_PINNING_LIMIT,
+            describeAll(pinned)
+        )
+        .hasSizeLessThanOrEqualTo(KNOWN_ZIP_FILE_SYSTEM_PINNING_LIMIT);
+  }
+
+  private static List<RecordedEvent> compileConcurrentlyAndRecordPinning(
+      JctCompiler<?, ?> compiler,
+      Path tempDir
+  ) throws IOException {
+    var workspaces = new ArrayList<Workspace>();
+    var recordingFile = tempDir.resolve("pinning.jfr");
+
+    try (var recording = new Recording()) {
+      recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+      recording.start();
+
+      try {
+        var futures = new ArrayList<CompletableFuture<? extends JctCompilation>>();
+
+        for (var i = 0; i < COMPILATION_COUNT; ++i) {
+          var workspace = Workspaces.newWorkspace(PathStrategy.RAM_DIRECTORIES);
+          workspaces.add(workspace);
+          workspace
+              .createPackage(StandardLocation.SOURCE_PATH)
+              .createFile("com", "example", "Class" + i + ".java").withContents(
+                  "package com.example;",
+                  "@Deprecated",
+                  "public class Class" + i + " {",
+                  "  public String toString() {",
+                  "    return \"Class" + i + "\";",
+                  "  }",
+                  "}"
+              );
+
+          futures.add(compiler.compileAsync(workspace));
+        }
+
+        for (var i = 0; i < futures.size(); ++i) {
+          assertThatCompilation(futures.get(i).join())
+              .isSuccessfulWithoutWarnings()
+              .classOutput().packages()
+              .fileExists("com", "example", "Class" + i + ".class")
+              .isNotEmptyFile();
+        }
+      } finally {
+        workspaces.forEach(Workspace::close);
+      }
+
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+
+    return RecordingFile.readAllEvents(recordingFile)
+        .stream()
+        .filter(event -> event.getEventType().getName().equals(PINNED_EVENT))
+        .filter(not(event -> isPinnedIn(event, TEST_LOGGER_PACKAGE)))
+        .collect(Collectors.toList());
+  }
+
+  private static boolean isPinnedByZipFileSystem(RecordedEvent event) {
+    return isPinnedIn(event, ZIP_DIRECTORY_STREAM);
+  }
+
+  private static boolean isPinnedIn(RecordedEvent event, String typeNamePrefix) {
+    var stackTrace = event.getStackTrace();
+    return stackTrace != null && stackTrace.getFrames()
+        .stream()
+        .anyMatch(frame -> frame.getMethod().getType().getName().startsWith(typeNamePrefix));
+  }
+
+  private static String describeAll(List<RecordedEvent> events) {
+    return events.stream()
+        .map(VirtualThreadStressIntegrationTest::describe)
+        .collect(Collectors.joining("\n"));
+  }
+
+  private static String describe(RecordedEvent event) {
+    var stackTrace = event.getStackTrace();
+    List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+
+    return frames.stream()
+        .map(frame -> "\tat " + frame.getMethod().getType().getName()
+            + "." + frame.getMethod().getName()
+            + ":" + frame.getLineNumber())
+        .collect(Collectors.joining("\n", event.getDuration() + " pinned\n", ""));
+  }
+}
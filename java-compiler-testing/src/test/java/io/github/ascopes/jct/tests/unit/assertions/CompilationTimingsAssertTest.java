@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.assertions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.ascopes.jct.assertions.CompilationTimingsAssert;
+import io.github.ascopes.jct.compilers.CompilationTimings;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CompilationTimingsAssert} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("CompilationTimingsAssert tests")
+class CompilationTimingsAssertTest {
+
+  @DisplayName("CompilationTimingsAssert#completedWithin tests")
+  @Nested
+  class CompletedWithinTest {
+
+    @DisplayName(".completedWithin(...) fails if the timings are null")
+    @Test
+    void completedWithinFailsIfTimingsAreNull() {
+      // Given
+      var assertions = new CompilationTimingsAssert(null);
+
+      // Then
+      assertThatThrownBy(() -> assertions.completedWithin(Duration.ofSeconds(1)))
+          .isInstanceOf(AssertionError.class);
+    }
+
+    @DisplayName(".completedWithin(...) fails if the maximum is null")
+    @Test
+    void completedWithinFailsIfMaximumIsNull() {
+      // Given
+      var assertions = new CompilationTimingsAssert(someTimings());
+
+      // Then
+      assertThatThrownBy(() -> assertions.completedWithin(null))
+          .isInstanceOf(NullPointerException.class)
+          .hasMessage("maximum must not be null");
+    }
+
+    @DisplayName(".completedWithin(...) fails with a breakdown if the compilation was too slow")
+    @Test
+    void completedWithinFailsWithABreakdownIfTheCompilationWasTooSlow() {
+      // Given
+      var timings = someTimings();
+      var assertions = new CompilationTimingsAssert(timings);
+
+      // Then
+      assertThatThrownBy(() -> assertions.completedWithin(Duration.ofMillis(99)))
+          .isInstanceOf(AssertionError.class)
+          .hasMessageContaining("Expected compilation to complete within PT0.099S")
+          .hasMessageContaining("but it took PT0.1S")
+          .hasMessageContaining(timings.toString());
+    }
+
+    @DisplayName(".completedWithin(...) succeeds if the compilation was fast enough")
+    @Test
+    void completedWithinSucceedsIfTheCompilationWasFastEnough() {
+      // Given
+      var assertions = new CompilationTimingsAssert(someTimings());
+
+      // Then
+      assertThat(assertions.completedWithin(Duration.ofMillis(100)))
+          .isSameAs(assertions);
+    }
+  }
+
+  @DisplayName("Phase assertions fail if the timings are null")
+  @Test
+  void phaseAssertionsFailIfTheTimingsAreNull() {
+    // Given
+    var assertions = new CompilationTimingsAssert(null);
+
+    // Then
+    assertThatThrownBy(assertions::totalTime).isInstanceOf(AssertionError.class);
+    assertThatThrownBy(assertions::parseTime).isInstanceOf(AssertionError.class);
+    assertThatThrownBy(assertions::enterTime).isInstanceOf(AssertionError.class);
+    assertThatThrownBy(assertions::analyzeTime).isInstanceOf(AssertionError.class);
+    assertThatThrownBy(assertions::generateTime).isInstanceOf(AssertionError.class);
+    assertThatThrownBy(assertions::annotationProcessingTime)
+        .isInstanceOf(AssertionError.class);
+    assertThatThrownBy(assertions::annotationProcessingRoundTimes)
+        .isInstanceOf(AssertionError.class);
+  }
+
+  @DisplayName("Phase assertions assert on the expected durations")
+  @Test
+  void phaseAssertionsAssertOnTheExpectedDurations() {
+    // Given
+    var assertions = new CompilationTimingsAssert(someTimings());
+
+    // Then
+    assertions.totalTime().isEqualTo(Duration.ofMillis(100));
+    assertions.parseTime().isEqualTo(Duration.ofMillis(10));
+    assertions.enterTime().isEqualTo(Duration.ofMillis(20));
+    assertions.analyzeTime().isEqualTo(Duration.ofMillis(30));
+    assertions.generateTime().isEqualTo(Duration.ofMillis(15));
+    assertions.annotationProcessingTime().isEqualTo(Duration.ofMillis(12));
+    assertions.annotationProcessingRoundTimes()
+        .containsExactly(Duration.ofMillis(5), Duration.ofMillis(7));
+  }
+
+  static CompilationTimings someTimings() {
+    return new CompilationTimings(
+        Duration.ofMillis(100),
+        Duration.ofMillis(10),
+        Duration.ofMillis(20),
+        Duration.ofMillis(30),
+        Duration.ofMillis(15),
+        List.of(Duration.ofMillis(5), Duration.ofMillis(7))
+    );
+  }
+}
@@ -20,7 +20,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.github.ascopes.jct.assertions.CompilationTimingsAssert;
 import io.github.ascopes.jct.assertions.JctCompilationAssert;
+import io.github.ascopes.jct.compilers.CompilationTimings;
 import io.github.ascopes.jct.compilers.JctCompilation;
 import io.github.ascopes.jct.repr.TraceDiagnosticListRepresentation;
 import io.github.ascopes.jct.tests.helpers.Fixtures;
@@ -371,4 +373,37 @@ class JctCompilationAssertTest {
           .isSameAs(assertions);
     }
   }
+
+  @DisplayName("JctCompilationAssert#timings tests")
+  @Nested
+  class TimingsTest {
+
+    @DisplayName(".timings() fails if the compilation is null")
+    @Test
+    void timingsFailsIfCompilationIsNull() {
+      // Given
+      var assertions = new JctCompilationAssert(null);
+
+      // Then
+      assertThatThrownBy(assertions::timings)
+          .isInstanceOf(AssertionError.class);
+    }
+
+    @DisplayName(".timings() returns assertions on the compilation timings")
+    @Test
+    void timingsReturnsAssertionsOnTheCompilationTimings() {
+      // Given
+      var timings = CompilationTimings.empty();
+      var compilation = mock(JctCompilation.class);
+      when(compilation.getTimings()).thenReturn(timings);
+
+      var assertions = new JctCompilationAssert(compilation);
+
+      // Then
+      assertThat(assertions.timings())
+          .isInstanceOf(CompilationTimingsAssert.class)
+          .extracting("actual")
+          .isSameAs(timings);
+    }
+  }
 }
@@ -31,7 +31,9 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -59,8 +61,19 @@ import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 import javax.annotation.processing.Processor;
@@ -301,6 +314,70 @@ class AbstractJctCompilerTest {
           .isEqualTo(JctCompiler.DEFAULT_INHERIT_SYSTEM_MODULE_PATH);
     }
 
+    @DisplayName("constructor initialises memoryMapJars to default value")
+    @Test
+    void constructorInitialisesMemoryMapJarsToDefaultValue() {
+      // Then
+      assertThatCompilerField("memoryMapJars")
+          .isEqualTo(JctCompiler.DEFAULT_MEMORY_MAP_JARS);
+    }
+
+    @DisplayName("constructor initialises parallelListingThreshold to default value")
+    @Test
+    void constructorInitialisesParallelListingThresholdToDefaultValue() {
+      // Then
+      assertThatCompilerField("parallelListingThreshold")
+          .isEqualTo(JctCompiler.DEFAULT_PARALLEL_LISTING_THRESHOLD);
+    }
+
+    @DisplayName("constructor initialises contentCacheSize to default value")
+    @Test
+    void constructorInitialisesContentCacheSizeToDefaultValue() {
+      // Then
+      assertThatCompilerField("contentCacheSize")
+          .isEqualTo(JctCompiler.DEFAULT_CONTENT_CACHE_SIZE);
+    }
+
+    @DisplayName("constructor initialises heapOutputs to default value")
+    @Test
+    void constructorInitialisesHeapOutputsToDefaultValue() {
+      // Then
+      assertThatCompilerField("heapOutputs")
+          .isEqualTo(JctCompiler.DEFAULT_HEAP_OUTPUTS);
+    }
+
+    @DisplayName("constructor initialises fileManagerProfiling to default value")
+    @Test
+    void constructorInitialisesFileManagerProfilingToDefaultValue() {
+      // Then
+      assertThatCompilerField("fileManagerProfiling")
+          .isEqualTo(JctCompiler.DEFAULT_FILE_MANAGER_PROFILING);
+    }
+
+    @DisplayName("constructor initialises annotationProcessorProfiling to default value")
+    @Test
+    void constructorInitialisesAnnotationProcessorProfilingToDefaultValue() {
+      // Then
+      assertThatCompilerField("annotationProcessorProfiling")
+          .isEqualTo(JctCompiler.DEFAULT_ANNOTATION_PROCESSOR_PROFILING);
+    }
+
+    @DisplayName("constructor initialises compilerContextReuse to default value")
+    @Test
+    void constructorInitialisesCompilerContextReuseToDefaultValue() {
+      // Then
+      assertThatCompilerField("compilerContextReuse")
+          .isEqualTo(JctCompiler.DEFAULT_COMPILER_CONTEXT_REUSE);
+    }
+
+    @DisplayName("constructor initialises isolatedOutputs to default value")
+    @Test
+    void constructorInitialisesIsolatedOutputsToDefaultValue() {
+      // Then
+      assertThatCompilerField("isolatedOutputs")
+          .isEqualTo(JctCompiler.DEFAULT_ISOLATED_OUTPUTS);
+    }
+
     @DisplayName("constructor initialises fileManagerLoggingMode to default value")
     @Test
     void constructorInitialisesFileManagerLoggingModeToDefaultValue() {
@@ -476,6 +553,507 @@ class AbstractJctCompilerTest {
     }
   }
 
+  @DisplayName("AbstractJctCompiler#compileAsync(Workspace) tests")
+  @Nested
+  class CompileAsyncTest extends AbstractCompileTestTemplate {
+
+    @Override
+    JctCompilation doCompile() {
+      try {
+        return compiler.compileAsync(workspace).join();
+      } catch (CompletionException ex) {
+        throw (RuntimeException) ex.getCause();
+      }
+    }
+
+    @Nullable
+    @Override
+    Collection<String> classNames() {
+      return null;
+    }
+  }
+
+  @DisplayName("AbstractJctCompiler#compileAsync(Workspace, Executor) tests")
+  @ExtendWith(MockitoExtension.class)
+  @Nested
+  class CompileAsyncTests {
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    JctFlagBuilder flagBuilder;
+
+    @Mock
+    Workspace workspace;
+
+    List<String> flags;
+
+    MockedConstruction<JctCompilationFactoryImpl> compilationFactoryConstructor;
+
+    BiConsumer<JctCompilationFactoryImpl, Context> compilationFactoryMockConfigurer;
+
+    ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+      flags = someFlags();
+      compilationFactoryMockConfigurer = (factory, ctx) -> {
+        // Overridden by each test.
+      };
+      compilationFactoryConstructor = mockConstruction(
+          JctCompilationFactoryImpl.class,
+          (factory, ctx) -> compilationFactoryMockConfigurer.accept(factory, ctx)
+      );
+      executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+      executor.shutdownNow();
+      compilationFactoryConstructor.closeOnDemand();
+    }
+
+    @DisplayName(".compileAsync(null, ...) raises a NullPointerException")
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void compileAsyncNullWorkspaceRaisesNullPointerException() {
+      // Then
+      assertThatThrownBy(() -> compiler.compileAsync(null, executor))
+          .isInstanceOf(NullPointerException.class)
+          .hasMessage("workspace");
+    }
+
+    @DisplayName(".compileAsync(..., null) raises a NullPointerException")
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void compileAsyncNullExecutorRaisesNullPointerException() {
+      // Then
+      assertThatThrownBy(() -> compiler.compileAsync(workspace, null))
+          .isInstanceOf(NullPointerException.class)
+          .hasMessage("executor");
+    }
+
+    @DisplayName(".compileAsync(...) prepares the compilation before it is scheduled")
+    @Test
+    void compileAsyncPreparesTheCompilationBeforeItIsScheduled() throws IOException {
+      // Given
+      var expectedCompilation = mock(JctCompilation.class);
+      var fileManager = mock(JctFileManager.class);
+      var tasks = new ArrayList<Runnable>();
+      Executor deferredExecutor = tasks::add;
+
+      when(flagBuilderFactory.createFlagBuilder()).thenReturn(flagBuilder);
+      when(flagBuilder.build()).thenReturn(flags);
+      when(fileManagerFactory.createFileManager(workspace)).thenReturn(fileManager);
+      compilationFactoryMockConfigurer = (factory, ctx) ->
+          when(factory.createCompilation(any(), any(), any(), any()))
+              .thenReturn(expectedCompilation);
+
+      // When
+      var future = compiler.compileAsync(workspace, deferredExecutor);
+
+      // Then
+      verify(flagBuilder).build();
+      verify(jsr199CompilerFactory).createCompiler();
+      verify(fileManagerFactory).createFileManager(workspace);
+      assertThat(compilationFactoryConstructor.constructed()).hasSize(1);
+      assertThat(future).isNotDone();
+      assertThat(tasks).hasSize(1);
+      verifyNoInteractions(fileManager);
+
+      // When
+      tasks.get(0).run();
+
+      // Then
+      assertThat(future).isCompletedWithValue(expectedCompilation);
+      var compilationFactory = compilationFactoryConstructor.constructed().get(0);
+      verify(compilationFactory).createCompilation(eq(flags), same(fileManager), any(), eq(null));
+      verify(fileManager).close();
+    }
+
+    @DisplayName(".compileAsync(...) is not affected by reconfiguring the compiler afterwards")
+    @Test
+    void compileAsyncIsNotAffectedByReconfiguringTheCompilerAfterwards() {
+      // Given
+      var tasks = new ArrayList<Runnable>();
+      Executor deferredExecutor = tasks::add;
+      compiler.logCharset(StandardCharsets.UTF_8);
+
+      // When
+      compiler.compileAsync(workspace, deferredExecutor);
+      compiler.logCharset(StandardCharsets.UTF_16);
+      compiler.inheritClassPath(false);
+      tasks.get(0).run();
+
+      // Then
+      verify(fileManagerFactory).createFileManager(workspace);
+      verifyNoMoreInteractions(fileManagerFactory);
+      // The compilation factory captures the settings when it is created.
+      assertThat(compilationFactoryConstructor.constructed()).hasSize(1);
+    }
+
+    @DisplayName(".compileAsync(...) closes the file manager if the future is cancelled")
+    @Test
+    void compileAsyncClosesTheFileManagerIfTheFutureIsCancelled() throws IOException {
+      // Given
+      var fileManager = mock(JctFileManager.class);
+      var tasks = new ArrayList<Runnable>();
+      Executor deferredExecutor = tasks::add;
+      when(fileManagerFactory.createFileManager(workspace)).thenReturn(fileManager);
+
+      // When
+      var future = compiler.compileAsync(workspace, deferredExecutor);
+      future.cancel(false);
+      tasks.get(0).run();
+
+      // Then
+      verify(fileManager).close();
+      var compilationFactory = compilationFactoryConstructor.constructed().get(0);
+      verifyNoInteractions(compilationFactory);
+    }
+
+    @DisplayName(".compileAsync(...) closes the file manager if the executor rejects the task")
+    @Test
+    void compileAsyncClosesTheFileManagerIfTheExecutorRejectsTheTask() throws IOException {
+      // Given
+      var fileManager = mock(JctFileManager.class);
+      var expectedException = new RejectedExecutionException("Go away");
+      Executor rejectingExecutor = task -> {
+        throw expectedException;
+      };
+      when(fileManagerFactory.createFileManager(workspace)).thenReturn(fileManager);
+
+      // Then
+      assertThatThrownBy(() -> compiler.compileAsync(workspace, rejectingExecutor))
+          .isSameAs(expectedException);
+      verify(fileManager).close();
+    }
+
+    @DisplayName(".compileAsync(...) completes exceptionally if the compilation fails")
+    @Test
+    void compileAsyncCompletesExceptionallyIfTheCompilationFails() throws IOException {
+      // Given
+      var expectedException = new JctCompilerException("Something went very wrong");
+      var fileManager = mock(JctFileManager.class);
+      when(fileManagerFactory.createFileManager(workspace)).thenReturn(fileManager);
+      compilationFactoryMockConfigurer = (factory, ctx) ->
+          when(factory.createCompilation(any(), any(), any(), any()))
+              .thenThrow(expectedException);
+
+      // When
+      var future = compiler.compileAsync(workspace, executor);
+
+      // Then
+      assertThatThrownBy(future::join)
+          .isInstanceOf(CompletionException.class)
+          .hasCause(expectedException);
+      verify(fileManager).close();
+    }
+
+    @DisplayName(".compileAsync(...) runs compilations concurrently")
+    @Test
+    void compileAsyncRunsCompilationsConcurrently() {
+      // Given
+      var latch = new CountDownLatch(2);
+
+      compilationFactoryMockConfigurer = (factory, ctx) ->
+          when(factory.createCompilation(any(), any(), any(), any())).thenAnswer(ctx2 -> {
+            // Each compilation waits for the other to start.
+            latch.countDown();
+            if (!latch.await(30, TimeUnit.SECONDS)) {
+              throw new IllegalStateException("Compilations did not run concurrently");
+            }
+            return mock(JctCompilation.class);
+          });
+
+      // When
+      var futures = List.of(
+          compiler.compileAsync(mock(Workspace.class), executor),
+          compiler.compileAsync(mock(Workspace.class), executor)
+      );
+
+      // Then
+      assertThat(futures)
+          .allSatisfy(future -> assertThat(future.join()).isNotNull());
+    }
+
+    @DisplayName(".compileAsync(...) compiles one at a time when annotation processors are added")
+    @Test
+    void compileAsyncCompilesOneAtATimeWhenAnnotationProcessorsAreAdded() {
+      // Given
+      var running = new AtomicInteger();
+      var maxRunning = new AtomicInteger();
+      compiler.addAnnotationProcessors(mock(Processor.class));
+
+      compilationFactoryMockConfigurer = (factory, ctx) ->
+          when(factory.createCompilation(any(), any(), any(), any())).thenAnswer(ctx2 -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            running.decrementAndGet();
+            return mock(JctCompilation.class);
+          });
+
+      // When
+      var futures = new ArrayList<CompletableFuture<JctCompilation>>();
+      for (var i = 0; i < 4; ++i) {
+        futures.add(compiler.compileAsync(mock(Workspace.class), executor));
+      }
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+      // Then
+      assertThat(maxRunning).hasValue(1);
+    }
+
+    @DisplayName(".compileAsync(Workspace) runs the compilation on a shared executor")
+    @Test
+    void compileAsyncRunsTheCompilationOnASharedExecutor() {
+      // Given
+      var threads = Collections.synchronizedSet(new HashSet<Thread>());
+      compilationFactoryMockConfigurer = (factory, ctx) ->
+          when(factory.createCompilation(any(), any(), any(), any())).thenAnswer(ctx2 -> {
+            threads.add(Thread.currentThread());
+            return mock(JctCompilation.class);
+          });
+
+      // When
+      compiler.compileAsync(workspace).join();
+
+      // Then
+      assertThat(threads)
+          .hasSize(1)
+          .doesNotContain(Thread.currentThread())
+          .allSatisfy(thread -> assertThat(thread.isDaemon()).isTrue());
+    }
+  }
+
+  @DisplayName("AbstractJctCompiler#compileAll tests")
+  @ExtendWith(MockitoExtension.class)
+  @Nested
+  class CompileAllTests {
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    JctFlagBuilder flagBuilder;
+
+    List<String> flags;
+
+    MockedConstruction<JctCompilationFactoryImpl> compilationFactoryConstructor;
+
+    BiConsumer<JctCompilationFactoryImpl, Context> compilationFactoryMockConfigurer;
+
+    @BeforeEach
+    void setUp() {
+      flags = someFlags();
+      compilationFactoryMockConfigurer = (factory, ctx) -> {
+        // Overridden by each test.
+      };
+      compilationFactoryConstructor = mockConstruction(
+          JctCompilationFactoryImpl.class,
+          (factory, ctx) -> compilationFactoryMockConfigurer.accept(factory, ctx)
+      );
+    }
+
+    @AfterEach
+    void tearDown() {
+      compilationFactoryConstructor.closeOnDemand();
+    }
+
+    @DisplayName(".compileAll(null, ...) raises a NullPointerException")
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void compileAllNullRaisesNullPointerException() {
+      // Then
+      assertThatThrownBy(() -> compiler.compileAll(null, 1))
+          .isInstanceOf(NullPointerException.class)
+          .hasMessage("workspaces");
+    }
+
+    @DisplayName(".compileAll(...) raises a NullPointerException if any workspace is null")
+    @Test
+    void compileAllRaisesNullPointerExceptionIfAnyWorkspaceIsNull() {
+      // Given
+      var workspaces = Arrays.asList(mock(Workspace.class), null, mock(Workspace.class));
+
+      // Then
+      assertThatThrownBy(() -> compiler.compileAll(workspaces, 1))
+          .isInstanceOf(NullPointerException.class)
+          .hasMessage("workspaces[1]");
+    }
+
+    @DisplayName(".compileAll(...) raises an IllegalArgumentException for invalid parallelism")
+    @ValueSource(ints = {-1, 0})
+    @ParameterizedTest(name = "for parallelism = {0}")
+    void compileAllRaisesIllegalArgumentExceptionForInvalidParallelism(int parallelism) {
+      // Then
+      assertThatThrownBy(() -> compiler.compileAll(List.of(mock(Workspace.class)), parallelism))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("parallelism must be at least 1 (got %d)", parallelism);
+    }
+
+    @DisplayName(".compileAll(...) returns an empty list when no workspaces are given")
+    @Test
+    void compileAllReturnsAnEmptyListWhenNoWorkspacesAreGiven() {
+      // When
+      var compilations = compiler.compileAll(List.of(), 4);
+
+      // Then
+      assertThat(compilations).isEmpty();
+      verifyNoMoreInteractions(flagBuilderFactory, jsr199CompilerFactory, fileManagerFactory);
+      assertThat(compilationFactoryConstructor.constructed()).isEmpty();
+    }
+
+    @DisplayName(".compileAll(...) returns the compilations in the order of the workspaces")
+    @ValueSource(ints = {1, 3, 8})
+    @ParameterizedTest(name = "for parallelism = {0}")
+    void compileAllReturnsTheCompilationsInTheOrderOfTheWorkspaces(int parallelism) {
+      // Given
+      var workspaces = new ArrayList<Workspace>();
+      var fileManagers = new ArrayList<JctFileManager>();
+      var expectedCompilations = new ArrayList<JctCompilation>();
+
+      for (var i = 0; i < 8; ++i) {
+        var workspace = mock(Workspace.class);
+        var fileManager = mock(JctFileManager.class);
+        workspaces.add(workspace);
+        fileManagers.add(fileManager);
+        expectedCompilations.add(mock(JctCompilation.class));
+        when(fileManagerFactory.createFileManager(workspace)).thenReturn(fileManager);
+      }
+
+      when(flagBuilderFactory.createFlagBuilder()).thenReturn(flagBuilder);
+      when(flagBuilder.build()).thenReturn(flags);
+
+      compilationFactoryMockConfigurer = (factory, ctx) -> {
+        for (var i = 0; i < fileManagers.size(); ++i) {
+          when(factory.createCompilation(any(), same(fileManagers.get(i)), any(), any()))
+              .thenReturn(expectedCompilations.get(i));
+        }
+      };
+
+      // When
+      var compilations = compiler.compileAll(workspaces, parallelism);
+
+      // Then
+      assertThat(compilations).containsExactlyElementsOf(expectedCompilations);
+
+      // Flags and factories are only created once for the entire batch.
+      verify(flagBuilderFactory).createFlagBuilder();
+      assertThat(compilationFactoryConstructor.constructed()).hasSize(1);
+
+      var compilationFactory = compilationFactoryConstructor.constructed().get(0);
+      for (var fileManager : fileManagers) {
+        verify(compilationFactory).createCompilation(eq(flags), same(fileManager), any(), eq(null));
+      }
+    }
+
+    @DisplayName(".compileAll(...) closes each file manager")
+    @Test
+    void compileAllClosesEachFileManager() throws IOException {
+      // Given
+      var jsr199Compiler = mock(JavaCompiler.class);
+      var fileManagers = List.of(mock(JctFileManager.class), mock(JctFileManager.class));
+      var workspaces = List.of(mock(Workspace.class), mock(Workspace.class));
+
+      when(jsr199CompilerFactory.createCompiler()).thenReturn(jsr199Compiler);
+      when(fileManagerFactory.createFileManager(workspaces.get(0)))
+          .thenReturn(fileManagers.get(0));
+      when(fileManagerFactory.createFileManager(workspaces.get(1)))
+          .thenReturn(fileManagers.get(1));
+
+      // When
+      compiler.compileAll(workspaces, 2);
+
+      // Then
+      verify(jsr199CompilerFactory, times(2)).createCompiler();
+
+      for (var fileManager : fileManagers) {
+        verify(fileManager).close();
+      }
+    }
+
+    @DisplayName(".compileAll(...) runs compilations concurrently")
+    @Test
+    void compileAllRunsCompilationsConcurrently() {
+      // Given
+      var latch = new CountDownLatch(2);
+      var workspaces = List.of(mock(Workspace.class), mock(Workspace.class));
+
+      compilationFactoryMockConfigurer = (factory, ctx) ->
+          when(factory.createCompilation(any(), any(), any(), any())).thenAnswer(ctx2 -> {
+            // Each compilation waits for the other to start.
+            latch.countDown();
+            if (!latch.await(30, TimeUnit.SECONDS)) {
+              throw new IllegalStateException("Compilations did not run concurrently");
+            }
+            return mock(JctCompilation.class);
+          });
+
+      // When
+      var compilations = compiler.compileAll(workspaces, 2);
+
+      // Then
+      assertThat(compilations).hasSize(2);
+    }
+
+    @DisplayName(".compileAll(...) compiles one at a time when annotation processors are added")
+    @Test
+    void compileAllCompilesOneAtATimeWhenAnnotationProcessorsAreAdded() {
+      // Given
+      var threads = Collections.synchronizedSet(new HashSet<Thread>());
+      var workspaces = List.of(mock(Workspace.class), mock(Workspace.class));
+      compiler.addAnnotationProcessors(mock(Processor.class));
+
+      compilationFactoryMockConfigurer = (factory, ctx) ->
+          when(factory.createCompilation(any(), any(), any(), any())).thenAnswer(ctx2 -> {
+            threads.add(Thread.currentThread());
+            return mock(JctCompilation.class);
+          });
+
+      // When
+      compiler.compileAll(workspaces, 4);
+
+      // Then
+      assertThat(threads).containsExactly(Thread.currentThread());
+    }
+
+    @DisplayName(".compileAll(...) rethrows the first exception raised by a compilation")
+    @Test
+    void compileAllRethrowsTheFirstExceptionRaisedByACompilation() {
+      // Given
+      var expectedException = new JctCompilerException("Something went very wrong");
+      var goodFileManager = mock(JctFileManager.class);
+      var badFileManager = mock(JctFileManager.class);
+      var workspaces = List.of(mock(Workspace.class), mock(Workspace.class));
+      when(fileManagerFactory.createFileManager(workspaces.get(0))).thenReturn(goodFileManager);
+      when(fileManagerFactory.createFileManager(workspaces.get(1))).thenReturn(badFileManager);
+
+      compilationFactoryMockConfigurer = (factory, ctx) ->
+          when(factory.createCompilation(any(), any(), any(), any())).thenAnswer(ctx2 -> {
+            if (ctx2.getArgument(1) == badFileManager) {
+              throw expectedException;
+            }
+            return mock(JctCompilation.class);
+          });
+
+      // Then
+      assertThatThrownBy(() -> compiler.compileAll(workspaces, 2))
+          .isSameAs(expectedException);
+    }
+
+    @DisplayName(".compileAll(...) uses one compilation per processor by default")
+    @Test
+    void compileAllUsesOneCompilationPerProcessorByDefault() {
+      // Given
+      var workspaces = List.of(mock(Workspace.class));
+      compilationFactoryMockConfigurer = (factory, ctx) ->
+          when(factory.createCompilation(any(), any(), any(), any()))
+              .thenReturn(mock(JctCompilation.class));
+
+      // When
+      compiler.compileAll(workspaces);
+
+      // Then
+      verify(compiler).compileAll(workspaces, Runtime.getRuntime().availableProcessors());
+    }
+  }
+
   @DisplayName("AbstractJctCompiler#configure tests")
   @Nested
   class ConfigureTest {
@@ -1373,6 +1951,329 @@ class AbstractJctCompilerTest {
     }
   }
 
+  @DisplayName(".isMemoryMapJars() returns the expected values")
+  @ValueSource(booleans = {true, false})
+  @ParameterizedTest(name = "for memoryMapJars = {0}")
+  void isMemoryMapJarsReturnsExpectedValue(boolean expected) {
+    // Given
+    setFieldOnCompiler("memoryMapJars", expected);
+
+    // Then
+    assertThat(compiler.isMemoryMapJars()).isEqualTo(expected);
+  }
+
+  @DisplayName("AbstractJctCompiler#memoryMapJars tests")
+  @Nested
+  class MemoryMapJarsTests {
+
+    @DisplayName(".memoryMapJars(...) sets the expected values")
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest(name = "for memoryMapJars = {0}")
+    void memoryMapJarsSetsExpectedValue(boolean expected) {
+      // When
+      compiler.memoryMapJars(expected);
+
+      // Then
+      assertThatCompilerField("memoryMapJars").isEqualTo(expected);
+    }
+
+    @DisplayName(".memoryMapJars(...) returns the compiler")
+    @Test
+    void memoryMapJarsReturnsTheCompiler() {
+      // When
+      var result = compiler.memoryMapJars(true);
+
+      // Then
+      assertThat(result).isSameAs(compiler);
+    }
+  }
+
+  @DisplayName(".getParallelListingThreshold() returns the expected values")
+  @ValueSource(ints = {0, 1, 5, 100})
+  @ParameterizedTest(name = "for parallelListingThreshold = {0}")
+  void getParallelListingThresholdReturnsExpectedValue(int expected) {
+    // Given
+    setFieldOnCompiler("parallelListingThreshold", expected);
+
+    // Then
+    assertThat(compiler.getParallelListingThreshold()).isEqualTo(expected);
+  }
+
+  @DisplayName("AbstractJctCompiler#parallelListingThreshold tests")
+  @Nested
+  class ParallelListingThresholdTests {
+
+    @DisplayName(".parallelListingThreshold(...) sets the expected values")
+    @ValueSource(ints = {0, 1, 5, 100})
+    @ParameterizedTest(name = "for parallelListingThreshold = {0}")
+    void parallelListingThresholdSetsExpectedValue(int expected) {
+      // When
+      compiler.parallelListingThreshold(expected);
+
+      // Then
+      assertThatCompilerField("parallelListingThreshold").isEqualTo(expected);
+    }
+
+    @DisplayName(".parallelListingThreshold(...) rejects negative values")
+    @ValueSource(ints = {-1, -5, Integer.MIN_VALUE})
+    @ParameterizedTest(name = "for parallelListingThreshold = {0}")
+    void parallelListingThresholdRejectsNegativeValues(int threshold) {
+      // Then
+      assertThatThrownBy(() -> compiler.parallelListingThreshold(threshold))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage(
+              "Parallel listing threshold cannot be negative (got %d)",
+              threshold
+          );
+      assertThatCompilerField("parallelListingThreshold")
+          .isEqualTo(JctCompiler.DEFAULT_PARALLEL_LISTING_THRESHOLD);
+    }
+
+    @DisplayName(".parallelListingThreshold(...) returns the compiler")
+    @Test
+    void parallelListingThresholdReturnsTheCompiler() {
+      // When
+      var result = compiler.parallelListingThreshold(4);
+
+      // Then
+      assertThat(result).isSameAs(compiler);
+    }
+  }
+
+  @DisplayName(".getContentCacheSize() returns the expected values")
+  @ValueSource(longs = {0, 1, 1_000_000})
+  @ParameterizedTest(name = "for contentCacheSize = {0}")
+  void getContentCacheSizeReturnsExpectedValue(long expected) {
+    // Given
+    setFieldOnCompiler("contentCacheSize", expected);
+
+    // Then
+    assertThat(compiler.getContentCacheSize()).isEqualTo(expected);
+  }
+
+  @DisplayName("AbstractJctCompiler#contentCacheSize tests")
+  @Nested
+  class ContentCacheSizeTests {
+
+    @DisplayName(".contentCacheSize(...) sets the expected values")
+    @ValueSource(longs = {0, 1, 1_000_000})
+    @ParameterizedTest(name = "for contentCacheSize = {0}")
+    void contentCacheSizeSetsExpectedValue(long expected) {
+      // When
+      compiler.contentCacheSize(expected);
+
+      // Then
+      assertThatCompilerField("contentCacheSize").isEqualTo(expected);
+    }
+
+    @DisplayName(".contentCacheSize(...) rejects negative values")
+    @ValueSource(longs = {-1, -5, Long.MIN_VALUE})
+    @ParameterizedTest(name = "for contentCacheSize = {0}")
+    void contentCacheSizeRejectsNegativeValues(long contentCacheSize) {
+      // Then
+      assertThatThrownBy(() -> compiler.contentCacheSize(contentCacheSize))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Content cache size cannot be negative (got %d)", contentCacheSize);
+      assertThatCompilerField("contentCacheSize")
+          .isEqualTo(JctCompiler.DEFAULT_CONTENT_CACHE_SIZE);
+    }
+
+    @DisplayName(".contentCacheSize(...) returns the compiler")
+    @Test
+    void contentCacheSizeReturnsTheCompiler() {
+      // When
+      var result = compiler.contentCacheSize(1_000);
+
+      // Then
+      assertThat(result).isSameAs(compiler);
+    }
+  }
+
+  @DisplayName(".isHeapOutputs() returns the expected values")
+  @ValueSource(booleans = {true, false})
+  @ParameterizedTest(name = "for heapOutputs = {0}")
+  void isHeapOutputsReturnsExpectedValue(boolean expected) {
+    // Given
+    setFieldOnCompiler("heapOutputs", expected);
+
+    // Then
+    assertThat(compiler.isHeapOutputs()).isEqualTo(expected);
+  }
+
+  @DisplayName("AbstractJctCompiler#heapOutputs tests")
+  @Nested
+  class HeapOutputsTests {
+
+    @DisplayName(".heapOutputs(...) sets the expected values")
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest(name = "for heapOutputs = {0}")
+    void heapOutputsSetsExpectedValue(boolean expected) {
+      // When
+      compiler.heapOutputs(expected);
+
+      // Then
+      assertThatCompilerField("heapOutputs").isEqualTo(expected);
+    }
+
+    @DisplayName(".heapOutputs(...) returns the compiler")
+    @Test
+    void heapOutputsReturnsTheCompiler() {
+      // When
+      var result = compiler.heapOutputs(true);
+
+      // Then
+      assertThat(result).isSameAs(compiler);
+    }
+  }
+
+  @DisplayName(".isFileManagerProfiling() returns the expected values")
+  @ValueSource(booleans = {true, false})
+  @ParameterizedTest(name = "for fileManagerProfiling = {0}")
+  void isFileManagerProfilingReturnsExpectedValue(boolean expected) {
+    // Given
+    setFieldOnCompiler("fileManagerProfiling", expected);
+
+    // Then
+    assertThat(compiler.isFileManagerProfiling()).isEqualTo(expected);
+  }
+
+  @DisplayName("AbstractJctCompiler#fileManagerProfiling tests")
+  @Nested
+  class FileManagerProfilingTests {
+
+    @DisplayName(".fileManagerProfiling(...) sets the expected values")
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest(name = "for fileManagerProfiling = {0}")
+    void fileManagerProfilingSetsExpectedValue(boolean expected) {
+      // When
+      compiler.fileManagerProfiling(expected);
+
+      // Then
+      assertThatCompilerField("fileManagerProfiling").isEqualTo(expected);
+    }
+
+    @DisplayName(".fileManagerProfiling(...) returns the compiler")
+    @Test
+    void fileManagerProfilingReturnsTheCompiler() {
+      // When
+      var result = compiler.fileManagerProfiling(true);
+
+      // Then
+      assertThat(result).isSameAs(compiler);
+    }
+  }
+
+  @DisplayName(".isAnnotationProcessorProfiling() returns the expected values")
+  @ValueSource(booleans = {true, false})
+  @ParameterizedTest(name = "for annotationProcessorProfiling = {0}")
+  void isAnnotationProcessorProfilingReturnsExpectedValue(boolean expected) {
+    // Given
+    setFieldOnCompiler("annotationProcessorProfiling", expected);
+
+    // Then
+    assertThat(compiler.isAnnotationProcessorProfiling()).isEqualTo(expected);
+  }
+
+  @DisplayName("AbstractJctCompiler#annotationProcessorProfiling tests")
+  @Nested
+  class AnnotationProcessorProfilingTests {
+
+    @DisplayName(".annotationProcessorProfiling(...) sets the expected values")
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest(name = "for annotationProcessorProfiling = {0}")
+    void annotationProcessorProfilingSetsExpectedValue(boolean expected) {
+      // When
+      compiler.annotationProcessorProfiling(expected);
+
+      // Then
+      assertThatCompilerField("annotationProcessorProfiling").isEqualTo(expected);
+    }
+
+    @DisplayName(".annotationProcessorProfiling(...) returns the compiler")
+    @Test
+    void annotationProcessorProfilingReturnsTheCompiler() {
+      // When
+      var result = compiler.annotationProcessorProfiling(true);
+
+      // Then
+      assertThat(result).isSameAs(compiler);
+    }
+  }
+
+  @DisplayName(".isCompilerContextReuse() returns the expected values")
+  @ValueSource(booleans = {true, false})
+  @ParameterizedTest(name = "for compilerContextReuse = {0}")
+  void isCompilerContextReuseReturnsExpectedValue(boolean expected) {
+    // Given
+    setFieldOnCompiler("compilerContextReuse", expected);
+
+    // Then
+    assertThat(compiler.isCompilerContextReuse()).isEqualTo(expected);
+  }
+
+  @DisplayName("AbstractJctCompiler#compilerContextReuse tests")
+  @Nested
+  class CompilerContextReuseTests {
+
+    @DisplayName(".compilerContextReuse(...) sets the expected values")
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest(name = "for compilerContextReuse = {0}")
+    void compilerContextReuseSetsExpectedValue(boolean expected) {
+      // When
+      compiler.compilerContextReuse(expected);
+
+      // Then
+      assertThatCompilerField("compilerContextReuse").isEqualTo(expected);
+    }
+
+    @DisplayName(".compilerContextReuse(...) returns the compiler")
+    @Test
+    void compilerContextReuseReturnsTheCompiler() {
+      // When
+      var result = compiler.compilerContextReuse(true);
+
+      // Then
+      assertThat(result).isSameAs(compiler);
+    }
+  }
+
+  @DisplayName(".isIsolatedOutputs() returns the expected values")
+  @ValueSource(booleans = {true, false})
+  @ParameterizedTest(name = "for isolatedOutputs = {0}")
+  void isIsolatedOutputsReturnsExpectedValue(boolean expected) {
+    // Given
+    setFieldOnCompiler("isolatedOutputs", expected);
+
+    // Then
+    assertThat(compiler.isIsolatedOutputs()).isEqualTo(expected);
+  }
+
+  @DisplayName("AbstractJctCompiler#isolatedOutputs tests")
+  @Nested
+  class IsolatedOutputsTests {
+
+    @DisplayName(".isolatedOutputs(...) sets the expected values")
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest(name = "for isolatedOutputs = {0}")
+    void isolatedOutputsSetsExpectedValue(boolean expected) {
+      // When
+      compiler.isolatedOutputs(expected);
+
+      // Then
+      assertThatCompilerField("isolatedOutputs").isEqualTo(expected);
+    }
+
+    @DisplayName(".isolatedOutputs(...) returns the compiler")
+    @Test
+    void isolatedOutputsReturnsTheCompiler() {
+      // When
+      var result = compiler.isolatedOutputs(true);
+
+      // Then
+      assertThat(result).isSameAs(compiler);
+    }
+  }
+
   @DisplayName(".getLocale() returns the expected values")
   @MethodSource("locales")
   @ParameterizedTest(name = "for locale = {0}")
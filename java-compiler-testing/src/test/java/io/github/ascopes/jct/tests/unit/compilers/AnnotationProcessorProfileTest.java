@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.compilers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.ascopes.jct.compilers.AnnotationProcessorProfile;
+import io.github.ascopes.jct.compilers.AnnotationProcessorProfile.Round;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link AnnotationProcessorProfile} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("AnnotationProcessorProfile tests")
+class AnnotationProcessorProfileTest {
+
+  @DisplayName("The profile is exposed")
+  @Test
+  void theProfileIsExposed() {
+    // Given
+    var firstRound = new Round(Duration.ofMillis(20), 3);
+    var secondRound = new Round(Duration.ofMillis(5), 0);
+    var profile = new AnnotationProcessorProfile(
+        "com.example.Processor",
+        Duration.ofMillis(10),
+        List.of(firstRound, secondRound)
+    );
+
+    // Then
+    assertThat(profile.getProcessorName()).isEqualTo("com.example.Processor");
+    assertThat(profile.getInitTime()).isEqualTo(Duration.ofMillis(10));
+    assertThat(profile.getRounds()).containsExactly(firstRound, secondRound);
+    assertThat(profile.getProcessTime()).isEqualTo(Duration.ofMillis(25));
+    assertThat(profile.getTotalTime()).isEqualTo(Duration.ofMillis(35));
+    assertThat(profile.getFilesCreated()).isEqualTo(3);
+  }
+
+  @DisplayName("A profile without rounds has no process time")
+  @Test
+  void aProfileWithoutRoundsHasNoProcessTime() {
+    // Given
+    var profile = new AnnotationProcessorProfile(
+        "com.example.Processor",
+        Duration.ofMillis(10),
+        List.of()
+    );
+
+    // Then
+    assertThat(profile.getProcessTime()).isZero();
+    assertThat(profile.getTotalTime()).isEqualTo(Duration.ofMillis(10));
+    assertThat(profile.getFilesCreated()).isZero();
+  }
+
+  @DisplayName("Round values are exposed")
+  @Test
+  void roundValuesAreExposed() {
+    // Given
+    var round = new Round(Duration.ofMillis(7), 2);
+
+    // Then
+    assertThat(round.getProcessTime()).isEqualTo(Duration.ofMillis(7));
+    assertThat(round.getFilesCreated()).isEqualTo(2);
+    assertThat(round).hasToString("Round{processTime=PT0.007S, filesCreated=2}");
+  }
+
+  @DisplayName("Rounds with a negative file count are rejected")
+  @Test
+  void roundsWithANegativeFileCountAreRejected() {
+    // Then
+    assertThatThrownBy(() -> new Round(Duration.ZERO, -1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("filesCreated cannot be negative (got -1)");
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.compilers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.ascopes.jct.compilers.CompilationTimings;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CompilationTimings} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("CompilationTimings tests")
+class CompilationTimingsTest {
+
+  @DisplayName("The timings are exposed")
+  @Test
+  void theTimingsAreExposed() {
+    // Given
+    var timings = new CompilationTimings(
+        Duration.ofMillis(100),
+        Duration.ofMillis(10),
+        Duration.ofMillis(20),
+        Duration.ofMillis(30),
+        Duration.ofMillis(15),
+        List.of(Duration.ofMillis(5), Duration.ofMillis(7))
+    );
+
+    // Then
+    assertThat(timings.getTotalTime()).isEqualTo(Duration.ofMillis(100));
+    assertThat(timings.getParseTime()).isEqualTo(Duration.ofMillis(10));
+    assertThat(timings.getEnterTime()).isEqualTo(Duration.ofMillis(20));
+    assertThat(timings.getAnalyzeTime()).isEqualTo(Duration.ofMillis(30));
+    assertThat(timings.getGenerateTime()).isEqualTo(Duration.ofMillis(15));
+    assertThat(timings.getAnnotationProcessingRoundTimes())
+        .containsExactly(Duration.ofMillis(5), Duration.ofMillis(7));
+    assertThat(timings.getAnnotationProcessingTime()).isEqualTo(Duration.ofMillis(12));
+  }
+
+  @DisplayName("The empty timings are all zero")
+  @Test
+  void theEmptyTimingsAreAllZero() {
+    // Given
+    var timings = CompilationTimings.empty();
+
+    // Then
+    assertThat(timings.getTotalTime()).isZero();
+    assertThat(timings.getParseTime()).isZero();
+    assertThat(timings.getEnterTime()).isZero();
+    assertThat(timings.getAnalyzeTime()).isZero();
+    assertThat(timings.getGenerateTime()).isZero();
+    assertThat(timings.getAnnotationProcessingRoundTimes()).isEmpty();
+    assertThat(timings.getAnnotationProcessingTime()).isZero();
+  }
+
+  @DisplayName("The round times cannot be modified")
+  @Test
+  void theRoundTimesCannotBeModified() {
+    // Given
+    var timings = CompilationTimings.empty();
+
+    // Then
+    assertThatThrownBy(() -> timings.getAnnotationProcessingRoundTimes().add(Duration.ZERO))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @DisplayName("Null round times are rejected")
+  @Test
+  void nullRoundTimesAreRejected() {
+    // Given
+    var roundTimes = Arrays.asList(Duration.ZERO, null);
+
+    // Then
+    assertThatThrownBy(() -> new CompilationTimings(
+        Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, roundTimes
+    ))
+        .isInstanceOf(NullPointerException.class);
+  }
+
+  @DisplayName("Timings with the same durations are equal")
+  @Test
+  void timingsWithTheSameDurationsAreEqual() {
+    // Given
+    var timings = new CompilationTimings(
+        Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, List.of()
+    );
+
+    // Then
+    assertThat(timings)
+        .isEqualTo(CompilationTimings.empty())
+        .hasSameHashCodeAs(CompilationTimings.empty())
+        .isNotEqualTo(new CompilationTimings(
+            Duration.ofMillis(1),
+            Duration.ZERO,
+            Duration.ZERO,
+            Duration.ZERO,
+            Duration.ZERO,
+            List.of()
+        ));
+  }
+
+  @DisplayName("toString() includes each phase")
+  @Test
+  void toStringIncludesEachPhase() {
+    // Then
+    assertThat(CompilationTimings.empty())
+        .hasToString(
+            "CompilationTimings{totalTime=PT0S, parseTime=PT0S, enterTime=PT0S, "
+                + "analyzeTime=PT0S, generateTime=PT0S, annotationProcessingRoundTimes=[]}"
+        );
+  }
+}
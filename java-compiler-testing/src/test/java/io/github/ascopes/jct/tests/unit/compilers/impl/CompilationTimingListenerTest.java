@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.compilers.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.TaskEvent;
+import io.github.ascopes.jct.compilers.impl.CompilationTimingListener;
+import java.time.Duration;
+import javax.tools.JavaCompiler.CompilationTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CompilationTimingListener} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("CompilationTimingListener tests")
+class CompilationTimingListenerTest {
+
+  @DisplayName(".attachTo(...) registers the listener with javac tasks")
+  @Test
+  void attachToRegistersTheListenerWithJavacTasks() {
+    // Given
+    var listener = new CompilationTimingListener();
+    var task = mock(JavacTask.class);
+
+    // When
+    listener.attachTo(task);
+
+    // Then
+    verify(task).addTaskListener(listener);
+  }
+
+  @DisplayName(".attachTo(...) ignores tasks from other compilers")
+  @Test
+  void attachToIgnoresTasksFromOtherCompilers() {
+    // Given
+    var listener = new CompilationTimingListener();
+    var task = mock(CompilationTask.class);
+
+    // When
+    listener.attachTo(task);
+
+    // Then
+    verifyNoInteractions(task);
+  }
+
+  @DisplayName("No phases are recorded before any events are received")
+  @Test
+  void noPhasesAreRecordedBeforeAnyEventsAreReceived() {
+    // Given
+    var listener = new CompilationTimingListener();
+
+    // When
+    var timings = listener.getTimings(Duration.ofSeconds(1));
+
+    // Then
+    assertThat(timings.getTotalTime()).isEqualTo(Duration.ofSeconds(1));
+    assertThat(timings.getParseTime()).isZero();
+    assertThat(timings.getEnterTime()).isZero();
+    assertThat(timings.getAnalyzeTime()).isZero();
+    assertThat(timings.getGenerateTime()).isZero();
+    assertThat(timings.getAnnotationProcessingRoundTimes()).isEmpty();
+  }
+
+  @DisplayName("Each occurrence of a phase is added to the total for that phase")
+  @Test
+  void eachOccurrenceOfAPhaseIsAddedToTheTotalForThatPhase() throws InterruptedException {
+    // Given
+    var listener = new CompilationTimingListener();
+
+    // When
+    runPhase(listener, TaskEvent.Kind.ANALYZE, 5);
+    runPhase(listener, TaskEvent.Kind.ANALYZE, 5);
+    runPhase(listener, TaskEvent.Kind.GENERATE, 1);
+    var timings = listener.getTimings(Duration.ofSeconds(1));
+
+    // Then
+    assertThat(timings.getAnalyzeTime()).isGreaterThanOrEqualTo(Duration.ofMillis(10));
+    assertThat(timings.getGenerateTime()).isPositive().isLessThan(timings.getAnalyzeTime());
+    assertThat(timings.getParseTime()).isZero();
+  }
+
+  @DisplayName("Each annotation processing round is recorded separately")
+  @Test
+  void eachAnnotationProcessingRoundIsRecordedSeparately() throws InterruptedException {
+    // Given
+    var listener = new CompilationTimingListener();
+
+    // When
+    listener.started(new TaskEvent(TaskEvent.Kind.ANNOTATION_PROCESSING));
+    runPhase(listener, TaskEvent.Kind.ANNOTATION_PROCESSING_ROUND, 5);
+    runPhase(listener, TaskEvent.Kind.ANNOTATION_PROCESSING_ROUND, 1);
+    listener.finished(new TaskEvent(TaskEvent.Kind.ANNOTATION_PROCESSING));
+    var timings = listener.getTimings(Duration.ofSeconds(1));
+
+    // Then
+    assertThat(timings.getAnnotationProcessingRoundTimes()).hasSize(2);
+    assertThat(timings.getAnnotationProcessingRoundTimes().get(0))
+        .isGreaterThanOrEqualTo(Duration.ofMillis(5));
+  }
+
+  @DisplayName("Nested occurrences of the same phase are each timed")
+  @Test
+  void nestedOccurrencesOfTheSamePhaseAreEachTimed() throws InterruptedException {
+    // Given
+    var listener = new CompilationTimingListener();
+
+    // When
+    listener.started(new TaskEvent(TaskEvent.Kind.ENTER));
+    runPhase(listener, TaskEvent.Kind.ENTER, 5);
+    listener.finished(new TaskEvent(TaskEvent.Kind.ENTER));
+    var timings = listener.getTimings(Duration.ofSeconds(1));
+
+    // Then
+    assertThat(timings.getEnterTime()).isGreaterThanOrEqualTo(Duration.ofMillis(10));
+  }
+
+  @DisplayName("Phases that finish without starting are ignored")
+  @Test
+  void phasesThatFinishWithoutStartingAreIgnored() {
+    // Given
+    var listener = new CompilationTimingListener();
+
+    // When
+    listener.finished(new TaskEvent(TaskEvent.Kind.PARSE));
+    var timings = listener.getTimings(Duration.ofSeconds(1));
+
+    // Then
+    assertThat(timings.getParseTime()).isZero();
+  }
+
+  static void runPhase(
+      CompilationTimingListener listener,
+      TaskEvent.Kind kind,
+      long millis
+  ) throws InterruptedException {
+    listener.started(new TaskEvent(kind));
+    Thread.sleep(millis);
+    listener.finished(new TaskEvent(kind));
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.compilers.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.mockito.Mockito.mock;
+
+import io.github.ascopes.jct.compilers.impl.JavacContextPool;
+import io.github.ascopes.jct.filemanagers.JctFileManager;
+import io.github.ascopes.jct.filemanagers.impl.JctFileManagerTemplate;
+import java.io.StringWriter;
+import java.util.List;
+import javax.tools.DiagnosticListener;
+import javax.tools.JavaCompiler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * {@link JavacContextPool} tests.
+ *
+ * <p>Compilations using the pool are covered by the integration tests, which run with access to
+ * the javac task pool.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("JavacContextPool tests")
+class JavacContextPoolTest {
+
+  @DisplayName("Initialising with a maxIdle less than 1 raises an IllegalArgumentException")
+  @ValueSource(ints = {-1, 0})
+  @ParameterizedTest(name = "for maxIdle = {0}")
+  void initialisingWithInvalidMaxIdleRaisesIllegalArgumentException(int maxIdle) {
+    // Then
+    assertThatThrownBy(() -> new JavacContextPool(maxIdle))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxIdle must be at least 1 (got %d)", maxIdle);
+  }
+
+  @DisplayName(".getInstance() returns the same instance each time")
+  @Test
+  void getInstanceReturnsTheSameInstanceEachTime() {
+    // Then
+    assertThat(JavacContextPool.getInstance()).isSameAs(JavacContextPool.getInstance());
+  }
+
+  @DisplayName(".canReuse(...) returns false for compilers other than javac")
+  @Test
+  void canReuseReturnsFalseForCompilersOtherThanJavac() {
+    // Given
+    var pool = new JavacContextPool(1);
+    var template = mock(JctFileManagerTemplate.class);
+    var jsr199Compiler = mock(JavaCompiler.class);
+    var fileManager = mock(JctFileManager.class);
+
+    // Then
+    assertThat(pool.canReuse(template, jsr199Compiler, fileManager)).isFalse();
+  }
+
+  @DisplayName(".runTask(...) raises an IllegalStateException if the pool is unavailable")
+  @Test
+  @SuppressWarnings("unchecked")
+  void runTaskRaisesIllegalStateExceptionIfThePoolIsUnavailable() {
+    // Given
+    var pool = new JavacContextPool(1);
+    assumeThat(pool.isAvailable())
+        .as("javac task pool is exported to this module")
+        .isFalse();
+
+    // Then
+    assertThatThrownBy(() -> pool.runTask(
+        mock(JctFileManagerTemplate.class),
+        new StringWriter(),
+        mock(JctFileManager.class),
+        mock(DiagnosticListener.class),
+        List.of(),
+        null,
+        List.of(),
+        task -> true
+    ))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("The javac task pool is not available");
+  }
+
+  @DisplayName("A new pool has no metrics recorded")
+  @Test
+  void newPoolHasNoMetricsRecorded() {
+    // Given
+    var pool = new JavacContextPool(2);
+
+    // When
+    pool.clear();
+
+    // Then
+    assertThat(pool.getIdleCount()).isZero();
+    assertThat(pool.getCreatedCount()).isZero();
+    assertThat(pool.getReusedCount()).isZero();
+    assertThat(pool.getDiscardedCount()).isZero();
+  }
+
+  @DisplayName(".toString() includes the pool metrics")
+  @Test
+  void toStringIncludesThePoolMetrics() {
+    // Given
+    var pool = new JavacContextPool(3);
+
+    // Then
+    assertThat(pool.toString())
+        .contains("available=" + pool.isAvailable())
+        .contains("maxIdle=3")
+        .contains("reusedCount=0");
+  }
+}
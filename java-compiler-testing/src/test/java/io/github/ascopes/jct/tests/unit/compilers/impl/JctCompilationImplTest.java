@@ -21,10 +21,16 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.InstanceOfAssertFactories.iterable;
 import static org.mockito.Mockito.mock;
 
+import io.github.ascopes.jct.compilers.AnnotationProcessorProfile;
+import io.github.ascopes.jct.compilers.CompilationTimings;
 import io.github.ascopes.jct.compilers.impl.JctCompilationImpl;
 import io.github.ascopes.jct.diagnostics.TraceDiagnostic;
+import io.github.ascopes.jct.filemanagers.FileManagerProfile;
 import io.github.ascopes.jct.filemanagers.JctFileManager;
+import io.github.ascopes.jct.filemanagers.ListingStatistics;
+import io.github.ascopes.jct.filemanagers.LookupCacheStatistics;
 import io.github.ascopes.jct.tests.helpers.Fixtures;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -151,6 +157,135 @@ class JctCompilationImplTest {
     Assertions.assertThat(compilation.getFileManager()).isEqualTo(fileManager);
   }
 
+  @DisplayName("getLookupCacheStatistics returns expected value")
+  @Test
+  void getLookupCacheStatisticsReturnsExpectedValue() {
+    // Given
+    var statistics = new LookupCacheStatistics(RANDOM.nextInt(100), RANDOM.nextInt(100));
+    var compilation = filledBuilder()
+        .lookupCacheStatistics(statistics)
+        .build();
+
+    // Then
+    assertThat(compilation.getLookupCacheStatistics()).isSameAs(statistics);
+  }
+
+  @DisplayName("getLookupCacheStatistics defaults to empty statistics")
+  @Test
+  void getLookupCacheStatisticsDefaultsToEmptyStatistics() {
+    // Given
+    var compilation = filledBuilder().build();
+
+    // Then
+    assertThat(compilation.getLookupCacheStatistics())
+        .isSameAs(LookupCacheStatistics.empty());
+  }
+
+  @DisplayName("getListingStatistics returns expected value")
+  @Test
+  void getListingStatisticsReturnsExpectedValue() {
+    // Given
+    var statistics = new ListingStatistics(RANDOM.nextInt(100), RANDOM.nextInt(100));
+    var compilation = filledBuilder()
+        .listingStatistics(statistics)
+        .build();
+
+    // Then
+    assertThat(compilation.getListingStatistics()).isSameAs(statistics);
+  }
+
+  @DisplayName("getListingStatistics defaults to empty statistics")
+  @Test
+  void getListingStatisticsDefaultsToEmptyStatistics() {
+    // Given
+    var compilation = filledBuilder().build();
+
+    // Then
+    assertThat(compilation.getListingStatistics())
+        .isSameAs(ListingStatistics.empty());
+  }
+
+  @DisplayName("getFileManagerProfile returns expected value")
+  @Test
+  void getFileManagerProfileReturnsExpectedValue() {
+    // Given
+    var profile = mock(FileManagerProfile.class);
+    var compilation = filledBuilder()
+        .fileManagerProfile(profile)
+        .build();
+
+    // Then
+    assertThat(compilation.getFileManagerProfile()).isSameAs(profile);
+  }
+
+  @DisplayName("getFileManagerProfile defaults to an empty profile")
+  @Test
+  void getFileManagerProfileDefaultsToAnEmptyProfile() {
+    // Given
+    var compilation = filledBuilder().build();
+
+    // Then
+    assertThat(compilation.getFileManagerProfile())
+        .isSameAs(FileManagerProfile.empty());
+  }
+
+  @DisplayName("getTimings returns expected value")
+  @Test
+  void getTimingsReturnsExpectedValue() {
+    // Given
+    var timings = new CompilationTimings(
+        Duration.ofMillis(RANDOM.nextInt(100)),
+        Duration.ofMillis(RANDOM.nextInt(100)),
+        Duration.ofMillis(RANDOM.nextInt(100)),
+        Duration.ofMillis(RANDOM.nextInt(100)),
+        Duration.ofMillis(RANDOM.nextInt(100)),
+        List.of(Duration.ofMillis(RANDOM.nextInt(100)))
+    );
+    var compilation = filledBuilder()
+        .timings(timings)
+        .build();
+
+    // Then
+    assertThat(compilation.getTimings()).isSameAs(timings);
+  }
+
+  @DisplayName("getTimings defaults to empty timings")
+  @Test
+  void getTimingsDefaultsToEmptyTimings() {
+    // Given
+    var compilation = filledBuilder().build();
+
+    // Then
+    assertThat(compilation.getTimings()).isSameAs(CompilationTimings.empty());
+  }
+
+  @DisplayName("getAnnotationProcessorProfiles returns expected value")
+  @Test
+  void getAnnotationProcessorProfilesReturnsExpectedValue() {
+    // Given
+    var profiles = List.of(
+        new AnnotationProcessorProfile("com.example.Foo", Duration.ZERO, List.of()),
+        new AnnotationProcessorProfile("com.example.Bar", Duration.ZERO, List.of())
+    );
+    var compilation = filledBuilder()
+        .annotationProcessorProfiles(profiles)
+        .build();
+
+    // Then
+    assertThat(compilation.getAnnotationProcessorProfiles())
+        .containsExactlyElementsOf(profiles);
+  }
+
+  @DisplayName("getAnnotationProcessorProfiles defaults to an empty list")
+  @Test
+  void getAnnotationProcessorProfilesDefaultsToAnEmptyList() {
+    // Given
+    var compilation = filledBuilder().build();
+
+    // Then
+    assertThat(compilation.getAnnotationProcessorProfiles()).isEmpty();
+  }
+
   @DisplayName("toString returns the expected value")
   @Test
   void toStringReturnsExpectedValue() {
@@ -338,6 +473,71 @@ class JctCompilationImplTest {
           .hasMessage("fileManager");
     }
 
+    @DisplayName("Setting null lookup cache statistics raises a NullPointerException")
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void settingNullLookupCacheStatisticsRaisesNullPointerException() {
+      // Given
+      var builder = filledBuilder();
+
+      // Then
+      assertThatThrownBy(() -> builder.lookupCacheStatistics(null))
+          .isInstanceOf(NullPointerException.class)
+          .hasMessage("lookupCacheStatistics");
+    }
+
+    @DisplayName("Setting null listing statistics raises a NullPointerException")
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void settingNullListingStatisticsRaisesNullPointerException() {
+      // Given
+      var builder = filledBuilder();
+
+      // Then
+      assertThatThrownBy(() -> builder.listingStatistics(null))
+          .isInstanceOf(NullPointerException.class)
+          .hasMessage("listingStatistics");
+    }
+
+    @DisplayName("Setting a null file manager profile raises a NullPointerException")
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void settingNullFileManagerProfileRaisesNullPointerException() {
+      // Given
+      var builder = filledBuilder();
+
+      // Then
+      assertThatThrownBy(() -> builder.fileManagerProfile(null))
+          .isInstanceOf(NullPointerException.class)
+          .hasMessage("fileManagerProfile");
+    }
+
+    @DisplayName("Setting null timings raises a NullPointerException")
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void settingNullTimingsRaisesNullPointerException() {
+      // Given
+      var builder = filledBuilder();
+
+      // Then
+      assertThatThrownBy(() -> builder.timings(null))
+          .isInstanceOf(NullPointerException.class)
+          .hasMessage("timings");
+    }
+
+    @DisplayName("Setting null annotation processor profiles raises a NullPointerException")
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void settingNullAnnotationProcessorProfilesRaisesNullPointerException() {
+      // Given
+      var builder = filledBuilder();
+
+      // Then
+      assertThatThrownBy(() -> builder.annotationProcessorProfiles(null))
+          .isInstanceOf(NullPointerException.class)
+          .hasMessage("annotationProcessorProfiles");
+    }
+
     @DisplayName("Building without a file manager raises a NullPointerException")
     @Test
     void buildingWithoutFileManagerRaisesNullPointerException() {
@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.compilers.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.ascopes.jct.compilers.impl.ProfilingProcessor;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * {@link ProfilingProcessor} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("ProfilingProcessor tests")
+@ExtendWith(MockitoExtension.class)
+class ProfilingProcessorTest {
+
+  @Mock
+  Processor delegate;
+
+  ProfilingProcessor processor;
+
+  @BeforeEach
+  void setUp() {
+    processor = new ProfilingProcessor(delegate);
+  }
+
+  @DisplayName("Processor metadata is delegated")
+  @Test
+  void processorMetadataIsDelegated() {
+    // Given
+    when(delegate.getSupportedOptions()).thenReturn(Set.of("foo"));
+    when(delegate.getSupportedAnnotationTypes()).thenReturn(Set.of("*"));
+    when(delegate.getSupportedSourceVersion()).thenReturn(SourceVersion.RELEASE_11);
+
+    // Then
+    assertThat(processor.getSupportedOptions()).containsExactly("foo");
+    assertThat(processor.getSupportedAnnotationTypes()).containsExactly("*");
+    assertThat(processor.getSupportedSourceVersion()).isEqualTo(SourceVersion.RELEASE_11);
+    assertThat(processor.getDelegate()).isSameAs(delegate);
+  }
+
+  @DisplayName("The profile is empty before the processor is used")
+  @Test
+  void theProfileIsEmptyBeforeTheProcessorIsUsed() {
+    // When
+    var profile = processor.getProfile();
+
+    // Then
+    assertThat(profile.getProcessorName()).isEqualTo(delegate.getClass().getName());
+    assertThat(profile.getInitTime()).isZero();
+    assertThat(profile.getRounds()).isEmpty();
+  }
+
+  @DisplayName("The init time is recorded")
+  @Test
+  void theInitTimeIsRecorded() {
+    // Given
+    doAnswer(ctx -> {
+      Thread.sleep(5);
+      return null;
+    }).when(delegate).init(any());
+
+    // When
+    processor.init(mock(ProcessingEnvironment.class));
+
+    // Then
+    assertThat(processor.getProfile().getInitTime())
+        .isGreaterThanOrEqualTo(Duration.ofMillis(5));
+  }
+
+  @DisplayName("The init time is recorded when init fails")
+  @Test
+  void theInitTimeIsRecordedWhenInitFails() {
+    // Given
+    var ex = new IllegalStateException("bang");
+    doAnswer(ctx -> {
+      Thread.sleep(5);
+      throw ex;
+    }).when(delegate).init(any());
+
+    // Then
+    assertThatThrownBy(() -> processor.init(mock(ProcessingEnvironment.class)))
+        .isSameAs(ex);
+    assertThat(processor.getProfile().getInitTime())
+        .isGreaterThanOrEqualTo(Duration.ofMillis(5));
+  }
+
+  @DisplayName("Each round is recorded with the result of the delegate")
+  @Test
+  void eachRoundIsRecordedWithTheResultOfTheDelegate() {
+    // Given
+    var roundEnv = mock(RoundEnvironment.class);
+    when(delegate.process(Set.of(), roundEnv)).thenReturn(true, false);
+
+    // When
+    var firstResult = processor.process(Set.of(), roundEnv);
+    var secondResult = processor.process(Set.of(), roundEnv);
+
+    // Then
+    assertThat(firstResult).isTrue();
+    assertThat(secondResult).isFalse();
+    assertThat(processor.getProfile().getRounds()).hasSize(2);
+  }
+
+  @DisplayName("Files created through the filer are counted for the round they are created in")
+  @Test
+  void filesCreatedThroughTheFilerAreCountedForTheRoundTheyAreCreatedIn() throws Exception {
+    // Given
+    var filer = mock(Filer.class);
+    var processingEnv = mock(ProcessingEnvironment.class);
+    when(processingEnv.getFiler()).thenReturn(filer);
+
+    var wrappedEnv = new AtomicReference<ProcessingEnvironment>();
+    doAnswer(ctx -> {
+      wrappedEnv.set(ctx.getArgument(0));
+      return null;
+    }).when(delegate).init(any());
+
+    var roundEnv = mock(RoundEnvironment.class);
+    when(delegate.process(Set.of(), roundEnv))
+        .thenAnswer(ctx -> {
+          var wrappedFiler = wrappedEnv.get().getFiler();
+          wrappedFiler.createSourceFile("com.example.Foo");
+          wrappedFiler.createClassFile("com.example.Bar");
+          wrappedFiler.createResource(StandardLocation.CLASS_OUTPUT, "", "foo.txt");
+          wrappedFiler.getResource(StandardLocation.CLASS_OUTPUT, "", "bar.txt");
+          return false;
+        })
+        .thenReturn(false);
+
+    // When
+    processor.init(processingEnv);
+    processor.process(Set.of(), roundEnv);
+    processor.process(Set.of(), roundEnv);
+
+    // Then
+    verify(filer).createSourceFile("com.example.Foo");
+    verify(filer).createClassFile("com.example.Bar");
+    verify(filer).createResource(StandardLocation.CLASS_OUTPUT, "", "foo.txt");
+    verify(filer).getResource(StandardLocation.CLASS_OUTPUT, "", "bar.txt");
+
+    var rounds = processor.getProfile().getRounds();
+    assertThat(rounds).hasSize(2);
+    assertThat(rounds.get(0).getFilesCreated()).isEqualTo(3);
+    assertThat(rounds.get(1).getFilesCreated()).isZero();
+  }
+
+  @DisplayName("The wrapped processing environment delegates to the original environment")
+  @Test
+  void theWrappedProcessingEnvironmentDelegatesToTheOriginalEnvironment() {
+    // Given
+    var processingEnv = mock(ProcessingEnvironment.class);
+    when(processingEnv.getSourceVersion()).thenReturn(SourceVersion.RELEASE_11);
+
+    var wrappedEnv = new AtomicReference<ProcessingEnvironment>();
+    doAnswer(ctx -> {
+      wrappedEnv.set(ctx.getArgument(0));
+      return null;
+    }).when(delegate).init(any());
+
+    // When
+    processor.init(processingEnv);
+
+    // Then
+    assertThat(wrappedEnv.get()).isNotSameAs(processingEnv);
+    assertThat(wrappedEnv.get().getSourceVersion()).isEqualTo(SourceVersion.RELEASE_11);
+  }
+}
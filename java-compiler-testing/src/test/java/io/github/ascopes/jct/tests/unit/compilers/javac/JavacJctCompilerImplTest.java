@@ -25,6 +25,9 @@ import static org.mockito.Mockito.when;
 
 import io.github.ascopes.jct.compilers.javac.JavacJctCompilerImpl;
 import io.github.ascopes.jct.compilers.javac.JavacJctFlagBuilderImpl;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.lang.model.SourceVersion;
 import javax.tools.JavaCompiler;
 import javax.tools.ToolProvider;
@@ -53,20 +56,57 @@ class JavacJctCompilerImplTest {
   @DisplayName("Compilers have the expected JSR-199 compiler factory")
   @Test
   void compilersHaveTheExpectedCompilerFactory() {
+    // When
+    var actualCompiler = compiler.getCompilerFactory().createCompiler();
+
+    // Then
+    assertThat(actualCompiler)
+        .isInstanceOf(ToolProvider.getSystemJavaCompiler().getClass());
+  }
+
+  @DisplayName("Compilers share one JSR-199 compiler between all compilations")
+  @Test
+  void compilersShareOneCompilerBetweenAllCompilations() throws Exception {
     // Given
-    try (var toolProviderMock = mockStatic(ToolProvider.class)) {
-      var jsr199Compiler = mock(JavaCompiler.class);
-      toolProviderMock.when(ToolProvider::getSystemJavaCompiler).thenReturn(jsr199Compiler);
+    var executor = Executors.newFixedThreadPool(4);
+    var futures = new ArrayList<Future<JavaCompiler>>();
 
+    try {
       // When
-      var actualCompiler = compiler.getCompilerFactory().createCompiler();
+      for (var i = 0; i < 16; ++i) {
+        futures.add(executor.submit(
+            () -> new JavacJctCompilerImpl().getCompilerFactory().createCompiler()
+        ));
+      }
 
       // Then
-      toolProviderMock.verify(ToolProvider::getSystemJavaCompiler);
-      assertThat(actualCompiler).isSameAs(jsr199Compiler);
+      var expected = compiler.getCompilerFactory().createCompiler();
+      for (var future : futures) {
+        // Any exception in a worker is rethrown here, so it is reported as the cause.
+        assertThat(future.get()).isSameAs(expected);
+      }
+    } finally {
+      executor.shutdownNow();
     }
   }
 
+  @DisplayName("Reuses of the shared JSR-199 compiler are counted")
+  @Test
+  void reusesOfTheSharedCompilerAreCounted() {
+    // Given
+    compiler.getCompilerFactory().createCompiler();
+    var reuseCount = JavacJctCompilerImpl.getSystemCompilerReuseCount();
+
+    // When
+    compiler.getCompilerFactory().createCompiler();
+    new JavacJctCompilerImpl().getCompilerFactory().createCompiler();
+
+    // Then
+    assertThat(JavacJctCompilerImpl.getSystemCompilerLookupCount()).isOne();
+    assertThat(JavacJctCompilerImpl.getSystemCompilerReuseCount())
+        .isGreaterThanOrEqualTo(reuseCount + 2);
+  }
+
   @DisplayName("Compilers have the expected flag builder factory")
   @Test
   void compilersHaveTheExpectedFlagBuilderFactory() {
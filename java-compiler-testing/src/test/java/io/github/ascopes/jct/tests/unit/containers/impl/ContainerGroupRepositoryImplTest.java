@@ -19,18 +19,25 @@ import static io.github.ascopes.jct.tests.helpers.Fixtures.somePathRoot;
 import static io.github.ascopes.jct.tests.helpers.Fixtures.someRelease;
 import static java.util.stream.Collectors.toMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.InstanceOfAssertFactories.list;
 import static org.mockito.ArgumentMatchers.any;
 
 import io.github.ascopes.jct.containers.Container;
 import io.github.ascopes.jct.containers.PackageContainerGroup;
 import io.github.ascopes.jct.containers.impl.ContainerGroupRepositoryImpl;
+import io.github.ascopes.jct.containers.impl.SharedModuleContainerGroup;
+import io.github.ascopes.jct.containers.impl.SharedPackageContainerGroup;
+import io.github.ascopes.jct.filemanagers.ListingStatistics;
 import io.github.ascopes.jct.filemanagers.ModuleLocation;
 import io.github.ascopes.jct.utils.ModuleDiscoverer;
 import io.github.ascopes.jct.workspaces.PathRoot;
+import java.io.IOException;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
+import javax.tools.JavaFileObject.Kind;
 import javax.tools.StandardLocation;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -256,4 +263,207 @@ class ContainerGroupRepositoryImplTest {
 
     }
   }
+
+  @DisplayName(".addSharedGroups(...) tests")
+  @Nested
+  class AddSharedGroupsTest {
+
+    ContainerGroupRepositoryImpl shared;
+
+    @BeforeEach
+    void setUp() {
+      shared = new ContainerGroupRepositoryImpl(release);
+    }
+
+    @AfterEach
+    void tearDown() {
+      shared.close();
+    }
+
+    @DisplayName("new locations are backed by read-only views of the shared groups")
+    @Test
+    void newLocationsAreBackedByReadOnlyViewsOfTheSharedGroups() {
+      // Given
+      shared.addPath(StandardLocation.CLASS_PATH, somePathRoot());
+      var sharedGroup = shared.getPackageContainerGroup(StandardLocation.CLASS_PATH);
+
+      // When
+      repository.addSharedGroups(shared);
+
+      // Then
+      var group = repository.getPackageContainerGroup(StandardLocation.CLASS_PATH);
+      assertThat(group)
+          .isInstanceOf(SharedPackageContainerGroup.class)
+          .extracting(PackageContainerGroup::getPackages, list(Container.class))
+          .containsExactlyElementsOf(sharedGroup.getPackages());
+      assertThatThrownBy(() -> group.addPackage(somePathRoot()))
+          .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @DisplayName("each repository gets its own view of the shared groups")
+    @Test
+    void eachRepositoryGetsItsOwnViewOfTheSharedGroups() {
+      // Given
+      shared.addPath(StandardLocation.CLASS_PATH, somePathRoot());
+
+      try (var other = new ContainerGroupRepositoryImpl(release)) {
+        // When
+        repository.addSharedGroups(shared);
+        other.addSharedGroups(shared);
+
+        // Then
+        var group = repository.getPackageContainerGroup(StandardLocation.CLASS_PATH);
+        var otherGroup = other.getPackageContainerGroup(StandardLocation.CLASS_PATH);
+        assertThat(group).isNotSameAs(otherGroup);
+        assertThat(group.getPackages())
+            .singleElement()
+            .isSameAs(otherGroup.getPackages().get(0));
+      }
+    }
+
+    @DisplayName("listings through shared views are counted by the repository that made them")
+    @Test
+    void listingsThroughSharedViewsAreCountedByTheRepositoryThatMadeThem() throws IOException {
+      // Given
+      shared.createEmptyLocation(StandardLocation.CLASS_PATH);
+      repository.createEmptyLocation(StandardLocation.SOURCE_PATH);
+
+      try (var other = new ContainerGroupRepositoryImpl(release)) {
+        repository.addSharedGroups(shared);
+        other.addSharedGroups(shared);
+
+        // When
+        repository.getPackageContainerGroup(StandardLocation.CLASS_PATH)
+            .listFileObjects("org.example", Set.of(Kind.CLASS), true);
+        repository.getPackageContainerGroup(StandardLocation.SOURCE_PATH)
+            .listFileObjects("org.example", Set.of(Kind.SOURCE), true);
+        for (var i = 0; i < 3; ++i) {
+          other.getPackageContainerGroup(StandardLocation.CLASS_PATH)
+              .listFileObjects("org.example", Set.of(Kind.CLASS), true);
+        }
+
+        // Then
+        assertThat(repository.getListingStatistics()).isEqualTo(new ListingStatistics(2, 0));
+        assertThat(other.getListingStatistics()).isEqualTo(new ListingStatistics(3, 0));
+        assertThat(shared.getListingStatistics()).isEqualTo(ListingStatistics.empty());
+      }
+    }
+
+    @DisplayName("shared containers are added after those of existing locations")
+    @Test
+    void sharedContainersAreAddedAfterThoseOfExistingLocations() {
+      // Given
+      repository.addPath(StandardLocation.CLASS_PATH, somePathRoot());
+      var ownContainer = repository.getPackageContainerGroup(StandardLocation.CLASS_PATH)
+          .getPackages()
+          .get(0);
+      shared.addPath(StandardLocation.CLASS_PATH, somePathRoot());
+      var sharedContainer = shared.getPackageContainerGroup(StandardLocation.CLASS_PATH)
+          .getPackages()
+          .get(0);
+
+      // When
+      repository.addSharedGroups(shared);
+
+      // Then
+      assertThat(repository.getPackageContainerGroup(StandardLocation.CLASS_PATH))
+          .isNotInstanceOf(SharedPackageContainerGroup.class)
+          .extracting(PackageContainerGroup::getPackages, list(Container.class))
+          .containsExactly(ownContainer, sharedContainer);
+    }
+
+    @DisplayName("adding a path to a shared location copies the shared containers first")
+    @Test
+    void addingPathToSharedLocationCopiesTheSharedContainersFirst() {
+      // Given
+      shared.addPath(StandardLocation.CLASS_PATH, somePathRoot());
+      var sharedGroup = shared.getPackageContainerGroup(StandardLocation.CLASS_PATH);
+      var sharedContainer = sharedGroup.getPackages().get(0);
+      repository.addSharedGroups(shared);
+      var pathRoot = somePathRoot();
+
+      // When
+      repository.addPath(StandardLocation.CLASS_PATH, pathRoot);
+
+      // Then
+      var group = repository.getPackageContainerGroup(StandardLocation.CLASS_PATH);
+      assertThat(group).isNotInstanceOf(SharedPackageContainerGroup.class);
+      assertThat(group.getPackages())
+          .hasSize(2)
+          .startsWith(sharedContainer);
+      assertThat(group.getPackages().get(1).getPathRoot()).isSameAs(pathRoot);
+      assertThat(sharedGroup.getPackages()).containsExactly(sharedContainer);
+    }
+
+    @DisplayName("creating an empty location keeps the shared group")
+    @Test
+    void creatingAnEmptyLocationKeepsTheSharedGroup() {
+      // Given
+      shared.addPath(StandardLocation.CLASS_PATH, somePathRoot());
+      repository.addSharedGroups(shared);
+
+      // When
+      repository.createEmptyLocation(StandardLocation.CLASS_PATH);
+
+      // Then
+      assertThat(repository.getPackageContainerGroup(StandardLocation.CLASS_PATH))
+          .isInstanceOf(SharedPackageContainerGroup.class);
+    }
+
+    @DisplayName("shared module groups are exposed through read-only views")
+    @Test
+    void sharedModuleGroupsAreExposedThroughReadOnlyViews() {
+      // Given
+      var moduleLocation = new ModuleLocation(StandardLocation.MODULE_PATH, "foo.bar");
+      shared.addPath(moduleLocation, somePathRoot());
+      var sharedContainer = shared.getModuleContainerGroup(StandardLocation.MODULE_PATH)
+          .getModule("foo.bar")
+          .getPackages()
+          .get(0);
+
+      // When
+      repository.addSharedGroups(shared);
+
+      // Then
+      var group = repository.getModuleContainerGroup(StandardLocation.MODULE_PATH);
+      assertThat(group).isInstanceOf(SharedModuleContainerGroup.class);
+      assertThat(group.getModule("foo.bar"))
+          .isInstanceOf(SharedPackageContainerGroup.class)
+          .extracting(PackageContainerGroup::getPackages, list(Container.class))
+          .containsExactly(sharedContainer);
+      assertThatThrownBy(() -> group.addModule("baz.bork", somePathRoot()))
+          .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @DisplayName("adding a module to a shared location copies the shared modules first")
+    @Test
+    void addingModuleToSharedLocationCopiesTheSharedModulesFirst() {
+      // Given
+      var sharedModule = new ModuleLocation(StandardLocation.MODULE_PATH, "foo.bar");
+      var ownModule = new ModuleLocation(StandardLocation.MODULE_PATH, "baz.bork");
+      shared.addPath(sharedModule, somePathRoot());
+      repository.addSharedGroups(shared);
+
+      // When
+      repository.addPath(ownModule, somePathRoot());
+
+      // Then
+      var group = repository.getModuleContainerGroup(StandardLocation.MODULE_PATH);
+      assertThat(group).isNotInstanceOf(SharedModuleContainerGroup.class);
+      assertThat(group.getModules()).containsOnlyKeys(sharedModule, ownModule);
+      assertThat(shared.getModuleContainerGroup(StandardLocation.MODULE_PATH).getModules())
+          .containsOnlyKeys(sharedModule);
+    }
+
+    @DisplayName("groups for a different release cannot be shared")
+    @Test
+    void groupsForDifferentReleaseCannotBeShared() {
+      // Given
+      try (var other = new ContainerGroupRepositoryImpl(release + "1")) {
+        // Then
+        assertThatThrownBy(() -> repository.addSharedGroups(other))
+            .isInstanceOf(IllegalArgumentException.class);
+      }
+    }
+  }
 }
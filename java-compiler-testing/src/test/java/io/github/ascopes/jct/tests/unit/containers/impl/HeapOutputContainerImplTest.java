@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.containers.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.ascopes.jct.containers.impl.HeapOutputContainerImpl;
+import io.github.ascopes.jct.filemanagers.PathFileObject;
+import io.github.ascopes.jct.workspaces.impl.WrappingDirectoryImpl;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Set;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link HeapOutputContainerImpl} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("HeapOutputContainerImpl tests")
+class HeapOutputContainerImplTest {
+
+  @TempDir
+  Path tempDir;
+
+  HeapOutputContainerImpl container;
+
+  @BeforeEach
+  void setUp() {
+    container = new HeapOutputContainerImpl(
+        StandardLocation.CLASS_OUTPUT,
+        new WrappingDirectoryImpl(tempDir)
+    );
+  }
+
+  @DisplayName("Written files are held in memory rather than on the file system")
+  @Test
+  void writtenFilesAreHeldInMemory() throws IOException {
+    // When
+    write(container.getJavaFileForOutput("org.example.Foo", Kind.CLASS), "foo");
+
+    // Then
+    assertThat(container.getHeapFiles())
+        .containsExactly(tempDir.getFileSystem().getPath("org", "example", "Foo.class"));
+    assertThat(tempDir.resolve("org")).doesNotExist();
+  }
+
+  @DisplayName("Written files can be read back as inputs")
+  @Test
+  void writtenFilesCanBeReadBack() throws IOException {
+    // Given
+    write(container.getFileForOutput("org.example", "resource.txt"), "hello, world");
+
+    // When
+    var fileObject = container.getFileForInput("org.example", "resource.txt");
+
+    // Then
+    assertThat(fileObject).isNotNull();
+    assertThat(fileObject.getCharContent(false)).isEqualTo("hello, world");
+    assertThat(fileObject.getLastModified()).isPositive();
+    assertThat(container.contains(fileObject)).isTrue();
+  }
+
+  @DisplayName("Files that do not exist are not found")
+  @Test
+  void filesThatDoNotExistAreNotFound() {
+    // Then
+    assertThat(container.getJavaFileForInput("org.example.Foo", Kind.CLASS)).isNull();
+    assertThat(container.getFileForInput("org.example", "resource.txt")).isNull();
+  }
+
+  @DisplayName("Files that already existed on the file system can be read")
+  @Test
+  void filesThatAlreadyExistedCanBeRead() throws IOException {
+    // Given
+    Files.createDirectories(tempDir.resolve("org/example"));
+    Files.writeString(tempDir.resolve("org/example/Bar.class"), "bar");
+
+    // When
+    var fileObject = container.getJavaFileForInput("org.example.Bar", Kind.CLASS);
+
+    // Then
+    assertThat(fileObject).isNotNull();
+    assertThat(fileObject.getCharContent(false)).isEqualTo("bar");
+  }
+
+  @DisplayName("Listing includes files in memory and on the file system without duplicates")
+  @Test
+  void listingIncludesFilesInMemoryAndOnTheFileSystem() throws IOException {
+    // Given
+    Files.createDirectories(tempDir.resolve("org/example"));
+    Files.writeString(tempDir.resolve("org/example/Bar.class"), "bar");
+    write(container.getJavaFileForOutput("org.example.Foo", Kind.CLASS), "foo");
+    write(container.getJavaFileForOutput("org.example.Bar", Kind.CLASS), "new bar");
+    write(container.getJavaFileForOutput("org.example.nested.Baz", Kind.CLASS), "baz");
+    write(container.getJavaFileForOutput("org.example.Foo", Kind.SOURCE), "source");
+
+    // When
+    var flat = new ArrayList<JavaFileObject>();
+    container.listFileObjects("org.example", Set.of(Kind.CLASS), false, flat);
+    var recursive = new ArrayList<JavaFileObject>();
+    container.listFileObjects("org.example", Set.of(Kind.CLASS), true, recursive);
+
+    // Then
+    assertThat(flat)
+        .extracting(JavaFileObject::getName)
+        .containsExactlyInAnyOrder("org/example/Foo.class", "org/example/Bar.class");
+    assertThat(recursive)
+        .extracting(JavaFileObject::getName)
+        .containsExactlyInAnyOrder(
+            "org/example/Foo.class",
+            "org/example/Bar.class",
+            "org/example/nested/Baz.class"
+        );
+  }
+
+  @DisplayName("Files are written out when accessed as paths")
+  @Test
+  void filesAreWrittenOutWhenAccessedAsPaths() throws IOException {
+    // Given
+    write(container.getJavaFileForOutput("org.example.Foo", Kind.CLASS), "foo");
+
+    // When
+    var path = container.getFile("org/example/Foo.class");
+
+    // Then
+    assertThat(path).isNotNull().hasContent("foo");
+    assertThat(container.listAllFiles()).contains(path);
+  }
+
+  @DisplayName("Deleted files are removed from memory")
+  @Test
+  void deletedFilesAreRemovedFromMemory() throws IOException {
+    // Given
+    var fileObject = container.getJavaFileForOutput("org.example.Foo", Kind.CLASS);
+    write(fileObject, "foo");
+
+    // When
+    var result = fileObject.delete();
+
+    // Then
+    assertThat(result).isTrue();
+    assertThat(container.getHeapFiles()).isEmpty();
+    assertThat(container.getJavaFileForInput("org.example.Foo", Kind.CLASS)).isNull();
+  }
+
+  @DisplayName("Binary names are inferred for files in memory")
+  @Test
+  void binaryNamesAreInferredForFilesInMemory() {
+    // Given
+    var fileObject = container.getJavaFileForOutput("org.example.Foo", Kind.CLASS);
+
+    // Then
+    assertThat(container.inferBinaryName(fileObject)).isEqualTo("org.example.Foo");
+  }
+
+  private static void write(PathFileObject fileObject, String content) throws IOException {
+    try (var out = fileObject.openOutputStream()) {
+      out.write(content.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+}
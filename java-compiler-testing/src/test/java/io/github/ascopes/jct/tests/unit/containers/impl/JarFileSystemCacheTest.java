@@ -0,0 +1,310 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.containers.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import io.github.ascopes.jct.containers.impl.JarFileSystemCache;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link JarFileSystemCache} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("JarFileSystemCache tests")
+class JarFileSystemCacheTest {
+
+  @TempDir
+  Path tempDir;
+
+  JarFileSystemCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new JarFileSystemCache();
+  }
+
+  @DisplayName(".getInstance() returns the same instance each time")
+  @Test
+  void getInstanceReturnsTheSameInstanceEachTime() {
+    // Then
+    assertThat(JarFileSystemCache.getInstance())
+        .isSameAs(JarFileSystemCache.getInstance());
+  }
+
+  @DisplayName(".acquire(...) indexes the packages in the JAR")
+  @Test
+  void acquireIndexesThePackagesInTheJar() throws IOException {
+    // Given
+    var jar = createJar("test.jar", "org/example/Foo.class", "org/example/bar/Baz.class");
+
+    // When
+    try (var handle = cache.acquire(jar, "11")) {
+      // Then
+      assertThat(handle.getPackage("org.example"))
+          .isNotNull()
+          .satisfies(pkg -> assertThat(pkg.getPath().resolve("Foo.class")).isRegularFile());
+      assertThat(handle.getPackage("org.example.bar"))
+          .isNotNull()
+          .satisfies(pkg -> assertThat(pkg.getPath().resolve("Baz.class")).isRegularFile());
+      assertThat(handle.getPackage("org.example.missing"))
+          .isNull();
+    }
+  }
+
+  @DisplayName(".acquire(...) shares the file system between concurrent handles")
+  @Test
+  void acquireSharesTheFileSystemBetweenConcurrentHandles() throws IOException {
+    // Given
+    var jar = createJar("test.jar", "org/example/Foo.class");
+
+    // When
+    try (
+        var firstHandle = cache.acquire(jar, "11");
+        var secondHandle = cache.acquire(jar, "11")
+    ) {
+      // Then
+      assertThat(firstHandle.getFileSystem()).isSameAs(secondHandle.getFileSystem());
+      assertThat(firstHandle.getPackage("org.example"))
+          .isSameAs(secondHandle.getPackage("org.example"));
+      assertThat(firstHandle.getDirectoryLock()).isSameAs(secondHandle.getDirectoryLock());
+      assertThat(cache.getOpenFileSystemCount()).isOne();
+      assertThat(cache.getIndexCount()).isOne();
+    }
+  }
+
+  @DisplayName(".acquire(...) uses separate file systems for separate releases")
+  @Test
+  void acquireUsesSeparateFileSystemsForSeparateReleases() throws IOException {
+    // Given
+    var jar = createJar("test.jar", "org/example/Foo.class");
+
+    // When
+    try (
+        var firstHandle = cache.acquire(jar, "11");
+        var secondHandle = cache.acquire(jar, "17")
+    ) {
+      // Then
+      assertThat(firstHandle.getFileSystem()).isNotSameAs(secondHandle.getFileSystem());
+      assertThat(firstHandle.getDirectoryLock()).isNotSameAs(secondHandle.getDirectoryLock());
+      assertThat(cache.getOpenFileSystemCount()).isEqualTo(2);
+      assertThat(cache.getIndexCount()).isEqualTo(2);
+    }
+  }
+
+  @DisplayName("closing the last handle closes the file system but keeps the index")
+  @Test
+  void closingTheLastHandleClosesTheFileSystemButKeepsTheIndex() throws IOException {
+    // Given
+    var jar = createJar("test.jar", "org/example/Foo.class");
+    var firstHandle = cache.acquire(jar, "11");
+    var secondHandle = cache.acquire(jar, "11");
+    var fileSystem = firstHandle.getFileSystem();
+
+    // When
+    firstHandle.close();
+
+    // Then
+    assertThat(fileSystem.isOpen()).isTrue();
+    assertThat(cache.getOpenFileSystemCount()).isOne();
+
+    // When
+    secondHandle.close();
+
+    // Then
+    assertThat(fileSystem.isOpen()).isFalse();
+    assertThat(cache.getOpenFileSystemCount()).isZero();
+    assertThat(cache.getIndexCount()).isOne();
+  }
+
+  @DisplayName("closing a handle more than once only releases it once")
+  @Test
+  void closingHandleMoreThanOnceOnlyReleasesItOnce() throws IOException {
+    // Given
+    var jar = createJar("test.jar", "org/example/Foo.class");
+    var firstHandle = cache.acquire(jar, "11");
+    var secondHandle = cache.acquire(jar, "11");
+
+    // When
+    firstHandle.close();
+    firstHandle.close();
+
+    // Then
+    assertThat(secondHandle.getFileSystem().isOpen()).isTrue();
+    secondHandle.close();
+  }
+
+  @DisplayName("modifying the JAR invalidates the index")
+  @Test
+  void modifyingTheJarInvalidatesTheIndex() throws IOException {
+    // Given
+    var jar = createJar("test.jar", "org/example/Foo.class");
+
+    try (var handle = cache.acquire(jar, "11")) {
+      assertThat(handle.getPackage("org.example.bar")).isNull();
+    }
+
+    // When
+    createJar("test.jar", "org/example/Foo.class", "org/example/bar/Baz.class");
+    Files.setLastModifiedTime(jar, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+    // Then
+    try (var handle = cache.acquire(jar, "11")) {
+      assertThat(handle.getPackage("org.example.bar")).isNotNull();
+    }
+    assertThat(cache.getIndexCount())
+        .as("index count after the stale index was replaced")
+        .isOne();
+  }
+
+  @DisplayName("the least recently used index is evicted once the limit is exceeded")
+  @Test
+  void leastRecentlyUsedIndexIsEvictedOnceTheLimitIsExceeded() throws IOException {
+    // Given
+    cache = new JarFileSystemCache(2);
+    var first = createJar("first.jar", "org/example/Foo.class");
+    var second = createJar("second.jar", "org/example/Foo.class");
+    var third = createJar("third.jar", "org/example/Foo.class");
+    cache.acquire(first, "11").close();
+    cache.acquire(second, "11").close();
+    // Use the first index again so that the second is the least recently used.
+    cache.acquire(first, "11").close();
+
+    // When
+    cache.acquire(third, "11").close();
+
+    // Then
+    assertThat(cache.getIndexCount()).isEqualTo(2);
+    assertThat(cache.toString()).contains("indexCount=2");
+  }
+
+  @DisplayName("initialising with a negative index limit raises an exception")
+  @Test
+  void initialisingWithNegativeIndexLimitRaisesAnException() {
+    // Then
+    assertThatThrownBy(() -> new JarFileSystemCache(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxIndexes cannot be negative");
+  }
+
+  @DisplayName("indexes of JARs outside the default file system are not kept")
+  @Test
+  void indexesOfJarsOutsideTheDefaultFileSystemAreNotKept() throws IOException {
+    // Given
+    try (var fileSystem = Jimfs.newFileSystem(Configuration.unix())) {
+      var jar = createJar(fileSystem.getPath("/test.jar"), "org/example/Foo.class");
+
+      // When
+      try (var handle = cache.acquire(jar, "11")) {
+        // Then
+        assertThat(handle.getPackage("org.example")).isNotNull();
+      }
+
+      assertThat(cache.getIndexCount()).isZero();
+      assertThat(cache.getOpenFileSystemCount()).isZero();
+    }
+  }
+
+  @DisplayName(".acquire(...) opens the file system once for concurrent callers")
+  @Test
+  void acquireOpensTheFileSystemOnceForConcurrentCallers() throws Exception {
+    // Given
+    var jar = createJar("test.jar", "org/example/Foo.class");
+    var executor = Executors.newFixedThreadPool(8);
+    var handles = new ArrayList<Future<JarFileSystemCache.Handle>>();
+
+    try {
+      // When
+      for (var i = 0; i < 32; ++i) {
+        handles.add(executor.submit(() -> cache.acquire(jar, "11")));
+      }
+
+      var fileSystems = new HashSet<FileSystem>();
+      for (var handle : handles) {
+        fileSystems.add(handle.get().getFileSystem());
+      }
+
+      // Then
+      assertThat(fileSystems).hasSize(1);
+      assertThat(cache.getOpenFileSystemCount()).isOne();
+    } finally {
+      for (var handle : handles) {
+        handle.get().close();
+      }
+      executor.shutdown();
+    }
+
+    assertThat(cache.getOpenFileSystemCount()).isZero();
+  }
+
+  @DisplayName(".clearIndexes() drops all cached indexes")
+  @Test
+  void clearIndexesDropsAllCachedIndexes() throws IOException {
+    // Given
+    var jar = createJar("test.jar", "org/example/Foo.class");
+    cache.acquire(jar, "11").close();
+
+    // When
+    cache.clearIndexes();
+
+    // Then
+    assertThat(cache.getIndexCount()).isZero();
+  }
+
+  @DisplayName(".acquire(...) raises an exception if the JAR does not exist")
+  @Test
+  void acquireRaisesAnExceptionIfTheJarDoesNotExist() {
+    // Then
+    assertThatThrownBy(() -> cache.acquire(tempDir.resolve("missing.jar"), "11"))
+        .isInstanceOf(NoSuchFileException.class);
+    assertThat(cache.getOpenFileSystemCount()).isZero();
+  }
+
+  Path createJar(String name, String... entries) throws IOException {
+    return createJar(tempDir.resolve(name), entries);
+  }
+
+  Path createJar(Path jar, String... entries) throws IOException {
+    try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+      for (var entry : entries) {
+        out.putNextEntry(new ZipEntry(entry));
+        out.write(new byte[]{(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE});
+        out.closeEntry();
+      }
+    }
+
+    return jar;
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.containers.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.ascopes.jct.containers.impl.JrtContainerImpl;
+import io.github.ascopes.jct.containers.impl.JrtPackageIndex;
+import io.github.ascopes.jct.containers.impl.PathWrappingContainerImpl;
+import io.github.ascopes.jct.filemanagers.PathFileObject;
+import io.github.ascopes.jct.workspaces.impl.WrappingDirectoryImpl;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Set;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * {@link JrtContainerImpl} tests.
+ *
+ * <p>These tests compare the results against a {@link PathWrappingContainerImpl} for the same
+ * module of the running JVM.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("JrtContainerImpl tests")
+class JrtContainerImplTest {
+
+  JrtContainerImpl container;
+  PathWrappingContainerImpl pathContainer;
+
+  @BeforeEach
+  void setUp() {
+    var root = new WrappingDirectoryImpl(moduleRoot("java.base"));
+    container = new JrtContainerImpl(StandardLocation.SYSTEM_MODULES, root);
+    pathContainer = new PathWrappingContainerImpl(StandardLocation.SYSTEM_MODULES, root);
+  }
+
+  @DisplayName(".getJavaFileForInput(...) returns the same file objects as a path container")
+  @CsvSource({
+      "java.lang.String,   CLASS",
+      "java.util.Map$Entry, CLASS",
+      "java.lang.Missing,  CLASS",
+      "java.lang.String,   SOURCE",
+      "javax.swing.JFrame, CLASS",
+      "String,             CLASS",
+  })
+  @ParameterizedTest(name = "for {0} ({1})")
+  void getJavaFileForInputReturnsTheSameFileObjectsAsPathContainer(String name, Kind kind) {
+    // When
+    var expected = pathContainer.getJavaFileForInput(name, kind);
+    var actual = container.getJavaFileForInput(name, kind);
+
+    // Then
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @DisplayName(".getJavaFileForInput(...) returns file objects that can be read")
+  @Test
+  void getJavaFileForInputReturnsFileObjectsThatCanBeRead() throws IOException {
+    // When
+    var fileObject = container.getJavaFileForInput("java.lang.Object", Kind.CLASS);
+
+    // Then
+    assertThat(fileObject).isNotNull();
+    try (var input = fileObject.openInputStream()) {
+      assertThat(input.readNBytes(4)).containsExactly(0xCA, 0xFE, 0xBA, 0xBE);
+    }
+    assertThat(container.inferBinaryName(fileObject)).isEqualTo("java.lang.Object");
+    assertThat(container.contains(fileObject)).isTrue();
+  }
+
+  @DisplayName(".getFileForInput(...) returns the same file objects as a path container")
+  @CsvSource({
+      "java.lang,      Object.class",
+      "java.lang,      Missing.class",
+      "java.util.concurrent, TimeUnit.class",
+      "'',             module-info.class",
+  })
+  @ParameterizedTest(name = "for {1} in package \"{0}\"")
+  void getFileForInputReturnsTheSameFileObjectsAsPathContainer(
+      String packageName,
+      String relativeName
+  ) {
+    // When
+    var expected = pathContainer.getFileForInput(packageName, relativeName);
+    var actual = container.getFileForInput(packageName, relativeName);
+
+    // Then
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @DisplayName(".listFileObjects(...) lists the same files as a path container")
+  @CsvSource({
+      "java.util.function,   false",
+      "java.util.concurrent, false",
+      "java.util.concurrent, true",
+      "java.lang,            true",
+      "java.missing,         true",
+      "javax.swing,          false",
+      "'',                   false",
+  })
+  @ParameterizedTest(name = "for package {0}, recurse = {1}")
+  void listFileObjectsListsTheSameFilesAsPathContainer(
+      String packageName,
+      boolean recurse
+  ) throws IOException {
+    // Given
+    var expected = new ArrayList<JavaFileObject>();
+    var actual = new ArrayList<JavaFileObject>();
+    var kinds = Set.of(Kind.CLASS, Kind.SOURCE, Kind.OTHER);
+
+    // When
+    pathContainer.listFileObjects(packageName, kinds, recurse, expected);
+    container.listFileObjects(packageName, kinds, recurse, actual);
+
+    // Then
+    assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @DisplayName(".contains(...) returns false for files outside the module")
+  @Test
+  void containsReturnsFalseForFilesOutsideTheModule(@TempDir Path tempDir) {
+    // Given
+    var otherModule = moduleRoot("java.sql");
+    var otherFile = new PathFileObject(
+        StandardLocation.SYSTEM_MODULES,
+        otherModule,
+        otherModule.resolve("java/sql/Connection.class")
+    );
+    var localFile = new PathFileObject(
+        StandardLocation.SYSTEM_MODULES,
+        tempDir,
+        Path.of("java", "lang", "String.class")
+    );
+
+    // Then
+    assertThat(container.contains(otherFile)).isFalse();
+    assertThat(container.contains(localFile)).isFalse();
+  }
+
+  @DisplayName("Initializing with a path that is not a runtime module root fails")
+  @Test
+  void initializingWithPathThatIsNotRuntimeModuleRootFails(@TempDir Path tempDir) {
+    // Given
+    var root = new WrappingDirectoryImpl(tempDir);
+    var index = JrtPackageIndex.getInstance();
+
+    // Then
+    assertThatThrownBy(() -> new JrtContainerImpl(StandardLocation.SYSTEM_MODULES, root, index))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("is not a Java runtime module root");
+  }
+
+  @DisplayName(".hasPackage(...) returns true only for packages in the module")
+  @Test
+  void hasPackageReturnsTrueOnlyForPackagesInTheModule() {
+    // Then
+    assertThat(container.hasPackage("java.lang")).isTrue();
+    assertThat(container.hasPackage("")).isTrue();
+    assertThat(container.hasPackage("java.sql")).isFalse();
+  }
+
+  static Path moduleRoot(String moduleName) {
+    // jrt:/<module> URIs only map to /modules/<module> from JDK 13 onwards.
+    return FileSystems.getFileSystem(URI.create("jrt:/")).getPath("/modules", moduleName);
+  }
+}
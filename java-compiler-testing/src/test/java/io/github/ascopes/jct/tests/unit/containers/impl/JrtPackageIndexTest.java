@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.containers.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.ascopes.jct.containers.impl.JrtPackageIndex;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link JrtPackageIndex} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("JrtPackageIndex tests")
+class JrtPackageIndexTest {
+
+  @DisplayName(".getInstance() returns a shared instance")
+  @Test
+  void getInstanceReturnsSharedInstance() {
+    // Then
+    assertThat(JrtPackageIndex.getInstance()).isSameAs(JrtPackageIndex.getInstance());
+  }
+
+  @DisplayName(".hasPackage(...) maps packages to the modules that provide them")
+  @Test
+  void hasPackageMapsPackagesToTheModulesThatProvideThem() {
+    // Given
+    var index = JrtPackageIndex.getInstance();
+
+    // Then
+    assertThat(index.hasPackage("java.base", "java.lang")).isTrue();
+    assertThat(index.hasPackage("java.base", "java.util.concurrent")).isTrue();
+    assertThat(index.hasPackage("java.sql", "java.sql")).isTrue();
+    assertThat(index.hasPackage("java.base", "java.sql")).isFalse();
+    assertThat(index.hasPackage("does.not.exist", "java.lang")).isFalse();
+  }
+
+  @DisplayName(".getFiles(...) lists the files within a package")
+  @Test
+  void getFilesListsTheFilesWithinPackage() {
+    // Given
+    var index = JrtPackageIndex.getInstance();
+
+    // When
+    var files = index.getFiles("java.base", "java.lang");
+
+    // Then
+    assertThat(files)
+        .contains("Object.class", "String.class")
+        .isSorted()
+        .isSameAs(index.getFiles("java.base", "java.lang"));
+    assertThat(index.hasFile("java.base", "java.lang", "String.class")).isTrue();
+    assertThat(index.hasFile("java.base", "java.lang", "Missing.class")).isFalse();
+    assertThat(index.getFiles("java.base", "java.sql")).isEmpty();
+  }
+
+  @DisplayName(".isModuleRoot(...) only returns true for module roots in the runtime image")
+  @Test
+  void isModuleRootOnlyReturnsTrueForModuleRootsInTheRuntimeImage(@TempDir Path tempDir) {
+    // Given
+    var moduleRoot = moduleRoot("java.base");
+
+    // Then
+    assertThat(JrtPackageIndex.isModuleRoot(moduleRoot)).isTrue();
+    assertThat(JrtPackageIndex.isModuleRoot(moduleRoot.resolve("java"))).isFalse();
+    assertThat(JrtPackageIndex.isModuleRoot(moduleRoot.getParent())).isFalse();
+    assertThat(JrtPackageIndex.isModuleRoot(tempDir)).isFalse();
+  }
+
+  @DisplayName(".isModuleRoot(...) returns false for module roots in other runtime images")
+  @Test
+  void isModuleRootReturnsFalseForModuleRootsInOtherRuntimeImages() throws IOException {
+    // Given
+    var env = Map.of("java.home", System.getProperty("java.home"));
+
+    try (var fileSystem = FileSystems.newFileSystem(URI.create("jrt:/"), env)) {
+      var moduleRoot = fileSystem.getPath("/modules", "java.base");
+
+      // Then
+      assertThat(moduleRoot).isDirectory();
+      assertThat(JrtPackageIndex.isModuleRoot(moduleRoot)).isFalse();
+    }
+  }
+
+  static Path moduleRoot(String moduleName) {
+    // jrt:/<module> URIs only map to /modules/<module> from JDK 13 onwards.
+    return FileSystems.getFileSystem(URI.create("jrt:/")).getPath("/modules", moduleName);
+  }
+}
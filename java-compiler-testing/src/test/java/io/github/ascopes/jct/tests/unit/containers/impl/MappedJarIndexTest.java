@@ -0,0 +1,310 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.containers.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.ascopes.jct.containers.impl.MappedJarIndex;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link MappedJarIndex} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("MappedJarIndex tests")
+class MappedJarIndexTest {
+
+  @TempDir
+  Path tempDir;
+
+  @AfterEach
+  void tearDown() {
+    MappedJarIndex.clearCache();
+  }
+
+  @DisplayName(".find(...) returns the index of existing entries")
+  @Test
+  void findReturnsTheIndexOfExistingEntries() throws IOException {
+    // Given
+    var jar = createJar(null, Map.of(
+        "org/example/Foo.class", "foo",
+        "org/example/Bar.class", "bar"
+    ));
+
+    // When
+    var index = MappedJarIndex.of(jar, "11");
+
+    // Then
+    // The manifest is included in the entries.
+    assertThat(index.getEntryCount()).isEqualTo(3);
+    assertThat(index.find("org/example/Foo.class"))
+        .isNotNegative()
+        .satisfies(entry -> assertThat(index.getName(entry)).isEqualTo("org/example/Foo.class"));
+    assertThat(index.find("org/example/Baz.class")).isEqualTo(-1);
+    assertThat(index.find("org/example")).isEqualTo(-1);
+  }
+
+  @DisplayName(".hasPackage(...) returns true for packages and their parents")
+  @Test
+  void hasPackageReturnsTrueForPackagesAndTheirParents() throws IOException {
+    // Given
+    var jar = createJar(null, Map.of(
+        "org/example/nested/Foo.class", "foo",
+        "Root.class", "root"
+    ));
+
+    // When
+    var index = MappedJarIndex.of(jar, "11");
+
+    // Then
+    assertThat(index.hasPackage("org.example.nested")).isTrue();
+    assertThat(index.hasPackage("org.example")).isTrue();
+    assertThat(index.hasPackage("org")).isTrue();
+    assertThat(index.hasPackage("")).isTrue();
+    assertThat(index.hasPackage("org.example.missing")).isFalse();
+  }
+
+  @DisplayName(".forEachEntryIn(...) visits only direct entries when not recursing")
+  @Test
+  void forEachEntryInVisitsOnlyDirectEntriesWhenNotRecursing() throws IOException {
+    // Given
+    var jar = createJar(null, Map.of(
+        "org/example/Foo.class", "foo",
+        "org/example/nested/Bar.class", "bar",
+        "org/examples/Baz.class", "baz"
+    ));
+    var index = MappedJarIndex.of(jar, "11");
+    var names = new ArrayList<String>();
+
+    // When
+    index.forEachEntryIn("org/example", false, entry -> names.add(index.getName(entry)));
+
+    // Then
+    assertThat(names).containsExactly("org/example/Foo.class");
+  }
+
+  @DisplayName(".forEachEntryIn(...) visits nested entries when recursing")
+  @Test
+  void forEachEntryInVisitsNestedEntriesWhenRecursing() throws IOException {
+    // Given
+    var jar = createJar(null, Map.of(
+        "org/example/Foo.class", "foo",
+        "org/example/nested/Bar.class", "bar",
+        "org/examples/Baz.class", "baz"
+    ));
+    var index = MappedJarIndex.of(jar, "11");
+    var names = new ArrayList<String>();
+
+    // When
+    index.forEachEntryIn("org/example", true, entry -> names.add(index.getName(entry)));
+
+    // Then
+    assertThat(names)
+        .containsExactly("org/example/Foo.class", "org/example/nested/Bar.class");
+  }
+
+  @DisplayName(".openEntry(...) inflates deflated entries")
+  @Test
+  void openEntryInflatesDeflatedEntries() throws IOException {
+    // Given
+    var content = "Hello, World! ".repeat(1_000);
+    var jar = createJar(null, Map.of("hello.txt", content));
+    var index = MappedJarIndex.of(jar, "11");
+
+    // When
+    try (var input = index.openEntry(index.find("hello.txt"))) {
+      // Then
+      assertThat(new String(input.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(content);
+    }
+  }
+
+  @DisplayName(".openEntry(...) reads stored entries")
+  @Test
+  void openEntryReadsStoredEntries() throws IOException {
+    // Given
+    var content = "Hello, World!".getBytes(StandardCharsets.UTF_8);
+    var jar = tempDir.resolve("stored.jar");
+
+    try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+      var crc = new CRC32();
+      crc.update(content);
+      var entry = new ZipEntry("hello.txt");
+      entry.setMethod(ZipEntry.STORED);
+      entry.setSize(content.length);
+      entry.setCompressedSize(content.length);
+      entry.setCrc(crc.getValue());
+      out.putNextEntry(entry);
+      out.write(content);
+      out.closeEntry();
+    }
+
+    var index = MappedJarIndex.of(jar, "11");
+
+    // When
+    try (var input = index.openEntry(index.find("hello.txt"))) {
+      // Then
+      assertThat(input.readAllBytes()).isEqualTo(content);
+    }
+  }
+
+  @DisplayName("Multi-Release entries up to the release shadow the base entries")
+  @Test
+  void multiReleaseEntriesUpToTheReleaseShadowTheBaseEntries() throws IOException {
+    // Given
+    var entries = new LinkedHashMap<String, String>();
+    entries.put("org/example/Foo.class", "base");
+    entries.put("META-INF/versions/9/org/example/Foo.class", "9");
+    entries.put("META-INF/versions/11/org/example/Foo.class", "11");
+    entries.put("META-INF/versions/17/org/example/Foo.class", "17");
+    var jar = createJar(true, entries);
+
+    // Then
+    assertThat(readEntry(MappedJarIndex.of(jar, "8"), "org/example/Foo.class"))
+        .isEqualTo("base");
+    assertThat(readEntry(MappedJarIndex.of(jar, "11"), "org/example/Foo.class"))
+        .isEqualTo("11");
+    assertThat(readEntry(MappedJarIndex.of(jar, "15"), "org/example/Foo.class"))
+        .isEqualTo("11");
+    assertThat(readEntry(MappedJarIndex.of(jar, "17"), "org/example/Foo.class"))
+        .isEqualTo("17");
+  }
+
+  @DisplayName("Versioned entries are ignored if the JAR is not Multi-Release")
+  @Test
+  void versionedEntriesAreIgnoredIfTheJarIsNotMultiRelease() throws IOException {
+    // Given
+    var entries = new LinkedHashMap<String, String>();
+    entries.put("org/example/Foo.class", "base");
+    entries.put("META-INF/versions/11/org/example/Foo.class", "11");
+    var jar = createJar(false, entries);
+
+    // Then
+    assertThat(readEntry(MappedJarIndex.of(jar, "17"), "org/example/Foo.class"))
+        .isEqualTo("base");
+  }
+
+  @DisplayName(".of(...) reuses the cached index while the JAR is unchanged")
+  @Test
+  void ofReusesTheCachedIndexWhileTheJarIsUnchanged() throws IOException {
+    // Given
+    var jar = createJar(null, Map.of("org/example/Foo.class", "foo"));
+
+    // Then
+    assertThat(MappedJarIndex.of(jar, "11")).isSameAs(MappedJarIndex.of(jar, "11"));
+    assertThat(MappedJarIndex.of(jar, "11")).isNotSameAs(MappedJarIndex.of(jar, "17"));
+  }
+
+  @DisplayName(".of(...) rebuilds the index if the JAR changes")
+  @Test
+  void ofRebuildsTheIndexIfTheJarChanges() throws IOException {
+    // Given
+    var jar = createJar(null, Map.of("org/example/Foo.class", "foo"));
+    var first = MappedJarIndex.of(jar, "11");
+
+    // When
+    createJar(null, Map.of("org/example/Foo.class", "foo", "org/example/Bar.class", "bar"));
+    Files.setLastModifiedTime(jar, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+    var second = MappedJarIndex.of(jar, "11");
+
+    // Then
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.find("org/example/Bar.class")).isNotNegative();
+  }
+
+  @DisplayName(".of(...) does not keep indexes alive once they are no longer used")
+  @Test
+  void ofDoesNotKeepIndexesAliveOnceTheyAreNoLongerUsed() throws Exception {
+    // Given
+    var jar = createJar(null, Map.of("org/example/Foo.class", "foo"));
+    var held = MappedJarIndex.of(jar, "11");
+    MappedJarIndex.of(jar, "17");
+
+    // When
+    for (var attempt = 0; attempt < 50 && MappedJarIndex.getCacheSize() > 1; ++attempt) {
+      System.gc();
+      Thread.sleep(20);
+    }
+
+    // Then
+    assertThat(MappedJarIndex.getCacheSize()).isOne();
+    assertThat(MappedJarIndex.of(jar, "11")).isSameAs(held);
+  }
+
+  @DisplayName(".of(...) raises an exception if the file is not a ZIP")
+  @Test
+  void ofRaisesAnExceptionIfTheFileIsNotZip() throws IOException {
+    // Given
+    var jar = Files.writeString(tempDir.resolve("invalid.jar"), "this is not a zip file");
+
+    // Then
+    assertThatThrownBy(() -> MappedJarIndex.of(jar, "11"))
+        .isInstanceOf(ZipException.class);
+  }
+
+  @DisplayName(".of(...) raises an exception if the JAR does not exist")
+  @Test
+  void ofRaisesAnExceptionIfTheJarDoesNotExist() {
+    // Then
+    assertThatThrownBy(() -> MappedJarIndex.of(tempDir.resolve("missing.jar"), "11"))
+        .isInstanceOf(NoSuchFileException.class);
+  }
+
+  String readEntry(MappedJarIndex index, String name) throws IOException {
+    try (var input = index.openEntry(index.find(name))) {
+      return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  Path createJar(Boolean multiRelease, Map<String, String> entries) throws IOException {
+    var jar = tempDir.resolve("test.jar");
+    var manifest = new Manifest();
+    manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+
+    if (multiRelease != null) {
+      manifest.getMainAttributes().put(Attributes.Name.MULTI_RELEASE, multiRelease.toString());
+    }
+
+    try (var out = new JarOutputStream(Files.newOutputStream(jar), manifest)) {
+      for (var entry : entries.entrySet()) {
+        out.putNextEntry(new ZipEntry(entry.getKey()));
+        out.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+        out.closeEntry();
+      }
+    }
+
+    return jar;
+  }
+}
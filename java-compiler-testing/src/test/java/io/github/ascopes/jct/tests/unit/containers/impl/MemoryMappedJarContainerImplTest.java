@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.containers.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.ascopes.jct.containers.impl.JarContainerImpl;
+import io.github.ascopes.jct.containers.impl.MemoryMappedJarContainerImpl;
+import io.github.ascopes.jct.filemanagers.PathFileObject;
+import io.github.ascopes.jct.workspaces.impl.WrappingDirectoryImpl;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link MemoryMappedJarContainerImpl} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("MemoryMappedJarContainerImpl tests")
+class MemoryMappedJarContainerImplTest {
+
+  @TempDir
+  Path tempDir;
+
+  MemoryMappedJarContainerImpl container;
+  JarContainerImpl jarContainer;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    var jar = tempDir.resolve("test.jar");
+
+    try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+      for (var name : new String[]{
+          "org/example/Foo.class",
+          "org/example/Foo.java",
+          "org/example/nested/Bar.class",
+          "org/example/resource.txt",
+      }) {
+        out.putNextEntry(new ZipEntry(name));
+        out.write(name.getBytes(StandardCharsets.UTF_8));
+        out.closeEntry();
+      }
+    }
+
+    var pathRoot = new WrappingDirectoryImpl(jar);
+    container = new MemoryMappedJarContainerImpl(StandardLocation.CLASS_PATH, pathRoot, "11");
+    jarContainer = new JarContainerImpl(StandardLocation.CLASS_PATH, pathRoot, "11");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    container.close();
+    jarContainer.close();
+  }
+
+  @DisplayName(".listFileObjects(...) lists the same files as the JAR container")
+  @Test
+  void listFileObjectsListsTheSameFilesAsTheJarContainer() throws IOException {
+    for (var recurse : new boolean[]{true, false}) {
+      // Given
+      var expected = new ArrayList<JavaFileObject>();
+      var actual = new ArrayList<JavaFileObject>();
+      var kinds = Set.of(Kind.CLASS, Kind.SOURCE);
+
+      // When
+      jarContainer.listFileObjects("org.example", kinds, recurse, expected);
+      container.listFileObjects("org.example", kinds, recurse, actual);
+
+      // Then
+      assertThat(actual)
+          .isNotEmpty()
+          .containsExactlyInAnyOrderElementsOf(expected);
+    }
+  }
+
+  @DisplayName(".listFileObjects(...) lists nothing for missing packages")
+  @Test
+  void listFileObjectsListsNothingForMissingPackages() throws IOException {
+    // Given
+    var actual = new ArrayList<JavaFileObject>();
+
+    // When
+    container.listFileObjects("org.missing", Set.of(Kind.CLASS), true, actual);
+
+    // Then
+    assertThat(actual).isEmpty();
+  }
+
+  @DisplayName(".getJavaFileForInput(...) returns a file object that reads the entry")
+  @Test
+  void getJavaFileForInputReturnsFileObjectThatReadsTheEntry() throws IOException {
+    // When
+    var fileObject = container.getJavaFileForInput("org.example.Foo", Kind.CLASS);
+
+    // Then
+    assertThat(fileObject).isNotNull();
+    assertThat(fileObject.getCharContent(true)).isEqualTo("org/example/Foo.class");
+    assertThat(fileObject.getKind()).isEqualTo(Kind.CLASS);
+    assertThat(fileObject.isNameCompatible("Foo", Kind.CLASS)).isTrue();
+    assertThat(fileObject)
+        .isEqualTo(jarContainer.getJavaFileForInput("org.example.Foo", Kind.CLASS));
+    assertThat(container.getJavaFileForInput("org.example.Missing", Kind.CLASS)).isNull();
+  }
+
+  @DisplayName(".getFileForInput(...) returns a file object that reads the entry")
+  @Test
+  void getFileForInputReturnsFileObjectThatReadsTheEntry() throws IOException {
+    // When
+    var fileObject = container.getFileForInput("org.example", "resource.txt");
+
+    // Then
+    assertThat(fileObject).isNotNull();
+    assertThat(fileObject.getCharContent(true)).isEqualTo("org/example/resource.txt");
+    assertThat(container.getFileForInput("org.example", "missing.txt")).isNull();
+  }
+
+  @DisplayName("File objects cannot be written to or deleted")
+  @Test
+  void fileObjectsCannotBeWrittenToOrDeleted() {
+    // Given
+    var fileObject = container.getJavaFileForInput("org.example.Foo", Kind.CLASS);
+
+    // Then
+    assertThat(fileObject).isNotNull();
+    assertThat(fileObject.delete()).isFalse();
+    assertThatThrownBy(fileObject::openOutputStream).isInstanceOf(IOException.class);
+  }
+
+  @DisplayName(".getFullPath() of file objects returns an existing path within the JAR")
+  @Test
+  void getFullPathOfFileObjectsReturnsAnExistingPathWithinTheJar() throws IOException {
+    // Given
+    var fileObject = container.getJavaFileForInput("org.example.Foo", Kind.CLASS);
+
+    // When
+    assertThat(fileObject).isNotNull();
+    var fullPath = fileObject.getFullPath();
+
+    // Then
+    assertThat(fullPath).isRegularFile();
+    assertThat(Files.readString(fullPath)).isEqualTo("org/example/Foo.class");
+    assertThat(fullPath)
+        .isEqualTo(jarContainer.getJavaFileForInput("org.example.Foo", Kind.CLASS).getFullPath());
+  }
+
+  @DisplayName(".getFile(...) only returns paths for entries that exist")
+  @Test
+  void getFileOnlyReturnsPathsForEntriesThatExist() throws IOException {
+    // When
+    var path = container.getFile("org/example", "resource.txt");
+
+    // Then
+    assertThat(path).isNotNull().isRegularFile();
+    assertThat(Files.readString(path)).isEqualTo("org/example/resource.txt");
+    assertThat(container.getFile("org", "example", "missing.txt")).isNull();
+    assertThat(container.getFile("org/example")).isNull();
+  }
+
+  @DisplayName(".getModuleFinder() reads the JAR as a module")
+  @Test
+  void getModuleFinderReadsTheJarAsModule() {
+    // When
+    var modules = container.getModuleFinder().findAll();
+
+    // Then
+    assertThat(modules)
+        .singleElement()
+        .satisfies(module -> assertThat(module.descriptor().name()).isEqualTo("test"));
+  }
+
+  @DisplayName("File object URIs match the JAR container for paths that need quoting")
+  @Test
+  void fileObjectUrisMatchTheJarContainerForPathsThatNeedQuoting() throws IOException {
+    // Given
+    var directory = Files.createDirectories(tempDir.resolve("some dir/50% [off]"));
+    var jar = Files.copy(tempDir.resolve("test.jar"), directory.resolve("test #1.jar"));
+    var pathRoot = new WrappingDirectoryImpl(jar);
+
+    try (
+        var mapped = new MemoryMappedJarContainerImpl(StandardLocation.CLASS_PATH, pathRoot, "11");
+        var zipped = new JarContainerImpl(StandardLocation.CLASS_PATH, pathRoot, "11")
+    ) {
+      // When
+      var actual = mapped.getJavaFileForInput("org.example.Foo", Kind.CLASS);
+      var expected = zipped.getJavaFileForInput("org.example.Foo", Kind.CLASS);
+
+      // Then
+      assertThat(actual).isNotNull();
+      assertThat(expected).isNotNull();
+      assertThat(actual.toUri()).isEqualTo(expected.toUri());
+      assertThat(mapped.contains(expected)).isTrue();
+      assertThat(container.contains(expected)).isFalse();
+    }
+  }
+
+  @DisplayName(".inferBinaryName(...) infers names of own and foreign file objects")
+  @Test
+  void inferBinaryNameInfersNamesOfOwnAndForeignFileObjects() {
+    // Given
+    var own = container.getJavaFileForInput("org.example.nested.Bar", Kind.CLASS);
+    var foreign = jarContainer.getJavaFileForInput("org.example.nested.Bar", Kind.CLASS);
+    var unrelated = new PathFileObject(
+        StandardLocation.CLASS_PATH,
+        tempDir,
+        Path.of("org", "example", "nested", "Bar.class")
+    );
+
+    // Then
+    assertThat(own).isNotNull();
+    assertThat(foreign).isNotNull();
+    assertThat(container.inferBinaryName(own)).isEqualTo("org.example.nested.Bar");
+    assertThat(container.inferBinaryName(foreign)).isEqualTo("org.example.nested.Bar");
+    assertThat(container.inferBinaryName(unrelated)).isNull();
+    assertThat(container.contains(own)).isTrue();
+    assertThat(container.contains(unrelated)).isFalse();
+  }
+
+  @DisplayName(".hasPackage(...) returns true only for packages in the JAR")
+  @Test
+  void hasPackageReturnsTrueOnlyForPackagesInTheJar() {
+    // Then
+    assertThat(container.hasPackage("org.example")).isTrue();
+    assertThat(container.hasPackage("org.example.nested")).isTrue();
+    assertThat(jarContainer.hasPackage("org.example.nested")).isTrue();
+    assertThat(container.hasPackage("org.missing")).isFalse();
+    assertThat(jarContainer.hasPackage("org.missing")).isFalse();
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.containers.impl;
+
+import static io.github.ascopes.jct.tests.helpers.Fixtures.someRelease;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.ascopes.jct.containers.impl.ContainerGroupOptions;
+import io.github.ascopes.jct.containers.impl.OutputContainerGroupImpl;
+import io.github.ascopes.jct.filemanagers.FileContentCache;
+import io.github.ascopes.jct.workspaces.impl.WrappingDirectoryImpl;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link OutputContainerGroupImpl} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("OutputContainerGroupImpl tests")
+class OutputContainerGroupImplTest {
+
+  @DisplayName("Files in output directories are not read through the content cache")
+  @Test
+  void filesInOutputDirectoriesAreNotReadThroughTheContentCache(@TempDir Path tempDir)
+      throws IOException {
+    // Given
+    Files.createDirectories(tempDir.resolve("org/example"));
+    Files.writeString(tempDir.resolve("org/example/Foo.java"), "class Foo {}");
+
+    var cache = new FileContentCache(1_000);
+    var options = ContainerGroupOptions.builder()
+        .contentCache(cache)
+        .build();
+    var group = new OutputContainerGroupImpl(StandardLocation.SOURCE_OUTPUT, someRelease(), options);
+    group.addPackage(new WrappingDirectoryImpl(tempDir));
+
+    // When
+    var fileObject = group.getJavaFileForInput("org.example.Foo", Kind.SOURCE);
+
+    // Then
+    assertThat(fileObject).isNotNull();
+    assertThat(fileObject.getCharContent(false)).isEqualTo("class Foo {}");
+    assertThat(cache.getSize()).isZero();
+    assertThat(cache.getMissCount()).isZero();
+  }
+}
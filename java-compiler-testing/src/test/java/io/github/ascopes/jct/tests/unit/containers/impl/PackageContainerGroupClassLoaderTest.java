@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.containers.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.github.ascopes.jct.containers.PackageContainerGroup;
+import io.github.ascopes.jct.containers.impl.PackageContainerGroupClassLoader;
+import io.github.ascopes.jct.filemanagers.PathFileObject;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link PackageContainerGroupClassLoader} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("PackageContainerGroupClassLoader tests")
+class PackageContainerGroupClassLoaderTest {
+
+  @TempDir
+  Path tempDir;
+
+  PackageContainerGroup group;
+
+  @BeforeEach
+  void setUp() {
+    group = mock();
+    when(group.getLocation()).thenReturn(StandardLocation.CLASS_OUTPUT);
+    when(group.getPackages()).thenReturn(List.of());
+  }
+
+  @DisplayName("The class loader is parallel capable")
+  @Test
+  void theClassLoaderIsParallelCapable() throws IOException {
+    // When
+    try (var classLoader = new PackageContainerGroupClassLoader(group)) {
+      // Then
+      assertThat(classLoader.isRegisteredAsParallelCapable()).isTrue();
+      assertThat(classLoader.getName()).isEqualTo("Packages within CLASS_OUTPUT");
+    }
+  }
+
+  @DisplayName("Classes that are not in the group are not found")
+  @Test
+  void classesThatAreNotInTheGroupAreNotFound() throws IOException {
+    // Given
+    when(group.getJavaFileForInput(any(), any())).thenReturn(null);
+
+    try (var classLoader = new PackageContainerGroupClassLoader(group)) {
+      // Then
+      assertThatThrownBy(() -> classLoader.loadClass("org.example.DoesNotExist"))
+          .isInstanceOf(ClassNotFoundException.class)
+          .hasMessage("org.example.DoesNotExist");
+    }
+  }
+
+  @DisplayName("Classes that cannot be read are reported as not found")
+  @Test
+  void classesThatCannotBeReadAreReportedAsNotFound() throws IOException {
+    // Given
+    var fileObject = new PathFileObject(
+        StandardLocation.CLASS_OUTPUT,
+        tempDir,
+        tempDir.getFileSystem().getPath("org", "example", "Missing.class")
+    );
+    when(group.getJavaFileForInput("org.example.Missing", Kind.CLASS)).thenReturn(fileObject);
+
+    try (var classLoader = new PackageContainerGroupClassLoader(group)) {
+      // Then
+      assertThatThrownBy(() -> classLoader.loadClass("org.example.Missing"))
+          .isInstanceOf(ClassNotFoundException.class)
+          .hasMessageStartingWith("Failed to read class org.example.Missing from ")
+          .hasCauseInstanceOf(IOException.class);
+    }
+  }
+
+  @DisplayName("Loading a package skips package-info and module-info")
+  @Test
+  void loadingAPackageSkipsPackageInfoAndModuleInfo() throws Exception {
+    // Given
+    var packageInfo = fileObject("org/example/package-info.class");
+    var moduleInfo = fileObject("module-info.class");
+    when(group.listFileObjects("org.example", Set.of(Kind.CLASS), false))
+        .thenReturn(Set.of(packageInfo, moduleInfo));
+    when(group.inferBinaryName(packageInfo)).thenReturn("org.example.package-info");
+    when(group.inferBinaryName(moduleInfo)).thenReturn("module-info");
+
+    try (var classLoader = new PackageContainerGroupClassLoader(group)) {
+      // When
+      var classes = classLoader.loadPackage("org.example");
+
+      // Then
+      assertThat(classes).isEmpty();
+    }
+  }
+
+  private PathFileObject fileObject(String relativePath) throws IOException {
+    var fullPath = tempDir.resolve(relativePath);
+    Files.createDirectories(fullPath.getParent());
+    Files.write(fullPath, new byte[0]);
+    return new PathFileObject(StandardLocation.CLASS_OUTPUT, tempDir, tempDir.relativize(fullPath));
+  }
+}
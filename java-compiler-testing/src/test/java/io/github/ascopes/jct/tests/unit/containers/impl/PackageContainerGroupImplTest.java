@@ -0,0 +1,529 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.containers.impl;
+
+import static io.github.ascopes.jct.tests.helpers.Fixtures.someRelease;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import io.github.ascopes.jct.containers.Container;
+import io.github.ascopes.jct.containers.impl.ContainerGroupOptions;
+import io.github.ascopes.jct.containers.impl.JarContainerImpl;
+import io.github.ascopes.jct.containers.impl.ListingStatisticsRecorder;
+import io.github.ascopes.jct.containers.impl.MemoryMappedJarContainerImpl;
+import io.github.ascopes.jct.containers.impl.PackageContainerGroupImpl;
+import io.github.ascopes.jct.containers.impl.PackageIndexedContainer;
+import io.github.ascopes.jct.filemanagers.ListingStatistics;
+import io.github.ascopes.jct.filemanagers.PathFileObject;
+import io.github.ascopes.jct.workspaces.impl.WrappingDirectoryImpl;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link PackageContainerGroupImpl} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("PackageContainerGroupImpl tests")
+class PackageContainerGroupImplTest {
+
+  PackageContainerGroupImpl group;
+  Container directory;
+  PackageIndexedContainer fooJar;
+  PackageIndexedContainer barJar;
+
+  @BeforeEach
+  void setUp() {
+    group = new PackageContainerGroupImpl(StandardLocation.CLASS_PATH, someRelease());
+    directory = mock(Container.class);
+    fooJar = mock(PackageIndexedContainer.class);
+    barJar = mock(PackageIndexedContainer.class);
+    when(fooJar.hasPackage("org.example.foo")).thenReturn(true);
+    when(barJar.hasPackage("org.example.bar")).thenReturn(true);
+  }
+
+  @DisplayName(".getJavaFileForInput(...) only queries containers that may hold the package")
+  @Test
+  void getJavaFileForInputOnlyQueriesContainersThatMayHoldThePackage() {
+    // Given
+    group.addPackage(fooJar);
+    group.addPackage(directory);
+    group.addPackage(barJar);
+    var expected = mock(PathFileObject.class);
+    when(barJar.getJavaFileForInput("org.example.bar.Bar", Kind.CLASS)).thenReturn(expected);
+
+    // When
+    var result = group.getJavaFileForInput("org.example.bar.Bar", Kind.CLASS);
+
+    // Then
+    assertThat(result).isSameAs(expected);
+    verify(fooJar, never()).getJavaFileForInput(any(), any());
+    var order = inOrder(directory, barJar);
+    order.verify(directory).getJavaFileForInput("org.example.bar.Bar", Kind.CLASS);
+    order.verify(barJar).getJavaFileForInput("org.example.bar.Bar", Kind.CLASS);
+  }
+
+  @DisplayName(".getJavaFileForInput(...) preserves the order of the containers")
+  @Test
+  void getJavaFileForInputPreservesTheOrderOfTheContainers() {
+    // Given
+    group.addPackage(fooJar);
+    group.addPackage(directory);
+    var first = mock(PathFileObject.class);
+    var second = mock(PathFileObject.class);
+    when(fooJar.getJavaFileForInput("org.example.foo.Foo", Kind.CLASS)).thenReturn(first);
+    when(directory.getJavaFileForInput("org.example.foo.Foo", Kind.CLASS)).thenReturn(second);
+
+    // When
+    var result = group.getJavaFileForInput("org.example.foo.Foo", Kind.CLASS);
+
+    // Then
+    assertThat(result).isSameAs(first);
+  }
+
+  @DisplayName(".getJavaFileForInput(...) queries no containers for unknown packages")
+  @Test
+  void getJavaFileForInputQueriesNoContainersForUnknownPackages() {
+    // Given
+    group.addPackage(fooJar);
+    group.addPackage(barJar);
+
+    // When
+    var result = group.getJavaFileForInput("org.example.baz.Baz", Kind.CLASS);
+
+    // Then
+    assertThat(result).isNull();
+    verify(fooJar, never()).getJavaFileForInput(any(), any());
+    verify(barJar, never()).getJavaFileForInput(any(), any());
+  }
+
+  @DisplayName("Routes are computed once per package")
+  @Test
+  void routesAreComputedOncePerPackage() {
+    // Given
+    group.addPackage(fooJar);
+
+    // When
+    group.getJavaFileForInput("org.example.foo.Foo", Kind.CLASS);
+    group.getJavaFileForInput("org.example.foo.Bar", Kind.SOURCE);
+    group.getFileForInput("org.example.foo", "foo.txt");
+
+    // Then
+    verify(fooJar, times(1)).hasPackage("org.example.foo");
+  }
+
+  @DisplayName("Routes are recomputed when containers are added")
+  @Test
+  void routesAreRecomputedWhenContainersAreAdded() {
+    // Given
+    group.addPackage(fooJar);
+    group.getJavaFileForInput("org.example.bar.Bar", Kind.CLASS);
+    var expected = mock(PathFileObject.class);
+    when(barJar.getJavaFileForInput("org.example.bar.Bar", Kind.CLASS)).thenReturn(expected);
+
+    // When
+    group.addPackage(barJar);
+    var result = group.getJavaFileForInput("org.example.bar.Bar", Kind.CLASS);
+
+    // Then
+    assertThat(result).isSameAs(expected);
+  }
+
+  @DisplayName(".getFileForInput(...) queries all containers for nested relative names")
+  @Test
+  void getFileForInputQueriesAllContainersForNestedRelativeNames() {
+    // Given
+    group.addPackage(fooJar);
+    group.addPackage(barJar);
+
+    // When
+    group.getFileForInput("org.example", "bar/bar.txt");
+
+    // Then
+    verify(fooJar).getFileForInput("org.example", "bar/bar.txt");
+    verify(barJar).getFileForInput("org.example", "bar/bar.txt");
+  }
+
+  @DisplayName(".listFileObjects(...) only lists containers that may hold the package")
+  @Test
+  void listFileObjectsOnlyListsContainersThatMayHoldThePackage() throws IOException {
+    // Given
+    group.addPackage(fooJar);
+    group.addPackage(barJar);
+
+    // When
+    group.listFileObjects("org.example.foo", Set.of(Kind.CLASS), false);
+
+    // Then
+    verify(fooJar).listFileObjects(eq("org.example.foo"), any(), eq(false), any());
+    verify(barJar, never()).listFileObjects(any(), any(), anyBoolean(), any());
+  }
+
+  @DisplayName(".listFileObjects(...) lists all containers when recursing")
+  @Test
+  void listFileObjectsListsAllContainersWhenRecursing() throws IOException {
+    // Given
+    group.addPackage(fooJar);
+    group.addPackage(barJar);
+
+    // When
+    group.listFileObjects("org.example", Set.of(Kind.CLASS), true);
+
+    // Then
+    verify(fooJar).listFileObjects(eq("org.example"), any(), eq(true), any());
+    verify(barJar).listFileObjects(eq("org.example"), any(), eq(true), any());
+  }
+
+  @DisplayName("Parallel listing tests")
+  @Nested
+  class ParallelListingTests {
+
+    @DisplayName(".listFileObjects(...) lists serially by default")
+    @Test
+    void listFileObjectsListsSeriallyByDefault() throws IOException {
+      // Given
+      group.addPackage(fooJar);
+      group.addPackage(barJar);
+
+      // When
+      group.listFileObjects("org.example", Set.of(Kind.CLASS), true);
+
+      // Then
+      assertThat(group.getListingStatistics()).isEqualTo(new ListingStatistics(1, 0));
+    }
+
+    @DisplayName(".listFileObjects(...) lists serially below the threshold")
+    @Test
+    void listFileObjectsListsSeriallyBelowTheThreshold() throws IOException {
+      // Given
+      group = newGroupWithThreshold(3);
+      group.addPackage(fooJar);
+      group.addPackage(barJar);
+
+      // When
+      group.listFileObjects("org.example", Set.of(Kind.CLASS), true);
+
+      // Then
+      assertThat(group.getListingStatistics()).isEqualTo(new ListingStatistics(1, 0));
+    }
+
+    @DisplayName(".listFileObjects(...) lists serially when only one container is routed")
+    @Test
+    void listFileObjectsListsSeriallyWhenOnlyOneContainerIsRouted() throws IOException {
+      // Given
+      group = newGroupWithThreshold(1);
+      group.addPackage(fooJar);
+      group.addPackage(barJar);
+
+      // When
+      group.listFileObjects("org.example.foo", Set.of(Kind.CLASS), false);
+
+      // Then
+      assertThat(group.getListingStatistics()).isEqualTo(new ListingStatistics(1, 0));
+    }
+
+    @DisplayName(".listFileObjects(...) counts listings in the given recorder instead")
+    @Test
+    void listFileObjectsCountsListingsInTheGivenRecorderInstead() throws IOException {
+      // Given
+      group = newGroupWithThreshold(2);
+      group.addPackage(fooJar);
+      group.addPackage(barJar);
+      var recorder = new ListingStatisticsRecorder();
+
+      // When
+      group.listFileObjects("org.example", Set.of(Kind.CLASS), true, recorder);
+      group.listFileObjects("org.example.foo", Set.of(Kind.CLASS), false, recorder);
+
+      // Then
+      assertThat(recorder.getStatistics()).isEqualTo(new ListingStatistics(1, 1));
+      assertThat(group.getListingStatistics()).isEqualTo(ListingStatistics.empty());
+    }
+
+    @DisplayName(".listFileObjects(...) merges parallel listings in container order")
+    @Test
+    void listFileObjectsMergesParallelListingsInContainerOrder() throws IOException {
+      // Given
+      group = newGroupWithThreshold(3);
+      var first = mock(JavaFileObject.class, "first");
+      var second = mock(JavaFileObject.class, "second");
+      var third = mock(JavaFileObject.class, "third");
+      var fourth = mock(JavaFileObject.class, "fourth");
+      givenListing(fooJar, first, second);
+      givenListing(directory, third);
+      givenListing(barJar, fourth, first);
+      group.addPackage(fooJar);
+      group.addPackage(directory);
+      group.addPackage(barJar);
+
+      // When
+      var result = group.listFileObjects("org.example", Set.of(Kind.CLASS), true);
+
+      // Then
+      assertThat(result).containsExactly(first, second, third, fourth);
+      assertThat(group.getListingStatistics()).isEqualTo(new ListingStatistics(0, 1));
+    }
+
+    @DisplayName(".listFileObjects(...) propagates exceptions from parallel listings")
+    @Test
+    void listFileObjectsPropagatesExceptionsFromParallelListings() throws IOException {
+      // Given
+      group = newGroupWithThreshold(2);
+      var exception = new IOException("something went wrong");
+      doThrow(exception).when(barJar).listFileObjects(any(), any(), anyBoolean(), any());
+      group.addPackage(fooJar);
+      group.addPackage(barJar);
+
+      // Then
+      assertThatThrownBy(() -> group.listFileObjects("org.example", Set.of(Kind.CLASS), true))
+          .isSameAs(exception);
+    }
+
+    PackageContainerGroupImpl newGroupWithThreshold(int threshold) {
+      var options = ContainerGroupOptions.builder()
+          .parallelListingThreshold(threshold)
+          .build();
+      return new PackageContainerGroupImpl(StandardLocation.CLASS_PATH, someRelease(), options);
+    }
+
+    @SuppressWarnings("unchecked")
+    void givenListing(Container container, JavaFileObject... fileObjects) throws IOException {
+      doAnswer(ctx -> {
+        ctx.getArgument(3, Collection.class).addAll(List.of(fileObjects));
+        return null;
+      }).when(container).listFileObjects(any(), any(), anyBoolean(), any());
+    }
+  }
+
+  @DisplayName("JARs on the default file system are memory-mapped when enabled")
+  @Test
+  void jarsOnTheDefaultFileSystemAreMemoryMappedWhenEnabled(@TempDir Path tempDir)
+      throws IOException {
+    // Given
+    var jar = createJar(tempDir.resolve("test.jar"));
+    group = newGroupWithMemoryMappedJars();
+
+    // When
+    group.addPackage(new WrappingDirectoryImpl(jar));
+
+    // Then
+    assertThat(group.getPackages())
+        .singleElement()
+        .isInstanceOf(MemoryMappedJarContainerImpl.class);
+  }
+
+  @DisplayName("JARs on other file systems are not memory-mapped")
+  @Test
+  void jarsOnOtherFileSystemsAreNotMemoryMapped() throws IOException {
+    // Given
+    try (var fileSystem = Jimfs.newFileSystem(Configuration.unix())) {
+      var jar = createJar(fileSystem.getPath("/test.jar"));
+      group = newGroupWithMemoryMappedJars();
+
+      // When
+      group.addPackage(new WrappingDirectoryImpl(jar));
+
+      // Then
+      assertThat(group.getPackages())
+          .singleElement()
+          .isInstanceOf(JarContainerImpl.class);
+    }
+  }
+
+  @DisplayName(".inferBinaryName(...) uses the routed containers first")
+  @Test
+  void inferBinaryNameUsesTheRoutedContainersFirst() {
+    // Given
+    group.addPackage(barJar);
+    group.addPackage(fooJar);
+    var fileObject = mock(PathFileObject.class);
+    when(fileObject.getRelativePath()).thenReturn(Path.of("org", "example", "foo", "Foo.class"));
+    when(fooJar.inferBinaryName(fileObject)).thenReturn("org.example.foo.Foo");
+
+    // When
+    var result = group.inferBinaryName(fileObject);
+
+    // Then
+    assertThat(result).isEqualTo("org.example.foo.Foo");
+    verify(barJar, never()).inferBinaryName(any());
+  }
+
+  @DisplayName(".inferBinaryName(...) falls back to the remaining containers")
+  @Test
+  void inferBinaryNameFallsBackToTheRemainingContainers() {
+    // Given
+    group.addPackage(barJar);
+    group.addPackage(fooJar);
+    var fileObject = mock(PathFileObject.class);
+    when(fileObject.getRelativePath()).thenReturn(Path.of("org", "example", "foo", "Foo.class"));
+    when(barJar.inferBinaryName(fileObject)).thenReturn("org.example.foo.Foo");
+
+    // When
+    var result = group.inferBinaryName(fileObject);
+
+    // Then
+    assertThat(result).isEqualTo("org.example.foo.Foo");
+  }
+
+  @DisplayName(".contains(...) falls back to the remaining containers")
+  @Test
+  void containsFallsBackToTheRemainingContainers() {
+    // Given
+    group.addPackage(barJar);
+    group.addPackage(fooJar);
+    var fileObject = mock(PathFileObject.class);
+    when(fileObject.getRelativePath()).thenReturn(Path.of("Foo.class"));
+
+    // Then
+    assertThat(group.contains(fileObject)).isFalse();
+    when(barJar.contains(fileObject)).thenReturn(true);
+    assertThat(group.contains(fileObject)).isTrue();
+    verifyNoInteractions(directory);
+  }
+
+  @DisplayName(".inferBinaryName(...) asks the origin container directly")
+  @Test
+  void inferBinaryNameAsksTheOriginContainerDirectly() {
+    // Given
+    group.addPackage(directory);
+    group.addPackage(fooJar);
+    var fileObject = mock(PathFileObject.class);
+    when(fileObject.getOrigin()).thenReturn(fooJar);
+    when(fooJar.inferBinaryName(fileObject)).thenReturn("org.example.foo.Foo");
+
+    // When
+    var result = group.inferBinaryName(fileObject);
+
+    // Then
+    assertThat(result).isEqualTo("org.example.foo.Foo");
+    verifyNoInteractions(directory);
+    verify(fooJar, never()).hasPackage(any());
+  }
+
+  @DisplayName(".inferBinaryName(...) ignores origin containers from other groups")
+  @Test
+  void inferBinaryNameIgnoresOriginContainersFromOtherGroups() {
+    // Given
+    group.addPackage(fooJar);
+    var foreignContainer = mock(Container.class);
+    var fileObject = mock(PathFileObject.class);
+    when(fileObject.getOrigin()).thenReturn(foreignContainer);
+    when(fileObject.getRelativePath()).thenReturn(Path.of("org", "example", "foo", "Foo.class"));
+    when(fooJar.inferBinaryName(fileObject)).thenReturn("org.example.foo.Foo");
+
+    // When
+    var result = group.inferBinaryName(fileObject);
+
+    // Then
+    assertThat(result).isEqualTo("org.example.foo.Foo");
+    verifyNoInteractions(foreignContainer);
+  }
+
+  @DisplayName(".contains(...) asks only the origin container for its own file objects")
+  @Test
+  void containsAsksOnlyTheOriginContainerForItsOwnFileObjects() {
+    // Given
+    group.addPackage(directory);
+    group.addPackage(fooJar);
+    var fileObject = mock(PathFileObject.class);
+    when(fileObject.getOrigin()).thenReturn(fooJar);
+
+    // Then
+    assertThat(group.contains(fileObject)).isFalse();
+    when(fooJar.contains(fileObject)).thenReturn(true);
+    assertThat(group.contains(fileObject)).isTrue();
+    verifyNoInteractions(directory);
+    verify(fooJar, never()).hasPackage(any());
+  }
+
+  @DisplayName(".contains(...) returns false for own file objects that were deleted")
+  @Test
+  void containsReturnsFalseForOwnFileObjectsThatWereDeleted(@TempDir Path tempDir)
+      throws IOException {
+    // Given
+    Files.createDirectories(tempDir.resolve("org/example"));
+    Files.writeString(tempDir.resolve("org/example/Foo.java"), "class Foo {}");
+    group.addPackage(new WrappingDirectoryImpl(tempDir));
+    var fileObject = group.getJavaFileForInput("org.example.Foo", Kind.SOURCE);
+    assertThat(fileObject).isNotNull();
+    assertThat(group.contains(fileObject)).isTrue();
+
+    // When
+    Files.delete(fileObject.getFullPath());
+
+    // Then
+    assertThat(group.contains(fileObject)).isFalse();
+  }
+
+  @DisplayName(".contains(...) checks containers for file objects from other groups")
+  @Test
+  void containsChecksContainersForFileObjectsFromOtherGroups() {
+    // Given
+    group.addPackage(fooJar);
+    var fileObject = mock(PathFileObject.class);
+    when(fileObject.getOrigin()).thenReturn(mock(Container.class));
+    when(fileObject.getRelativePath()).thenReturn(Path.of("Foo.class"));
+
+    // Then
+    assertThat(group.contains(fileObject)).isFalse();
+    verify(fooJar).contains(fileObject);
+  }
+
+  PackageContainerGroupImpl newGroupWithMemoryMappedJars() {
+    var options = ContainerGroupOptions.builder()
+        .memoryMapJars(true)
+        .build();
+    return new PackageContainerGroupImpl(StandardLocation.CLASS_PATH, someRelease(), options);
+  }
+
+  Path createJar(Path jar) throws IOException {
+    try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+      out.putNextEntry(new ZipEntry("org/example/Foo.class"));
+      out.write(new byte[]{(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE});
+      out.closeEntry();
+    }
+
+    return jar;
+  }
+}
@@ -82,6 +82,51 @@ class TeeWriterTest {
     assertThat(writer).hasToString(text);
   }
 
+  @DisplayName("write(int) delegates to the writer and the buffer")
+  @Test
+  void writeCharDelegatesToTheWriterAndTheBuffer() throws IOException {
+    // Given
+    var writer = new StringWriter();
+    var tee = new TeeWriter(writer);
+
+    // When
+    tee.write('x');
+    tee.write('y');
+
+    // Then
+    assertThat(writer).hasToString("xy");
+    assertThat(tee).hasToString("xy");
+  }
+
+  @DisplayName("write(String, int, int) only writes the given part of the string")
+  @Test
+  void writeStringOffsetLengthOnlyWritesTheGivenPartOfTheString() throws IOException {
+    // Given
+    var writer = new StringWriter();
+    var tee = new TeeWriter(writer);
+
+    // When
+    tee.write("Hello, World!", 7, 5);
+
+    // Then
+    assertThat(writer).hasToString("World");
+    assertThat(tee).hasToString("World");
+  }
+
+  @DisplayName("write(int) fails if the writer is closed")
+  @Test
+  void writeCharFailsIfTheWriterIsClosed() throws IOException {
+    // Given
+    var writer = new StringWriter();
+    var tee = new TeeWriter(writer);
+    tee.close();
+
+    // Then
+    assertThatThrownBy(() -> tee.write('x'))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("TeeWriter is closed");
+  }
+
   @DisplayName("flush() fails if the writer is closed")
   @Test
   void flushFailsIfTheWriterIsClosed() throws IOException {
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.filemanagers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.ascopes.jct.filemanagers.FileContentCache;
+import java.net.URI;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * {@link FileContentCache} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("FileContentCache tests")
+class FileContentCacheTest {
+
+  static final URI FOO = URI.create("file:///src/Foo.java");
+  static final URI BAR = URI.create("file:///src/Bar.java");
+  static final URI BAZ = URI.create("file:///src/Baz.java");
+
+  @DisplayName("The maximum size must be positive")
+  @ValueSource(longs = {0, -1, Long.MIN_VALUE})
+  @ParameterizedTest(name = "for maxCharacters = {0}")
+  void theMaximumSizeMustBePositive(long maxCharacters) {
+    // Then
+    assertThatThrownBy(() -> new FileContentCache(maxCharacters))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Maximum cache size must be positive (got %d)", maxCharacters);
+  }
+
+  @DisplayName("Stored content is returned for the same modification time")
+  @Test
+  void storedContentIsReturnedForTheSameModificationTime() {
+    // Given
+    var cache = new FileContentCache(100);
+    cache.put(FOO, 123, 10, "class Foo {}");
+
+    // Then
+    assertThat(cache.get(FOO, 123, 10)).isEqualTo("class Foo {}");
+    assertThat(cache.getHitCount()).isOne();
+    assertThat(cache.getMissCount()).isZero();
+  }
+
+  @DisplayName("Stored content is not returned for a different modification time")
+  @Test
+  void storedContentIsNotReturnedForADifferentModificationTime() {
+    // Given
+    var cache = new FileContentCache(100);
+    cache.put(FOO, 123, 10, "class Foo {}");
+
+    // Then
+    assertThat(cache.get(FOO, 456, 10)).isNull();
+    assertThat(cache.get(BAR, 123, 10)).isNull();
+    assertThat(cache.getHitCount()).isZero();
+    assertThat(cache.getMissCount()).isEqualTo(2);
+  }
+
+  @DisplayName("Stored content is not returned for a different size")
+  @Test
+  void storedContentIsNotReturnedForADifferentSize() {
+    // Given
+    var cache = new FileContentCache(100);
+    cache.put(FOO, 123, 10, "class Foo {}");
+
+    // Then
+    assertThat(cache.get(FOO, 123, 11)).isNull();
+    assertThat(cache.getHitCount()).isZero();
+    assertThat(cache.getMissCount()).isOne();
+  }
+
+  @DisplayName("Replacing content updates the size")
+  @Test
+  void replacingContentUpdatesTheSize() {
+    // Given
+    var cache = new FileContentCache(100);
+    cache.put(FOO, 123, 10, "0123456789");
+
+    // When
+    cache.put(FOO, 456, 10, "01234");
+
+    // Then
+    assertThat(cache.get(FOO, 456, 10)).isEqualTo("01234");
+    assertThat(cache.getSize()).isOne();
+    assertThat(cache.getCharacters()).isEqualTo(5);
+  }
+
+  @DisplayName("The least recently used content is evicted first")
+  @Test
+  void theLeastRecentlyUsedContentIsEvictedFirst() {
+    // Given
+    var cache = new FileContentCache(20);
+    cache.put(FOO, 1, 10, "0123456789");
+    cache.put(BAR, 1, 10, "0123456789");
+    cache.get(FOO, 1, 10);
+
+    // When
+    cache.put(BAZ, 1, 10, "0123456789");
+
+    // Then
+    assertThat(cache.get(FOO, 1, 10)).isNotNull();
+    assertThat(cache.get(BAR, 1, 10)).isNull();
+    assertThat(cache.get(BAZ, 1, 10)).isNotNull();
+    assertThat(cache.getCharacters()).isEqualTo(20);
+    assertThat(cache.getEvictionCount()).isOne();
+  }
+
+  @DisplayName("Content larger than the cache is never stored")
+  @Test
+  void contentLargerThanTheCacheIsNeverStored() {
+    // Given
+    var cache = new FileContentCache(10);
+    cache.put(FOO, 1, 10, "0123456789");
+
+    // When
+    cache.put(BAR, 1, 10, "0123456789A");
+
+    // Then
+    assertThat(cache.get(FOO, 1, 10)).isNotNull();
+    assertThat(cache.get(BAR, 1, 10)).isNull();
+    assertThat(cache.getEvictionCount()).isZero();
+  }
+
+  @DisplayName("Clearing the cache discards all content")
+  @Test
+  void clearingTheCacheDiscardsAllContent() {
+    // Given
+    var cache = new FileContentCache(100);
+    cache.put(FOO, 1, 10, "foo");
+    cache.put(BAR, 1, 10, "bar");
+
+    // When
+    cache.clear();
+
+    // Then
+    assertThat(cache.getSize()).isZero();
+    assertThat(cache.getCharacters()).isZero();
+    assertThat(cache.get(FOO, 1, 10)).isNull();
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.filemanagers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import io.github.ascopes.jct.filemanagers.FileManagerProfile;
+import io.github.ascopes.jct.filemanagers.JctFileManager;
+import io.github.ascopes.jct.filemanagers.ProfilingFileManager;
+import java.io.IOException;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * {@link FileManagerProfile} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("FileManagerProfile tests")
+class FileManagerProfileTest {
+
+  @DisplayName("The empty profile has no entries")
+  @Test
+  void theEmptyProfileHasNoEntries() {
+    // Given
+    var profile = FileManagerProfile.empty();
+
+    // Then
+    assertThat(profile.isEmpty()).isTrue();
+    assertThat(profile.getEntries()).isEmpty();
+    assertThat(profile.getCallCount()).isZero();
+    assertThat(profile.getTotalTime()).isEqualTo(Duration.ZERO);
+    assertThat(profile.getEntry("list", "CLASS_PATH")).isNull();
+  }
+
+  @DisplayName("The empty profile is a singleton")
+  @Test
+  void theEmptyProfileIsASingleton() {
+    // Then
+    assertThat(FileManagerProfile.empty()).isSameAs(FileManagerProfile.empty());
+  }
+
+  @DisplayName("Out of range percentiles are rejected")
+  @ValueSource(doubles = {-1, 0, 100.5, Double.NaN})
+  @ParameterizedTest(name = "for percentile = {0}")
+  void outOfRangePercentilesAreRejected(double percentile) throws IOException {
+    // Given
+    var fileManager = ProfilingFileManager.wrap(mock(JctFileManager.class));
+    fileManager.flush();
+    var entry = fileManager.getProfile().getEntries().get(0);
+
+    // Then
+    assertThatThrownBy(() -> entry.getPercentile(percentile))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Percentile must be greater than 0 and at most 100 (got " + percentile + ")");
+  }
+
+  @DisplayName("toString() includes the call count and entries")
+  @Test
+  void toStringIncludesTheCallCountAndEntries() throws IOException {
+    // Given
+    var fileManager = ProfilingFileManager.wrap(mock(JctFileManager.class));
+    fileManager.flush();
+    var profile = fileManager.getProfile();
+
+    // Then
+    assertThat(profile.toString())
+        .startsWith("FileManagerProfile{callCount=1, ")
+        .contains("methodName=\"flush\"");
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.filemanagers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.ascopes.jct.filemanagers.ListingStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * {@link ListingStatistics} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("ListingStatistics tests")
+class ListingStatisticsTest {
+
+  @DisplayName("The counts are exposed")
+  @Test
+  void theCountsAreExposed() {
+    // Given
+    var statistics = new ListingStatistics(3, 5);
+
+    // Then
+    assertThat(statistics.getSerialListingCount()).isEqualTo(3);
+    assertThat(statistics.getParallelListingCount()).isEqualTo(5);
+    assertThat(statistics.getListingCount()).isEqualTo(8);
+  }
+
+  @DisplayName("Negative counts are rejected")
+  @CsvSource({"-1, 0", "0, -1", "-1, -1"})
+  @ParameterizedTest(name = "for serialListingCount = {0}, parallelListingCount = {1}")
+  void negativeCountsAreRejected(long serialListingCount, long parallelListingCount) {
+    // Then
+    assertThatThrownBy(() -> new ListingStatistics(serialListingCount, parallelListingCount))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @DisplayName("Statistics can be added together")
+  @Test
+  void statisticsCanBeAddedTogether() {
+    // Then
+    assertThat(new ListingStatistics(1, 2).plus(new ListingStatistics(3, 4)))
+        .isEqualTo(new ListingStatistics(4, 6));
+  }
+
+  @DisplayName("The empty statistics have no listings")
+  @Test
+  void theEmptyStatisticsHaveNoListings() {
+    // Then
+    assertThat(ListingStatistics.empty())
+        .isEqualTo(new ListingStatistics(0, 0))
+        .hasSameHashCodeAs(new ListingStatistics(0, 0))
+        .hasToString("ListingStatistics{serialListingCount=0, parallelListingCount=0}");
+  }
+
+  @DisplayName("Statistics with different counts are not equal")
+  @Test
+  void statisticsWithDifferentCountsAreNotEqual() {
+    // Then
+    assertThat(new ListingStatistics(1, 2))
+        .isNotEqualTo(new ListingStatistics(2, 1))
+        .isNotEqualTo(new ListingStatistics(1, 3))
+        .isNotEqualTo(null);
+  }
+}
@@ -26,6 +26,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -43,6 +44,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
@@ -325,6 +327,58 @@ class LoggingFileManagerProxyTest {
     );
   }
 
+  @DisplayName("Nested method invocations are logged with their stack depth")
+  @Test
+  void nestedMethodInvocationsAreLoggedWithTheirStackDepth() throws Throwable {
+    // Given
+    var proxyRef = new AtomicReference<JctFileManager>();
+    var impl = mock(JctFileManager.class);
+    doAnswer(ctx -> {
+      proxyRef.get().close();
+      return null;
+    }).when(impl).flush();
+    var proxy = LoggingFileManagerProxy.wrap(impl, false);
+    proxyRef.set(proxy);
+
+    // When
+    proxy.flush();
+    proxy.close();
+
+    // Then
+    slf4jLoggerFake.assertThatEntryLogged(
+        Level.DEBUG,
+        null,
+        "<<< [thread={}, depth={}] {} {}({}) completed",
+        threadId,
+        1,
+        "void",
+        "flush",
+        ""
+    );
+    slf4jLoggerFake.assertThatEntryLogged(
+        Level.DEBUG,
+        null,
+        "<<< [thread={}, depth={}] {} {}({}) completed",
+        threadId,
+        2,
+        "void",
+        "close",
+        ""
+    );
+
+    // The depth is back to 1 once the outer call has completed.
+    slf4jLoggerFake.assertThatEntryLogged(
+        Level.DEBUG,
+        null,
+        "<<< [thread={}, depth={}] {} {}({}) completed",
+        threadId,
+        1,
+        "void",
+        "close",
+        ""
+    );
+  }
+
   //////////////////////////////////////////////////////
   /// Proxy access stuff for tests. Here be dragons. ///
   //////////////////////////////////////////////////////
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.filemanagers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.ascopes.jct.filemanagers.LookupCacheStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * {@link LookupCacheStatistics} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("LookupCacheStatistics tests")
+class LookupCacheStatisticsTest {
+
+  @DisplayName("The counts are exposed")
+  @Test
+  void theCountsAreExposed() {
+    // Given
+    var statistics = new LookupCacheStatistics(3, 5);
+
+    // Then
+    assertThat(statistics.getHitCount()).isEqualTo(3);
+    assertThat(statistics.getMissCount()).isEqualTo(5);
+    assertThat(statistics.getRequestCount()).isEqualTo(8);
+  }
+
+  @DisplayName("Negative counts are rejected")
+  @CsvSource({"-1, 0", "0, -1", "-1, -1"})
+  @ParameterizedTest(name = "for hitCount = {0}, missCount = {1}")
+  void negativeCountsAreRejected(long hitCount, long missCount) {
+    // Then
+    assertThatThrownBy(() -> new LookupCacheStatistics(hitCount, missCount))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @DisplayName("The hit rate is calculated from the counts")
+  @CsvSource({"0, 0, 0.0", "1, 0, 1.0", "0, 1, 0.0", "3, 1, 0.75"})
+  @ParameterizedTest(name = "for hitCount = {0}, missCount = {1}, expect {2}")
+  void theHitRateIsCalculatedFromTheCounts(long hitCount, long missCount, double expected) {
+    // Given
+    var statistics = new LookupCacheStatistics(hitCount, missCount);
+
+    // Then
+    assertThat(statistics.getHitRate()).isEqualTo(expected);
+  }
+
+  @DisplayName("The empty statistics have no requests")
+  @Test
+  void theEmptyStatisticsHaveNoRequests() {
+    // Then
+    assertThat(LookupCacheStatistics.empty())
+        .isEqualTo(new LookupCacheStatistics(0, 0))
+        .hasSameHashCodeAs(new LookupCacheStatistics(0, 0))
+        .hasToString("LookupCacheStatistics{hitCount=0, missCount=0}");
+  }
+
+  @DisplayName("Statistics with different counts are not equal")
+  @Test
+  void statisticsWithDifferentCountsAreNotEqual() {
+    // Then
+    assertThat(new LookupCacheStatistics(1, 2))
+        .isNotEqualTo(new LookupCacheStatistics(2, 1))
+        .isNotEqualTo(new LookupCacheStatistics(1, 3))
+        .isNotEqualTo(null);
+  }
+}
@@ -26,6 +26,8 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 
+import io.github.ascopes.jct.containers.Container;
+import io.github.ascopes.jct.filemanagers.FileContentCache;
 import io.github.ascopes.jct.filemanagers.PathFileObject;
 import java.io.IOException;
 import java.io.StringWriter;
@@ -298,6 +300,122 @@ class PathFileObjectTest {
     }
   }
 
+  @DisplayName(".getCharContent(...) reads content through the content cache")
+  @Test
+  void getCharContentReadsContentThroughTheContentCache() throws IOException {
+    // Given
+    try (var fs = someTemporaryFileSystem()) {
+      var rootDir = fs.getRootPath().resolve("root-a");
+      var file = rootDir.resolve("Baz.txt");
+      Files.createDirectories(rootDir);
+      Files.writeString(file, "first", StandardCharsets.UTF_8);
+      Files.setLastModifiedTime(file, FileTime.fromMillis(1_000));
+
+      var cache = new FileContentCache(1_000);
+      var fileObject = new PathFileObject(
+          someLocation(), null, rootDir, rootDir.relativize(file), cache
+      );
+
+      // When
+      var first = fileObject.getCharContent(false);
+      // Overwrite the file without changing the modification time or size, so we can see if it
+      // is read.
+      Files.writeString(file, "FIRST", StandardCharsets.UTF_8);
+      Files.setLastModifiedTime(file, FileTime.fromMillis(1_000));
+      var second = fileObject.getCharContent(true);
+
+      // Then
+      assertThat(first).isEqualTo("first");
+      assertThat(second).isEqualTo("first");
+      assertThat(cache.getHitCount()).isOne();
+      assertThat(cache.getMissCount()).isOne();
+    }
+  }
+
+  @DisplayName(".getCharContent(...) reads the file again once it is modified")
+  @Test
+  void getCharContentReadsTheFileAgainOnceItIsModified() throws IOException {
+    // Given
+    try (var fs = someTemporaryFileSystem()) {
+      var rootDir = fs.getRootPath().resolve("root-a");
+      var file = rootDir.resolve("Baz.txt");
+      Files.createDirectories(rootDir);
+      Files.writeString(file, "first", StandardCharsets.UTF_8);
+      Files.setLastModifiedTime(file, FileTime.fromMillis(1_000));
+
+      var cache = new FileContentCache(1_000);
+      var fileObject = new PathFileObject(
+          someLocation(), null, rootDir, rootDir.relativize(file), cache
+      );
+
+      // When
+      fileObject.getCharContent(false);
+      Files.writeString(file, "second", StandardCharsets.UTF_8);
+      Files.setLastModifiedTime(file, FileTime.fromMillis(2_000));
+      var result = fileObject.getCharContent(false);
+
+      // Then
+      assertThat(result).isEqualTo("second");
+      assertThat(cache.getHitCount()).isZero();
+      assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+  }
+
+  @DisplayName(".getCharContent(...) reads the file again if its size changes")
+  @Test
+  void getCharContentReadsTheFileAgainIfItsSizeChanges() throws IOException {
+    // Given
+    try (var fs = someTemporaryFileSystem()) {
+      var rootDir = fs.getRootPath().resolve("root-a");
+      var file = rootDir.resolve("Baz.txt");
+      Files.createDirectories(rootDir);
+      Files.writeString(file, "first", StandardCharsets.UTF_8);
+      Files.setLastModifiedTime(file, FileTime.fromMillis(1_000));
+
+      var cache = new FileContentCache(1_000);
+      var fileObject = new PathFileObject(
+          someLocation(), null, rootDir, rootDir.relativize(file), cache
+      );
+
+      // When
+      fileObject.getCharContent(false);
+      // Rewrite the file within the same timestamp, as happens on coarse-grained file systems.
+      Files.writeString(file, "second", StandardCharsets.UTF_8);
+      Files.setLastModifiedTime(file, FileTime.fromMillis(1_000));
+      var result = fileObject.getCharContent(false);
+
+      // Then
+      assertThat(result).isEqualTo("second");
+      assertThat(cache.getHitCount()).isZero();
+      assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+  }
+
+  @DisplayName(".getCharContent(...) does not cache content with encoding errors")
+  @Test
+  void getCharContentDoesNotCacheContentWithEncodingErrors() throws IOException {
+    // Given
+    try (var fs = someTemporaryFileSystem()) {
+      var rootDir = fs.getRootPath().resolve("root-a");
+      var file = rootDir.resolve("Baz.txt");
+      Files.createDirectories(rootDir);
+      Files.write(file, new byte[]{(byte) 0xC0, (byte) 0xC1, (byte) 0xF5, (byte) 0xFF});
+
+      var cache = new FileContentCache(1_000);
+      var fileObject = new PathFileObject(
+          someLocation(), null, rootDir, rootDir.relativize(file), cache
+      );
+
+      // When
+      fileObject.getCharContent(true);
+
+      // Then
+      assertThatThrownBy(() -> fileObject.getCharContent(false))
+          .isInstanceOf(MalformedInputException.class);
+      assertThat(cache.getSize()).isZero();
+    }
+  }
+
   @DisplayName(".getFullPath() returns the full path")
   @Test
   void getFullPathReturnsTheFullPath() {
@@ -444,6 +562,47 @@ class PathFileObjectTest {
     assertThat(fileObject.getRelativePath()).isEqualTo(relativePath);
   }
 
+  @DisplayName(".getOrigin() returns null if no origin container was provided")
+  @Test
+  void getOriginReturnsNullIfNoOriginWasProvided() {
+    // Given
+    var fileObject = new PathFileObject(someLocation(), someAbsolutePath(), someRelativePath());
+
+    // Then
+    assertThat(fileObject.getOrigin()).isNull();
+  }
+
+  @DisplayName(".getOrigin() returns the origin container")
+  @Test
+  void getOriginReturnsTheOriginContainer() {
+    // Given
+    Container origin = mock();
+    var fileObject = new PathFileObject(
+        someLocation(),
+        origin,
+        someAbsolutePath(),
+        someRelativePath()
+    );
+
+    // Then
+    assertThat(fileObject.getOrigin()).isSameAs(origin);
+  }
+
+  @DisplayName("Passing a null origin to the constructor raises an exception")
+  @SuppressWarnings("DataFlowIssue")
+  @Test
+  void passingNullOriginToConstructorRaisesException() {
+    // Then
+    assertThatThrownBy(() -> new PathFileObject(
+        someLocation(),
+        null,
+        someAbsolutePath(),
+        someRelativePath()
+    ))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("origin");
+  }
+
   @DisplayName(".getRootPath() returns the root path")
   @Test
   void getRootPathReturnsTheRootPath() {
@@ -490,6 +649,10 @@ class PathFileObjectTest {
       "  Bar.class,   Bar,   SOURCE,  false",
       "   Baz.html,   Baz,    OTHER,  false",
       "       Bork,  Bork,     HTML,  false",
+      // Names that only share a prefix or suffix
+      "FooBar.java,   Foo,   SOURCE,  false",
+      "BarFoo.java,   Foo,   SOURCE,  false",
+      "   Foo.java,  Foo.,   SOURCE,  false",
   })
   @ParameterizedTest(name = "expect {3} when fileName={0}, simpleName={1}, kind={2}")
   void isNameCompatibleReturnsTheExpectedValue(
@@ -748,6 +911,20 @@ class PathFileObjectTest {
         .isEqualTo(uri);
   }
 
+  @DisplayName(".toUri() returns the same URI each time it is called")
+  @Test
+  void toUriReturnsTheSameUriEachTime() {
+    // Given
+    var fileObject = new PathFileObject(someLocation(), someAbsolutePath(), someRelativePath());
+
+    // When
+    var first = fileObject.toUri();
+    var second = fileObject.toUri();
+
+    // Then
+    assertThat(second).isSameAs(first);
+  }
+
   @DisplayName(".toString() returns the expected value")
   @Test
   void toStringReturnsTheExpectedValue() {
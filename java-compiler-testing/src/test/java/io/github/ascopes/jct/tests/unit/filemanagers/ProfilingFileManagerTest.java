@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.filemanagers;
+
+import static io.github.ascopes.jct.tests.helpers.Fixtures.someBinaryName;
+import static io.github.ascopes.jct.tests.helpers.Fixtures.someJavaFileObject;
+import static io.github.ascopes.jct.tests.helpers.Fixtures.somePackageName;
+import static io.github.ascopes.jct.tests.helpers.Fixtures.somePathRoot;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.github.ascopes.jct.filemanagers.FileManagerProfile;
+import io.github.ascopes.jct.filemanagers.JctFileManager;
+import io.github.ascopes.jct.filemanagers.ProfilingFileManager;
+import java.io.IOException;
+import java.util.Set;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * {@link ProfilingFileManager} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("ProfilingFileManager tests")
+@ExtendWith(MockitoExtension.class)
+class ProfilingFileManagerTest {
+
+  @Mock
+  JctFileManager inner;
+
+  JctFileManager fileManager;
+
+  @BeforeEach
+  void setUp() {
+    fileManager = ProfilingFileManager.wrap(inner);
+  }
+
+  @DisplayName("The profile is empty before any calls are made")
+  @Test
+  void theProfileIsEmptyBeforeAnyCallsAreMade() {
+    // When
+    var profile = fileManager.getProfile();
+
+    // Then
+    assertThat(profile.isEmpty()).isTrue();
+    assertThat(profile.getEntries()).isEmpty();
+    assertThat(profile.getCallCount()).isZero();
+  }
+
+  @DisplayName("Calls are delegated to the wrapped file manager")
+  @Test
+  void callsAreDelegatedToTheWrappedFileManager() throws IOException {
+    // Given
+    var location = StandardLocation.CLASS_PATH;
+    var binaryName = someBinaryName();
+    var fileObject = someJavaFileObject();
+    when(inner.getJavaFileForInput(location, binaryName, Kind.CLASS)).thenReturn(fileObject);
+
+    // When
+    var result = fileManager.getJavaFileForInput(location, binaryName, Kind.CLASS);
+
+    // Then
+    assertThat(result).isSameAs(fileObject);
+    verify(inner).getJavaFileForInput(location, binaryName, Kind.CLASS);
+    verifyNoMoreInteractions(inner);
+  }
+
+  @DisplayName("Lookups are recorded as hits and misses for each method and location")
+  @Test
+  void lookupsAreRecordedAsHitsAndMissesForEachMethodAndLocation() throws IOException {
+    // Given
+    var fileObject = someJavaFileObject();
+    when(inner.getJavaFileForInput(StandardLocation.CLASS_PATH, "found", Kind.CLASS))
+        .thenReturn(fileObject);
+
+    // When
+    fileManager.getJavaFileForInput(StandardLocation.CLASS_PATH, "found", Kind.CLASS);
+    fileManager.getJavaFileForInput(StandardLocation.CLASS_PATH, "found", Kind.CLASS);
+    fileManager.getJavaFileForInput(StandardLocation.CLASS_PATH, "missing", Kind.CLASS);
+    fileManager.getJavaFileForInput(StandardLocation.SOURCE_PATH, "missing", Kind.SOURCE);
+    var profile = fileManager.getProfile();
+
+    // Then
+    assertThat(profile.getEntries()).hasSize(2);
+    assertThat(profile.getCallCount()).isEqualTo(4);
+
+    var classPathEntry = profile.getEntry("getJavaFileForInput", "CLASS_PATH");
+    assertThat(classPathEntry).isNotNull();
+    assertThat(classPathEntry.getCallCount()).isEqualTo(3);
+    assertThat(classPathEntry.getHitCount()).isEqualTo(2);
+    assertThat(classPathEntry.getMissCount()).isEqualTo(1);
+
+    var sourcePathEntry = profile.getEntry("getJavaFileForInput", "SOURCE_PATH");
+    assertThat(sourcePathEntry).isNotNull();
+    assertThat(sourcePathEntry.getCallCount()).isEqualTo(1);
+    assertThat(sourcePathEntry.getHitCount()).isZero();
+    assertThat(sourcePathEntry.getMissCount()).isEqualTo(1);
+  }
+
+  @DisplayName("Listings are recorded as hits only when they return files")
+  @Test
+  void listingsAreRecordedAsHitsOnlyWhenTheyReturnFiles() throws IOException {
+    // Given
+    var location = StandardLocation.CLASS_PATH;
+    var kinds = Set.of(Kind.CLASS);
+    var files = Set.of(someJavaFileObject());
+    when(inner.list(location, "found", kinds, false)).thenReturn(files);
+    when(inner.list(location, "missing", kinds, false))
+        .thenReturn(Set.of());
+
+    // When
+    fileManager.list(location, "found", kinds, false);
+    fileManager.list(location, "missing", kinds, false);
+    var entry = fileManager.getProfile().getEntry("list", "CLASS_PATH");
+
+    // Then
+    assertThat(entry).isNotNull();
+    assertThat(entry.getHitCount()).isEqualTo(1);
+    assertThat(entry.getMissCount()).isEqualTo(1);
+  }
+
+  @DisplayName("Calls that are not lookups are recorded without hits or misses")
+  @Test
+  void callsThatAreNotLookupsAreRecordedWithoutHitsOrMisses() throws IOException {
+    // When
+    fileManager.flush();
+    fileManager.flush();
+    var entry = fileManager.getProfile().getEntry("flush", null);
+
+    // Then
+    assertThat(entry).isNotNull();
+    assertThat(entry.getLocationName()).isNull();
+    assertThat(entry.getCallCount()).isEqualTo(2);
+    assertThat(entry.getHitCount()).isZero();
+    assertThat(entry.getMissCount()).isZero();
+  }
+
+  @DisplayName("Calls that throw exceptions are propagated and not recorded")
+  @Test
+  void callsThatThrowExceptionsArePropagatedAndNotRecorded() throws IOException {
+    // Given
+    var ex = new IOException("something went wrong");
+    var packageName = somePackageName();
+    when(inner.list(StandardLocation.CLASS_PATH, packageName, Set.of(), true)).thenThrow(ex);
+
+    // Then
+    assertThatThrownBy(() -> fileManager.list(
+        StandardLocation.CLASS_PATH, packageName, Set.of(), true
+    )).isSameAs(ex);
+    assertThat(fileManager.getProfile().isEmpty()).isTrue();
+  }
+
+  @DisplayName("Configuration methods are delegated without being recorded")
+  @Test
+  void configurationMethodsAreDelegatedWithoutBeingRecorded() {
+    // Given
+    var pathRoot = somePathRoot();
+
+    // When
+    fileManager.addPath(StandardLocation.CLASS_PATH, pathRoot);
+    fileManager.getEffectiveRelease();
+
+    // Then
+    verify(inner).addPath(StandardLocation.CLASS_PATH, pathRoot);
+    verify(inner).getEffectiveRelease();
+    assertThat(fileManager.getProfile().isEmpty()).isTrue();
+  }
+
+  @DisplayName("The profile is a snapshot")
+  @Test
+  void theProfileIsASnapshot() throws IOException {
+    // Given
+    fileManager.flush();
+    var profile = fileManager.getProfile();
+
+    // When
+    fileManager.flush();
+
+    // Then
+    assertThat(profile.getCallCount()).isEqualTo(1);
+    assertThat(fileManager.getProfile().getCallCount()).isEqualTo(2);
+  }
+
+  @DisplayName("Entries are sorted by total time, slowest first")
+  @Test
+  void entriesAreSortedByTotalTimeSlowestFirst() throws IOException {
+    // Given
+    when(inner.hasLocation(StandardLocation.CLASS_PATH)).thenAnswer(ctx -> {
+      Thread.sleep(20);
+      return true;
+    });
+
+    // When
+    fileManager.flush();
+    fileManager.hasLocation(StandardLocation.CLASS_PATH);
+    var profile = fileManager.getProfile();
+
+    // Then
+    assertThat(profile.getEntries())
+        .extracting(FileManagerProfile.Entry::getMethodName)
+        .containsExactly("hasLocation", "flush");
+    assertThat(profile.getTotalTime())
+        .isGreaterThanOrEqualTo(profile.getEntries().get(0).getTotalTime());
+  }
+
+  @DisplayName("Percentiles are bounded by the recorded latencies")
+  @Test
+  void percentilesAreBoundedByTheRecordedLatencies() {
+    // Given
+    when(inner.hasLocation(StandardLocation.CLASS_PATH)).thenAnswer(ctx -> {
+      Thread.sleep(5);
+      return false;
+    });
+
+    // When
+    fileManager.hasLocation(StandardLocation.CLASS_PATH);
+    var entry = fileManager.getProfile().getEntry("hasLocation", "CLASS_PATH");
+
+    // Then
+    assertThat(entry).isNotNull();
+    assertThat(entry.getMeanTime()).isEqualTo(entry.getTotalTime());
+    // Percentiles are rounded up to the next power of two nanoseconds.
+    assertThat(entry.getPercentile(50))
+        .isGreaterThanOrEqualTo(entry.getTotalTime())
+        .isLessThanOrEqualTo(entry.getTotalTime().multipliedBy(2));
+    assertThat(entry.getPercentile(100)).isEqualTo(entry.getPercentile(50));
+  }
+
+  @DisplayName("toString() includes the wrapped file manager")
+  @Test
+  void toStringIncludesTheWrappedFileManager() {
+    // Then
+    assertThat(fileManager)
+        .hasToString("ProfilingFileManager{inner=" + inner + "}");
+  }
+}
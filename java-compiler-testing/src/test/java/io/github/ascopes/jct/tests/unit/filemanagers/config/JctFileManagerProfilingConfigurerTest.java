@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.filemanagers.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import io.github.ascopes.jct.compilers.JctCompiler;
+import io.github.ascopes.jct.filemanagers.JctFileManager;
+import io.github.ascopes.jct.filemanagers.ProfilingFileManager;
+import io.github.ascopes.jct.filemanagers.config.JctFileManagerProfilingConfigurer;
+import io.github.ascopes.jct.filemanagers.impl.JctFileManagerImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mock.Strictness;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * {@link JctFileManagerProfilingConfigurer} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("JctFileManagerProfilingConfigurer tests")
+@ExtendWith(MockitoExtension.class)
+class JctFileManagerProfilingConfigurerTest {
+
+  @Mock(strictness = Strictness.LENIENT)
+  MockedStatic<ProfilingFileManager> profilingFileManagerStatic;
+
+  @Mock
+  JctCompiler<?, ?> compiler;
+
+  @Mock
+  JctFileManager profilingFileManager;
+
+  @Mock
+  JctFileManagerImpl fileManager;
+
+  @InjectMocks
+  JctFileManagerProfilingConfigurer configurer;
+
+  @BeforeEach
+  void setUp() {
+    profilingFileManagerStatic.when(() -> ProfilingFileManager.wrap(any()))
+        .thenReturn(profilingFileManager);
+  }
+
+  @DisplayName(".configure(...) will wrap the file manager in a profiling file manager")
+  @Test
+  void configureWillWrapTheFileManager() {
+    // When
+    configurer.configure(fileManager);
+
+    // Then
+    profilingFileManagerStatic.verify(() -> ProfilingFileManager.wrap(fileManager));
+  }
+
+  @DisplayName(".configure(...) returns the profiling file manager")
+  @Test
+  void configureReturnsTheProfilingFileManager() {
+    // When
+    var result = configurer.configure(fileManager);
+
+    // Then
+    assertThat(result)
+        .isNotSameAs(fileManager)
+        .isSameAs(profilingFileManager);
+  }
+
+  @DisplayName(".isEnabled() returns the expected result")
+  @ValueSource(booleans = {true, false})
+  @ParameterizedTest(name = "returns {0} when file manager profiling is {0}")
+  void isEnabledReturnsExpectedResult(boolean enabled) {
+    // Given
+    when(compiler.isFileManagerProfiling()).thenReturn(enabled);
+
+    // Then
+    assertThat(configurer.isEnabled()).isEqualTo(enabled);
+  }
+}
@@ -17,6 +17,7 @@ package io.github.ascopes.jct.tests.unit.filemanagers.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.RETURNS_MOCKS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
@@ -25,25 +26,29 @@ import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
 import io.github.ascopes.jct.compilers.JctCompiler;
+import io.github.ascopes.jct.containers.impl.ContainerGroupOptions;
+import io.github.ascopes.jct.filemanagers.FileContentCache;
 import io.github.ascopes.jct.filemanagers.JctFileManager;
 import io.github.ascopes.jct.filemanagers.config.JctFileManagerAnnotationProcessorClassPathConfigurer;
 import io.github.ascopes.jct.filemanagers.config.JctFileManagerConfigurer;
 import io.github.ascopes.jct.filemanagers.config.JctFileManagerConfigurerChain;
-import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmClassPathConfigurer;
-import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmClassPathModuleConfigurer;
-import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmModulePathConfigurer;
-import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmPlatformClassPathConfigurer;
-import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmSystemModulesConfigurer;
 import io.github.ascopes.jct.filemanagers.config.JctFileManagerLoggingProxyConfigurer;
+import io.github.ascopes.jct.filemanagers.config.JctFileManagerProfilingConfigurer;
 import io.github.ascopes.jct.filemanagers.config.JctFileManagerRequiredLocationsConfigurer;
 import io.github.ascopes.jct.filemanagers.config.JctFileManagerWorkspaceConfigurer;
 import io.github.ascopes.jct.filemanagers.impl.JctFileManagerFactoryImpl;
 import io.github.ascopes.jct.filemanagers.impl.JctFileManagerImpl;
+import io.github.ascopes.jct.filemanagers.impl.JctFileManagerTemplateConfigurer;
 import io.github.ascopes.jct.tests.helpers.Fixtures;
 import io.github.ascopes.jct.workspaces.Workspace;
+import io.github.ascopes.jct.workspaces.impl.IsolatedOutputsWorkspace;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -89,6 +94,153 @@ class JctFileManagerFactoryImplTest {
     }
   }
 
+  @DisplayName("Created file managers use the memory-mapped JAR setting")
+  @ValueSource(booleans = {true, false})
+  @ParameterizedTest(name = "for memoryMapJars = {0}")
+  void createdFileManagersUseTheMemoryMappedJarSetting(boolean memoryMapJars) {
+    // Given
+    when(compiler.isMemoryMapJars()).thenReturn(memoryMapJars);
+    var arguments = new ArrayList<List<?>>();
+
+    try (
+        var ignoredChainCls = configurerChainMock();
+        var ignoredManagerCls = mockConstruction(
+            JctFileManagerImpl.class,
+            withSettings().defaultAnswer(RETURNS_MOCKS),
+            (fileManager, ctx) -> arguments.add(ctx.arguments())
+        )
+    ) {
+      // When
+      factory.createFileManager(workspace);
+
+      // Then
+      assertThat(arguments)
+          .singleElement()
+          .satisfies(args -> assertThat(args.get(1))
+              .isInstanceOf(ContainerGroupOptions.class)
+              .extracting(ContainerGroupOptions.class::cast)
+              .extracting(ContainerGroupOptions::isMemoryMapJars)
+              .isEqualTo(memoryMapJars));
+    }
+  }
+
+  @DisplayName("Created file managers use the heap outputs setting")
+  @ValueSource(booleans = {true, false})
+  @ParameterizedTest(name = "for heapOutputs = {0}")
+  void createdFileManagersUseTheHeapOutputsSetting(boolean heapOutputs) {
+    // Given
+    when(compiler.isHeapOutputs()).thenReturn(heapOutputs);
+    var arguments = new ArrayList<List<?>>();
+
+    try (
+        var ignoredChainCls = configurerChainMock();
+        var ignoredManagerCls = mockConstruction(
+            JctFileManagerImpl.class,
+            withSettings().defaultAnswer(RETURNS_MOCKS),
+            (fileManager, ctx) -> arguments.add(ctx.arguments())
+        )
+    ) {
+      // When
+      factory.createFileManager(workspace);
+
+      // Then
+      assertThat(arguments)
+          .singleElement()
+          .satisfies(args -> assertThat(args.get(1))
+              .isInstanceOf(ContainerGroupOptions.class)
+              .extracting(ContainerGroupOptions.class::cast)
+              .extracting(ContainerGroupOptions::isHeapOutputs)
+              .isEqualTo(heapOutputs));
+    }
+  }
+
+  @DisplayName("Created file managers use the parallel listing threshold")
+  @ValueSource(ints = {0, 1, 8})
+  @ParameterizedTest(name = "for parallelListingThreshold = {0}")
+  void createdFileManagersUseTheParallelListingThreshold(int parallelListingThreshold) {
+    // Given
+    when(compiler.getParallelListingThreshold()).thenReturn(parallelListingThreshold);
+    var arguments = new ArrayList<List<?>>();
+
+    try (
+        var ignoredChainCls = configurerChainMock();
+        var ignoredManagerCls = mockConstruction(
+            JctFileManagerImpl.class,
+            withSettings().defaultAnswer(RETURNS_MOCKS),
+            (fileManager, ctx) -> arguments.add(ctx.arguments())
+        )
+    ) {
+      // When
+      factory.createFileManager(workspace);
+
+      // Then
+      assertThat(arguments)
+          .singleElement()
+          .satisfies(args -> assertThat(args.get(1))
+              .isInstanceOf(ContainerGroupOptions.class)
+              .extracting(ContainerGroupOptions.class::cast)
+              .extracting(ContainerGroupOptions::getParallelListingThreshold)
+              .isEqualTo(parallelListingThreshold));
+    }
+  }
+
+  @DisplayName("Created file managers have a new content cache when enabled")
+  @Test
+  void createdFileManagersHaveANewContentCacheWhenEnabled() {
+    // Given
+    when(compiler.getContentCacheSize()).thenReturn(1_024L);
+    var arguments = new ArrayList<List<?>>();
+
+    try (
+        var ignoredChainCls = configurerChainMock();
+        var ignoredManagerCls = mockConstruction(
+            JctFileManagerImpl.class,
+            withSettings().defaultAnswer(RETURNS_MOCKS),
+            (fileManager, ctx) -> arguments.add(ctx.arguments())
+        )
+    ) {
+      // When
+      factory.createFileManager(workspace);
+      factory.createFileManager(workspace);
+
+      // Then
+      assertThat(arguments)
+          .hasSize(2)
+          .extracting(args -> ((ContainerGroupOptions) args.get(1)).getContentCache())
+          .allSatisfy(cache -> assertThat(cache)
+              .isNotNull()
+              .extracting(FileContentCache::getMaxCharacters)
+              .isEqualTo(1_024L))
+          .doesNotHaveDuplicates();
+    }
+  }
+
+  @DisplayName("Created file managers have no content cache when disabled")
+  @Test
+  void createdFileManagersHaveNoContentCacheWhenDisabled() {
+    // Given
+    when(compiler.getContentCacheSize()).thenReturn(0L);
+    var arguments = new ArrayList<List<?>>();
+
+    try (
+        var ignoredChainCls = configurerChainMock();
+        var ignoredManagerCls = mockConstruction(
+            JctFileManagerImpl.class,
+            withSettings().defaultAnswer(RETURNS_MOCKS),
+            (fileManager, ctx) -> arguments.add(ctx.arguments())
+        )
+    ) {
+      // When
+      factory.createFileManager(workspace);
+
+      // Then
+      assertThat(arguments)
+          .singleElement()
+          .satisfies(args -> assertThat(((ContainerGroupOptions) args.get(1)).getContentCache())
+              .isNull());
+    }
+  }
+
   @DisplayName("Created file managers are transformed by the configurer chain")
   @Test
   void createdFileManagersAreTransformedByTheConfigurerChain() {
@@ -117,6 +269,26 @@ class JctFileManagerFactoryImplTest {
     }
   }
 
+  @DisplayName("Created file managers use an isolated view of the workspace for isolated outputs")
+  @Test
+  void createdFileManagersUseIsolatedViewOfWorkspaceForIsolatedOutputs() {
+    // Given
+    when(compiler.isIsolatedOutputs()).thenReturn(true);
+
+    try (
+        var ignoredChainCls = configurerChainMock();
+        var ignoredManagerCls = fileManagerMock()
+    ) {
+      // When
+      factory.createFileManager(workspace);
+
+      // Then
+      verify(factory).createConfigurerChain(argThat(view ->
+          view instanceof IsolatedOutputsWorkspace
+              && ((IsolatedOutputsWorkspace) view).getDelegate() == workspace));
+    }
+  }
+
   @DisplayName("The configurer chain uses the expected configurers")
   @Test
   void createdFileManagersAreReturnedAsTheResultFromTheConfigurerChain() {
@@ -129,13 +301,10 @@ class JctFileManagerFactoryImplTest {
         .map(Class.class::cast)
         .containsExactly(
             JctFileManagerWorkspaceConfigurer.class,
-            JctFileManagerJvmClassPathConfigurer.class,
-            JctFileManagerJvmClassPathModuleConfigurer.class,
-            JctFileManagerJvmModulePathConfigurer.class,
-            JctFileManagerJvmPlatformClassPathConfigurer.class,
-            JctFileManagerJvmSystemModulesConfigurer.class,
+            JctFileManagerTemplateConfigurer.class,
             JctFileManagerAnnotationProcessorClassPathConfigurer.class,
             JctFileManagerRequiredLocationsConfigurer.class,
+            JctFileManagerProfilingConfigurer.class,
             JctFileManagerLoggingProxyConfigurer.class
         );
   }
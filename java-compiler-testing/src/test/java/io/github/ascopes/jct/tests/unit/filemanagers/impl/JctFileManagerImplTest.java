@@ -38,6 +38,7 @@ import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -48,6 +49,8 @@ import io.github.ascopes.jct.containers.ModuleContainerGroup;
 import io.github.ascopes.jct.containers.OutputContainerGroup;
 import io.github.ascopes.jct.containers.PackageContainerGroup;
 import io.github.ascopes.jct.containers.impl.ContainerGroupRepositoryImpl;
+import io.github.ascopes.jct.filemanagers.ListingStatistics;
+import io.github.ascopes.jct.filemanagers.LookupCacheStatistics;
 import io.github.ascopes.jct.filemanagers.ModuleLocation;
 import io.github.ascopes.jct.filemanagers.PathFileObject;
 import io.github.ascopes.jct.filemanagers.impl.JctFileManagerImpl;
@@ -810,6 +813,23 @@ class JctFileManagerImplTest {
     }
   }
 
+  @DisplayName(".getListingStatistics() delegates to the repository")
+  @Test
+  void getListingStatisticsDelegatesToTheRepository() {
+    // Given
+    var statistics = new ListingStatistics(3, 2);
+    when(repository.getListingStatistics())
+        .thenReturn(statistics);
+
+    // When
+    var result = fileManager.getListingStatistics();
+
+    // Then
+    verify(repository).getListingStatistics();
+    verifyNoMoreInteractions(repository);
+    assertThat(result).isSameAs(statistics);
+  }
+
   @DisplayName(".getModuleContainerGroup(...) tests")
   @Nested
   class GetModuleContainerGroupTest {
@@ -1351,6 +1371,84 @@ class JctFileManagerImplTest {
       verify(containerGroup).listFileObjects(packageName, kinds, recurse);
       verifyNoMoreInteractions(containerGroup);
     }
+
+    @DisplayName(".list(...) memoizes listings of read-only input locations")
+    @Test
+    void listMemoizesListingsOfReadOnlyInputLocations() throws IOException {
+      // Given
+      var location = StandardLocation.CLASS_PATH;
+      var packageName = somePackageName();
+      var kinds = Set.of(Kind.CLASS);
+      PackageContainerGroup containerGroup = mock();
+      var files = Set.of(someJavaFileObject(), someJavaFileObject());
+
+      when(repository.getPackageOrientedContainerGroup(any()))
+          .thenReturn(containerGroup);
+      when(containerGroup.listFileObjects(any(), any(), anyBoolean()))
+          .thenReturn(files);
+
+      // When
+      var first = fileManager.list(location, packageName, kinds, false);
+      var second = fileManager.list(location, packageName, kinds, false);
+
+      // Then
+      assertThat(second)
+          .isSameAs(first)
+          .containsExactlyInAnyOrderElementsOf(files);
+      verify(containerGroup).listFileObjects(packageName, kinds, false);
+      verifyNoMoreInteractions(containerGroup);
+      assertThat(fileManager.getLookupCacheStatistics())
+          .isEqualTo(new LookupCacheStatistics(1, 1));
+    }
+
+    @DisplayName(".list(...) discards memoized listings when paths are added")
+    @Test
+    void listDiscardsMemoizedListingsWhenPathsAreAdded() throws IOException {
+      // Given
+      var location = StandardLocation.CLASS_PATH;
+      var packageName = somePackageName();
+      var kinds = Set.of(Kind.CLASS);
+      PackageContainerGroup containerGroup = mock();
+
+      when(repository.getPackageOrientedContainerGroup(any()))
+          .thenReturn(containerGroup);
+      when(containerGroup.listFileObjects(any(), any(), anyBoolean()))
+          .thenReturn(Set.of());
+
+      // When
+      fileManager.list(location, packageName, kinds, false);
+      fileManager.addPath(location, somePathRoot());
+      fileManager.list(location, packageName, kinds, false);
+
+      // Then
+      verify(containerGroup, times(2)).listFileObjects(packageName, kinds, false);
+      assertThat(fileManager.getLookupCacheStatistics())
+          .isEqualTo(new LookupCacheStatistics(0, 2));
+    }
+
+    @DisplayName(".list(...) never memoizes listings of output locations")
+    @Test
+    void listNeverMemoizesListingsOfOutputLocations() throws IOException {
+      // Given
+      var location = StandardLocation.CLASS_OUTPUT;
+      var packageName = somePackageName();
+      var kinds = Set.of(Kind.CLASS);
+      PackageContainerGroup containerGroup = mock();
+
+      when(repository.getPackageOrientedContainerGroup(any()))
+          .thenReturn(containerGroup);
+      when(containerGroup.listFileObjects(any(), any(), anyBoolean()))
+          .thenReturn(Set.of());
+
+      // When
+      fileManager.list(location, packageName, kinds, false);
+      fileManager.list(location, packageName, kinds, false);
+
+      // Then
+      verify(containerGroup, times(2)).listFileObjects(packageName, kinds, false);
+      assertThat(fileManager.getLookupCacheStatistics())
+          .isEqualTo(LookupCacheStatistics.empty());
+    }
   }
 
   @DisplayName(".listLocationsForModules(...) tests")
@@ -0,0 +1,287 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.filemanagers.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import io.github.ascopes.jct.filemanagers.LookupCacheStatistics;
+import io.github.ascopes.jct.filemanagers.ModuleLocation;
+import io.github.ascopes.jct.filemanagers.impl.JctFileManagerLookupCache;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager.Location;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.EnumSource.Mode;
+
+/**
+ * {@link JctFileManagerLookupCache} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("JctFileManagerLookupCache tests")
+class JctFileManagerLookupCacheTest {
+
+  JctFileManagerLookupCache cache;
+  AtomicInteger calls;
+
+  @BeforeEach
+  void setUp() {
+    cache = new JctFileManagerLookupCache();
+    calls = new AtomicInteger();
+  }
+
+  @DisplayName("Read-only input locations are cacheable")
+  @EnumSource(value = StandardLocation.class, names = {"CLASS_PATH", "PLATFORM_CLASS_PATH"})
+  @ParameterizedTest(name = "for location {0}")
+  void readOnlyInputLocationsAreCacheable(StandardLocation location) {
+    // Then
+    assertThat(JctFileManagerLookupCache.isCacheable(location)).isTrue();
+  }
+
+  @DisplayName("Modules in read-only module locations are cacheable")
+  @EnumSource(value = StandardLocation.class, names = {"MODULE_PATH", "SYSTEM_MODULES"})
+  @ParameterizedTest(name = "for location {0}")
+  void modulesInReadOnlyModuleLocationsAreCacheable(StandardLocation location) {
+    // Given
+    var moduleLocation = new ModuleLocation(location, "org.example");
+
+    // Then
+    assertThat(JctFileManagerLookupCache.isCacheable(moduleLocation)).isTrue();
+  }
+
+  @DisplayName("Other locations are not cacheable")
+  @EnumSource(
+      value = StandardLocation.class,
+      names = {"CLASS_PATH", "PLATFORM_CLASS_PATH", "MODULE_PATH", "SYSTEM_MODULES"},
+      mode = Mode.EXCLUDE
+  )
+  @ParameterizedTest(name = "for location {0}")
+  void otherLocationsAreNotCacheable(StandardLocation location) {
+    // Then
+    assertThat(JctFileManagerLookupCache.isCacheable(location)).isFalse();
+  }
+
+  @DisplayName("Modules in output locations are not cacheable")
+  @Test
+  void modulesInOutputLocationsAreNotCacheable() {
+    // Given
+    var moduleLocation = new ModuleLocation(StandardLocation.CLASS_OUTPUT, "org.example");
+
+    // Then
+    assertThat(JctFileManagerLookupCache.isCacheable(moduleLocation)).isFalse();
+  }
+
+  @DisplayName(".list(...) memoizes listings of cacheable locations")
+  @Test
+  void listMemoizesListingsOfCacheableLocations() throws IOException {
+    // Given
+    var fileObject = mock(JavaFileObject.class);
+
+    // When
+    var first = list(StandardLocation.CLASS_PATH, "org.example", fileObject);
+    var second = list(StandardLocation.CLASS_PATH, "org.example", fileObject);
+
+    // Then
+    assertThat(first).containsExactly(fileObject);
+    assertThat(second).isSameAs(first);
+    assertThat(calls).hasValue(1);
+    assertThat(cache.getStatistics()).isEqualTo(new LookupCacheStatistics(1, 1));
+  }
+
+  @DisplayName(".list(...) returns unmodifiable cached listings")
+  @Test
+  void listReturnsUnmodifiableCachedListings() throws IOException {
+    // When
+    var result = list(StandardLocation.CLASS_PATH, "org.example", mock(JavaFileObject.class));
+
+    // Then
+    assertThatThrownBy(result::clear)
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @DisplayName(".list(...) returns unmodifiable listings of other locations")
+  @Test
+  void listReturnsUnmodifiableListingsOfOtherLocations() throws IOException {
+    // When
+    var result = list(StandardLocation.SOURCE_PATH, "org.example", mock(JavaFileObject.class));
+
+    // Then
+    assertThat(result).hasSize(1);
+    assertThatThrownBy(result::clear)
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @DisplayName(".list(...) keys listings by package")
+  @Test
+  void listKeysListingsByPackage() throws IOException {
+    // When
+    list(StandardLocation.CLASS_PATH, "org.example.foo");
+    list(StandardLocation.CLASS_PATH, "org.example.bar");
+
+    // Then
+    assertThat(calls).hasValue(2);
+    assertThat(cache.getStatistics()).isEqualTo(new LookupCacheStatistics(0, 2));
+  }
+
+  @DisplayName(".list(...) never memoizes listings of other locations")
+  @Test
+  void listNeverMemoizesListingsOfOtherLocations() throws IOException {
+    // When
+    list(StandardLocation.SOURCE_PATH, "org.example");
+    list(StandardLocation.SOURCE_PATH, "org.example");
+
+    // Then
+    assertThat(calls).hasValue(2);
+    assertThat(cache.getStatistics()).isEqualTo(LookupCacheStatistics.empty());
+  }
+
+  @DisplayName(".list(...) does not memoize failures")
+  @Test
+  void listDoesNotMemoizeFailures() throws IOException {
+    // Given
+    var exception = new IOException("something went wrong");
+
+    // When
+    assertThatThrownBy(() -> cache.list(
+        StandardLocation.CLASS_PATH,
+        "org.example",
+        Set.of(Kind.CLASS),
+        false,
+        () -> {
+          throw exception;
+        }
+    )).isSameAs(exception);
+    list(StandardLocation.CLASS_PATH, "org.example");
+
+    // Then
+    assertThat(calls).hasValue(1);
+    assertThat(cache.getStatistics()).isEqualTo(new LookupCacheStatistics(0, 2));
+  }
+
+  @DisplayName(".getJavaFileForInput(...) memoizes missing files")
+  @Test
+  void getJavaFileForInputMemoizesMissingFiles() {
+    // When
+    var first = getJavaFileForInput(StandardLocation.CLASS_PATH, null);
+    var second = getJavaFileForInput(StandardLocation.CLASS_PATH, null);
+
+    // Then
+    assertThat(first).isNull();
+    assertThat(second).isNull();
+    assertThat(calls).hasValue(1);
+    assertThat(cache.getStatistics()).isEqualTo(new LookupCacheStatistics(1, 1));
+  }
+
+  @DisplayName(".getJavaFileForInput(...) memoizes found files")
+  @Test
+  void getJavaFileForInputMemoizesFoundFiles() {
+    // Given
+    var fileObject = mock(JavaFileObject.class);
+
+    // When
+    getJavaFileForInput(StandardLocation.PLATFORM_CLASS_PATH, fileObject);
+    var result = getJavaFileForInput(StandardLocation.PLATFORM_CLASS_PATH, fileObject);
+
+    // Then
+    assertThat(result).isSameAs(fileObject);
+    assertThat(calls).hasValue(1);
+  }
+
+  @DisplayName(".getJavaFileForInput(...) never memoizes output locations")
+  @Test
+  void getJavaFileForInputNeverMemoizesOutputLocations() {
+    // When
+    getJavaFileForInput(StandardLocation.CLASS_OUTPUT, null);
+    getJavaFileForInput(StandardLocation.CLASS_OUTPUT, mock(JavaFileObject.class));
+
+    // Then
+    assertThat(calls).hasValue(2);
+    assertThat(cache.getStatistics()).isEqualTo(LookupCacheStatistics.empty());
+  }
+
+  @DisplayName(".getFileForInput(...) memoizes files")
+  @Test
+  void getFileForInputMemoizesFiles() {
+    // Given
+    var location = new ModuleLocation(StandardLocation.MODULE_PATH, "org.example");
+    var fileObject = mock(FileObject.class);
+
+    // When
+    getFileForInput(location, fileObject);
+    var result = getFileForInput(location, fileObject);
+
+    // Then
+    assertThat(result).isSameAs(fileObject);
+    assertThat(calls).hasValue(1);
+    assertThat(cache.getStatistics()).isEqualTo(new LookupCacheStatistics(1, 1));
+  }
+
+  @DisplayName(".invalidate() discards memoized results but keeps statistics")
+  @Test
+  void invalidateDiscardsMemoizedResultsButKeepsStatistics() throws IOException {
+    // Given
+    list(StandardLocation.CLASS_PATH, "org.example");
+    getJavaFileForInput(StandardLocation.CLASS_PATH, null);
+    getFileForInput(StandardLocation.CLASS_PATH, null);
+
+    // When
+    cache.invalidate();
+    list(StandardLocation.CLASS_PATH, "org.example");
+    getJavaFileForInput(StandardLocation.CLASS_PATH, null);
+    getFileForInput(StandardLocation.CLASS_PATH, null);
+
+    // Then
+    assertThat(calls).hasValue(6);
+    assertThat(cache.getStatistics()).isEqualTo(new LookupCacheStatistics(0, 6));
+  }
+
+  Set<JavaFileObject> list(
+      Location location,
+      String packageName,
+      JavaFileObject... fileObjects
+  ) throws IOException {
+    return cache.list(location, packageName, Set.of(Kind.CLASS), false, () -> {
+      calls.incrementAndGet();
+      return new HashSet<>(Set.of(fileObjects));
+    });
+  }
+
+  JavaFileObject getJavaFileForInput(Location location, JavaFileObject fileObject) {
+    return cache.getJavaFileForInput(location, "org.example.Foo", Kind.CLASS, () -> {
+      calls.incrementAndGet();
+      return fileObject;
+    });
+  }
+
+  FileObject getFileForInput(Location location, FileObject fileObject) {
+    return cache.getFileForInput(location, "org.example", "foo.txt", () -> {
+      calls.incrementAndGet();
+      return fileObject;
+    });
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.filemanagers.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.github.ascopes.jct.compilers.JctCompiler;
+import io.github.ascopes.jct.filemanagers.JctFileManager;
+import io.github.ascopes.jct.filemanagers.impl.JctFileManagerTemplate;
+import io.github.ascopes.jct.filemanagers.impl.JctFileManagerTemplateConfigurer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * {@link JctFileManagerTemplateConfigurer} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("JctFileManagerTemplateConfigurer tests")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JctFileManagerTemplateConfigurerTest {
+
+  @Mock
+  JctCompiler<?, ?> compiler;
+
+  @Mock
+  JctFileManager fileManager;
+
+  @Mock
+  MockedStatic<JctFileManagerTemplate> templateStatic;
+
+  @InjectMocks
+  JctFileManagerTemplateConfigurer configurer;
+
+  @DisplayName(".configure(...) applies the template for the compiler")
+  @Test
+  void configureAppliesTheTemplateForTheCompiler() {
+    // Given
+    var template = mock(JctFileManagerTemplate.class);
+    var expectedFileManager = mock(JctFileManager.class);
+    templateStatic.when(() -> JctFileManagerTemplate.forCompiler(compiler))
+        .thenReturn(template);
+    when(template.applyTo(fileManager)).thenReturn(expectedFileManager);
+
+    // When
+    var result = configurer.configure(fileManager);
+
+    // Then
+    assertThat(result).isSameAs(expectedFileManager);
+  }
+
+  @DisplayName(".isEnabled() returns true if any location is inherited")
+  @CsvSource({
+      "false, false, false, false, false",
+      " true, false, false, false,  true",
+      "false,  true, false, false,  true",
+      "false, false,  true, false,  true",
+      "false, false, false,  true,  true",
+      " true,  true,  true,  true,  true",
+  })
+  @ParameterizedTest(name = "classPath = {0}, modulePath = {1}, platformClassPath = {2}, "
+      + "systemModulePath = {3}, expect enabled = {4}")
+  void isEnabledReturnsTrueIfAnyLocationIsInherited(
+      boolean inheritClassPath,
+      boolean inheritModulePath,
+      boolean inheritPlatformClassPath,
+      boolean inheritSystemModulePath,
+      boolean expected
+  ) {
+    // Given
+    when(compiler.isInheritClassPath()).thenReturn(inheritClassPath);
+    when(compiler.isInheritModulePath()).thenReturn(inheritModulePath);
+    when(compiler.isInheritPlatformClassPath()).thenReturn(inheritPlatformClassPath);
+    when(compiler.isInheritSystemModulePath()).thenReturn(inheritSystemModulePath);
+
+    // Then
+    assertThat(configurer.isEnabled()).isEqualTo(expected);
+  }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.filemanagers.impl;
+
+import static io.github.ascopes.jct.tests.helpers.Fixtures.somePathRoot;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.github.ascopes.jct.compilers.JctCompiler;
+import io.github.ascopes.jct.containers.impl.SharedPackageContainerGroup;
+import io.github.ascopes.jct.filemanagers.JctFileManager;
+import io.github.ascopes.jct.filemanagers.config.JctFileManagerConfigurerChain;
+import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmClassPathConfigurer;
+import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmClassPathModuleConfigurer;
+import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmModulePathConfigurer;
+import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmPlatformClassPathConfigurer;
+import io.github.ascopes.jct.filemanagers.config.JctFileManagerJvmSystemModulesConfigurer;
+import io.github.ascopes.jct.filemanagers.impl.JctFileManagerImpl;
+import io.github.ascopes.jct.filemanagers.impl.JctFileManagerTemplate;
+import io.github.ascopes.jct.utils.SpecialLocationUtils;
+import io.github.ascopes.jct.workspaces.PathRoot;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Map.Entry;
+import javax.tools.JavaFileManager.Location;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * {@link JctFileManagerTemplate} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("JctFileManagerTemplate tests")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JctFileManagerTemplateTest {
+
+  static final String RELEASE = String.valueOf(Runtime.version().feature());
+
+  @Mock
+  JctCompiler<?, ?> compiler;
+
+  @BeforeEach
+  void setUp() {
+    JctFileManagerTemplate.clearCache();
+    when(compiler.isInheritClassPath()).thenReturn(true);
+    when(compiler.isFixJvmModulePathMismatch()).thenReturn(true);
+    when(compiler.isInheritModulePath()).thenReturn(true);
+    when(compiler.isInheritPlatformClassPath()).thenReturn(true);
+    when(compiler.isInheritSystemModulePath()).thenReturn(true);
+    when(compiler.getEffectiveRelease()).thenReturn(RELEASE);
+  }
+
+  @AfterEach
+  void tearDown() {
+    JctFileManagerTemplate.clearCache();
+  }
+
+  @DisplayName("The template records the same paths as the inherited location configurers")
+  @Test
+  void theTemplateRecordsTheSamePathsAsTheInheritedLocationConfigurers() {
+    // Given
+    var expected = new ArrayList<Entry<Location, PathRoot>>();
+    var fileManager = mock(JctFileManager.class);
+    doAnswer(invocation -> expected.add(Map.entry(invocation.getArgument(0),
+        invocation.getArgument(1))))
+        .when(fileManager).addPath(any(), any());
+
+    new JctFileManagerConfigurerChain()
+        .addLast(new JctFileManagerJvmClassPathConfigurer(compiler))
+        .addLast(new JctFileManagerJvmClassPathModuleConfigurer(compiler))
+        .addLast(new JctFileManagerJvmModulePathConfigurer(compiler))
+        .addLast(new JctFileManagerJvmPlatformClassPathConfigurer(compiler))
+        .addLast(new JctFileManagerJvmSystemModulesConfigurer(compiler))
+        .configure(fileManager);
+
+    // When
+    var template = JctFileManagerTemplate.forCompiler(compiler);
+
+    // Then
+    assertThat(template.getEntries())
+        .isNotEmpty()
+        .containsExactlyElementsOf(expected);
+  }
+
+  @DisplayName("The template records nothing if nothing is inherited")
+  @Test
+  void theTemplateRecordsNothingIfNothingIsInherited() {
+    // Given
+    when(compiler.isInheritClassPath()).thenReturn(false);
+    when(compiler.isInheritModulePath()).thenReturn(false);
+    when(compiler.isInheritPlatformClassPath()).thenReturn(false);
+    when(compiler.isInheritSystemModulePath()).thenReturn(false);
+
+    // When
+    var template = JctFileManagerTemplate.forCompiler(compiler);
+
+    // Then
+    assertThat(template.getEntries()).isEmpty();
+  }
+
+  @DisplayName(".forCompiler(...) reuses the template for the same configuration")
+  @Test
+  void forCompilerReusesTheTemplateForTheSameConfiguration() {
+    // When
+    var first = JctFileManagerTemplate.forCompiler(compiler);
+    var second = JctFileManagerTemplate.forCompiler(compiler);
+
+    // Then
+    assertThat(second).isSameAs(first);
+  }
+
+  @DisplayName(".forCompiler(...) builds a new template for a different configuration")
+  @Test
+  void forCompilerBuildsNewTemplateForDifferentConfiguration() {
+    // Given
+    var first = JctFileManagerTemplate.forCompiler(compiler);
+
+    // When
+    when(compiler.isInheritSystemModulePath()).thenReturn(false);
+    var second = JctFileManagerTemplate.forCompiler(compiler);
+
+    // Then
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getEntries())
+        .map(Entry::getKey)
+        .doesNotContain(StandardLocation.SYSTEM_MODULES);
+  }
+
+  @DisplayName(".forCompiler(...) reuses the template if rebuilt JVM snapshots are equal")
+  @Test
+  void forCompilerReusesTheTemplateIfRebuiltJvmSnapshotsAreEqual() {
+    // Given
+    var first = JctFileManagerTemplate.forCompiler(compiler);
+
+    // When
+    SpecialLocationUtils.invalidateSnapshots();
+    var second = JctFileManagerTemplate.forCompiler(compiler);
+
+    // Then
+    assertThat(second).isSameAs(first);
+  }
+
+  @DisplayName(".forCompiler(...) builds a new template for a different release")
+  @Test
+  void forCompilerBuildsNewTemplateForDifferentRelease() {
+    // Given
+    var first = JctFileManagerTemplate.forCompiler(compiler);
+
+    // When
+    when(compiler.getEffectiveRelease()).thenReturn("11");
+    var second = JctFileManagerTemplate.forCompiler(compiler);
+
+    // Then
+    assertThat(second).isNotSameAs(first);
+  }
+
+  @DisplayName(".applyTo(...) shares the inherited containers between file managers")
+  @Test
+  void applyToSharesTheInheritedContainersBetweenFileManagers() {
+    // Given
+    var template = JctFileManagerTemplate.forCompiler(compiler);
+    var first = new JctFileManagerImpl(RELEASE);
+    var second = new JctFileManagerImpl(RELEASE);
+
+    // When
+    template.applyTo(first);
+    template.applyTo(second);
+
+    // Then
+    assertThat(first.getPackageContainerGroups()).isNotEmpty();
+
+    for (var group : first.getPackageContainerGroups()) {
+      var otherGroup = second.getPackageContainerGroup(group.getLocation());
+      assertThat(group)
+          .isInstanceOf(SharedPackageContainerGroup.class)
+          .isNotSameAs(otherGroup);
+      assertThat(group.getPackages())
+          .zipSatisfy(otherGroup.getPackages(), (a, b) -> assertThat(a).isSameAs(b));
+    }
+  }
+
+  @DisplayName(".applyTo(...) overlays the inherited containers on workspace locations")
+  @Test
+  void applyToOverlaysTheInheritedContainersOnWorkspaceLocations() {
+    // Given
+    var template = JctFileManagerTemplate.forCompiler(compiler);
+    var pathRoot = somePathRoot();
+    var overlaid = new JctFileManagerImpl(RELEASE);
+    overlaid.addPath(StandardLocation.CLASS_PATH, pathRoot);
+    var plain = new JctFileManagerImpl(RELEASE);
+
+    // When
+    template.applyTo(overlaid);
+    template.applyTo(plain);
+
+    // Then
+    var overlaidPackages = overlaid.getPackageContainerGroup(StandardLocation.CLASS_PATH)
+        .getPackages();
+    var inheritedPackages = plain.getPackageContainerGroup(StandardLocation.CLASS_PATH)
+        .getPackages();
+    assertThat(overlaidPackages.get(0).getPathRoot()).isSameAs(pathRoot);
+    assertThat(overlaidPackages.subList(1, overlaidPackages.size()))
+        .zipSatisfy(inheritedPackages, (a, b) -> assertThat(a).isSameAs(b));
+  }
+
+  @DisplayName(".applyTo(...) replays the paths onto other file managers in order")
+  @Test
+  void applyToReplaysThePathsOntoOtherFileManagersInOrder() {
+    // Given
+    var template = JctFileManagerTemplate.forCompiler(compiler);
+    var fileManager = mock(JctFileManager.class);
+
+    // When
+    var result = template.applyTo(fileManager);
+
+    // Then
+    assertThat(result).isSameAs(fileManager);
+    var order = inOrder(fileManager);
+    template.getEntries()
+        .forEach(entry -> order.verify(fileManager).addPath(entry.getKey(), entry.getValue()));
+    order.verifyNoMoreInteractions();
+  }
+}
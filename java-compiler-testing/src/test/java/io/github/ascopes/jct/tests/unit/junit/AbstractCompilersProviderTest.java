@@ -21,10 +21,14 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.assertj.core.api.InstanceOfAssertFactories.THROWABLE;
 import static org.assertj.core.api.InstanceOfAssertFactories.array;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
 import io.github.ascopes.jct.compilers.JctCompiler;
@@ -33,13 +37,16 @@ import io.github.ascopes.jct.ex.JctJunitConfigurerException;
 import io.github.ascopes.jct.junit.AbstractCompilersProvider;
 import io.github.ascopes.jct.junit.VersionStrategy;
 import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.opentest4j.TestAbortedException;
 
 /**
@@ -94,6 +101,54 @@ class AbstractCompilersProviderTest {
         .hasMessage("versionStrategy");
   }
 
+  @DisplayName("Configuring the provider with a negative parallelism will raise an exception")
+  @Test
+  void configuringTheProviderWithNegativeParallelismWillRaiseException() {
+    // Given
+    var provider = new CompilersProviderImpl(8, 17);
+
+    // Then
+    assertThatThrownBy(() -> provider.configureWithParallelism(10, 15, -1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot set parallelism to a negative value");
+  }
+
+  @DisplayName("Providing arguments without a parallelism does not register a limit")
+  @Test
+  void providingArgumentsWithoutParallelismDoesNotRegisterLimit() {
+    // Given
+    var provider = new CompilersProviderImpl(8, 17);
+    var context = mock(ExtensionContext.class);
+    provider.configureWithParallelism(10, 15, 0);
+
+    // When
+    var compilers = provider.provideArguments(context).collect(Collectors.toList());
+
+    // Then
+    assertThat(compilers).hasSize(6);
+    verifyNoInteractions(context);
+  }
+
+  @DisplayName("Providing arguments with a parallelism registers a limit on the test template")
+  @Test
+  void providingArgumentsWithParallelismRegistersLimit() {
+    // Given
+    var provider = new CompilersProviderImpl(8, 17);
+    var context = mock(ExtensionContext.class);
+    var store = mock(Store.class);
+    when(context.getStore(any())).thenReturn(store);
+    provider.configureWithParallelism(10, 15, 3);
+
+    // When
+    var compilers = provider.provideArguments(context).collect(Collectors.toList());
+
+    // Then
+    assertThat(compilers).hasSize(6);
+    var captor = ArgumentCaptor.forClass(Semaphore.class);
+    verify(store).put(eq("permits"), captor.capture());
+    assertThat(captor.getValue().availablePermits()).isEqualTo(3);
+  }
+
   @DisplayName("Configuring the provider with a version strategy uses that strategy")
   @Test
   void configuringTheProviderWithVersionStrategyUsesThatStrategy() {
@@ -377,6 +432,15 @@ class AbstractCompilersProviderTest {
       configure(min, max, false, configurerClasses, versionStrategy);
     }
 
+    final void configureWithParallelism(int min, int max, int parallelism) {
+      configure(min, max, false, emptyConfigurers(), VersionStrategy.RELEASE, parallelism);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends JctCompilerConfigurer<?>>[] emptyConfigurers() {
+      return (Class<? extends JctCompilerConfigurer<?>>[]) new Class<?>[0];
+    }
+
     @Override
     protected JctCompiler<?, ?> initializeNewCompiler() {
       return mockRaw(JctCompiler.class)
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.junit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.ascopes.jct.junit.CompilerInvocationLimiter;
+import java.lang.reflect.Method;
+import java.util.concurrent.Semaphore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
+import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+/**
+ * {@link CompilerInvocationLimiter} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("CompilerInvocationLimiter tests")
+@SuppressWarnings("unchecked")
+class CompilerInvocationLimiterTest {
+
+  @DisplayName("Invocations proceed directly when no limit is registered")
+  @Test
+  void invocationsProceedDirectlyWhenNoLimitIsRegistered() throws Throwable {
+    // Given
+    var store = mock(Store.class);
+    var context = someExtensionContext(store);
+    var invocation = (Invocation<Void>) mock(Invocation.class);
+    var limiter = new CompilerInvocationLimiter();
+
+    // When
+    limiter.interceptTestTemplateMethod(invocation, someInvocationContext(), context);
+
+    // Then
+    verify(invocation).proceed();
+  }
+
+  @DisplayName("Invocations hold a permit while they run")
+  @Test
+  void invocationsHoldPermitWhileTheyRun() throws Throwable {
+    // Given
+    var permits = new Semaphore(2);
+    var store = mock(Store.class);
+    when(store.get("permits", Semaphore.class)).thenReturn(permits);
+    var context = someExtensionContext(store);
+    var invocation = (Invocation<Void>) mock(Invocation.class);
+    when(invocation.proceed()).thenAnswer(ctx -> {
+      assertThat(permits.availablePermits()).isEqualTo(1);
+      return null;
+    });
+    var limiter = new CompilerInvocationLimiter();
+
+    // When
+    limiter.interceptTestTemplateMethod(invocation, someInvocationContext(), context);
+
+    // Then
+    verify(invocation).proceed();
+    assertThat(permits.availablePermits()).isEqualTo(2);
+  }
+
+  @DisplayName("Permits are released when the invocation fails")
+  @Test
+  void permitsAreReleasedWhenInvocationFails() throws Throwable {
+    // Given
+    var permits = new Semaphore(1);
+    var store = mock(Store.class);
+    when(store.get("permits", Semaphore.class)).thenReturn(permits);
+    var context = someExtensionContext(store);
+    var invocation = (Invocation<Void>) mock(Invocation.class);
+    var ex = new AssertionError("bang");
+    when(invocation.proceed()).thenThrow(ex);
+    var limiter = new CompilerInvocationLimiter();
+
+    // Then
+    assertThatThrownBy(() -> limiter
+        .interceptTestTemplateMethod(invocation, someInvocationContext(), context))
+        .isSameAs(ex);
+    assertThat(permits.availablePermits()).isEqualTo(1);
+  }
+
+  static ExtensionContext someExtensionContext(Store store) {
+    var context = mock(ExtensionContext.class);
+    when(context.getStore(any())).thenReturn(store);
+    return context;
+  }
+
+  static ReflectiveInvocationContext<Method> someInvocationContext() {
+    return (ReflectiveInvocationContext<Method>) mock(ReflectiveInvocationContext.class);
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import io.github.ascopes.jct.utils.ClassPathIndexStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link ClassPathIndexStore} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("ClassPathIndexStore tests")
+class ClassPathIndexStoreTest {
+
+  @TempDir
+  Path tempDir;
+
+  Path archive;
+  ClassPathIndexStore store;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    archive = Files.writeString(tempDir.resolve("foo.jar"), "foo");
+    store = new ClassPathIndexStore(tempDir.resolve("index"));
+  }
+
+  @DisplayName(".read(...) returns the entries that were written")
+  @Test
+  void readReturnsTheEntriesThatWereWritten() {
+    // Given
+    var entries = Map.of("org.example", "org/example", "", "", "ünïcödé", "ünïcödé");
+
+    // When
+    store.write(archive, "packages", entries);
+    var result = store.read(archive, "packages");
+
+    // Then
+    assertThat(result).isEqualTo(entries);
+  }
+
+  @DisplayName(".read(...) returns null if nothing was written")
+  @Test
+  void readReturnsNullIfNothingWasWritten() {
+    // Then
+    assertThat(store.read(archive, "packages")).isNull();
+  }
+
+  @DisplayName(".read(...) keeps different kinds of index separate")
+  @Test
+  void readKeepsDifferentKindsOfIndexSeparate() {
+    // When
+    store.write(archive, "packages", Map.of("foo", "bar"));
+    store.write(archive, "modules", Map.of("baz", "bork"));
+
+    // Then
+    assertThat(store.read(archive, "packages")).containsOnly(Map.entry("foo", "bar"));
+    assertThat(store.read(archive, "modules")).containsOnly(Map.entry("baz", "bork"));
+  }
+
+  @DisplayName(".read(...) returns null if the archive has changed")
+  @Test
+  void readReturnsNullIfTheArchiveHasChanged() throws IOException {
+    // Given
+    store.write(archive, "packages", Map.of("foo", "bar"));
+
+    // When
+    Files.setLastModifiedTime(archive, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+    // Then
+    assertThat(store.read(archive, "packages")).isNull();
+  }
+
+  @DisplayName(".read(...) returns the latest index after rewriting a stale index")
+  @Test
+  void readReturnsTheLatestIndexAfterRewritingStaleIndex() throws IOException {
+    // Given
+    store.write(archive, "packages", Map.of("foo", "bar"));
+    Files.writeString(archive, "foo bar baz");
+
+    // When
+    store.write(archive, "packages", Map.of("baz", "bork"));
+
+    // Then
+    assertThat(store.read(archive, "packages")).containsOnly(Map.entry("baz", "bork"));
+  }
+
+  @DisplayName(".read(...) returns null if the index file is corrupt")
+  @Test
+  void readReturnsNullIfTheIndexFileIsCorrupt() throws IOException {
+    // Given
+    store.write(archive, "packages", Map.of("foo", "bar"));
+
+    try (var files = Files.list(store.getDirectory())) {
+      for (var file : (Iterable<Path>) files::iterator) {
+        Files.write(file, new byte[]{1, 2, 3});
+      }
+    }
+
+    // Then
+    assertThat(store.read(archive, "packages")).isNull();
+  }
+
+  @DisplayName(".write(...) does not leave temporary files behind")
+  @Test
+  void writeDoesNotLeaveTemporaryFilesBehind() throws IOException {
+    // When
+    store.write(archive, "packages", Map.of("foo", "bar"));
+    store.write(archive, "packages", Map.of("foo", "baz"));
+
+    // Then
+    try (var files = Files.list(store.getDirectory())) {
+      assertThat(files)
+          .singleElement()
+          .satisfies(file -> assertThat(file.toString()).endsWith(".idx"));
+    }
+  }
+
+  @DisplayName("Archives outside the default file system are not stored")
+  @Test
+  void archivesOutsideTheDefaultFileSystemAreNotStored() throws IOException {
+    // Given
+    try (var fileSystem = Jimfs.newFileSystem(Configuration.unix())) {
+      var ramArchive = Files.writeString(fileSystem.getPath("/foo.jar"), "foo");
+
+      // When
+      store.write(ramArchive, "packages", Map.of("foo", "bar"));
+
+      // Then
+      assertThat(store.getDirectory()).doesNotExist();
+      assertThat(store.read(ramArchive, "packages")).isNull();
+    }
+  }
+
+  @DisplayName(".getConfiguredInstance() returns null if no directory is configured")
+  @Test
+  void getConfiguredInstanceReturnsNullIfNoDirectoryIsConfigured() {
+    // Given
+    var previous = System.clearProperty(ClassPathIndexStore.DIRECTORY_PROPERTY);
+
+    try {
+      // Then
+      assertThat(ClassPathIndexStore.getConfiguredInstance()).isNull();
+    } finally {
+      restoreProperty(previous);
+    }
+  }
+
+  @DisplayName(".getConfiguredInstance() returns a shared store for the configured directory")
+  @Test
+  void getConfiguredInstanceReturnsSharedStoreForTheConfiguredDirectory() {
+    // Given
+    var previous = System.setProperty(
+        ClassPathIndexStore.DIRECTORY_PROPERTY,
+        tempDir.toString()
+    );
+
+    try {
+      // When
+      var first = ClassPathIndexStore.getConfiguredInstance();
+      var second = ClassPathIndexStore.getConfiguredInstance();
+
+      // Then
+      assertThat(first).isNotNull().isSameAs(second);
+      assertThat(first.getDirectory()).isEqualTo(tempDir.toAbsolutePath().normalize());
+    } finally {
+      restoreProperty(previous);
+    }
+  }
+
+  static void restoreProperty(String previous) {
+    if (previous == null) {
+      System.clearProperty(ClassPathIndexStore.DIRECTORY_PROPERTY);
+    } else {
+      System.setProperty(ClassPathIndexStore.DIRECTORY_PROPERTY, previous);
+    }
+  }
+}
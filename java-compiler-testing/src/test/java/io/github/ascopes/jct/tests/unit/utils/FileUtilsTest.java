@@ -20,6 +20,8 @@ import static io.github.ascopes.jct.utils.FileUtils.assertValidRootName;
 import static io.github.ascopes.jct.utils.FileUtils.binaryNameToPackageName;
 import static io.github.ascopes.jct.utils.FileUtils.binaryNameToPath;
 import static io.github.ascopes.jct.utils.FileUtils.binaryNameToSimpleClassName;
+import static io.github.ascopes.jct.utils.FileUtils.fileAttributesWithAnyKind;
+import static io.github.ascopes.jct.utils.FileUtils.fileNameToKind;
 import static io.github.ascopes.jct.utils.FileUtils.fileWithAnyKind;
 import static io.github.ascopes.jct.utils.FileUtils.packageNameToPath;
 import static io.github.ascopes.jct.utils.FileUtils.pathToBinaryName;
@@ -45,6 +47,7 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Set;
 import java.util.stream.Stream;
 import javax.tools.JavaFileObject.Kind;
@@ -450,6 +453,25 @@ class FileUtilsTest implements UtilityClassTestTemplate {
     }
   }
 
+  @DisplayName("fileNameToKind returns the expected output")
+  @CsvSource({
+      "bork.java, SOURCE",
+      "bork.class, CLASS",
+      "bork.html, HTML",
+      "bork.JAVA, OTHER",
+      "bork.scala, OTHER",
+      "bork, OTHER",
+      "'', OTHER",
+  })
+  @ParameterizedTest(name = "fileNameToKind(\"{0}\") should return Kind.{1}")
+  void fileNameToKindReturnsTheExpectedOutput(String fileName, Kind expectedKind) {
+    // When
+    var actualKind = fileNameToKind(fileName);
+
+    // Then
+    assertThat(actualKind).isSameAs(expectedKind);
+  }
+
   @DisplayName("fileWithAnyKind should fail if the path does not exist")
   @CsvSource({
       "SOURCE, /foo/bar.java",
@@ -526,6 +548,48 @@ class FileUtilsTest implements UtilityClassTestTemplate {
     }
   }
 
+  @DisplayName("fileAttributesWithAnyKind should produce a predicate with the expected behaviour")
+  @MethodSource("fileWithAnyKindExistingFileTestCases")
+  @ParameterizedTest(
+      name = "fileAttributesWithAnyKind({0}) predicate should return {2} for existing path \"{1}\""
+  )
+  void fileAttributesWithAnyKindShouldProducePredicateWithTheExpectedBehaviour(
+      Set<? extends Kind> kinds,
+      String pathName,
+      boolean isMatch
+  ) throws IOException {
+    try (var fs = someTemporaryFileSystem()) {
+      // Given
+      var path = fs.getFileSystem().getPath(pathName);
+      makeParentDirs(path);
+      Files.createFile(path);
+      var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+
+      // When
+      var result = fileAttributesWithAnyKind(kinds).test(path, attributes);
+
+      // Then
+      assertThat(result).isEqualTo(isMatch);
+    }
+  }
+
+  @DisplayName("fileAttributesWithAnyKind should reject directories")
+  @Test
+  void fileAttributesWithAnyKindShouldRejectDirectories() throws IOException {
+    try (var fs = someTemporaryFileSystem()) {
+      // Given
+      var path = fs.getFileSystem().getPath("foo.java");
+      Files.createDirectories(path);
+      var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+
+      // When
+      var result = fileAttributesWithAnyKind(Set.of(Kind.SOURCE)).test(path, attributes);
+
+      // Then
+      assertThat(result).isFalse();
+    }
+  }
+
   static Stream<Arguments> relativePathTestCases() {
     return Stream.of(
         arguments(
@@ -81,6 +81,34 @@ class LoomPolyfillTest implements UtilityClassTestTemplate {
     verifyNoMoreInteractions(thread);
   }
 
+  @DisplayName(".newVirtualThreadPerTaskExecutor() on JRE <= 20 returns null")
+  @EnabledForJreRange(max = JRE.JAVA_20)
+  @Test
+  void newVirtualThreadPerTaskExecutorOnJre20AndOlderReturnsNull() {
+    // Then
+    assertThat(LoomPolyfill.newVirtualThreadPerTaskExecutor()).isNull();
+  }
+
+  @DisplayName(".newVirtualThreadPerTaskExecutor() on JRE >= 21 runs tasks on virtual threads")
+  @EnabledForJreRange(min = JRE.JAVA_21)
+  @Test
+  void newVirtualThreadPerTaskExecutorOnJre21AndNewerRunsTasksOnVirtualThreads()
+      throws Throwable {
+    // Given
+    var isVirtualMethod = Thread.class.getDeclaredMethod("isVirtual");
+    var executor = LoomPolyfill.newVirtualThreadPerTaskExecutor();
+
+    try {
+      // When
+      var thread = executor.submit(Thread::currentThread).get();
+
+      // Then
+      assertThat((boolean) isVirtualMethod.invoke(thread)).isTrue();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   @DisplayName(".getCurrentThread() returns the current thread")
   @Test
   void getCurrentThreadReturnsTheCurrentThread() {
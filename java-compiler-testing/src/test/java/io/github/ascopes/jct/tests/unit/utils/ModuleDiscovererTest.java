@@ -20,21 +20,27 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
 import io.github.ascopes.jct.utils.ModuleDiscoverer;
+import java.io.IOException;
 import java.lang.module.FindException;
 import java.lang.module.ModuleDescriptor;
 import java.lang.module.ModuleFinder;
 import java.lang.module.ModuleReference;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Optional;
 import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -57,12 +63,21 @@ class ModuleDiscovererTest {
   @Mock
   ModuleFinder moduleFinder;
 
+  @TempDir
+  Path tempDir;
+
   @BeforeEach
   void setUp() {
+    ModuleDiscoverer.clearCache();
     moduleFinderStatic.when(() -> ModuleFinder.of(any()))
         .thenReturn(moduleFinder);
   }
 
+  @AfterEach
+  void tearDown() {
+    ModuleDiscoverer.clearCache();
+  }
+
   @DisplayName("Modules are discovered")
   @Test
   void modulesAreDiscovered() {
@@ -102,6 +117,82 @@ class ModuleDiscovererTest {
     assertThat(results).isEmpty();
   }
 
+  @DisplayName("Modules discovered in files are cached")
+  @Test
+  void modulesDiscoveredInFilesAreCached() throws IOException {
+    // Given
+    var modulePath = somePath();
+    var module = someModuleRef("foo.bar", modulePath);
+    when(moduleFinder.findAll()).thenReturn(Set.of(module));
+    var jar = Files.writeString(tempDir.resolve("foo.jar"), "foo");
+
+    // When
+    var first = ModuleDiscoverer.findModulesIn(jar);
+    var second = ModuleDiscoverer.findModulesIn(jar);
+
+    // Then
+    moduleFinderStatic.verify(() -> ModuleFinder.of(jar), times(1));
+    assertThat(first)
+        .containsOnlyKeys("foo.bar")
+        .containsEntry("foo.bar", modulePath);
+    assertThat(second).isSameAs(first);
+  }
+
+  @DisplayName("Files without modules are cached")
+  @Test
+  void filesWithoutModulesAreCached() throws IOException {
+    // Given
+    when(moduleFinder.findAll()).thenThrow(FindException.class);
+    var jar = Files.writeString(tempDir.resolve("foo.jar"), "foo");
+
+    // When
+    var first = ModuleDiscoverer.findModulesIn(jar);
+    var second = ModuleDiscoverer.findModulesIn(jar);
+
+    // Then
+    moduleFinderStatic.verify(() -> ModuleFinder.of(jar), times(1));
+    assertThat(first).isEmpty();
+    assertThat(second).isEmpty();
+  }
+
+  @DisplayName("Modules are rediscovered when the file changes")
+  @Test
+  void modulesAreRediscoveredWhenTheFileChanges() throws IOException {
+    // Given
+    var modulePath = somePath();
+    var module1 = someModuleRef("foo.bar", modulePath);
+    var module2 = someModuleRef("baz.bork", modulePath);
+    when(moduleFinder.findAll())
+        .thenReturn(Set.of(module1))
+        .thenReturn(Set.of(module2));
+    var jar = Files.writeString(tempDir.resolve("foo.jar"), "foo");
+    var first = ModuleDiscoverer.findModulesIn(jar);
+
+    // When
+    Files.writeString(jar, "foo bar baz");
+    Files.setLastModifiedTime(jar, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+    var second = ModuleDiscoverer.findModulesIn(jar);
+
+    // Then
+    moduleFinderStatic.verify(() -> ModuleFinder.of(jar), times(2));
+    assertThat(first).containsOnlyKeys("foo.bar");
+    assertThat(second).containsOnlyKeys("baz.bork");
+  }
+
+  @DisplayName("Modules discovered in directories are not cached")
+  @Test
+  void modulesDiscoveredInDirectoriesAreNotCached() {
+    // Given
+    when(moduleFinder.findAll()).thenReturn(Set.of());
+
+    // When
+    ModuleDiscoverer.findModulesIn(tempDir);
+    ModuleDiscoverer.findModulesIn(tempDir);
+
+    // Then
+    moduleFinderStatic.verify(() -> ModuleFinder.of(tempDir), times(2));
+  }
+
   static ModuleReference someModuleRef(String name, Path path) {
     var descriptor = mock(ModuleDescriptor.class, withSettings().defaultAnswer(RETURNS_DEEP_STUBS));
     when(descriptor.name()).thenReturn(name);
@@ -23,6 +23,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
 import io.github.ascopes.jct.tests.helpers.UtilityClassTestTemplate;
+import io.github.ascopes.jct.utils.SpecialLocationSnapshot;
 import io.github.ascopes.jct.utils.SpecialLocationUtils;
 import java.io.Closeable;
 import java.io.File;
@@ -37,8 +38,12 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledForJreRange;
@@ -77,6 +82,11 @@ class SpecialLocationsUtilsTest implements UtilityClassTestTemplate {
     return SpecialLocationUtils.class;
   }
 
+  @BeforeEach
+  void setUp() {
+    SpecialLocationUtils.invalidateSnapshots();
+  }
+
   @DisplayName("javaRuntimeLocations() returns the JRT location")
   @EnabledForJreRange(min = JRE.JAVA_9, disabledReason = "unavailable without JPMS")
   @Test
@@ -178,6 +188,154 @@ class SpecialLocationsUtilsTest implements UtilityClassTestTemplate {
     }
   }
 
+  @DisplayName("snapshots are reused while the raw value is unchanged")
+  @Test
+  void snapshotsAreReusedWhileTheRawValueIsUnchanged() throws IOException {
+    // Given
+    try (
+        var tempPaths = new TempPaths();
+        var mx = new MockedMxBean<>(ManagementFactory::getRuntimeMXBean, RuntimeMXBean.class)
+    ) {
+      given(mx.mock.getClassPath()).willReturn(tempPaths.toPathString());
+      var first = SpecialLocationUtils.currentClassPathSnapshot();
+      var hits = SpecialLocationUtils.getSnapshotHitCount();
+      var misses = SpecialLocationUtils.getSnapshotMissCount();
+
+      // When
+      var second = SpecialLocationUtils.currentClassPathSnapshot();
+
+      // Then
+      assertThat(second).isSameAs(first);
+      assertThat(SpecialLocationUtils.getSnapshotHitCount()).isEqualTo(hits + 1);
+      assertThat(SpecialLocationUtils.getSnapshotMissCount()).isEqualTo(misses);
+    }
+  }
+
+  @DisplayName("snapshots are rebuilt when the raw value changes")
+  @Test
+  void snapshotsAreRebuiltWhenTheRawValueChanges() throws IOException {
+    // Given
+    try (
+        var firstPaths = new TempPaths();
+        var secondPaths = new TempPaths();
+        var mx = new MockedMxBean<>(ManagementFactory::getRuntimeMXBean, RuntimeMXBean.class)
+    ) {
+      given(mx.mock.getClassPath()).willReturn(firstPaths.toPathString());
+      var first = SpecialLocationUtils.currentClassPathSnapshot();
+      given(mx.mock.getClassPath()).willReturn(secondPaths.toPathString());
+
+      // When
+      var second = SpecialLocationUtils.currentClassPathSnapshot();
+
+      // Then
+      assertThat(second).isNotSameAs(first);
+      assertThat(second.getPaths()).containsExactlyElementsOf(secondPaths.allExcept());
+    }
+  }
+
+  @DisplayName("invalidateSnapshots() forces snapshots to be rebuilt")
+  @Test
+  void invalidateSnapshotsForcesSnapshotsToBeRebuilt() throws IOException {
+    // Given
+    try (
+        var tempPaths = new TempPaths();
+        var mx = new MockedMxBean<>(ManagementFactory::getRuntimeMXBean, RuntimeMXBean.class)
+    ) {
+      given(mx.mock.getClassPath()).willReturn(tempPaths.toPathString());
+      var first = SpecialLocationUtils.currentClassPathSnapshot();
+      var deletedPath = tempPaths.deleteRandomPath();
+      var misses = SpecialLocationUtils.getSnapshotMissCount();
+
+      // When
+      SpecialLocationUtils.invalidateSnapshots();
+      var second = SpecialLocationUtils.currentClassPathSnapshot();
+
+      // Then
+      assertThat(second).isNotSameAs(first);
+      assertThat(second.getPaths()).doesNotContain(deletedPath);
+      assertThat(SpecialLocationUtils.getSnapshotMissCount()).isEqualTo(misses + 1);
+    }
+  }
+
+  @DisplayName("snapshots built from the same value are equal")
+  @Test
+  void snapshotsBuiltFromTheSameValueAreEqual() throws IOException {
+    // Given
+    try (
+        var tempPaths = new TempPaths();
+        var ignored = new MockedSystemProperty("jdk.module.path", tempPaths.toPathString())
+    ) {
+      var first = SpecialLocationUtils.currentModulePathSnapshot();
+
+      // When
+      SpecialLocationUtils.invalidateSnapshots();
+      var second = SpecialLocationUtils.currentModulePathSnapshot();
+
+      // Then
+      assertThat(second)
+          .isNotSameAs(first)
+          .isEqualTo(first)
+          .hasSameHashCodeAs(first);
+    }
+  }
+
+  @DisplayName("racing threads all receive the same snapshot instance")
+  @Test
+  void racingThreadsAllReceiveTheSameSnapshotInstance() throws Exception {
+    // Given
+    var executor = Executors.newFixedThreadPool(8);
+
+    try (
+        var tempPaths = new TempPaths();
+        var ignored = new MockedSystemProperty("jdk.module.path", tempPaths.toPathString())
+    ) {
+      var start = new CountDownLatch(1);
+      var futures = new ArrayList<Future<SpecialLocationSnapshot>>();
+
+      for (var i = 0; i < 8; ++i) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return SpecialLocationUtils.currentModulePathSnapshot();
+        }));
+      }
+
+      // When
+      start.countDown();
+      var snapshots = new ArrayList<SpecialLocationSnapshot>();
+      for (var future : futures) {
+        snapshots.add(future.get());
+      }
+
+      // Then
+      assertThat(snapshots)
+          .allSatisfy(snapshot -> assertThat(snapshot).isSameAs(snapshots.get(0)));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @DisplayName("snapshots report the number of raw and skipped entries")
+  @Test
+  void snapshotsReportTheNumberOfRawAndSkippedEntries() throws IOException {
+    // Given
+    try (
+        var tempPaths = new TempPaths();
+        var ignored = new MockedSystemProperty("jdk.module.path", tempPaths.toPathString())
+    ) {
+      tempPaths.deleteRandomPath();
+
+      // When
+      var snapshot = SpecialLocationUtils.currentModulePathSnapshot();
+
+      // Then
+      assertThat(snapshot.getRawValue()).isEqualTo(tempPaths.toPathString());
+      assertThat(snapshot.getRawEntryCount()).isEqualTo(10);
+      assertThat(snapshot.getPaths()).hasSize(9);
+      assertThat(snapshot.getSkippedEntryCount()).isOne();
+      assertThat(snapshot.getBuildDuration().isNegative()).isFalse();
+    }
+  }
+
   private static class TempPaths implements Closeable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TempPaths.class);
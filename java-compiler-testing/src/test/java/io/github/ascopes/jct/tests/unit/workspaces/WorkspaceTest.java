@@ -16,6 +16,7 @@
 package io.github.ascopes.jct.tests.unit.workspaces;
 
 import static io.github.ascopes.jct.tests.helpers.Fixtures.someText;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
@@ -523,4 +524,16 @@ class WorkspaceTest {
     // Then
     verify(workspace).createModule(StandardLocation.PATCH_MODULE_PATH, module);
   }
+
+  @DisplayName("createDetachedPackage(Location) is unsupported by default")
+  @Test
+  void createDetachedPackageIsUnsupportedByDefault() {
+    // Given
+    doCallRealMethod().when(workspace).createDetachedPackage(any());
+
+    // Then
+    assertThatThrownBy(() -> workspace.createDetachedPackage(StandardLocation.CLASS_OUTPUT))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessageEndingWith(" does not support detached packages");
+  }
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2022 - 2023, the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ascopes.jct.tests.unit.workspaces.impl;
+
+import static io.github.ascopes.jct.tests.helpers.Fixtures.someModuleName;
+import static io.github.ascopes.jct.tests.helpers.Fixtures.somePath;
+import static io.github.ascopes.jct.tests.helpers.Fixtures.somePathRoot;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.github.ascopes.jct.filemanagers.ModuleLocation;
+import io.github.ascopes.jct.workspaces.ManagedDirectory;
+import io.github.ascopes.jct.workspaces.PathRoot;
+import io.github.ascopes.jct.workspaces.PathStrategy;
+import io.github.ascopes.jct.workspaces.Workspace;
+import io.github.ascopes.jct.workspaces.impl.IsolatedOutputsWorkspace;
+import java.util.List;
+import java.util.Map;
+import javax.tools.JavaFileManager.Location;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * {@link IsolatedOutputsWorkspace} tests.
+ *
+ * @author Ashley Scopes
+ */
+@DisplayName("IsolatedOutputsWorkspace tests")
+@ExtendWith(MockitoExtension.class)
+class IsolatedOutputsWorkspaceTest {
+
+  @Mock
+  Workspace delegate;
+
+  @InjectMocks
+  IsolatedOutputsWorkspace workspace;
+
+  @DisplayName("Initialising with a null delegate raises an exception")
+  @SuppressWarnings("DataFlowIssue")
+  @Test
+  void initialisingWithNullDelegateRaisesException() {
+    // Then
+    assertThatThrownBy(() -> new IsolatedOutputsWorkspace(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("delegate");
+  }
+
+  @DisplayName(".getDelegate() returns the delegate")
+  @Test
+  void getDelegateReturnsTheDelegate() {
+    // Then
+    assertThat(workspace.getDelegate()).isSameAs(delegate);
+  }
+
+  @DisplayName(".getAllPaths() hides output locations")
+  @Test
+  void getAllPathsHidesOutputLocations() {
+    // Given
+    var sourcePaths = List.of(somePathRoot());
+    var classPaths = List.of(somePathRoot(), somePathRoot());
+    var paths = Map.<Location, List<? extends PathRoot>>of(
+        StandardLocation.SOURCE_PATH, sourcePaths,
+        StandardLocation.CLASS_PATH, classPaths,
+        StandardLocation.CLASS_OUTPUT, List.of(somePathRoot()),
+        new ModuleLocation(StandardLocation.SOURCE_OUTPUT, "foo"), List.of(somePathRoot())
+    );
+    when(delegate.getAllPaths()).thenReturn(paths);
+
+    // When
+    var result = workspace.getAllPaths();
+
+    // Then
+    assertThat(result)
+        .containsOnlyKeys(StandardLocation.SOURCE_PATH, StandardLocation.CLASS_PATH)
+        .containsEntry(StandardLocation.SOURCE_PATH, sourcePaths)
+        .containsEntry(StandardLocation.CLASS_PATH, classPaths);
+  }
+
+  @DisplayName(".createPackage(...) creates a detached package in the delegate")
+  @Test
+  void createPackageCreatesDetachedPackageInDelegate() {
+    // Given
+    var dir = mock(ManagedDirectory.class);
+    when(delegate.createDetachedPackage(StandardLocation.CLASS_OUTPUT)).thenReturn(dir);
+
+    // When
+    var result = workspace.createPackage(StandardLocation.CLASS_OUTPUT);
+
+    // Then
+    assertThat(result).isSameAs(dir);
+  }
+
+  @DisplayName(".createDetachedPackage(...) creates a detached package in the delegate")
+  @Test
+  void createDetachedPackageCreatesDetachedPackageInDelegate() {
+    // Given
+    var dir = mock(ManagedDirectory.class);
+    when(delegate.createDetachedPackage(StandardLocation.SOURCE_OUTPUT)).thenReturn(dir);
+
+    // When
+    var result = workspace.createDetachedPackage(StandardLocation.SOURCE_OUTPUT);
+
+    // Then
+    assertThat(result).isSameAs(dir);
+  }
+
+  @DisplayName(".createModule(...) creates a detached package for the module in the delegate")
+  @Test
+  void createModuleCreatesDetachedPackageForModuleInDelegate() {
+    // Given
+    var moduleName = someModuleName();
+    var location = new ModuleLocation(StandardLocation.CLASS_OUTPUT, moduleName);
+    var dir = mock(ManagedDirectory.class);
+    when(delegate.createDetachedPackage(location)).thenReturn(dir);
+
+    // When
+    var result = workspace.createModule(StandardLocation.CLASS_OUTPUT, moduleName);
+
+    // Then
+    assertThat(result).isSameAs(dir);
+  }
+
+  @DisplayName(".addPackage(...) is not supported")
+  @Test
+  void addPackageIsNotSupported() {
+    // Then
+    assertThatThrownBy(() -> workspace.addPackage(StandardLocation.CLASS_PATH, somePath()))
+        .isInstanceOf(UnsupportedOperationException.class);
+    verifyNoInteractions(delegate);
+  }
+
+  @DisplayName(".addModule(...) is not supported")
+  @Test
+  void addModuleIsNotSupported() {
+    // Then
+    assertThatThrownBy(() -> workspace
+        .addModule(StandardLocation.MODULE_PATH, someModuleName(), somePath()))
+        .isInstanceOf(UnsupportedOperationException.class);
+    verifyNoInteractions(delegate);
+  }
+
+  @DisplayName(".close() does not close the delegate")
+  @Test
+  void closeDoesNotCloseTheDelegate() {
+    // When
+    workspace.close();
+
+    // Then
+    verifyNoInteractions(delegate);
+  }
+
+  @DisplayName(".getPathStrategy() returns the delegate path strategy")
+  @EnumSource(PathStrategy.class)
+  @ParameterizedTest(name = "for {0}")
+  void getPathStrategyReturnsTheDelegatePathStrategy(PathStrategy pathStrategy) {
+    // Given
+    when(delegate.getPathStrategy()).thenReturn(pathStrategy);
+
+    // When
+    var result = workspace.getPathStrategy();
+
+    // Then
+    assertThat(result).isSameAs(pathStrategy);
+    verify(delegate).getPathStrategy();
+  }
+}
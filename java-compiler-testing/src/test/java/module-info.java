@@ -18,6 +18,8 @@ open module io.github.ascopes.jct.testing {
   requires transitive io.github.ascopes.jct;
   requires java.compiler;
   requires java.management;
+  requires jdk.compiler;
+  requires jdk.jfr;
   requires jimfs;
   requires net.bytebuddy;         // required for mockito to work with JPMS.
   requires net.bytebuddy.agent;   // required for mockito to work with JPMS.